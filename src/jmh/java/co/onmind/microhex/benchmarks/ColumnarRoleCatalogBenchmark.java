@@ -0,0 +1,142 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.MicroHexApplication;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the heap the application retains for the role queries with the
+ * in-memory read model and with the columnar role catalog
+ * (catalog.columnar.enabled), as configured, on the same roles.
+ *
+ * The setup seeds a file-backed H2 database with the roles. Each operation
+ * starts the application on it (without the web server), which loads the
+ * query side of the configuration, answers one query, and measures the heap
+ * used after a collection, then again once the application is closed: the
+ * difference is the heap the running application retains, printed per role
+ * at the end of the trial. Both configurations share the same Spring, JPA
+ * and event bus baseline, so the gap between them is the query side:
+ * ./gradlew jmh -PjmhInclude=ColumnarRoleCatalogBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ColumnarRoleCatalogBenchmark {
+
+    @Param({"1000000", "5000000"})
+    public int roles;
+
+    @Param({"false", "true"})
+    public boolean columnar;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<Long> retained = new ArrayList<>();
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("role-footprint-bench");
+        try (ConfigurableApplicationContext context = start(false)) {
+            insertRoles(context.getBean(DataSource.class));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        retained.stream().mapToLong(Long::longValue).average().ifPresent(bytes ->
+                System.out.printf("%nApplication with columnar=%s retains %.1f bytes per role%n",
+                        columnar, bytes / roles));
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long startApplication() {
+        long count;
+        long running;
+        try (ConfigurableApplicationContext context = start(columnar)) {
+            count = context.getBean(RoleReadModelPort.class).count();
+            running = usedHeapAfterGc();
+        }
+        retained.add(running - usedHeapAfterGc());
+        return count;
+    }
+
+    private ConfigurableApplicationContext start(boolean columnarCatalog) {
+        return new SpringApplicationBuilder(MicroHexApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:file:" + directory.resolve("roles"),
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "catalog.columnar.enabled=" + columnarCatalog)
+                .run();
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private void insertRoles(DataSource dataSource) throws SQLException {
+        // Plain JDBC batches: seeding through JPA would take longer than the benchmark
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO roles (id, name, created_at) VALUES (?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 1; i <= roles; i++) {
+                insert.setLong(1, i);
+                insert.setString(2, "ROLE_" + i);
+                insert.setTimestamp(3, createdAt);
+                insert.addBatch();
+                if (i % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.infrastructure.persistence.catalog.MappedRoleCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups by id and by name against the memory-mapped role catalog,
+ * next to the same lookups against heap maps holding the roles, and the cost
+ * of opening a published catalog (what a process pays on startup instead of
+ * loading the roles).
+ *
+ * The mapped lookups decode the one role they return; the catalog file stays
+ * in the page cache, shared by every process mapping it:
+ * ./gradlew jmh -PjmhInclude=MappedRoleCatalogBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappedRoleCatalogBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int roles;
+
+    private Path directory;
+    private Path file;
+    private MappedRoleCatalog catalog;
+    private Map<Long, Role> rolesById;
+    private Map<String, Role> rolesByName;
+    private long[] ids;
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("role-catalog-bench");
+        file = directory.resolve("role-catalog.bin");
+        List<Role> catalogRoles = new ArrayList<>(roles);
+        rolesById = new HashMap<>();
+        rolesByName = new HashMap<>();
+        LocalDateTime createdAt = LocalDateTime.now();
+        for (int i = 0; i < roles; i++) {
+            Role role = new Role((long) i, "ROLE_" + i, createdAt);
+            catalogRoles.add(role);
+            rolesById.put(role.getId(), role);
+            rolesByName.put(role.getName(), role);
+        }
+        MappedRoleCatalog.write(file, 0L, catalogRoles);
+        catalog = MappedRoleCatalog.open(file).orElseThrow();
+
+        // Fixed pseudo-random lookup order so neither side benefits from locality
+        ids = new long[1024];
+        names = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (i * 2654435761L) % roles;
+            names[i] = "ROLE_" + ids[i];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Optional<Role> mappedFindById() {
+        return catalog.findById(ids[next++ & 1023]);
+    }
+
+    @Benchmark
+    public Optional<Role> mappedFindByName() {
+        return catalog.findByName(names[next++ & 1023]);
+    }
+
+    @Benchmark
+    public Role heapFindById() {
+        return rolesById.get(ids[next++ & 1023]);
+    }
+
+    @Benchmark
+    public Role heapFindByName() {
+        return rolesByName.get(names[next++ & 1023]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Optional<MappedRoleCatalog> openCatalog() {
+        return MappedRoleCatalog.open(file);
+    }
+}
@@ -0,0 +1,153 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.domain.ports.out.MembershipRepositoryPort;
+import co.onmind.microhex.infrastructure.readmodel.InMemoryMembershipIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * Measures the membership index at 10M assignments: one million users with
+ * ten roles each, spread over a thousand roles (ten thousand users per role).
+ *
+ * - hasRole: "user has role" for a random user, half of them hits
+ * - forEachRoleOf: iterating the roles of a random user
+ * - usersInRolePage: copying a page of 100 users out of a role
+ * - assignAndUnassign: one add and one remove, keeping the size constant
+ *
+ * Setup loads the index through the same bulk path as startup and reports
+ * the time taken. hasRole and forEachRoleOf should show a
+ * gc.alloc.rate.norm of zero:
+ * ./gradlew jmh -PjmhInclude=MembershipIndexBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class MembershipIndexBenchmark {
+
+    private static final int ROLES_PER_USER = 10;
+
+    @Param({"1000000"})
+    public int users;
+
+    @Param({"1000"})
+    public int roles;
+
+    private InMemoryMembershipIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long started = System.nanoTime();
+        index = new InMemoryMembershipIndex(new SyntheticAssignments(users, roles), users);
+        System.out.printf("%nLoaded %d assignments in %d ms%n", index.assignmentCount(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Per-thread random source and consumer, so the measured calls allocate nothing.
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+
+        SplittableRandom random = new SplittableRandom(42);
+        LongConsumer sink;
+
+        @Setup
+        public void setUp(Blackhole blackhole) {
+            sink = blackhole::consume;
+        }
+    }
+
+    @Benchmark
+    public boolean hasRole(Caller caller) {
+        long userId = caller.random.nextLong(1, users + 1);
+        return index.hasRole(userId, roleOf(userId, caller.random.nextInt(ROLES_PER_USER * 2)));
+    }
+
+    @Benchmark
+    public void forEachRoleOf(Caller caller) {
+        index.forEachRoleOf(caller.random.nextLong(1, users + 1), caller.sink);
+    }
+
+    @Benchmark
+    public long[] usersInRolePage(Caller caller) {
+        return index.usersIn(caller.random.nextLong(1, roles + 1), caller.random.nextInt(9_900), 100);
+    }
+
+    @Benchmark
+    public void assignAndUnassign(Caller caller) {
+        long userId = users + 1 + caller.random.nextLong(users);
+        long roleId = caller.random.nextLong(1, roles + 1);
+        index.add(userId, roleId);
+        index.remove(userId, roleId);
+    }
+
+    /**
+     * Role of the given rank for a user; ranks past ROLES_PER_USER are not assigned.
+     */
+    private long roleOf(long userId, int rank) {
+        return (userId * 7 + rank * 97L) % roles + 1;
+    }
+
+    /**
+     * Deterministic assignments fed to the index in ID order, as the repository would.
+     */
+    private record SyntheticAssignments(int users, int roles) implements MembershipRepositoryPort {
+
+        @Override
+        public void forEach(AssignmentVisitor visitor) {
+            for (long userId = 1; userId <= users; userId++) {
+                for (int rank = 0; rank < ROLES_PER_USER; rank++) {
+                    visitor.visit(userId, (userId * 7 + rank * 97L) % roles + 1);
+                }
+            }
+        }
+
+        @Override
+        public long count() {
+            return (long) users * ROLES_PER_USER;
+        }
+
+        @Override
+        public void forEachExpiring(GrantVisitor visitor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean save(long userId, long roleId, Instant expiresAt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean deleteExpired(long userId, long roleId, Instant now) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean delete(long userId, long roleId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long deleteByRoleId(long roleId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.transverse.search.SubstringScanner;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a "name contains" search over every role name:
+ * - stringContains: String.contains on each name, as the read model did
+ * - scalarScan: the SubstringScanner arena scan, one byte at a time
+ * - vectorScan: the same scan with the Vector API, on one core
+ * - parallelScan: the vector scan split across the common ForkJoin pool
+ * - sqlLike: name LIKE '%pattern%' on an in-memory H2 table, as the JPA
+ *   repository's findByNameContaining does
+ *
+ * Besides the searches per second, the bytes secondary result is the name
+ * bytes scanned per second; divided by 10^9 it gives GB/s. The pattern
+ * ZZZ appears in no name, so every search reads the whole catalog:
+ * ./gradlew jmh -PjmhInclude=NameScanBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NameScanBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int roles;
+
+    @Param({"ZZZ", "_4242"})
+    public String pattern;
+
+    private String[] names;
+    private byte[] arena;
+    private int[] offsets;
+    private byte[] patternBytes;
+    private SubstringScanner scalar;
+    private SubstringScanner vector;
+    private SubstringScanner parallel;
+    private Connection connection;
+    private PreparedStatement like;
+
+    /**
+     * Name bytes read by the searches of one thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Scanned {
+
+        public long bytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String[] prefixes = {"ADMIN", "EDITOR", "VIEWER", "AUDITOR", "BILLING_MANAGER", "SUPPORT"};
+        names = new String[roles];
+        offsets = new int[roles + 1];
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < roles; i++) {
+            names[i] = prefixes[i % prefixes.length] + "_" + i;
+            text.append(names[i]);
+            offsets[i + 1] = text.length();
+        }
+        arena = text.toString().getBytes(StandardCharsets.US_ASCII);
+        patternBytes = pattern.getBytes(StandardCharsets.US_ASCII);
+        scalar = new SubstringScanner(ForkJoinPool.commonPool(), Integer.MAX_VALUE, false);
+        vector = new SubstringScanner(ForkJoinPool.commonPool(), Integer.MAX_VALUE, true);
+        parallel = SubstringScanner.create();
+        if (!vector.isVectorized()) {
+            System.out.println("\njdk.incubator.vector is not available: vectorScan runs the scalar scan");
+        }
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:name-scan-bench");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE roles (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL UNIQUE)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO roles (id, name) VALUES (?, ?)")) {
+            for (int i = 0; i < roles; i++) {
+                insert.setLong(1, i);
+                insert.setString(2, names[i]);
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        like = connection.prepareStatement("SELECT id FROM roles WHERE name LIKE ?");
+        like.setString(1, "%" + pattern + "%");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        like.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int stringContains(Scanned scanned) {
+        int matches = 0;
+        for (String name : names) {
+            if (name.contains(pattern)) {
+                matches++;
+            }
+        }
+        scanned.bytes += arena.length;
+        return matches;
+    }
+
+    @Benchmark
+    public int[] scalarScan(Scanned scanned) {
+        scanned.bytes += arena.length;
+        return scalar.scan(arena, offsets, roles, patternBytes);
+    }
+
+    @Benchmark
+    public int[] vectorScan(Scanned scanned) {
+        scanned.bytes += arena.length;
+        return vector.scan(arena, offsets, roles, patternBytes);
+    }
+
+    @Benchmark
+    public int[] parallelScan(Scanned scanned) {
+        scanned.bytes += arena.length;
+        return parallel.scan(arena, offsets, roles, patternBytes);
+    }
+
+    @Benchmark
+    public int sqlLike(Scanned scanned) throws SQLException {
+        int matches = 0;
+        try (ResultSet rows = like.executeQuery()) {
+            while (rows.next()) {
+                matches++;
+            }
+        }
+        scanned.bytes += arena.length;
+        return matches;
+    }
+}
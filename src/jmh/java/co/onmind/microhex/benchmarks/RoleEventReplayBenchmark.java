@@ -0,0 +1,115 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleEventLog;
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleLogEvent;
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleProjection;
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleSnapshot;
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleSnapshotStore;
+import co.onmind.microhex.transverse.spool.SegmentedSpool.FsyncPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Startup rebuild cost of the event-sourced role repository.
+ *
+ * The setup writes a log of {@code events} events: one RoleCreated for half of
+ * them and RoleRenamed events for the rest. It also writes a snapshot taken at
+ * 90% of the log. The benchmarks measure:
+ * - readLog: decoding the whole log without applying it
+ * - replayFullLog: rebuilding the projection from the first event
+ * - snapshotPlusTail: restoring the snapshot and replaying the last 10%
+ *
+ * ./gradlew jmh -PjmhInclude=RoleEventReplayBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class RoleEventReplayBenchmark {
+
+    @Param({"10000000"})
+    public int events;
+
+    private Path directory;
+    private RoleEventLog eventLog;
+    private RoleSnapshotStore snapshotStore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("role-events-bench");
+        eventLog = new RoleEventLog(directory, 256L << 20, FsyncPolicy.NEVER, Duration.ofSeconds(1));
+        snapshotStore = new RoleSnapshotStore(directory.resolve("roles.snapshot"));
+
+        RoleProjection projection = new RoleProjection();
+        LocalDateTime createdAt = LocalDateTime.now();
+        int roles = events / 2;
+        int snapshotAt = events / 10 * 9;
+        for (long sequence = 1; sequence <= events; sequence++) {
+            RoleLogEvent event = sequence <= roles
+                    ? new RoleLogEvent.RoleCreated(sequence, sequence, "ROLE_" + sequence, createdAt)
+                    : new RoleLogEvent.RoleRenamed(sequence, sequence % roles + 1, "RENAMED_" + sequence);
+            eventLog.append(event);
+            projection.apply(event);
+            if (sequence == snapshotAt) {
+                snapshotStore.write(projection.snapshot(eventLog.position()));
+            }
+        }
+        eventLog.force();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        eventLog.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long readLog() {
+        long[] count = new long[1];
+        eventLog.replay(eventLog.start(), event -> count[0]++);
+        return count[0];
+    }
+
+    @Benchmark
+    public int replayFullLog() {
+        RoleProjection projection = new RoleProjection();
+        eventLog.replay(eventLog.start(), projection::apply);
+        return projection.size();
+    }
+
+    @Benchmark
+    public int snapshotPlusTail() {
+        RoleProjection projection = new RoleProjection();
+        RoleSnapshot snapshot = snapshotStore.read().orElseThrow();
+        projection.restore(snapshot);
+        eventLog.replay(snapshot.position(), projection::apply);
+        return projection.size();
+    }
+}
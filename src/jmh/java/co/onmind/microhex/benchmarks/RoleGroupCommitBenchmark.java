@@ -0,0 +1,109 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.MicroHexApplication;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.configuration.PersistenceConfiguration;
+import co.onmind.microhex.infrastructure.persistence.adapters.GroupCommitUnitOfWorkAdapter;
+import co.onmind.microhex.infrastructure.persistence.adapters.TransactionalUnitOfWorkAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Write throughput of the JPA role repository with and without group commit.
+ *
+ * The setup starts the application (without the web server) on a file-backed
+ * H2 database, then 16 threads save roles through the JPA adapter, each
+ * save as one unit of work:
+ * - perCallTransaction: the transactional unit of work, one transaction per save
+ * - groupCommit: the group commit unit of work, many saves per transaction
+ *
+ * H2 commits are cheap compared to a networked database that forces its log
+ * on every commit, so the gap measured here is a lower bound.
+ *
+ * ./gradlew jmh -PjmhInclude=RoleGroupCommitBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class RoleGroupCommitBenchmark {
+
+    private final AtomicLong names = new AtomicLong();
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private RoleRepositoryPort roles;
+    private TransactionalUnitOfWorkAdapter perCall;
+    private GroupCommitUnitOfWorkAdapter groupCommit;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("role-group-commit-bench");
+        context = new SpringApplicationBuilder(MicroHexApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:file:" + directory.resolve("roles") + ";LOCK_TIMEOUT=10000",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "persistence.group-commit.enabled=false")
+                .run();
+        roles = context.getBean(PersistenceConfiguration.ROLE_PERSISTENCE_ADAPTER, RoleRepositoryPort.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        perCall = new TransactionalUnitOfWorkAdapter(transactionTemplate);
+        groupCommit = new GroupCommitUnitOfWorkAdapter(transactionTemplate,
+                64, Duration.ofNanos(200_000), new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        groupCommit.close();
+        context.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Role perCallTransaction() {
+        Role role = new Role("ROLE_" + names.incrementAndGet());
+        return perCall.execute(() -> roles.save(role));
+    }
+
+    @Benchmark
+    public Role groupCommit() {
+        Role role = new Role("ROLE_" + names.incrementAndGet());
+        return groupCommit.execute(() -> roles.save(role));
+    }
+}
@@ -0,0 +1,123 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.domain.ports.out.RoleHierarchyRepositoryPort;
+import co.onmind.microhex.infrastructure.readmodel.BitSetRoleHierarchyIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the role hierarchy closure on two shapes of the same size:
+ * - deep: a single chain, role i inherits role i - 1
+ * - wide: a two-level tree, every role inherits one of 32 groups, which
+ *   inherit role 1
+ *
+ * - inherits: "role A inherits role B" for random roles
+ * - effectiveRoles: the effective roles of a random role
+ * - toggleTopEdge: removing and adding back the relation closest to the root
+ *   (role 2 inherits role 1), the worst case since every other role is below it
+ * - toggleLeafEdge: removing and adding back a relation of a leaf role
+ *
+ * ./gradlew jmh -PjmhInclude=RoleHierarchyBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class RoleHierarchyBenchmark {
+
+    private static final int GROUPS = 32;
+
+    @Param({"deep", "wide"})
+    public String shape;
+
+    @Param({"1000"})
+    public int roles;
+
+    private BitSetRoleHierarchyIndex index;
+    private long leafId;
+    private long leafParentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new BitSetRoleHierarchyIndex(new SyntheticHierarchy("deep".equals(shape), roles));
+        leafId = roles;
+        leafParentId = index.parentsOf(leafId)[0];
+    }
+
+    /**
+     * Per-thread random source.
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+
+        SplittableRandom random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public boolean inherits(Caller caller) {
+        return index.inherits(caller.random.nextLong(1, roles + 1), caller.random.nextLong(1, roles + 1));
+    }
+
+    @Benchmark
+    public long[] effectiveRoles(Caller caller) {
+        return index.effectiveRoles(new long[] {caller.random.nextLong(1, roles + 1)});
+    }
+
+    @Benchmark
+    public void toggleTopEdge() {
+        index.removeEdge(2L, 1L);
+        index.addEdge(2L, 1L);
+    }
+
+    @Benchmark
+    public void toggleLeafEdge() {
+        index.removeEdge(leafId, leafParentId);
+        index.addEdge(leafId, leafParentId);
+    }
+
+    /**
+     * Deterministic relations fed to the index as the repository would.
+     */
+    private record SyntheticHierarchy(boolean deep, int roles) implements RoleHierarchyRepositoryPort {
+
+        @Override
+        public void forEach(EdgeVisitor visitor) {
+            for (long roleId = 2; roleId <= roles; roleId++) {
+                if (deep) {
+                    visitor.visit(roleId, roleId - 1);
+                } else {
+                    visitor.visit(roleId, roleId <= GROUPS + 1 ? 1 : 2 + roleId % GROUPS);
+                }
+            }
+        }
+
+        @Override
+        public boolean save(long roleId, long parentId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean delete(long roleId, long parentId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long deleteByRoleId(long roleId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
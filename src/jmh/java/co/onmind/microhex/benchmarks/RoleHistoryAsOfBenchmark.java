@@ -0,0 +1,160 @@
+package co.onmind.microhex.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the role history lookups as the history grows, on an in-memory
+ * H2 role_history table with the same columns, indexes and queries as
+ * RoleHistoryEntity and JpaRoleHistoryRepository:
+ * - roleAsOf: the version of one role as of a random time
+ * - currentRole: the version of one role still valid, the common case
+ * - allRolesAsOf: every role as of a time a few minutes before the end
+ *
+ * The history holds the given number of versions spread over 10,000 roles,
+ * one save per second. With indexed=false the table has no secondary index,
+ * so each lookup scans it; with the indexes roleAsOf and currentRole should
+ * stay flat from 100,000 to 5,000,000 versions. The plans of the queries
+ * are printed at setup:
+ * ./gradlew jmh -PjmhInclude=RoleHistoryAsOfBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoleHistoryAsOfBenchmark {
+
+    private static final int ROLES = 10_000;
+    private static final OffsetDateTime START = OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime OPEN = OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final String ROLE_AS_OF = "SELECT name FROM role_history"
+            + " WHERE role_id = ? AND valid_to > ? AND valid_from <= ?";
+    private static final String ALL_AS_OF = "SELECT role_id, name FROM role_history"
+            + " WHERE valid_to > ? AND valid_from <= ? ORDER BY role_id";
+
+    @Param({"100000", "1000000", "5000000"})
+    public int versions;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement roleAsOf;
+    private PreparedStatement allAsOf;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:role-history-bench");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE role_history (id BIGINT PRIMARY KEY, role_id BIGINT NOT NULL,"
+                    + " name VARCHAR(100) NOT NULL, created_at TIMESTAMP(6) NOT NULL,"
+                    + " valid_from TIMESTAMP(6) WITH TIME ZONE NOT NULL,"
+                    + " valid_to TIMESTAMP(6) WITH TIME ZONE NOT NULL)");
+        }
+        // Version v is the (v / ROLES)-th save of role v % ROLES, at second v;
+        // it ends at the next save of the role, ROLES seconds later
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO role_history"
+                + " (id, role_id, name, created_at, valid_from, valid_to) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int v = 0; v < versions; v++) {
+                insert.setLong(1, v);
+                insert.setLong(2, v % ROLES);
+                insert.setString(3, "ROLE_" + (v % ROLES) + "_V" + (v / ROLES));
+                insert.setObject(4, START.toLocalDateTime());
+                insert.setObject(5, START.plusSeconds(v));
+                insert.setObject(6, v + ROLES < versions ? START.plusSeconds(v + ROLES) : OPEN);
+                insert.addBatch();
+                if (v % 10_000 == 9_999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        if (indexed) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX ix_role_history_role ON role_history (role_id, valid_to)");
+                statement.execute("CREATE INDEX ix_role_history_time ON role_history (valid_to, valid_from)");
+                statement.execute("ANALYZE");
+            }
+        }
+        roleAsOf = connection.prepareStatement(ROLE_AS_OF);
+        allAsOf = connection.prepareStatement(ALL_AS_OF);
+        random = new SplittableRandom(42);
+        printPlan(ROLE_AS_OF.replaceFirst("\\?", "42").replace("?", "TIMESTAMP WITH TIME ZONE '2020-01-02 00:00:00Z'"));
+        printPlan(ALL_AS_OF.replace("?", "TIMESTAMP WITH TIME ZONE '2020-01-02 00:00:00Z'"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        roleAsOf.close();
+        allAsOf.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE role_history");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public String roleAsOf() throws SQLException {
+        return role(random.nextInt(ROLES), START.plusSeconds(random.nextInt(versions)));
+    }
+
+    @Benchmark
+    public String currentRole() throws SQLException {
+        return role(random.nextInt(ROLES), OPEN.minusDays(1));
+    }
+
+    @Benchmark
+    public int allRolesAsOf() throws SQLException {
+        OffsetDateTime asOf = START.plusSeconds(Math.max(0, versions - 300));
+        allAsOf.setObject(1, asOf);
+        allAsOf.setObject(2, asOf);
+        int roles = 0;
+        try (ResultSet rows = allAsOf.executeQuery()) {
+            while (rows.next()) {
+                roles++;
+            }
+        }
+        return roles;
+    }
+
+    private String role(long roleId, OffsetDateTime asOf) throws SQLException {
+        roleAsOf.setLong(1, roleId);
+        roleAsOf.setObject(2, asOf);
+        roleAsOf.setObject(3, asOf);
+        try (ResultSet rows = roleAsOf.executeQuery()) {
+            return rows.next() ? rows.getString(1) : null;
+        }
+    }
+
+    private void printPlan(String query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN " + query)) {
+            if (plan.next()) {
+                System.out.printf("%n%s%n", plan.getString(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the role name handling on the create/update hot path before and
+ * after the RoleName value type.
+ *
+ * The legacy path reproduces what the mutable Role did: the service trimmed
+ * and upper-cased the name, the Role constructor validated and normalized it
+ * again, and the persistence mapper rebuilt the Role through the same
+ * constructor. The current path validates once with RoleName and reuses it.
+ *
+ * Run with the gc profiler (enabled in build.gradle) to compare
+ * gc.alloc.rate.norm (bytes allocated per operation) next to the CPU time:
+ * ./gradlew jmh -PjmhInclude=RoleNameBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoleNameBenchmark {
+
+    @Param({"USER_MANAGER", "  user_manager  "})
+    public String rawName;
+
+    private LocalDateTime createdAt;
+
+    @Setup
+    public void setUp() {
+        createdAt = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public Object legacyCreatePath() {
+        String normalized = rawName.trim().toUpperCase();          // RoleService
+        LegacyRole role = new LegacyRole(null, normalized, createdAt);  // Role.create
+        return new LegacyRole(1L, role.name, role.createdAt);      // mapper after save
+    }
+
+    @Benchmark
+    public Object roleNameCreatePath() {
+        RoleName normalized = RoleName.of(rawName);                // RoleService
+        Role role = new Role(null, normalized, createdAt);         // Role.create
+        return new Role(1L, RoleName.ofNormalized(role.getName()), role.getCreatedAt()); // mapper after save
+    }
+
+    @Benchmark
+    public Object legacyUpdatePath() {
+        LegacyRole existing = new LegacyRole(1L, "USER_MANAGER", createdAt); // mapper after findById
+        String normalized = rawName.trim().toUpperCase();                   // RoleService
+        LegacyRole updated = new LegacyRole(existing.id, normalized, existing.createdAt); // withName
+        return new LegacyRole(updated.id, updated.name, updated.createdAt); // mapper after save
+    }
+
+    @Benchmark
+    public Object roleNameUpdatePath() {
+        Role existing = new Role(1L, RoleName.ofNormalized("USER_MANAGER"), createdAt);
+        Role updated = existing.withName(RoleName.of(rawName));
+        return new Role(updated.getId(), RoleName.ofNormalized(updated.getName()), updated.getCreatedAt());
+    }
+
+    /**
+     * Copy of the constructor behaviour of the former mutable Role.
+     */
+    static final class LegacyRole {
+        Long id;
+        String name;
+        LocalDateTime createdAt;
+
+        LegacyRole(Long id, String name, LocalDateTime createdAt) {
+            if (name == null || name.trim().isEmpty()) {
+                throw new IllegalArgumentException("Role name cannot be blank");
+            }
+            if (name.length() > 100) {
+                throw new IllegalArgumentException("Role name cannot exceed 100 characters");
+            }
+            this.id = id;
+            this.name = name.trim().toUpperCase();
+            this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+        }
+    }
+}
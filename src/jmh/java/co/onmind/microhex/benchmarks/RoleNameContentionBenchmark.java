@@ -0,0 +1,132 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.MicroHexApplication;
+import co.onmind.microhex.domain.exceptions.RoleAlreadyExistsException;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.in.RoleServicePort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Failed inserts (rollbacks) of concurrent role creates on a skewed name set.
+ *
+ * 16 threads create roles whose names come from a shared sequence, with
+ * {@code attemptsPerName} consecutive creates targeting the same name, so each
+ * new name is hit by several callers at once. The benchmarks compare:
+ * - unlockedCreate: the previous check-then-insert path, without name locks
+ * - lockedCreate: RoleService.createRole, which holds the name lock
+ *
+ * The per-thread counters report creates, rejections by the existence check
+ * (no insert) and rollbacks (insert failed on the unique constraint).
+ *
+ * ./gradlew jmh -PjmhInclude=RoleNameContentionBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class RoleNameContentionBenchmark {
+
+    @Param({"16"})
+    public int attemptsPerName;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private RoleServicePort roleService;
+    private RoleRepositoryPort repository;
+
+    /**
+     * Outcome counters per thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long created;
+        public long rejected;
+        public long rollbacks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            created = 0;
+            rejected = 0;
+            rollbacks = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MicroHexApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "persistence.group-commit.enabled=false")
+                .run();
+        roleService = context.getBean(RoleServicePort.class);
+        repository = context.getBean(RoleRepositoryPort.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void unlockedCreate(Outcomes outcomes) {
+        String name = nextName();
+        try {
+            if (repository.existsByName(name)) {
+                outcomes.rejected++;
+                return;
+            }
+            repository.save(Role.create(name));
+            outcomes.created++;
+        } catch (DataIntegrityViolationException e) {
+            outcomes.rollbacks++;
+        }
+    }
+
+    @Benchmark
+    public void lockedCreate(Outcomes outcomes) {
+        String name = nextName();
+        try {
+            roleService.createRole(name);
+            outcomes.created++;
+        } catch (RoleAlreadyExistsException e) {
+            outcomes.rejected++;
+        } catch (DataIntegrityViolationException e) {
+            outcomes.rollbacks++;
+        }
+    }
+
+    private String nextName() {
+        return "ROLE_" + sequence.getAndIncrement() / attemptsPerName;
+    }
+}
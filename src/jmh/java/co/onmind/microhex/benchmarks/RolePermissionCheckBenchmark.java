@@ -0,0 +1,104 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.domain.ports.out.RolePermissionRepositoryPort;
+import co.onmind.microhex.infrastructure.readmodel.BitSetPermissionIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a permission check against the in-memory bitmap index, next to
+ * the same check against a plain Set of names per role.
+ *
+ * Every role is given permissionsPerRole permissions out of a dictionary of
+ * 4 * permissionsPerRole names; each operation checks one granted and one
+ * missing permission of a role. gc.alloc.rate.norm should stay at zero for
+ * the index:
+ * ./gradlew jmh -PjmhInclude=RolePermissionCheckBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RolePermissionCheckBenchmark {
+
+    private static final int ROLES = 10_000;
+
+    @Param({"16", "256"})
+    public int permissionsPerRole;
+
+    private BitSetPermissionIndex index;
+    private Map<Long, Set<String>> sets;
+    private Long roleId;
+    private String granted;
+    private String missing;
+
+    @Setup
+    public void setUp() {
+        Map<Long, Set<String>> permissions = new HashMap<>();
+        int dictionary = permissionsPerRole * 4;
+        for (long role = 0; role < ROLES; role++) {
+            Set<String> roleGrants = new HashSet<>();
+            for (int i = 0; i < permissionsPerRole; i++) {
+                roleGrants.add("resource" + ((role + i * 3) % dictionary) + ":read");
+            }
+            permissions.put(role, roleGrants);
+        }
+        sets = permissions;
+        index = new BitSetPermissionIndex(new FixedPermissions(permissions));
+        roleId = 4242L;
+        granted = permissions.get(roleId).iterator().next();
+        missing = "billing:export";
+    }
+
+    @Benchmark
+    public boolean bitmapIndexCheck() {
+        return index.hasPermission(roleId, granted) & !index.hasPermission(roleId, missing);
+    }
+
+    @Benchmark
+    public boolean hashSetCheck() {
+        Set<String> permissions = sets.get(roleId);
+        return permissions.contains(granted) & !permissions.contains(missing);
+    }
+
+    /**
+     * Read-only repository feeding the index its initial content.
+     */
+    private record FixedPermissions(Map<Long, Set<String>> permissions)
+            implements RolePermissionRepositoryPort {
+
+        @Override
+        public Set<String> findByRoleId(Long roleId) {
+            return permissions.getOrDefault(roleId, Set.of());
+        }
+
+        @Override
+        public Map<Long, Set<String>> findAll() {
+            return permissions;
+        }
+
+        @Override
+        public void save(Long roleId, Set<String> permissions) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteByRoleId(Long roleId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
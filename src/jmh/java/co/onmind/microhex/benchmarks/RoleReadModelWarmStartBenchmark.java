@@ -0,0 +1,139 @@
+package co.onmind.microhex.benchmarks;
+
+import co.onmind.microhex.MicroHexApplication;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleChangeLogPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.readmodel.RoleReadModelWarmStart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to warm the role read model at startup: loading every role from the
+ * database (cold) against reading the dump of the last shutdown and reloading
+ * the roles changed since (warm).
+ *
+ * The setup starts the application (without the web server) on a file-backed
+ * H2 database holding the roles, dumps the read model, then renames some
+ * roles through the repository so the warm start has a delta to catch up:
+ * ./gradlew jmh -PjmhInclude=RoleReadModelWarmStartBenchmark
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RoleReadModelWarmStartBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int roles;
+
+    @Param({"0", "1000"})
+    public int changes;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private RoleRepositoryPort roleRepository;
+    private RoleReadModelWarmStart cold;
+    private RoleReadModelWarmStart warm;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("role-warm-start-bench");
+        Path dump = directory.resolve("role-read-model.bin");
+        context = new SpringApplicationBuilder(MicroHexApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:file:" + directory.resolve("roles"),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "read-model.warm-start.enabled=true",
+                        "read-model.warm-start.path=" + dump)
+                .run();
+        insertRoles(context.getBean(DataSource.class));
+        roleRepository = context.getBean(RoleRepositoryPort.class);
+
+        Clock clock = context.getBean(Clock.class);
+        warm = new RoleReadModelWarmStart(context.getBeanProvider(RoleChangeLogPort.class), true, dump,
+                Duration.ofDays(7), clock);
+        cold = new RoleReadModelWarmStart(context.getBeanProvider(RoleChangeLogPort.class), false, dump,
+                Duration.ofDays(7), clock);
+        warm.dump(warm.dataVersion(), roleRepository.findAll());
+        for (long id = 1; id <= changes; id++) {
+            roleRepository.save(new Role(id, "RENAMED_" + id, LocalDateTime.now()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<Role> coldStart() {
+        return cold.load(roleRepository);
+    }
+
+    @Benchmark
+    public List<Role> warmStart() {
+        return warm.load(roleRepository);
+    }
+
+    private void insertRoles(DataSource dataSource) throws SQLException {
+        // Plain JDBC batches: seeding through JPA would take longer than the benchmark
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO roles (id, name, created_at) VALUES (?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 1; i <= roles; i++) {
+                insert.setLong(1, i);
+                insert.setString(2, "ROLE_" + i);
+                insert.setTimestamp(3, createdAt);
+                insert.addBatch();
+                if (i % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+}
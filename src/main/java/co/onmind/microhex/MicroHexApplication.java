@@ -1,5 +1,6 @@
 package co.onmind.microhex;
 
+import co.onmind.microhex.infrastructure.cli.RoleSnapshotCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -15,9 +16,15 @@ public class MicroHexApplication {
     /**
      * Main method to start the Spring Boot application.
      * 
+     * With roles-export or roles-import as first argument, runs that
+     * command instead (see RoleSnapshotCommand) and exits.
+     * 
      * @param args command line arguments
      */
     public static void main(String[] args) {
+        if (RoleSnapshotCommand.isCommand(args)) {
+            System.exit(RoleSnapshotCommand.run(args));
+        }
         SpringApplication.run(MicroHexApplication.class, args);
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package co.onmind.microhex.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for checking several permissions of a role at once.
+ */
+public class PermissionCheckRequest {
+    
+    @NotEmpty(message = "Permissions are required")
+    @Size(max = 1000, message = "Cannot check more than 1000 permissions at once")
+    private List<String> permissions;
+    
+    public PermissionCheckRequest() {}
+    
+    public PermissionCheckRequest(List<String> permissions) {
+        this.permissions = permissions;
+    }
+    
+    public List<String> getPermissions() {
+        return permissions;
+    }
+    
+    public void setPermissions(List<String> permissions) {
+        this.permissions = permissions;
+    }
+}
@@ -0,0 +1,30 @@
+package co.onmind.microhex.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+/**
+ * DTO for replacing the permissions of a role.
+ */
+public class RolePermissionsRequest {
+    
+    @NotNull(message = "Permissions are required")
+    @Size(max = 1000, message = "A role cannot have more than 1000 permissions")
+    private Set<String> permissions;
+    
+    public RolePermissionsRequest() {}
+    
+    public RolePermissionsRequest(Set<String> permissions) {
+        this.permissions = permissions;
+    }
+    
+    public Set<String> getPermissions() {
+        return permissions;
+    }
+    
+    public void setPermissions(Set<String> permissions) {
+        this.permissions = permissions;
+    }
+}
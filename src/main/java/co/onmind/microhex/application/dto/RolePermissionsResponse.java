@@ -0,0 +1,35 @@
+package co.onmind.microhex.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the permissions granted to a role.
+ */
+public class RolePermissionsResponse {
+    
+    private Long roleId;
+    private List<String> permissions;
+    
+    public RolePermissionsResponse() {}
+    
+    public RolePermissionsResponse(Long roleId, List<String> permissions) {
+        this.roleId = roleId;
+        this.permissions = permissions;
+    }
+    
+    public Long getRoleId() {
+        return roleId;
+    }
+    
+    public void setRoleId(Long roleId) {
+        this.roleId = roleId;
+    }
+    
+    public List<String> getPermissions() {
+        return permissions;
+    }
+    
+    public void setPermissions(List<String> permissions) {
+        this.permissions = permissions;
+    }
+}
@@ -0,0 +1,53 @@
+package co.onmind.microhex.application.dto;
+
+/**
+ * DTO for a page of the users assigned to a role.
+ */
+public class RoleUsersResponse {
+    
+    private Long roleId;
+    private int total;
+    private int offset;
+    private long[] userIds;
+    
+    public RoleUsersResponse() {}
+    
+    public RoleUsersResponse(Long roleId, int total, int offset, long[] userIds) {
+        this.roleId = roleId;
+        this.total = total;
+        this.offset = offset;
+        this.userIds = userIds;
+    }
+    
+    public Long getRoleId() {
+        return roleId;
+    }
+    
+    public void setRoleId(Long roleId) {
+        this.roleId = roleId;
+    }
+    
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public int getOffset() {
+        return offset;
+    }
+    
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+    
+    public long[] getUserIds() {
+        return userIds;
+    }
+    
+    public void setUserIds(long[] userIds) {
+        this.userIds = userIds;
+    }
+}
@@ -0,0 +1,33 @@
+package co.onmind.microhex.application.dto;
+
+/**
+ * DTO for the roles assigned to a user.
+ */
+public class UserRolesResponse {
+    
+    private Long userId;
+    private long[] roleIds;
+    
+    public UserRolesResponse() {}
+    
+    public UserRolesResponse(Long userId, long[] roleIds) {
+        this.userId = userId;
+        this.roleIds = roleIds;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public long[] getRoleIds() {
+        return roleIds;
+    }
+    
+    public void setRoleIds(long[] roleIds) {
+        this.roleIds = roleIds;
+    }
+}
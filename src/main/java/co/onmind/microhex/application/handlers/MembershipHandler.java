@@ -0,0 +1,108 @@
+package co.onmind.microhex.application.handlers;
+
+import co.onmind.microhex.application.dto.RoleUsersResponse;
+import co.onmind.microhex.application.dto.UserRolesResponse;
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.models.Membership;
+import co.onmind.microhex.domain.ports.in.MembershipServicePort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Application handler for user role membership operations.
+ * 
+ * Orchestrates between the membership controller and the domain service,
+ * handling DTO conversion and HTTP responses. Queries are answered from the
+ * in-memory membership index.
+ */
+@Component
+public class MembershipHandler {
+    
+    private static final Map<String, Boolean> MEMBER = Map.of("member", true);
+    private static final Map<String, Boolean> NOT_MEMBER = Map.of("member", false);
+    
+    private final MembershipServicePort membershipServicePort;
+    
+    public MembershipHandler(MembershipServicePort membershipServicePort) {
+        this.membershipServicePort = membershipServicePort;
+    }
+    
+    /**
+     * Handles assign role requests: 201 when newly assigned, 200 when it already was.
+     */
+    public ResponseEntity<UserRolesResponse> assignRole(Long userId, Long roleId) {
+        return assignRole(userId, roleId, null);
+    }
+    
+    /**
+     * Handles assign role requests with an optional expiry; 400 when the expiry has passed.
+     */
+    public ResponseEntity<UserRolesResponse> assignRole(Long userId, Long roleId, Instant expiresAt) {
+        try {
+            boolean assigned = membershipServicePort.assignRole(userId, roleId, expiresAt);
+            return ResponseEntity.status(assigned ? HttpStatus.CREATED : HttpStatus.OK).body(roles(userId));
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Handles unassign role requests.
+     */
+    public ResponseEntity<Void> unassignRole(Long userId, Long roleId) {
+        try {
+            boolean removed = membershipServicePort.unassignRole(userId, roleId);
+            return removed ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Handles get user roles requests.
+     */
+    public ResponseEntity<UserRolesResponse> getUserRoles(Long userId) {
+        try {
+            return ResponseEntity.ok(roles(userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Handles user has role checks.
+     */
+    public ResponseEntity<Map<String, Boolean>> hasRole(Long userId, Long roleId) {
+        return ResponseEntity.ok(membershipServicePort.hasRole(userId, roleId) ? MEMBER : NOT_MEMBER);
+    }
+    
+    /**
+     * Handles get users in role requests.
+     */
+    public ResponseEntity<RoleUsersResponse> getUsersInRole(Long roleId, int offset, int limit) {
+        try {
+            long[] userIds = membershipServicePort.getUsersInRole(roleId, offset, limit);
+            int total = membershipServicePort.countUsersInRole(roleId);
+            return ResponseEntity.ok(new RoleUsersResponse(roleId, total, offset, userIds));
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    private UserRolesResponse roles(Long userId) {
+        Membership membership = membershipServicePort.getMembership(userId);
+        return new UserRolesResponse(membership.userId(), membership.roleIds());
+    }
+}
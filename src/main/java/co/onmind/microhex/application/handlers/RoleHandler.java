@@ -7,15 +7,33 @@ import co.onmind.microhex.application.mappers.RoleMapper;
 import co.onmind.microhex.domain.exceptions.RoleAlreadyExistsException;
 import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
 import co.onmind.microhex.domain.exceptions.SystemRoleException;
+import co.onmind.microhex.domain.models.ReadModelStatus;
 import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleImportSummary;
 import co.onmind.microhex.domain.ports.in.RoleServicePort;
+import co.onmind.microhex.transverse.idempotency.IdempotencyCache;
+import co.onmind.microhex.transverse.idempotency.IdempotencyInProgressException;
+import co.onmind.microhex.transverse.parsing.RecordFieldReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Application handler for role operations.
@@ -24,26 +42,80 @@ import java.util.Optional;
  * and the domain service, handling DTOs conversion and HTTP responses.
  * It follows the hexagonal architecture variation where the application
  * layer is simplified with handlers instead of traditional use cases.
+ * 
+ * Queries are served by the read model, which can trail the commands.
+ * Successful commands return a read token (X-Read-Token); a query sent with
+ * that token waits until the read model has applied it. Every query response
+ * carries the read model version and lag it was served from.
+ * 
+ * Creates and updates sent with an Idempotency-Key header run once per key
+ * and request body; retries get the first response back, marked with
+ * Idempotent-Replayed, and a retry arriving while the first request is still
+ * running waits for it.
+ * 
+ * Bulk imports read their NDJSON or CSV body while the response is written:
+ * one NDJSON line of running totals per committed chunk, then the final
+ * totals with the read token, which cannot be a header any more.
  */
 @Component
 public class RoleHandler {
     
+    public static final String READ_TOKEN_HEADER = "X-Read-Token";
+    public static final String READ_MODEL_VERSION_HEADER = "X-Read-Model-Version";
+    public static final String READ_MODEL_LAG_HEADER = "X-Read-Model-Lag";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    
+    private static final Logger logger = LoggerFactory.getLogger(RoleHandler.class);
+    
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final String IMPORT_NAME_FIELD = "name";
+    
     private final RoleServicePort roleServicePort;
     private final RoleMapper roleMapper;
+    private final IdempotencyCache<ResponseEntity<RoleResponse>> idempotencyCache;
     
-    public RoleHandler(RoleServicePort roleServicePort, RoleMapper roleMapper) {
+    public RoleHandler(RoleServicePort roleServicePort, RoleMapper roleMapper,
+                       IdempotencyCache<ResponseEntity<RoleResponse>> idempotencyCache) {
         this.roleServicePort = roleServicePort;
         this.roleMapper = roleMapper;
+        this.idempotencyCache = idempotencyCache;
     }
     
     /**
      * Handles role creation requests.
      */
     public ResponseEntity<RoleResponse> createRole(CreateRoleRequest request) {
+        return createRole(request, null);
+    }
+    
+    /**
+     * Handles role creation requests, once per idempotency key when present.
+     */
+    public ResponseEntity<RoleResponse> createRole(CreateRoleRequest request, String idempotencyKey) {
+        return idempotent(idempotencyKey, () -> doCreateRole(request), "POST", request.getName());
+    }
+    
+    /**
+     * Handles role update requests.
+     */
+    public ResponseEntity<RoleResponse> updateRole(Long id, UpdateRoleRequest request) {
+        return updateRole(id, request, null);
+    }
+    
+    /**
+     * Handles role update requests, once per idempotency key when present.
+     */
+    public ResponseEntity<RoleResponse> updateRole(Long id, UpdateRoleRequest request, String idempotencyKey) {
+        return idempotent(idempotencyKey, () -> doUpdateRole(id, request), "PUT", id, request.getName());
+    }
+    
+    private ResponseEntity<RoleResponse> doCreateRole(CreateRoleRequest request) {
         try {
             Role role = roleServicePort.createRole(request.getName());
             RoleResponse response = roleMapper.toResponse(role);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return ResponseEntity.status(HttpStatus.CREATED).headers(readToken()).body(response);
         } catch (RoleAlreadyExistsException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException e) {
@@ -53,14 +125,11 @@ public class RoleHandler {
         }
     }
     
-    /**
-     * Handles role update requests.
-     */
-    public ResponseEntity<RoleResponse> updateRole(Long id, UpdateRoleRequest request) {
+    private ResponseEntity<RoleResponse> doUpdateRole(Long id, UpdateRoleRequest request) {
         try {
             Role role = roleServicePort.updateRole(id, request.getName());
             RoleResponse response = roleMapper.toResponse(role);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().headers(readToken()).body(response);
         } catch (RoleNotFoundException e) {
             return ResponseEntity.notFound().build();
         } catch (RoleAlreadyExistsException e) {
@@ -80,7 +149,7 @@ public class RoleHandler {
     public ResponseEntity<Void> deleteRole(Long id) {
         try {
             roleServicePort.deleteRole(id);
-            return ResponseEntity.noContent().build();
+            return ResponseEntity.noContent().headers(readToken()).build();
         } catch (RoleNotFoundException e) {
             return ResponseEntity.notFound().build();
         } catch (SystemRoleException e) {
@@ -90,16 +159,54 @@ public class RoleHandler {
         }
     }
     
+    /**
+     * Handles bulk role imports; the body is read as CSV for text/csv, as NDJSON otherwise.
+     */
+    public ResponseEntity<StreamingResponseBody> importRoles(InputStream body, String contentType) {
+        boolean csv = contentType != null
+                && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE));
+        StreamingResponseBody response = output -> {
+            Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            RoleImportSummary[] committed = {RoleImportSummary.EMPTY};
+            try (RecordFieldReader names = csv
+                    ? RecordFieldReader.csv(body, IMPORT_NAME_FIELD)
+                    : RecordFieldReader.ndjson(body, IMPORT_NAME_FIELD)) {
+                RoleImportSummary summary = roleServicePort.importRoles(names, progress -> {
+                    committed[0] = progress;
+                    writeImportLine(writer, progress, "");
+                });
+                writeImportLine(writer, summary, ",\"done\":true,\"readToken\":" + roleServicePort.getWriteToken());
+                logger.info("Imported roles: {} inserted, {} duplicates, {} invalid",
+                        summary.inserted(), summary.duplicates(), summary.invalid());
+            } catch (UncheckedIOException e) {
+                // The body could not be read or the client went away
+                throw e.getCause();
+            } catch (RuntimeException e) {
+                logger.error("Role import stopped after {} records", committed[0].records(), e);
+                writeImportLine(writer, committed[0], ",\"done\":false,\"error\":\"Import stopped; the totals cover the committed chunks\"");
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(response);
+    }
+    
     /**
      * Handles get role by ID requests.
      */
     public ResponseEntity<RoleResponse> getRoleById(Long id) {
+        return getRoleById(id, null);
+    }
+    
+    /**
+     * Handles get role by ID requests, reading at least the given token.
+     */
+    public ResponseEntity<RoleResponse> getRoleById(Long id, Long readToken) {
+        HttpHeaders headers = readModelStatus(readToken);
         Optional<Role> role = roleServicePort.getRoleById(id);
         if (role.isPresent()) {
             RoleResponse response = roleMapper.toResponse(role.get());
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().headers(headers).body(response);
         } else {
-            return ResponseEntity.notFound().build();
+            return ResponseEntity.notFound().headers(headers).build();
         }
     }
     
@@ -107,19 +214,61 @@ public class RoleHandler {
      * Handles get all roles requests.
      */
     public ResponseEntity<List<RoleResponse>> getAllRoles() {
+        return getAllRoles(null);
+    }
+    
+    /**
+     * Handles get all roles requests, reading at least the given token.
+     */
+    public ResponseEntity<List<RoleResponse>> getAllRoles(Long readToken) {
+        HttpHeaders headers = readModelStatus(readToken);
         List<Role> roles = roleServicePort.getAllRoles();
         List<RoleResponse> responses = roleMapper.toResponseList(roles);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().headers(headers).body(responses);
+    }
+    
+    /**
+     * Handles get role by ID requests as of a time, answered from the role history.
+     */
+    public ResponseEntity<RoleResponse> getRoleByIdAsOf(Long id, Instant asOf) {
+        if (!roleServicePort.isRoleHistoryAvailable()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        Optional<Role> role = roleServicePort.getRoleByIdAsOf(id, asOf);
+        if (role.isPresent()) {
+            return ResponseEntity.ok(roleMapper.toResponse(role.get()));
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Handles get all roles requests as of a time, answered from the role history.
+     */
+    public ResponseEntity<List<RoleResponse>> getAllRolesAsOf(Instant asOf) {
+        if (!roleServicePort.isRoleHistoryAvailable()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        List<Role> roles = roleServicePort.getAllRolesAsOf(asOf);
+        return ResponseEntity.ok(roleMapper.toResponseList(roles));
     }
     
     /**
      * Handles search roles requests.
      */
     public ResponseEntity<List<RoleResponse>> searchRoles(String name) {
+        return searchRoles(name, null);
+    }
+    
+    /**
+     * Handles search roles requests, reading at least the given token.
+     */
+    public ResponseEntity<List<RoleResponse>> searchRoles(String name, Long readToken) {
         try {
+            HttpHeaders headers = readModelStatus(readToken);
             List<Role> roles = roleServicePort.searchRolesByName(name);
             List<RoleResponse> responses = roleMapper.toResponseList(roles);
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok().headers(headers).body(responses);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -129,7 +278,86 @@ public class RoleHandler {
      * Handles get role count requests.
      */
     public ResponseEntity<Map<String, Long>> getRoleCount() {
+        return getRoleCount(null);
+    }
+    
+    /**
+     * Handles get role count requests, reading at least the given token.
+     */
+    public ResponseEntity<Map<String, Long>> getRoleCount(Long readToken) {
+        HttpHeaders headers = readModelStatus(readToken);
         Long count = roleServicePort.getRoleCount();
-        return ResponseEntity.ok(Map.of("count", count));
+        return ResponseEntity.ok().headers(headers).body(Map.of("count", count));
+    }
+    
+    /**
+     * Runs a command once per idempotency key and request. Server errors are
+     * not kept, so the client can retry them with the same key.
+     */
+    private ResponseEntity<RoleResponse> idempotent(String idempotencyKey,
+                                                    Supplier<ResponseEntity<RoleResponse>> command,
+                                                    Object... request) {
+        if (idempotencyKey == null) {
+            return command.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            IdempotencyCache.Outcome<ResponseEntity<RoleResponse>> outcome = idempotencyCache.execute(
+                    IdempotencyCache.requestKey(idempotencyKey, request),
+                    command,
+                    response -> !response.getStatusCode().is5xxServerError());
+            if (!outcome.replayed()) {
+                return outcome.value();
+            }
+            ResponseEntity<RoleResponse> response = outcome.value();
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                    .body(response.getBody());
+        } catch (IdempotencyInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
+    /**
+     * Writes and flushes one line of import totals.
+     */
+    private static void writeImportLine(Writer writer, RoleImportSummary summary, String extra) {
+        try {
+            writer.write("{\"inserted\":" + summary.inserted()
+                    + ",\"duplicates\":" + summary.duplicates()
+                    + ",\"invalid\":" + summary.invalid() + extra + "}\n");
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Builds the read token header returned by successful commands.
+     */
+    private HttpHeaders readToken() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(READ_TOKEN_HEADER, String.valueOf(roleServicePort.getWriteToken()));
+        return headers;
+    }
+    
+    /**
+     * Waits for the read token when present and describes the read model
+     * the query is served from. The status is taken before the query runs,
+     * so the data is at least as fresh as the reported version.
+     */
+    private HttpHeaders readModelStatus(Long readToken) {
+        ReadModelStatus status = readToken != null
+                ? roleServicePort.awaitReadModel(readToken)
+                : roleServicePort.getReadModelStatus();
+        HttpHeaders headers = new HttpHeaders();
+        if (status != null) {
+            headers.set(READ_MODEL_VERSION_HEADER, String.valueOf(status.version()));
+            headers.set(READ_MODEL_LAG_HEADER, String.valueOf(status.lag()));
+        }
+        return headers;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package co.onmind.microhex.application.handlers;
+
+import co.onmind.microhex.application.dto.RoleResponse;
+import co.onmind.microhex.application.mappers.RoleMapper;
+import co.onmind.microhex.domain.exceptions.RoleHierarchyCycleException;
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.ports.in.RoleHierarchyServicePort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application handler for role inheritance operations.
+ * 
+ * Orchestrates between the role hierarchy controller and the domain service,
+ * handling DTO conversion and HTTP responses. Queries are answered from the
+ * in-memory hierarchy index.
+ */
+@Component
+public class RoleHierarchyHandler {
+    
+    private static final Map<String, Boolean> INHERITS = Map.of("inherits", true);
+    private static final Map<String, Boolean> NOT_INHERITS = Map.of("inherits", false);
+    
+    private final RoleHierarchyServicePort roleHierarchyServicePort;
+    private final RoleMapper roleMapper;
+    
+    public RoleHierarchyHandler(RoleHierarchyServicePort roleHierarchyServicePort, RoleMapper roleMapper) {
+        this.roleHierarchyServicePort = roleHierarchyServicePort;
+        this.roleMapper = roleMapper;
+    }
+    
+    /**
+     * Handles add parent requests: 201 when newly added, 200 when it already was,
+     * 409 when it would close a cycle.
+     */
+    public ResponseEntity<List<RoleResponse>> addParent(Long roleId, Long parentId) {
+        try {
+            boolean added = roleHierarchyServicePort.addParent(roleId, parentId);
+            return ResponseEntity.status(added ? HttpStatus.CREATED : HttpStatus.OK)
+                    .body(roleMapper.toResponseList(roleHierarchyServicePort.getParents(roleId)));
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (RoleHierarchyCycleException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Handles remove parent requests.
+     */
+    public ResponseEntity<Void> removeParent(Long roleId, Long parentId) {
+        try {
+            boolean removed = roleHierarchyServicePort.removeParent(roleId, parentId);
+            return removed ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Handles get parents requests.
+     */
+    public ResponseEntity<List<RoleResponse>> getParents(Long roleId) {
+        try {
+            return ResponseEntity.ok(roleMapper.toResponseList(roleHierarchyServicePort.getParents(roleId)));
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Handles get effective roles requests.
+     */
+    public ResponseEntity<List<RoleResponse>> getEffectiveRoles(Long roleId) {
+        try {
+            return ResponseEntity.ok(roleMapper.toResponseList(roleHierarchyServicePort.getEffectiveRoles(roleId)));
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Handles get effective roles of a user requests.
+     */
+    public ResponseEntity<List<RoleResponse>> getEffectiveRolesOfUser(Long userId) {
+        try {
+            return ResponseEntity.ok(roleMapper.toResponseList(
+                    roleHierarchyServicePort.getEffectiveRolesOfUser(userId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Handles inheritance checks.
+     */
+    public ResponseEntity<Map<String, Boolean>> inherits(Long roleId, Long ancestorId) {
+        return ResponseEntity.ok(roleHierarchyServicePort.inherits(roleId, ancestorId) ? INHERITS : NOT_INHERITS);
+    }
+}
@@ -0,0 +1,100 @@
+package co.onmind.microhex.application.handlers;
+
+import co.onmind.microhex.application.dto.PermissionCheckRequest;
+import co.onmind.microhex.application.dto.RolePermissionsRequest;
+import co.onmind.microhex.application.dto.RolePermissionsResponse;
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.ports.in.RolePermissionServicePort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Application handler for role permission operations.
+ * 
+ * Orchestrates between the permission controller and the domain service,
+ * handling DTO conversion and HTTP responses. Checks are answered from the
+ * in-memory permission index; like the other queries, a role created a
+ * moment ago may not be known to it yet.
+ */
+@Component
+public class RolePermissionHandler {
+    
+    private static final Map<String, Boolean> GRANTED = Map.of("granted", true);
+    private static final Map<String, Boolean> NOT_GRANTED = Map.of("granted", false);
+    
+    private final RolePermissionServicePort rolePermissionServicePort;
+    
+    public RolePermissionHandler(RolePermissionServicePort rolePermissionServicePort) {
+        this.rolePermissionServicePort = rolePermissionServicePort;
+    }
+    
+    /**
+     * Handles get role permissions requests.
+     */
+    public ResponseEntity<RolePermissionsResponse> getPermissions(Long roleId) {
+        return respond(roleId, () -> rolePermissionServicePort.getPermissions(roleId));
+    }
+    
+    /**
+     * Handles replace role permissions requests.
+     */
+    public ResponseEntity<RolePermissionsResponse> setPermissions(Long roleId, RolePermissionsRequest request) {
+        return respond(roleId, () -> rolePermissionServicePort.setPermissions(roleId, request.getPermissions()));
+    }
+    
+    /**
+     * Handles grant permission requests.
+     */
+    public ResponseEntity<RolePermissionsResponse> grantPermission(Long roleId, String permission) {
+        return respond(roleId, () -> rolePermissionServicePort.grantPermission(roleId, permission));
+    }
+    
+    /**
+     * Handles revoke permission requests.
+     */
+    public ResponseEntity<RolePermissionsResponse> revokePermission(Long roleId, String permission) {
+        return respond(roleId, () -> rolePermissionServicePort.revokePermission(roleId, permission));
+    }
+    
+    /**
+     * Handles single permission check requests.
+     */
+    public ResponseEntity<Map<String, Boolean>> checkPermission(Long roleId, String permission) {
+        try {
+            boolean granted = rolePermissionServicePort.hasPermission(roleId, permission);
+            return ResponseEntity.ok(granted ? GRANTED : NOT_GRANTED);
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Handles batch permission check requests.
+     */
+    public ResponseEntity<Map<String, Boolean>> checkPermissions(Long roleId, PermissionCheckRequest request) {
+        try {
+            return ResponseEntity.ok(rolePermissionServicePort.checkPermissions(roleId, request.getPermissions()));
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    private ResponseEntity<RolePermissionsResponse> respond(Long roleId, Supplier<Set<String>> operation) {
+        try {
+            Set<String> permissions = operation.get();
+            return ResponseEntity.ok(new RolePermissionsResponse(roleId, List.copyOf(permissions)));
+        } catch (RoleNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -4,7 +4,6 @@ import co.onmind.microhex.application.dto.CreateRoleRequest;
 import co.onmind.microhex.application.dto.RoleResponse;
 import co.onmind.microhex.domain.models.Role;
 import org.mapstruct.Mapper;
-import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 import java.util.List;
@@ -38,13 +37,16 @@ public interface RoleMapper {
     List<RoleResponse> toResponseList(List<Role> roles);
     
     /**
-     * Converts a CreateRoleRequest DTO to Role domain model.
-     * Maps only the name field, ignoring id and createdAt.
+     * Converts a CreateRoleRequest DTO to a new Role domain model.
+     * Only the name is taken from the request; it is validated and normalized
+     * by the domain model.
      * @param request the create request DTO
      * @return the domain model
      */
-    @Mapping(target = "id", ignore = true)
-    @Mapping(target = "createdAt", ignore = true)
-    @Mapping(target = "withName", ignore = true)
-    Role toDomain(CreateRoleRequest request);
+    default Role toDomain(CreateRoleRequest request) {
+        if (request == null) {
+            return null;
+        }
+        return Role.create(request.getName());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package co.onmind.microhex.domain.events;
+
+import co.onmind.microhex.domain.models.Role;
+
+/**
+ * Domain event describing a change to a role.
+ *
+ * Instances are preallocated slots of the event bus and are reused for
+ * later events, so consumers must copy the values they need to keep
+ * instead of holding on to the event itself.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class RoleEvent {
+
+    /**
+     * Kind of role change.
+     */
+    public enum Type {
+        ROLE_CREATED,
+        ROLE_UPDATED,
+        ROLE_DELETED
+    }
+
+    private Type type;
+    private Long roleId;
+    private Role role;
+
+    /**
+     * Overwrites this slot with a new event.
+     * @param type the kind of change
+     * @param roleId the ID of the changed role
+     * @param role the role state after the change, null for deletions
+     */
+    public void set(Type type, Long roleId, Role role) {
+        this.type = type;
+        this.roleId = roleId;
+        this.role = role;
+    }
+
+    public Type getType() { return type; }
+    public Long getRoleId() { return roleId; }
+    public Role getRole() { return role; }
+
+    @Override
+    public String toString() {
+        return "RoleEvent{" +
+                "type=" + type +
+                ", roleId=" + roleId +
+                ", role=" + role +
+                '}';
+    }
+}
@@ -0,0 +1,15 @@
+package co.onmind.microhex.domain.exceptions;
+
+/**
+ * Exception thrown when a parent would make a role inherit from itself.
+ */
+public class RoleHierarchyCycleException extends RuntimeException {
+    
+    public RoleHierarchyCycleException(String message) {
+        super(message);
+    }
+    
+    public RoleHierarchyCycleException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
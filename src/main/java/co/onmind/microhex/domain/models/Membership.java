@@ -0,0 +1,98 @@
+package co.onmind.microhex.domain.models;
+
+import java.util.Arrays;
+
+/**
+ * Membership aggregate: the roles assigned to one user.
+ *
+ * Users are identified by a positive numeric ID owned by the caller's
+ * identity system; hex4j only keeps their role assignments. Role IDs are
+ * kept sorted and unique in a primitive array, so a membership costs eight
+ * bytes per role and a role check is a binary search.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public final class Membership {
+
+    private final long userId;
+    private final long[] roleIds;
+
+    private Membership(long userId, long[] roleIds) {
+        this.userId = userId;
+        this.roleIds = roleIds;
+    }
+
+    /**
+     * Builds the membership of a user.
+     * @param userId the user ID
+     * @param roleIds the assigned role IDs, in any order
+     * @return the membership
+     * @throws IllegalArgumentException if the user ID is not positive
+     */
+    public static Membership of(long userId, long[] roleIds) {
+        requireUserId(userId);
+        long[] sorted = roleIds.clone();
+        Arrays.sort(sorted);
+        int unique = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[unique - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return new Membership(userId, unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique));
+    }
+
+    /**
+     * Validates a user ID.
+     * @param userId the user ID
+     * @throws IllegalArgumentException if the user ID is not positive
+     */
+    public static void requireUserId(long userId) {
+        if (userId <= 0) {
+            throw new IllegalArgumentException("User ID must be positive");
+        }
+    }
+
+    /** @return the user ID */
+    public long userId() {
+        return userId;
+    }
+
+    /** @return the assigned role IDs, ascending */
+    public long[] roleIds() {
+        return roleIds.clone();
+    }
+
+    /** @return the number of assigned roles */
+    public int size() {
+        return roleIds.length;
+    }
+
+    /**
+     * Checks whether the user has the role.
+     * @param roleId the role ID
+     * @return true if the role is assigned
+     */
+    public boolean hasRole(long roleId) {
+        return Arrays.binarySearch(roleIds, roleId) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Membership that = (Membership) o;
+        return userId == that.userId && Arrays.equals(roleIds, that.roleIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(userId) + Arrays.hashCode(roleIds);
+    }
+
+    @Override
+    public String toString() {
+        return "Membership{userId=" + userId + ", roleIds=" + Arrays.toString(roleIds) + '}';
+    }
+}
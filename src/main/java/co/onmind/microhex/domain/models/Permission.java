@@ -0,0 +1,78 @@
+package co.onmind.microhex.domain.models;
+
+/**
+ * Value type for a validated permission name granted to roles.
+ *
+ * Permission names are checked on every request by other services, so they
+ * have a single canonical spelling and are compared as-is: lower-case ASCII
+ * letters and digits, plus the separators ':', '.', '_', '-' and the '*'
+ * wildcard (for example "roles:read" or "billing.invoices:*"). Surrounding
+ * blanks are trimmed; anything else is rejected rather than rewritten, so a
+ * check never has to normalize its input.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public final class Permission {
+
+    public static final int MAX_LENGTH = 100;
+
+    private final String value;
+
+    private Permission(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Validates a raw permission name.
+     * @param raw the name as received from the caller
+     * @return the permission
+     * @throws IllegalArgumentException if the name is blank, too long or not canonical
+     */
+    public static Permission of(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalArgumentException("Permission cannot be blank");
+        }
+        String value = raw.strip();
+        if (value.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Permission cannot exceed " + MAX_LENGTH + " characters");
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!isAllowed(value.charAt(i))) {
+                throw new IllegalArgumentException(
+                        "Permission may only contain lower-case letters, digits and : . _ - *: " + value);
+            }
+        }
+        return new Permission(value);
+    }
+
+    /**
+     * Returns the canonical name.
+     * @return the name value
+     */
+    public String value() {
+        return value;
+    }
+
+    private static boolean isAllowed(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == ':' || c == '.' || c == '_' || c == '-' || c == '*';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return value.equals(((Permission) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
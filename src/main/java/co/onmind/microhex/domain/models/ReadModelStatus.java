@@ -0,0 +1,21 @@
+package co.onmind.microhex.domain.models;
+
+/**
+ * Freshness of the role read model.
+ *
+ * @param version position of the last change applied to the read model
+ * @param lag number of published changes not applied yet
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public record ReadModelStatus(long version, long lag) {
+
+    /**
+     * Whether the read model had applied every published change.
+     * @return true if the lag is zero
+     */
+    public boolean isCurrent() {
+        return lag == 0;
+    }
+}
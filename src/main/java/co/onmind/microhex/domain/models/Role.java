@@ -6,37 +6,40 @@ import java.util.Set;
 
 /**
  * Role domain model representing a user role in the system.
- * 
+ *
  * This is the core domain entity that encapsulates the business logic
  * and rules for roles. It follows the hexagonal architecture principles
  * by being independent of external frameworks and infrastructure.
- * 
+ *
+ * Roles are immutable and built on a {@link RoleName}, so the name is
+ * validated and normalized once when it enters the domain; changes
+ * produce a new Role.
+ *
  * @author OnMind (Cesar Andres Arcila Buitrago)
  * @version 1.0.0
  */
-public class Role {
-    
+public final class Role {
+
     private static final Set<String> RESERVED_NAMES = Set.of("ADMIN", "ROOT", "SYSTEM");
-    
-    private Long id;
-    private String name;
-    private LocalDateTime createdAt;
-    
-    public Role() {}
-    
+
+    private final Long id;
+    private final RoleName name;
+    private final LocalDateTime createdAt;
+
     public Role(String name) {
-        validateName(name);
-        this.name = name.trim().toUpperCase();
-        this.createdAt = LocalDateTime.now();
+        this(null, RoleName.of(name), LocalDateTime.now());
     }
-    
+
     public Role(Long id, String name, LocalDateTime createdAt) {
-        validateName(name);
+        this(id, RoleName.of(name), createdAt);
+    }
+
+    public Role(Long id, RoleName name, LocalDateTime createdAt) {
         this.id = id;
-        this.name = name.trim().toUpperCase();
+        this.name = Objects.requireNonNull(name, "Role name cannot be null");
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
     }
-    
+
     /**
      * Factory method to create a new role with normalized name.
      * @param name the role name
@@ -45,60 +48,63 @@ public class Role {
     public static Role create(String name) {
         return new Role(name);
     }
-    
+
+    /**
+     * Factory method to create a new role from an already normalized name.
+     * @param name the role name
+     * @return a new Role instance
+     */
+    public static Role create(RoleName name) {
+        return new Role(null, name, LocalDateTime.now());
+    }
+
     /**
      * Validates if this role is a system role that cannot be deleted.
      * @return true if it's a system role
      */
     public boolean isSystemRole() {
-        return name != null && (name.startsWith("SYSTEM_") || RESERVED_NAMES.contains(name));
+        String value = name.value();
+        return value.startsWith("SYSTEM_") || RESERVED_NAMES.contains(value);
     }
-    
+
     /**
      * Creates a copy of this role with updated name.
      * @param newName the new name
      * @return a new Role instance with the updated name
      */
     public Role withName(String newName) {
-        return new Role(this.id, newName, this.createdAt);
+        return withName(RoleName.of(newName));
     }
-    
+
     /**
-     * Validates the role name according to business rules.
-     * @param name the name to validate
-     * @throws IllegalArgumentException if the name is invalid
+     * Creates a copy of this role with an already normalized name.
+     * @param newName the new name
+     * @return a new Role instance with the updated name
      */
-    private void validateName(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Role name cannot be blank");
-        }
-        if (name.length() > 100) {
-            throw new IllegalArgumentException("Role name cannot exceed 100 characters");
-        }
+    public Role withName(RoleName newName) {
+        return new Role(this.id, newName, this.createdAt);
     }
-    
-    // Getters and Setters
+
+    // Getters
     public Long getId() { return id; }
-    public void setId(Long id) { this.id = id; }
-    public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public String getName() { return name.value(); }
+    public RoleName getRoleName() { return name; }
     public LocalDateTime getCreatedAt() { return createdAt; }
-    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Role role = (Role) o;
-        return Objects.equals(id, role.id) && 
+        return Objects.equals(id, role.id) &&
                Objects.equals(name, role.name);
     }
-    
+
     @Override
     public int hashCode() {
         return Objects.hash(id, name);
     }
-    
+
     @Override
     public String toString() {
         return "Role{" +
@@ -107,4 +113,4 @@ public class Role {
                 ", createdAt=" + createdAt +
                 '}';
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package co.onmind.microhex.domain.models;
+
+import java.time.Instant;
+
+/**
+ * Role assigned to a user until an expiry time.
+ *
+ * @param userId the user ID
+ * @param roleId the role ID
+ * @param expiresAt when the assignment is removed
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public record RoleGrant(long userId, long roleId, Instant expiresAt) {
+
+    /**
+     * Whether the grant has expired at the given time.
+     * @param now the current time
+     * @return true if the expiry is not after now
+     */
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,39 @@
+package co.onmind.microhex.domain.models;
+
+/**
+ * Running totals of a bulk role import.
+ *
+ * @param inserted number of roles created
+ * @param duplicates number of names already taken, by an existing role or earlier in the import
+ * @param invalid number of records without a valid role name
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public record RoleImportSummary(long inserted, long duplicates, long invalid) {
+
+    /**
+     * Totals before the first record.
+     */
+    public static final RoleImportSummary EMPTY = new RoleImportSummary(0, 0, 0);
+
+    /**
+     * Adds counts to these totals.
+     *
+     * @param inserted roles created
+     * @param duplicates names already taken
+     * @param invalid records without a valid name
+     * @return the new totals
+     */
+    public RoleImportSummary plus(long inserted, long duplicates, long invalid) {
+        return new RoleImportSummary(this.inserted + inserted, this.duplicates + duplicates, this.invalid + invalid);
+    }
+
+    /**
+     * Total number of records read.
+     * @return inserted, duplicate and invalid records
+     */
+    public long records() {
+        return inserted + duplicates + invalid;
+    }
+}
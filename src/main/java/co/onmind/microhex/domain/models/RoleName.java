@@ -0,0 +1,100 @@
+package co.onmind.microhex.domain.models;
+
+/**
+ * Value type for a validated, canonical role name.
+ *
+ * A role name is validated and normalized (trimmed and upper-cased) exactly
+ * once, when the RoleName is created from user input. Everything downstream
+ * (the domain service, the Role model, mappers and adapters) passes the
+ * RoleName along instead of repeating the normalization.
+ *
+ * Input that is already canonical, which is the common case for role names,
+ * is kept as the same String instance without any copy.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public final class RoleName {
+
+    public static final int MAX_LENGTH = 100;
+
+    private final String value;
+
+    private RoleName(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Validates and normalizes a raw role name in a single pass.
+     * @param raw the name as received from the caller
+     * @return the canonical role name
+     * @throws IllegalArgumentException if the name is blank or too long
+     */
+    public static RoleName of(String raw) {
+        if (raw == null) {
+            throw new IllegalArgumentException("Role name cannot be blank");
+        }
+        int length = raw.length();
+        int start = 0;
+        int end = length;
+        while (start < end && raw.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && raw.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw new IllegalArgumentException("Role name cannot be blank");
+        }
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Role name cannot exceed " + MAX_LENGTH + " characters");
+        }
+
+        boolean canonical = start == 0 && end == length;
+        for (int i = start; canonical && i < end; i++) {
+            char c = raw.charAt(i);
+            // Only plain ASCII is known to be unchanged by toUpperCase()
+            canonical = c < 0x80 && (c < 'a' || c > 'z');
+        }
+        return new RoleName(canonical ? raw : raw.substring(start, end).toUpperCase());
+    }
+
+    /**
+     * Wraps a name that was already produced by {@link #of(String)}, such as a
+     * name read back from persistence, without validating it again.
+     * @param canonical the canonical name
+     * @return the role name
+     * @throws IllegalArgumentException if the name is null
+     */
+    public static RoleName ofNormalized(String canonical) {
+        if (canonical == null) {
+            throw new IllegalArgumentException("Role name cannot be blank");
+        }
+        return new RoleName(canonical);
+    }
+
+    /**
+     * Returns the canonical name.
+     * @return the name value
+     */
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return value.equals(((RoleName) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
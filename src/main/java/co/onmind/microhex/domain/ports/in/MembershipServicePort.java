@@ -0,0 +1,88 @@
+package co.onmind.microhex.domain.ports.in;
+
+import co.onmind.microhex.domain.models.Membership;
+
+import java.time.Instant;
+
+/**
+ * Input port for user role membership operations.
+ * This interface defines the contract for assigning roles to users and
+ * querying the assignments, and is implemented by the domain service.
+ */
+public interface MembershipServicePort {
+
+    // ========== COMMANDS (Write Operations) ==========
+
+    /**
+     * Assigns a role to a user.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @return true if the role was not assigned yet
+     */
+    boolean assignRole(long userId, long roleId);
+
+    /**
+     * Assigns a role to a user until an expiry time, or replaces the expiry
+     * of an existing assignment.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @param expiresAt when the assignment is removed, null to keep it
+     * @return true if the role was not assigned yet
+     */
+    boolean assignRole(long userId, long roleId, Instant expiresAt);
+
+    /**
+     * Unassigns a role from a user.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @return true if the role was assigned
+     */
+    boolean unassignRole(long userId, long roleId);
+
+    /**
+     * Removes every assignment of a role, used when the role is deleted.
+     * @param roleId the role ID
+     */
+    void removeRole(long roleId);
+
+    /**
+     * Removes the assignments whose expiry has passed, in batches of one
+     * transaction each.
+     * @param maxBatchSize maximum number of assignments per transaction
+     * @return the number of assignments removed
+     */
+    int expireGrants(int maxBatchSize);
+
+    // ========== QUERIES (Read Operations) ==========
+
+    /**
+     * Gets the roles assigned to a user.
+     * @param userId the user ID
+     * @return the user's membership, empty if the user has no roles
+     */
+    Membership getMembership(long userId);
+
+    /**
+     * Checks whether a user has a role.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @return true if the role is assigned to the user
+     */
+    boolean hasRole(long userId, long roleId);
+
+    /**
+     * Gets a page of the users in a role.
+     * @param roleId the role ID
+     * @param offset index of the first user
+     * @param limit maximum number of users
+     * @return the user IDs, ascending
+     */
+    long[] getUsersInRole(long roleId, int offset, int limit);
+
+    /**
+     * Counts the users in a role.
+     * @param roleId the role ID
+     * @return the number of users
+     */
+    int countUsersInRole(long roleId);
+}
@@ -0,0 +1,68 @@
+package co.onmind.microhex.domain.ports.in;
+
+import co.onmind.microhex.domain.models.Role;
+
+import java.util.List;
+
+/**
+ * Input port for role inheritance operations.
+ * This interface defines the contract for managing which roles inherit
+ * which, and for resolving the effective roles of a role or a user.
+ */
+public interface RoleHierarchyServicePort {
+
+    // ========== COMMANDS (Write Operations) ==========
+
+    /**
+     * Makes a role inherit a parent role.
+     * @param roleId the inheriting role ID
+     * @param parentId the inherited role ID
+     * @return true if the relation did not exist yet
+     */
+    boolean addParent(Long roleId, Long parentId);
+
+    /**
+     * Stops a role inheriting a parent role.
+     * @param roleId the inheriting role ID
+     * @param parentId the inherited role ID
+     * @return true if the relation existed
+     */
+    boolean removeParent(Long roleId, Long parentId);
+
+    /**
+     * Removes every relation of a role, used when the role is deleted.
+     * @param roleId the role ID
+     */
+    void removeRole(Long roleId);
+
+    // ========== QUERIES (Read Operations) ==========
+
+    /**
+     * Gets the direct parents of a role.
+     * @param roleId the role ID
+     * @return the parent roles, ordered by ID
+     */
+    List<Role> getParents(Long roleId);
+
+    /**
+     * Gets a role together with every role it inherits.
+     * @param roleId the role ID
+     * @return the effective roles, ordered by ID
+     */
+    List<Role> getEffectiveRoles(Long roleId);
+
+    /**
+     * Gets the roles assigned to a user together with every role they inherit.
+     * @param userId the user ID
+     * @return the effective roles, ordered by ID
+     */
+    List<Role> getEffectiveRolesOfUser(long userId);
+
+    /**
+     * Checks whether a role is or inherits another.
+     * @param roleId the role ID
+     * @param ancestorId the possibly inherited role ID
+     * @return true if roleId equals or inherits ancestorId
+     */
+    boolean inherits(Long roleId, Long ancestorId);
+}
@@ -0,0 +1,71 @@
+package co.onmind.microhex.domain.ports.in;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Input port for role permission operations.
+ * This interface defines the contract for granting permissions to roles
+ * and checking them, and is implemented by the domain service.
+ */
+public interface RolePermissionServicePort {
+
+    // ========== COMMANDS (Write Operations) ==========
+
+    /**
+     * Replaces the permissions granted to a role.
+     * @param roleId the role ID
+     * @param permissions the permission names
+     * @return the granted permissions
+     */
+    Set<String> setPermissions(Long roleId, Collection<String> permissions);
+
+    /**
+     * Grants a permission to a role.
+     * @param roleId the role ID
+     * @param permission the permission name
+     * @return the granted permissions
+     */
+    Set<String> grantPermission(Long roleId, String permission);
+
+    /**
+     * Revokes a permission from a role.
+     * @param roleId the role ID
+     * @param permission the permission name
+     * @return the granted permissions
+     */
+    Set<String> revokePermission(Long roleId, String permission);
+
+    /**
+     * Removes every permission of a role, used when the role is deleted.
+     * @param roleId the role ID
+     */
+    void clearPermissions(Long roleId);
+
+    // ========== QUERIES (Read Operations) ==========
+
+    /**
+     * Gets the permissions granted to a role.
+     * @param roleId the role ID
+     * @return the granted permissions, sorted by name
+     */
+    Set<String> getPermissions(Long roleId);
+
+    /**
+     * Checks whether a role grants a permission.
+     * @param roleId the role ID
+     * @param permission the permission name
+     * @return true if the role grants the permission
+     */
+    boolean hasPermission(Long roleId, String permission);
+
+    /**
+     * Checks several permissions of a role at once.
+     * @param roleId the role ID
+     * @param permissions the permission names
+     * @return whether each permission is granted, in request order
+     */
+    Map<String, Boolean> checkPermissions(Long roleId, List<String> permissions);
+}
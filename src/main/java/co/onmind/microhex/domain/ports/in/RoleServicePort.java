@@ -1,9 +1,14 @@
 package co.onmind.microhex.domain.ports.in;
 
+import co.onmind.microhex.domain.models.ReadModelStatus;
 import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleImportSummary;
 
+import java.time.Instant;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Input port for role operations.
@@ -35,6 +40,16 @@ public interface RoleServicePort {
      */
     void deleteRole(Long id);
     
+    /**
+     * Creates a role for each new name, in chunks committed one at a time.
+     * Names are normalized; names already taken or repeated are counted as
+     * duplicates, and blank or too long names as invalid.
+     * @param rawNames the names as received, null for a record that could not be read
+     * @param progress receives the totals after each committed chunk
+     * @return the final totals
+     */
+    RoleImportSummary importRoles(Iterator<String> rawNames, Consumer<RoleImportSummary> progress);
+    
     // ========== QUERIES (Read Operations) ==========
     
     /**
@@ -57,6 +72,30 @@ public interface RoleServicePort {
      */
     List<Role> getAllRoles();
     
+    /**
+     * Retrieves a role as it was at a given time, from the role history.
+     * @param id the role ID
+     * @param asOf the time
+     * @return the role with the name it had then, if it existed then
+     * @throws IllegalStateException if the persistence mode keeps no role history
+     */
+    Optional<Role> getRoleByIdAsOf(Long id, Instant asOf);
+    
+    /**
+     * Retrieves all roles as they were at a given time, from the role history.
+     * @param asOf the time
+     * @return the roles that existed then, ordered by ID
+     * @throws IllegalStateException if the persistence mode keeps no role history
+     */
+    List<Role> getAllRolesAsOf(Instant asOf);
+    
+    /**
+     * Checks whether the persistence mode keeps the role history, so roles
+     * can be retrieved as of a time.
+     * @return true if the role history is kept
+     */
+    boolean isRoleHistoryAvailable();
+    
     /**
      * Searches roles by name pattern.
      * @param pattern the search pattern
@@ -76,4 +115,26 @@ public interface RoleServicePort {
      * @return true if exists, false otherwise
      */
     boolean roleExists(String name);
+    
+    // ========== READ MODEL CONSISTENCY ==========
+    
+    /**
+     * Returns a token covering every command completed so far.
+     * Passing it to {@link #awaitReadModel(long)} gives read-your-writes.
+     * @return the write token
+     */
+    long getWriteToken();
+    
+    /**
+     * Waits, for a bounded time, until the query side has applied the given token.
+     * @param token a token from {@link #getWriteToken()}
+     * @return the read model status after waiting
+     */
+    ReadModelStatus awaitReadModel(long token);
+    
+    /**
+     * Describes how far the query side is behind the commands.
+     * @return the read model status
+     */
+    ReadModelStatus getReadModelStatus();
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package co.onmind.microhex.domain.ports.out;
+
+import co.onmind.microhex.domain.models.RoleGrant;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Output port for the expiry of time-limited role grants.
+ * This interface defines the contract used to track when each grant expires
+ * and to hand back the grants that have, without querying the database.
+ * At most one expiry is tracked per user and role.
+ */
+public interface GrantExpiryPort {
+
+    /**
+     * Tracks the expiry of a grant, replacing the one tracked for the same user and role.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @param expiresAt when the grant expires
+     */
+    void schedule(long userId, long roleId, Instant expiresAt);
+
+    /**
+     * Tracks the expiry of a grant unless one is already tracked for the same
+     * user and role, which is then the newer one and is kept.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @param expiresAt when the grant expires
+     */
+    void scheduleIfAbsent(long userId, long roleId, Instant expiresAt);
+
+    /**
+     * Stops tracking the expiry of a grant.
+     * @param userId the user ID
+     * @param roleId the role ID
+     */
+    void cancel(long userId, long roleId);
+
+    /**
+     * Takes grants that have expired; they are no longer tracked once returned.
+     * @param now the current time
+     * @param max maximum number of grants returned
+     * @return the expired grants, at most max
+     */
+    List<RoleGrant> pollExpired(Instant now, int max);
+
+    /**
+     * Counts the tracked grants.
+     * @return the number of grants waiting to expire
+     */
+    int pendingCount();
+}
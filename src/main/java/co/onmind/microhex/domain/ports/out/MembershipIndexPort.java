@@ -0,0 +1,75 @@
+package co.onmind.microhex.domain.ports.out;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Output port for the in-memory membership index.
+ * This interface defines the contract used to answer membership queries
+ * without going to the database, in both directions (roles of a user and
+ * users in a role). Checks and iteration must not allocate.
+ */
+public interface MembershipIndexPort {
+
+    /**
+     * Checks whether a user has a role.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @return true if the role is assigned to the user
+     */
+    boolean hasRole(long userId, long roleId);
+
+    /**
+     * Returns the roles of a user.
+     * @param userId the user ID
+     * @return the role IDs, ascending
+     */
+    long[] rolesOf(long userId);
+
+    /**
+     * Passes each role of a user to the consumer, in ascending order.
+     * @param userId the user ID
+     * @param consumer receives the role IDs
+     */
+    void forEachRoleOf(long userId, LongConsumer consumer);
+
+    /**
+     * Returns a page of the users in a role.
+     * @param roleId the role ID
+     * @param offset index of the first user
+     * @param limit maximum number of users
+     * @return the user IDs, ascending
+     */
+    long[] usersIn(long roleId, int offset, int limit);
+
+    /**
+     * Counts the users in a role.
+     * @param roleId the role ID
+     * @return the number of users
+     */
+    int countUsersIn(long roleId);
+
+    /**
+     * Adds an assignment.
+     * @param userId the user ID
+     * @param roleId the role ID
+     */
+    void add(long userId, long roleId);
+
+    /**
+     * Removes an assignment.
+     * @param userId the user ID
+     * @param roleId the role ID
+     */
+    void remove(long userId, long roleId);
+
+    /**
+     * Removes a role and all its assignments.
+     * @param roleId the role ID
+     */
+    void removeRole(long roleId);
+
+    /**
+     * Removes every assignment.
+     */
+    void clear();
+}
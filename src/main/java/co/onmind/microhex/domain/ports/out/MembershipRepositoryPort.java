@@ -0,0 +1,91 @@
+package co.onmind.microhex.domain.ports.out;
+
+import java.time.Instant;
+
+/**
+ * Output port for user role assignment persistence.
+ * This interface defines the contract for storing which roles are assigned
+ * to which users, one row per assignment.
+ */
+public interface MembershipRepositoryPort {
+
+    /**
+     * Receives assignments one at a time, without boxing.
+     */
+    @FunctionalInterface
+    interface AssignmentVisitor {
+
+        /**
+         * @param userId the user ID
+         * @param roleId the role ID
+         */
+        void visit(long userId, long roleId);
+    }
+
+    /**
+     * Receives time-limited assignments one at a time.
+     */
+    @FunctionalInterface
+    interface GrantVisitor {
+
+        /**
+         * @param userId the user ID
+         * @param roleId the role ID
+         * @param expiresAt when the assignment expires
+         */
+        void visit(long userId, long roleId, Instant expiresAt);
+    }
+
+    /**
+     * Stores an assignment, or replaces the expiry of a stored one.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @param expiresAt when the assignment expires, null if it does not
+     * @return true if it was not stored yet
+     */
+    boolean save(long userId, long roleId, Instant expiresAt);
+
+    /**
+     * Removes an assignment.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @return true if it was stored
+     */
+    boolean delete(long userId, long roleId);
+
+    /**
+     * Removes an assignment if it has expired.
+     * @param userId the user ID
+     * @param roleId the role ID
+     * @param now the current time
+     * @return true if it was stored with an expiry not after now
+     */
+    boolean deleteExpired(long userId, long roleId, Instant now);
+
+    /**
+     * Removes every assignment of a role.
+     * @param roleId the role ID
+     * @return the number of assignments removed
+     */
+    long deleteByRoleId(long roleId);
+
+    /**
+     * Passes every stored assignment to the visitor, reading them in pages
+     * so millions of rows are never held at once.
+     * @param visitor receives the assignments
+     */
+    void forEach(AssignmentVisitor visitor);
+
+    /**
+     * Passes every stored assignment that has an expiry to the visitor,
+     * reading them in pages.
+     * @param visitor receives the time-limited assignments
+     */
+    void forEachExpiring(GrantVisitor visitor);
+
+    /**
+     * Counts the stored assignments.
+     * @return the number of assignments
+     */
+    long count();
+}
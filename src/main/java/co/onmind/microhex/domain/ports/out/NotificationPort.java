@@ -26,4 +26,11 @@ public interface NotificationPort {
      * @param roleId the deleted role ID
      */
     void notifyRoleDeleted(Long roleId);
+    
+    /**
+     * Notifies external systems about expired role grants.
+     * @param roleId the role ID
+     * @param userIds the users who lost the role
+     */
+    void notifyRoleGrantsExpired(Long roleId, long[] userIds);
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package co.onmind.microhex.domain.ports.out;
+
+import java.util.Set;
+
+/**
+ * Output port for the in-memory permission index.
+ * This interface defines the contract used to answer permission checks
+ * without going to the database. Checks must be cheap and allocation-free.
+ */
+public interface PermissionIndexPort {
+
+    /**
+     * Checks whether a role grants a permission.
+     * @param roleId the role ID
+     * @param permission the canonical permission name
+     * @return true if the role grants the permission
+     */
+    boolean hasPermission(Long roleId, String permission);
+
+    /**
+     * Returns the permissions granted to a role.
+     * @param roleId the role ID
+     * @return the granted permission names, empty if none
+     */
+    Set<String> permissionsOf(Long roleId);
+
+    /**
+     * Replaces the indexed permissions of a role.
+     * @param roleId the role ID
+     * @param permissions the permission names
+     */
+    void put(Long roleId, Set<String> permissions);
+
+    /**
+     * Removes a role from the index.
+     * @param roleId the role ID
+     */
+    void remove(Long roleId);
+
+    /**
+     * Removes every role from the index.
+     */
+    void clear();
+}
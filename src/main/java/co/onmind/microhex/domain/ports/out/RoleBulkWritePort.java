@@ -0,0 +1,20 @@
+package co.onmind.microhex.domain.ports.out;
+
+import co.onmind.microhex.domain.models.Role;
+
+import java.util.List;
+
+/**
+ * Output port for writing many new roles at once, as bulk imports do.
+ */
+public interface RoleBulkWritePort {
+
+    /**
+     * Inserts, in one transaction, the roles whose names are not taken yet.
+     * @param roles new roles with distinct normalized names and no ID
+     * @return the inserted roles with their IDs, in the order given
+     * @throws co.onmind.microhex.domain.exceptions.RoleAlreadyExistsException if a name
+     *         was taken concurrently; nothing is inserted then
+     */
+    List<Role> insertNew(List<Role> roles);
+}
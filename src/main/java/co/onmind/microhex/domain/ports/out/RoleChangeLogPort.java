@@ -0,0 +1,44 @@
+package co.onmind.microhex.domain.ports.out;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Output port for the log of role changes kept by the repository.
+ * Every role save or delete is recorded, in the same transaction, under a
+ * change version that grows with each change. A copy of the roles stamped
+ * with the version it reflects is brought up to date by reloading only the
+ * roles changed since.
+ */
+public interface RoleChangeLogPort {
+
+    /**
+     * Returns the identity of the database keeping the log. Change versions
+     * only compare within one database; a recreated schema gets a new identity.
+     * @return the database identity
+     */
+    UUID databaseId();
+
+    /**
+     * Returns the version of the latest recorded change.
+     * @return the current change version, 0 if no change was recorded
+     */
+    long currentVersion();
+
+    /**
+     * Finds the roles changed after a version.
+     * @param version the version of a copy of the roles
+     * @return the IDs of the roles saved or deleted since, or empty if the
+     *         log no longer reaches back to that version
+     */
+    Optional<Set<Long>> rolesChangedSince(long version);
+
+    /**
+     * Drops the changes recorded before the given time, always keeping the latest one.
+     * @param before the oldest time to keep
+     * @return the number of changes dropped
+     */
+    int prune(Instant before);
+}
@@ -0,0 +1,40 @@
+package co.onmind.microhex.domain.ports.out;
+
+import co.onmind.microhex.domain.models.Role;
+
+/**
+ * Output port for publishing role domain events.
+ * This interface defines the contract used by the domain service to announce
+ * role changes to every interested consumer (notifications, caches, indexes, metrics).
+ * Publishing must be cheap and must not block on the consumers.
+ */
+public interface RoleEventPublisherPort {
+
+    /**
+     * Publishes a RoleCreated event.
+     * @param role the created role
+     */
+    void publishRoleCreated(Role role);
+
+    /**
+     * Publishes a RoleUpdated event.
+     * @param role the updated role
+     */
+    void publishRoleUpdated(Role role);
+
+    /**
+     * Publishes a RoleDeleted event.
+     * @param roleId the deleted role ID
+     */
+    void publishRoleDeleted(Long roleId);
+
+    /**
+     * Returns the position of the latest published event.
+     * Positions increase with every event and keep increasing across restarts,
+     * so a read model that has applied this position has seen every change
+     * published so far, and a position handed out before a restart is never
+     * ahead of the positions after it.
+     * @return the position of the latest event
+     */
+    long position();
+}
@@ -0,0 +1,72 @@
+package co.onmind.microhex.domain.ports.out;
+
+/**
+ * Output port for the in-memory role hierarchy.
+ * This interface defines the contract for the transitive closure of the
+ * role inheritance relation, kept up to date edge by edge. A role inherits
+ * its parents, their parents and so on; the relation is acyclic.
+ */
+public interface RoleHierarchyIndexPort {
+
+    /**
+     * Checks whether a role inherits another, directly or transitively.
+     * @param roleId the role ID
+     * @param ancestorId the possibly inherited role ID
+     * @return true if ancestorId is an ancestor of roleId
+     */
+    boolean inherits(long roleId, long ancestorId);
+
+    /**
+     * Returns the direct parents of a role.
+     * @param roleId the role ID
+     * @return the parent IDs, ascending
+     */
+    long[] parentsOf(long roleId);
+
+    /**
+     * Returns every role a role inherits, not including itself.
+     * @param roleId the role ID
+     * @return the ancestor IDs, ascending
+     */
+    long[] ancestorsOf(long roleId);
+
+    /**
+     * Returns every role inheriting a role, not including itself.
+     * @param roleId the role ID
+     * @return the descendant IDs, ascending
+     */
+    long[] descendantsOf(long roleId);
+
+    /**
+     * Returns the given roles together with everything they inherit.
+     * @param roleIds the role IDs
+     * @return the effective role IDs, ascending
+     */
+    long[] effectiveRoles(long[] roleIds);
+
+    /**
+     * Adds a relation and extends the closure.
+     * @param roleId the inheriting role ID
+     * @param parentId the inherited role ID
+     * @throws IllegalArgumentException if the relation would create a cycle
+     */
+    void addEdge(long roleId, long parentId);
+
+    /**
+     * Removes a relation and shrinks the closure.
+     * @param roleId the inheriting role ID
+     * @param parentId the inherited role ID
+     */
+    void removeEdge(long roleId, long parentId);
+
+    /**
+     * Removes a role and every relation it takes part in.
+     * @param roleId the role ID
+     */
+    void removeRole(long roleId);
+
+    /**
+     * Removes every relation.
+     */
+    void clear();
+}
@@ -0,0 +1,52 @@
+package co.onmind.microhex.domain.ports.out;
+
+/**
+ * Output port for role inheritance persistence.
+ * This interface defines the contract for storing the direct parent/child
+ * relations between roles, one row per relation. The transitive closure is
+ * not stored; it is maintained by the RoleHierarchyIndexPort.
+ */
+public interface RoleHierarchyRepositoryPort {
+
+    /**
+     * Receives relations one at a time, without boxing.
+     */
+    @FunctionalInterface
+    interface EdgeVisitor {
+
+        /**
+         * @param roleId the inheriting role ID
+         * @param parentId the inherited role ID
+         */
+        void visit(long roleId, long parentId);
+    }
+
+    /**
+     * Stores a relation.
+     * @param roleId the inheriting role ID
+     * @param parentId the inherited role ID
+     * @return true if it was not stored yet
+     */
+    boolean save(long roleId, long parentId);
+
+    /**
+     * Removes a relation.
+     * @param roleId the inheriting role ID
+     * @param parentId the inherited role ID
+     * @return true if it was stored
+     */
+    boolean delete(long roleId, long parentId);
+
+    /**
+     * Removes every relation a role takes part in, as child or as parent.
+     * @param roleId the role ID
+     * @return the number of relations removed
+     */
+    long deleteByRoleId(long roleId);
+
+    /**
+     * Passes every stored relation to the visitor.
+     * @param visitor receives the relations
+     */
+    void forEach(EdgeVisitor visitor);
+}
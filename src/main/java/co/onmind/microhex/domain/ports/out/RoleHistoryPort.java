@@ -0,0 +1,31 @@
+package co.onmind.microhex.domain.ports.out;
+
+import co.onmind.microhex.domain.models.Role;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for the history of the roles kept by the repository.
+ * Every role save starts a version of the role valid from then, and every
+ * later save or delete ends it. Only persistence modes keeping the versions
+ * implement it.
+ */
+public interface RoleHistoryPort {
+
+    /**
+     * Finds a role as it was at a given time.
+     * @param id the role ID
+     * @param asOf the time
+     * @return the role with the name it had then, empty if it did not exist then
+     */
+    Optional<Role> findByIdAsOf(Long id, Instant asOf);
+
+    /**
+     * Finds all roles as they were at a given time.
+     * @param asOf the time
+     * @return the roles that existed then, ordered by ID
+     */
+    List<Role> findAllAsOf(Instant asOf);
+}
@@ -0,0 +1,38 @@
+package co.onmind.microhex.domain.ports.out;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Output port for role permission persistence.
+ * This interface defines the contract for storing the permission set of
+ * each role, separately from the role itself.
+ */
+public interface RolePermissionRepositoryPort {
+
+    /**
+     * Finds the permissions granted to a role.
+     * @param roleId the role ID
+     * @return the granted permission names, empty if none
+     */
+    Set<String> findByRoleId(Long roleId);
+
+    /**
+     * Loads the permissions of every role that has any.
+     * @return the permission names by role ID
+     */
+    Map<Long, Set<String>> findAll();
+
+    /**
+     * Replaces the permissions granted to a role.
+     * @param roleId the role ID
+     * @param permissions the permission names; an empty set removes them all
+     */
+    void save(Long roleId, Set<String> permissions);
+
+    /**
+     * Removes the permissions of a role.
+     * @param roleId the role ID
+     */
+    void deleteByRoleId(Long roleId);
+}
@@ -0,0 +1,62 @@
+package co.onmind.microhex.domain.ports.out;
+
+import co.onmind.microhex.domain.models.Role;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for the query side of roles.
+ * This interface defines a read model that is kept up to date from the
+ * published role events, separately from the repository used by commands.
+ * Its content may trail the repository; {@link #version()} tells how far
+ * it has caught up, in the positions of the RoleEventPublisherPort.
+ */
+public interface RoleReadModelPort {
+
+    /**
+     * Finds a role by its ID.
+     * @param id the role ID
+     * @return the role if found
+     */
+    Optional<Role> findById(Long id);
+
+    /**
+     * Finds a role by its normalized name.
+     * @param name the role name
+     * @return the role if found
+     */
+    Optional<Role> findByName(String name);
+
+    /**
+     * Finds all roles, ordered by ID.
+     * @return list of all roles
+     */
+    List<Role> findAll();
+
+    /**
+     * Finds roles whose name contains the pattern, ignoring case.
+     * @param pattern the search pattern
+     * @return list of matching roles
+     */
+    List<Role> findByNameContaining(String pattern);
+
+    /**
+     * Counts the roles.
+     * @return the total count
+     */
+    long count();
+
+    /**
+     * Returns the position of the last event applied to the read model.
+     * @return the applied position
+     */
+    long version();
+
+    /**
+     * Waits, for a bounded time, until the given position has been applied.
+     * @param version the position to wait for
+     * @return true if the position was reached, false on timeout
+     */
+    boolean awaitVersion(long version);
+}
@@ -39,6 +39,15 @@ public interface RoleRepositoryPort {
      */
     List<Role> findAll();
     
+    /**
+     * Finds a page of roles ordered by ID, to go through every role without
+     * holding them all at once.
+     * @param afterId the ID of the last role of the previous page, 0 for the first page
+     * @param limit the maximum number of roles returned
+     * @return the roles with an ID greater than afterId, ordered by ID
+     */
+    List<Role> findAllAfter(long afterId, int limit);
+    
     /**
      * Finds roles by name pattern.
      * @param pattern the search pattern
@@ -0,0 +1,21 @@
+package co.onmind.microhex.domain.ports.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Output port for running a domain command as one unit of work.
+ * Every repository call made by the work shares one transaction: it commits
+ * once when the work returns and rolls back entirely when it throws.
+ * Side effects that must only follow a commit (publishing events) belong
+ * after the call, not inside the work.
+ */
+public interface UnitOfWorkPort {
+
+    /**
+     * Runs the work in one transaction.
+     * @param work the work to run
+     * @param <T> the result type
+     * @return the result of the work, once committed
+     */
+    <T> T execute(Supplier<T> work);
+}
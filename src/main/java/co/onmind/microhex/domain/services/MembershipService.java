@@ -0,0 +1,255 @@
+package co.onmind.microhex.domain.services;
+
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.models.Membership;
+import co.onmind.microhex.domain.models.RoleGrant;
+import co.onmind.microhex.domain.ports.in.MembershipServicePort;
+import co.onmind.microhex.domain.ports.out.GrantExpiryPort;
+import co.onmind.microhex.domain.ports.out.MembershipIndexPort;
+import co.onmind.microhex.domain.ports.out.MembershipRepositoryPort;
+import co.onmind.microhex.domain.ports.out.NotificationPort;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import co.onmind.microhex.transverse.concurrency.StripedLock;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Domain service for the roles assigned to users.
+ *
+ * Assignments are written to the membership repository and then applied to
+ * the in-memory membership index, which answers every query. Changes for
+ * the same user hold the user's lock until the index is updated, so they
+ * reach the index in commit order.
+ *
+ * Assignments also hold the lock of their role, taken after the user's,
+ * from the check that the role exists until the index is updated, and the
+ * cleanup of a deleted role holds the same lock. The cleanup runs after the
+ * delete has committed, so an assignment either sees the role gone or
+ * commits before the cleanup removes it: none is left behind for a deleted
+ * role, which the schema does not enforce.
+ *
+ * A role can be granted until an expiry time. The grant expiry port tracks
+ * every pending expiry in memory and hands back the ones that are due; they
+ * are removed in batches, each batch in one transaction holding the locks of
+ * its users, and reported to the notification port per role.
+ */
+@Service
+public class MembershipService implements MembershipServicePort {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int USER_LOCK_STRIPES = 256;
+
+    private static final int ROLE_LOCK_STRIPES = 64;
+
+    private final RoleRepositoryPort roleRepositoryPort;
+    private final RoleReadModelPort roleReadModelPort;
+    private final MembershipRepositoryPort membershipRepositoryPort;
+    private final MembershipIndexPort membershipIndex;
+    private final UnitOfWorkPort unitOfWork;
+    private final GrantExpiryPort grantExpiry;
+    private final NotificationPort notificationPort;
+    private final Clock clock;
+    private final StripedLock userLocks = new StripedLock(USER_LOCK_STRIPES);
+    private final StripedLock roleLocks = new StripedLock(ROLE_LOCK_STRIPES);
+
+    public MembershipService(RoleRepositoryPort roleRepositoryPort, RoleReadModelPort roleReadModelPort,
+                             MembershipRepositoryPort membershipRepositoryPort,
+                             MembershipIndexPort membershipIndex, UnitOfWorkPort unitOfWork,
+                             GrantExpiryPort grantExpiry, NotificationPort notificationPort, Clock clock) {
+        this.roleRepositoryPort = roleRepositoryPort;
+        this.roleReadModelPort = roleReadModelPort;
+        this.membershipRepositoryPort = membershipRepositoryPort;
+        this.membershipIndex = membershipIndex;
+        this.unitOfWork = unitOfWork;
+        this.grantExpiry = grantExpiry;
+        this.notificationPort = notificationPort;
+        this.clock = clock;
+    }
+
+    // ========== COMMANDS (Write Operations) ==========
+
+    /**
+     * Assigns a role to a user.
+     */
+    @Override
+    public boolean assignRole(long userId, long roleId) {
+        return assignRole(userId, roleId, null);
+    }
+
+    /**
+     * Assigns a role to a user until an expiry time, or without one when null.
+     */
+    @Override
+    public boolean assignRole(long userId, long roleId, Instant expiresAt) {
+        Membership.requireUserId(userId);
+        if (expiresAt != null && !expiresAt.isAfter(clock.instant())) {
+            throw new IllegalArgumentException("Expiry must be in the future");
+        }
+
+        return userLocks.withLock(userId, () -> roleLocks.withLock(roleId, () -> {
+            boolean assigned = unitOfWork.execute(() -> {
+                if (roleRepositoryPort.findById(roleId).isEmpty()) {
+                    throw new RoleNotFoundException("Role with ID " + roleId + " not found");
+                }
+                return membershipRepositoryPort.save(userId, roleId, expiresAt);
+            });
+
+            // Applied once committed, still under the user and role locks
+            if (assigned) {
+                membershipIndex.add(userId, roleId);
+            }
+            if (expiresAt != null) {
+                grantExpiry.schedule(userId, roleId, expiresAt);
+            } else {
+                grantExpiry.cancel(userId, roleId);
+            }
+            return assigned;
+        }));
+    }
+
+    /**
+     * Unassigns a role from a user.
+     */
+    @Override
+    public boolean unassignRole(long userId, long roleId) {
+        Membership.requireUserId(userId);
+
+        return userLocks.withLock(userId, () -> {
+            boolean removed = unitOfWork.execute(() -> membershipRepositoryPort.delete(userId, roleId));
+            if (removed) {
+                membershipIndex.remove(userId, roleId);
+                grantExpiry.cancel(userId, roleId);
+            }
+            return removed;
+        });
+    }
+
+    /**
+     * Removes every assignment of a role; the role itself may already be gone.
+     * Holds the role lock, so assignments of the role in progress finish first.
+     * Expiries still tracked for it find nothing to remove when they come due.
+     */
+    @Override
+    public void removeRole(long roleId) {
+        roleLocks.withLock(roleId, () -> {
+            unitOfWork.execute(() -> membershipRepositoryPort.deleteByRoleId(roleId));
+            membershipIndex.removeRole(roleId);
+            return null;
+        });
+    }
+
+    /**
+     * Removes the expired grants in batches. A grant is only removed if its
+     * stored expiry has passed, so one extended or made permanent meanwhile
+     * is kept. A failed batch is tracked again and retried on the next call.
+     */
+    @Override
+    public int expireGrants(int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        Instant now = clock.instant();
+        int expired = 0;
+        List<RoleGrant> batch;
+        while (!(batch = grantExpiry.pollExpired(now, maxBatchSize)).isEmpty()) {
+            expired += expireBatch(batch, now);
+        }
+        return expired;
+    }
+
+    // ========== QUERIES (Read Operations) ==========
+
+    /**
+     * Gets the roles assigned to a user from the index.
+     */
+    @Override
+    public Membership getMembership(long userId) {
+        Membership.requireUserId(userId);
+        return Membership.of(userId, membershipIndex.rolesOf(userId));
+    }
+
+    /**
+     * Checks a role of a user against the index.
+     */
+    @Override
+    public boolean hasRole(long userId, long roleId) {
+        return membershipIndex.hasRole(userId, roleId);
+    }
+
+    /**
+     * Gets a page of the users in a role from the index.
+     */
+    @Override
+    public long[] getUsersInRole(long roleId, int offset, int limit) {
+        if (offset < 0 || limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Offset cannot be negative and limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        requireKnownRole(roleId);
+        return membershipIndex.usersIn(roleId, offset, limit);
+    }
+
+    /**
+     * Counts the users in a role from the index.
+     */
+    @Override
+    public int countUsersInRole(long roleId) {
+        requireKnownRole(roleId);
+        return membershipIndex.countUsersIn(roleId);
+    }
+
+    private int expireBatch(List<RoleGrant> batch, Instant now) {
+        List<Long> userIds = new ArrayList<>(batch.size());
+        for (RoleGrant grant : batch) {
+            userIds.add(grant.userId());
+        }
+
+        List<RoleGrant> removed;
+        try {
+            removed = userLocks.withLocks(userIds, () -> {
+                List<RoleGrant> deleted = unitOfWork.execute(() -> {
+                    List<RoleGrant> rows = new ArrayList<>(batch.size());
+                    for (RoleGrant grant : batch) {
+                        if (membershipRepositoryPort.deleteExpired(grant.userId(), grant.roleId(), now)) {
+                            rows.add(grant);
+                        }
+                    }
+                    return rows;
+                });
+                // Applied once committed, still under the user locks
+                for (RoleGrant grant : deleted) {
+                    membershipIndex.remove(grant.userId(), grant.roleId());
+                }
+                return deleted;
+            });
+        } catch (RuntimeException e) {
+            // Tracked again unless the grant was given a new expiry meanwhile
+            for (RoleGrant grant : batch) {
+                grantExpiry.scheduleIfAbsent(grant.userId(), grant.roleId(), grant.expiresAt());
+            }
+            throw e;
+        }
+
+        Map<Long, List<Long>> usersByRole = new TreeMap<>();
+        for (RoleGrant grant : removed) {
+            usersByRole.computeIfAbsent(grant.roleId(), roleId -> new ArrayList<>()).add(grant.userId());
+        }
+        usersByRole.forEach((roleId, users) ->
+                notificationPort.notifyRoleGrantsExpired(roleId, users.stream().mapToLong(Long::longValue).toArray()));
+        return removed.size();
+    }
+
+    private void requireKnownRole(long roleId) {
+        if (roleReadModelPort.findById(roleId).isEmpty()) {
+            throw new RoleNotFoundException("Role with ID " + roleId + " not found");
+        }
+    }
+}
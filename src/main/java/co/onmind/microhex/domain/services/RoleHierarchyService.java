@@ -0,0 +1,178 @@
+package co.onmind.microhex.domain.services;
+
+import co.onmind.microhex.domain.exceptions.RoleHierarchyCycleException;
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.models.Membership;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.in.RoleHierarchyServicePort;
+import co.onmind.microhex.domain.ports.out.MembershipIndexPort;
+import co.onmind.microhex.domain.ports.out.RoleHierarchyIndexPort;
+import co.onmind.microhex.domain.ports.out.RoleHierarchyRepositoryPort;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Domain service for role inheritance (for example MODERATOR inherits USER).
+ *
+ * Direct relations are written to the hierarchy repository; the transitive
+ * closure lives in the hierarchy index, which is extended or shrunk edge by
+ * edge after each committed change and answers every query, so resolving
+ * effective roles never walks the relations.
+ *
+ * Hierarchy changes are rare and a cycle check depends on the whole graph,
+ * so they run one at a time under a single lock, from the check until the
+ * index is updated.
+ */
+@Service
+public class RoleHierarchyService implements RoleHierarchyServicePort {
+
+    private final RoleRepositoryPort roleRepositoryPort;
+    private final RoleReadModelPort roleReadModelPort;
+    private final RoleHierarchyRepositoryPort hierarchyRepositoryPort;
+    private final RoleHierarchyIndexPort hierarchyIndex;
+    private final MembershipIndexPort membershipIndex;
+    private final UnitOfWorkPort unitOfWork;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public RoleHierarchyService(RoleRepositoryPort roleRepositoryPort, RoleReadModelPort roleReadModelPort,
+                                RoleHierarchyRepositoryPort hierarchyRepositoryPort,
+                                RoleHierarchyIndexPort hierarchyIndex, MembershipIndexPort membershipIndex,
+                                UnitOfWorkPort unitOfWork) {
+        this.roleRepositoryPort = roleRepositoryPort;
+        this.roleReadModelPort = roleReadModelPort;
+        this.hierarchyRepositoryPort = hierarchyRepositoryPort;
+        this.hierarchyIndex = hierarchyIndex;
+        this.membershipIndex = membershipIndex;
+        this.unitOfWork = unitOfWork;
+    }
+
+    // ========== COMMANDS (Write Operations) ==========
+
+    /**
+     * Makes a role inherit a parent role.
+     */
+    @Override
+    public boolean addParent(Long roleId, Long parentId) {
+        return locked(() -> {
+            // Business rule: the hierarchy stays acyclic
+            if (roleId.equals(parentId) || hierarchyIndex.inherits(parentId, roleId)) {
+                throw new RoleHierarchyCycleException(
+                        "Role " + parentId + " already inherits role " + roleId + " or is the same role");
+            }
+
+            boolean added = unitOfWork.execute(() -> {
+                requireRole(roleId);
+                requireRole(parentId);
+                return hierarchyRepositoryPort.save(roleId, parentId);
+            });
+
+            // Applied once committed, still under the hierarchy lock
+            if (added) {
+                hierarchyIndex.addEdge(roleId, parentId);
+            }
+            return added;
+        });
+    }
+
+    /**
+     * Stops a role inheriting a parent role.
+     */
+    @Override
+    public boolean removeParent(Long roleId, Long parentId) {
+        return locked(() -> {
+            boolean removed = unitOfWork.execute(() -> hierarchyRepositoryPort.delete(roleId, parentId));
+            if (removed) {
+                hierarchyIndex.removeEdge(roleId, parentId);
+            }
+            return removed;
+        });
+    }
+
+    /**
+     * Removes every relation of a role; the role itself may already be gone.
+     */
+    @Override
+    public void removeRole(Long roleId) {
+        locked(() -> {
+            unitOfWork.execute(() -> hierarchyRepositoryPort.deleteByRoleId(roleId));
+            hierarchyIndex.removeRole(roleId);
+            return null;
+        });
+    }
+
+    // ========== QUERIES (Read Operations) ==========
+
+    /**
+     * Gets the direct parents of a role from the index.
+     */
+    @Override
+    public List<Role> getParents(Long roleId) {
+        requireKnownRole(roleId);
+        return roles(hierarchyIndex.parentsOf(roleId));
+    }
+
+    /**
+     * Gets a role and its ancestors from the index.
+     */
+    @Override
+    public List<Role> getEffectiveRoles(Long roleId) {
+        requireKnownRole(roleId);
+        return roles(hierarchyIndex.effectiveRoles(new long[] {roleId}));
+    }
+
+    /**
+     * Gets the assigned roles of a user and their ancestors from the indexes.
+     */
+    @Override
+    public List<Role> getEffectiveRolesOfUser(long userId) {
+        Membership.requireUserId(userId);
+        return roles(hierarchyIndex.effectiveRoles(membershipIndex.rolesOf(userId)));
+    }
+
+    /**
+     * Checks inheritance against the index.
+     */
+    @Override
+    public boolean inherits(Long roleId, Long ancestorId) {
+        return roleId.equals(ancestorId) || hierarchyIndex.inherits(roleId, ancestorId);
+    }
+
+    private <T> T locked(Supplier<T> action) {
+        writeLock.lock();
+        try {
+            return action.get();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void requireRole(Long roleId) {
+        if (roleRepositoryPort.findById(roleId).isEmpty()) {
+            throw new RoleNotFoundException("Role with ID " + roleId + " not found");
+        }
+    }
+
+    private void requireKnownRole(Long roleId) {
+        if (roleReadModelPort.findById(roleId).isEmpty()) {
+            throw new RoleNotFoundException("Role with ID " + roleId + " not found");
+        }
+    }
+
+    /**
+     * Resolves role IDs against the read model; roles deleted meanwhile are skipped.
+     */
+    private List<Role> roles(long[] roleIds) {
+        List<Role> roles = new ArrayList<>(roleIds.length);
+        for (long roleId : roleIds) {
+            roleReadModelPort.findById(roleId).ifPresent(roles::add);
+        }
+        return roles;
+    }
+}
@@ -0,0 +1,178 @@
+package co.onmind.microhex.domain.services;
+
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.models.Permission;
+import co.onmind.microhex.domain.ports.in.RolePermissionServicePort;
+import co.onmind.microhex.domain.ports.out.PermissionIndexPort;
+import co.onmind.microhex.domain.ports.out.RolePermissionRepositoryPort;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import co.onmind.microhex.transverse.concurrency.StripedLock;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+
+/**
+ * Domain service for the permissions granted to roles.
+ *
+ * Changes are written to the permission repository and then applied to the
+ * in-memory permission index, which answers every read: checks never touch
+ * the database. Changes to the same role hold the role's lock from the read
+ * of its current permissions until the index is updated, so concurrent
+ * grants and revokes on one role are not lost and reach the index in commit
+ * order.
+ *
+ * Permission names are only validated on writes; a check with a name that
+ * is not canonical simply finds nothing.
+ */
+@Service
+public class RolePermissionService implements RolePermissionServicePort {
+
+    private static final int ROLE_LOCK_STRIPES = 64;
+
+    private final RoleRepositoryPort roleRepositoryPort;
+    private final RoleReadModelPort roleReadModelPort;
+    private final RolePermissionRepositoryPort permissionRepositoryPort;
+    private final PermissionIndexPort permissionIndex;
+    private final UnitOfWorkPort unitOfWork;
+    private final StripedLock roleLocks = new StripedLock(ROLE_LOCK_STRIPES);
+
+    public RolePermissionService(RoleRepositoryPort roleRepositoryPort, RoleReadModelPort roleReadModelPort,
+                                 RolePermissionRepositoryPort permissionRepositoryPort,
+                                 PermissionIndexPort permissionIndex, UnitOfWorkPort unitOfWork) {
+        this.roleRepositoryPort = roleRepositoryPort;
+        this.roleReadModelPort = roleReadModelPort;
+        this.permissionRepositoryPort = permissionRepositoryPort;
+        this.permissionIndex = permissionIndex;
+        this.unitOfWork = unitOfWork;
+    }
+
+    // ========== COMMANDS (Write Operations) ==========
+
+    /**
+     * Replaces the permissions granted to a role.
+     */
+    @Override
+    public Set<String> setPermissions(Long roleId, Collection<String> permissions) {
+        Set<String> validated = validate(permissions);
+        return change(roleId, current -> validated);
+    }
+
+    /**
+     * Grants a permission to a role.
+     */
+    @Override
+    public Set<String> grantPermission(Long roleId, String permission) {
+        String validated = Permission.of(permission).value();
+        return change(roleId, current -> {
+            Set<String> changed = new TreeSet<>(current);
+            changed.add(validated);
+            return changed;
+        });
+    }
+
+    /**
+     * Revokes a permission from a role.
+     */
+    @Override
+    public Set<String> revokePermission(Long roleId, String permission) {
+        String validated = Permission.of(permission).value();
+        return change(roleId, current -> {
+            Set<String> changed = new TreeSet<>(current);
+            changed.remove(validated);
+            return changed;
+        });
+    }
+
+    /**
+     * Removes every permission of a role; the role itself may already be gone.
+     */
+    @Override
+    public void clearPermissions(Long roleId) {
+        roleLocks.withLock(roleId, () -> {
+            unitOfWork.execute(() -> {
+                permissionRepositoryPort.deleteByRoleId(roleId);
+                return null;
+            });
+            permissionIndex.remove(roleId);
+            return null;
+        });
+    }
+
+    // ========== QUERIES (Read Operations) ==========
+
+    /**
+     * Gets the permissions granted to a role from the index.
+     */
+    @Override
+    public Set<String> getPermissions(Long roleId) {
+        requireKnownRole(roleId);
+        return permissionIndex.permissionsOf(roleId);
+    }
+
+    /**
+     * Checks one permission of a role against the index.
+     */
+    @Override
+    public boolean hasPermission(Long roleId, String permission) {
+        requireKnownRole(roleId);
+        return permission != null && permissionIndex.hasPermission(roleId, permission);
+    }
+
+    /**
+     * Checks several permissions of a role against the index.
+     */
+    @Override
+    public Map<String, Boolean> checkPermissions(Long roleId, List<String> permissions) {
+        requireKnownRole(roleId);
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        for (String permission : permissions) {
+            if (permission != null) {
+                results.put(permission, permissionIndex.hasPermission(roleId, permission));
+            }
+        }
+        return results;
+    }
+
+    private Set<String> change(Long roleId, UnaryOperator<Set<String>> update) {
+        return roleLocks.withLock(roleId, () -> {
+            Set<String> saved = unitOfWork.execute(() -> {
+                if (roleRepositoryPort.findById(roleId).isEmpty()) {
+                    throw new RoleNotFoundException("Role with ID " + roleId + " not found");
+                }
+                Set<String> permissions = update.apply(permissionRepositoryPort.findByRoleId(roleId));
+                permissionRepositoryPort.save(roleId, permissions);
+                return permissions;
+            });
+
+            // Applied once committed, still under the role lock
+            permissionIndex.put(roleId, saved);
+            return Collections.unmodifiableSet(new TreeSet<>(saved));
+        });
+    }
+
+    private Set<String> validate(Collection<String> permissions) {
+        if (permissions == null) {
+            throw new IllegalArgumentException("Permissions cannot be null");
+        }
+        Set<String> validated = new TreeSet<>();
+        for (String permission : permissions) {
+            validated.add(Permission.of(permission).value());
+        }
+        return validated;
+    }
+
+    private void requireKnownRole(Long roleId) {
+        if (roleReadModelPort.findById(roleId).isEmpty()) {
+            throw new RoleNotFoundException("Role with ID " + roleId + " not found");
+        }
+    }
+}
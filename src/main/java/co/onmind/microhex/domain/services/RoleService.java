@@ -3,14 +3,28 @@ package co.onmind.microhex.domain.services;
 import co.onmind.microhex.domain.exceptions.RoleAlreadyExistsException;
 import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
 import co.onmind.microhex.domain.exceptions.SystemRoleException;
+import co.onmind.microhex.domain.models.ReadModelStatus;
 import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleImportSummary;
+import co.onmind.microhex.domain.models.RoleName;
 import co.onmind.microhex.domain.ports.in.RoleServicePort;
-import co.onmind.microhex.domain.ports.out.NotificationPort;
+import co.onmind.microhex.domain.ports.out.RoleBulkWritePort;
+import co.onmind.microhex.domain.ports.out.RoleEventPublisherPort;
+import co.onmind.microhex.domain.ports.out.RoleHistoryPort;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
 import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import co.onmind.microhex.transverse.concurrency.StripedLock;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Domain service that orchestrates role operations through ports.
@@ -19,16 +33,56 @@ import java.util.Optional;
  * including both commands (write operations) and queries (read operations).
  * It implements the input port and uses output ports to interact with
  * external systems while maintaining domain independence.
+ * 
+ * Commands go to the repository; queries are answered by a separate read
+ * model that follows the published role events (CQRS), so it can trail the
+ * commands slightly. Callers needing read-your-writes pass the write token
+ * to awaitReadModel. Tokens keep growing across restarts.
+ * 
+ * Creates and renames hold the lock of their normalized name from the
+ * uniqueness check until the write returns, so conflicting requests queue
+ * in memory and the late ones fail the check instead of a database insert.
+ * 
+ * Each command runs as one unit of work (one transaction): its lookups and
+ * its write commit together, and its event is published after the commit.
+ * Renames and deletes also hold the lock of the role ID, taken after the
+ * name lock, until their event is published, so the events of one role are
+ * published in commit order and the read model never applies a rename after
+ * the delete that followed it.
+ * 
+ * Roles as of a time come from the role history, which only some
+ * persistence modes keep; the others provide no RoleHistoryPort.
+ * 
+ * Bulk imports skip the name locks and the per-role unit of work: names are
+ * deduplicated within each chunk, and the bulk write port skips the names
+ * already stored, including those of the chunks committed before.
  */
 @Service
 public class RoleService implements RoleServicePort {
 
+    private static final int IMPORT_CHUNK_SIZE = 1_000;
+
+    private static final int ROLE_LOCK_STRIPES = 64;
+
     private final RoleRepositoryPort roleRepositoryPort;
-    private final NotificationPort notificationPort;
+    private final RoleHistoryPort roleHistoryPort;
+    private final RoleBulkWritePort roleBulkWritePort;
+    private final RoleEventPublisherPort eventPublisher;
+    private final RoleReadModelPort roleReadModelPort;
+    private final StripedLock nameLocks;
+    private final UnitOfWorkPort unitOfWork;
+    private final StripedLock roleLocks = new StripedLock(ROLE_LOCK_STRIPES);
 
-    public RoleService(RoleRepositoryPort roleRepositoryPort, NotificationPort notificationPort) {
+    public RoleService(RoleRepositoryPort roleRepositoryPort, Optional<RoleHistoryPort> roleHistoryPort,
+                       RoleBulkWritePort roleBulkWritePort, RoleEventPublisherPort eventPublisher,
+                       RoleReadModelPort roleReadModelPort, StripedLock roleNameLocks, UnitOfWorkPort unitOfWork) {
         this.roleRepositoryPort = roleRepositoryPort;
-        this.notificationPort = notificationPort;
+        this.roleHistoryPort = roleHistoryPort.orElse(null);
+        this.roleBulkWritePort = roleBulkWritePort;
+        this.eventPublisher = eventPublisher;
+        this.roleReadModelPort = roleReadModelPort;
+        this.nameLocks = roleNameLocks;
+        this.unitOfWork = unitOfWork;
     }
 
     // ========== COMMANDS (Write Operations) ==========
@@ -38,27 +92,23 @@ public class RoleService implements RoleServicePort {
      */
     @Override
     public Role createRole(String name) {
-        String normalizedName = name.trim().toUpperCase();
+        // Validated and normalized once; the same RoleName flows into the new Role
+        RoleName normalizedName = RoleName.of(name);
 
-        // Business rule: Check if role already exists
-        if (roleRepositoryPort.existsByName(normalizedName)) {
-            throw new RoleAlreadyExistsException("Role with name '" + normalizedName + "' already exists");
-        }
+        return nameLocks.withLock(normalizedName.value(), () -> {
+            Role savedRole = unitOfWork.execute(() -> {
+                // Business rule: Check if role already exists
+                if (roleRepositoryPort.existsByName(normalizedName.value())) {
+                    throw new RoleAlreadyExistsException("Role with name '" + normalizedName + "' already exists");
+                }
+                return roleRepositoryPort.save(Role.create(normalizedName));
+            });
 
-        Role role = Role.create(normalizedName);
-        Role savedRole = roleRepositoryPort.save(role);
+            // Announce the change once committed; consumers run on the event bus
+            eventPublisher.publishRoleCreated(savedRole);
 
-        // Notify external systems asynchronously using Virtual Threads (Java 21)
-        Thread.startVirtualThread(() -> {
-            try {
-                notificationPort.notifyRoleCreated(savedRole);
-            } catch (Exception e) {
-                // Log error but don't fail the main operation
-                System.err.println("Failed to send notification: " + e.getMessage());
-            }
+            return savedRole;
         });
-
-        return savedRole;
     }
 
     /**
@@ -66,36 +116,34 @@ public class RoleService implements RoleServicePort {
      */
     @Override
     public Role updateRole(Long id, String newName) {
-        Role existingRole = roleRepositoryPort.findById(id)
-                .orElseThrow(() -> new RoleNotFoundException("Role with ID " + id + " not found"));
+        // Validated first: the name lock must be held around the whole unit of work
+        RoleName normalizedName = RoleName.of(newName);
 
-        // Business rule: Cannot update system roles
-        if (existingRole.isSystemRole()) {
-            throw new SystemRoleException("Cannot update system role: " + existingRole.getName());
-        }
+        return nameLocks.withLock(normalizedName.value(), () -> roleLocks.withLock(id, () -> {
+            Role savedRole = unitOfWork.execute(() -> {
+                Role existingRole = roleRepositoryPort.findById(id)
+                        .orElseThrow(() -> new RoleNotFoundException("Role with ID " + id + " not found"));
 
-        String normalizedName = newName.trim().toUpperCase();
+                // Business rule: Cannot update system roles
+                if (existingRole.isSystemRole()) {
+                    throw new SystemRoleException("Cannot update system role: " + existingRole.getName());
+                }
 
-        // Business rule: Check if new name already exists (excluding current role)
-        roleRepositoryPort.findByName(normalizedName).ifPresent(existing -> {
-            if (!existing.getId().equals(id)) {
-                throw new RoleAlreadyExistsException("Role with name '" + normalizedName + "' already exists");
-            }
-        });
+                // Business rule: Check if new name already exists (excluding current role)
+                roleRepositoryPort.findByName(normalizedName.value()).ifPresent(existing -> {
+                    if (!existing.getId().equals(id)) {
+                        throw new RoleAlreadyExistsException("Role with name '" + normalizedName + "' already exists");
+                    }
+                });
 
-        Role updatedRole = existingRole.withName(normalizedName);
-        Role savedRole = roleRepositoryPort.save(updatedRole);
+                return roleRepositoryPort.save(existingRole.withName(normalizedName));
+            });
 
-        // Notify external systems asynchronously using Virtual Threads (Java 21)
-        Thread.startVirtualThread(() -> {
-            try {
-                notificationPort.notifyRoleUpdated(savedRole);
-            } catch (Exception e) {
-                System.err.println("Failed to send notification: " + e.getMessage());
-            }
-        });
+            // Announce the change once committed, still under the role lock
+            eventPublisher.publishRoleUpdated(savedRole);
 
-        return savedRole;
+            return savedRole;
+        }));
     }
 
     /**
@@ -103,27 +151,78 @@ public class RoleService implements RoleServicePort {
      */
     @Override
     public void deleteRole(Long id) {
-        Role role = roleRepositoryPort.findById(id)
-                .orElseThrow(() -> new RoleNotFoundException("Role with ID " + id + " not found"));
+        roleLocks.withLock(id, () -> {
+            unitOfWork.execute(() -> {
+                Role role = roleRepositoryPort.findById(id)
+                        .orElseThrow(() -> new RoleNotFoundException("Role with ID " + id + " not found"));
 
-        // Business rule: Cannot delete system roles
-        if (role.isSystemRole()) {
-            throw new SystemRoleException("Cannot delete system role: " + role.getName());
-        }
+                // Business rule: Cannot delete system roles
+                if (role.isSystemRole()) {
+                    throw new SystemRoleException("Cannot delete system role: " + role.getName());
+                }
 
-        boolean deleted = roleRepositoryPort.deleteById(id);
-        if (!deleted) {
-            throw new RoleNotFoundException("Role with ID " + id + " could not be deleted");
-        }
+                boolean deleted = roleRepositoryPort.deleteById(id);
+                if (!deleted) {
+                    throw new RoleNotFoundException("Role with ID " + id + " could not be deleted");
+                }
+                return role;
+            });
 
-        // Notify external systems asynchronously using Virtual Threads (Java 21)
-        Thread.startVirtualThread(() -> {
+            // Announce the change once committed, still under the role lock
+            eventPublisher.publishRoleDeleted(id);
+            return null;
+        });
+    }
+
+    /**
+     * Creates the roles of a bulk import, one chunk per transaction.
+     */
+    @Override
+    public RoleImportSummary importRoles(Iterator<String> rawNames, Consumer<RoleImportSummary> progress) {
+        RoleImportSummary summary = RoleImportSummary.EMPTY;
+        List<Role> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        Set<String> chunkNames = new HashSet<>();
+        while (rawNames.hasNext()) {
+            RoleName name;
             try {
-                notificationPort.notifyRoleDeleted(id);
-            } catch (Exception e) {
-                System.err.println("Failed to send notification: " + e.getMessage());
+                name = RoleName.of(rawNames.next());
+            } catch (IllegalArgumentException e) {
+                summary = summary.plus(0, 0, 1);
+                continue;
             }
-        });
+            if (!chunkNames.add(name.value())) {
+                summary = summary.plus(0, 1, 0);
+                continue;
+            }
+            chunk.add(Role.create(name));
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                summary = importChunk(chunk, summary);
+                progress.accept(summary);
+                chunk.clear();
+                chunkNames.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            summary = importChunk(chunk, summary);
+            progress.accept(summary);
+        }
+        return summary;
+    }
+
+    private RoleImportSummary importChunk(List<Role> chunk, RoleImportSummary summary) {
+        List<Role> inserted;
+        try {
+            inserted = roleBulkWritePort.insertNew(chunk);
+        } catch (RoleAlreadyExistsException e) {
+            // A name was created concurrently after the chunk was checked; the retry skips it
+            inserted = roleBulkWritePort.insertNew(chunk);
+        }
+
+        // Announce the changes once committed; consumers run on the event bus
+        for (Role role : inserted) {
+            eventPublisher.publishRoleCreated(role);
+        }
+        return summary.plus(inserted.size(), chunk.size() - inserted.size(), 0);
     }
 
     // ========== QUERIES (Read Operations) ==========
@@ -133,7 +232,7 @@ public class RoleService implements RoleServicePort {
      */
     @Override
     public Optional<Role> getRoleById(Long id) {
-        return roleRepositoryPort.findById(id);
+        return roleReadModelPort.findById(id);
     }
 
     /**
@@ -141,7 +240,7 @@ public class RoleService implements RoleServicePort {
      */
     @Override
     public Optional<Role> getRoleByName(String name) {
-        return roleRepositoryPort.findByName(name.trim().toUpperCase());
+        return roleReadModelPort.findByName(RoleName.of(name).value());
     }
 
     /**
@@ -149,7 +248,38 @@ public class RoleService implements RoleServicePort {
      */
     @Override
     public List<Role> getAllRoles() {
-        return roleRepositoryPort.findAll();
+        return roleReadModelPort.findAll();
+    }
+
+    /**
+     * Retrieves a role as of a time; the read model keeps no history, the role history does.
+     */
+    @Override
+    public Optional<Role> getRoleByIdAsOf(Long id, Instant asOf) {
+        return roleHistory().findByIdAsOf(id, asOf);
+    }
+
+    /**
+     * Retrieves all roles as of a time, from the role history.
+     */
+    @Override
+    public List<Role> getAllRolesAsOf(Instant asOf) {
+        return roleHistory().findAllAsOf(asOf);
+    }
+
+    /**
+     * Checks whether the persistence mode provides a role history.
+     */
+    @Override
+    public boolean isRoleHistoryAvailable() {
+        return roleHistoryPort != null;
+    }
+
+    private RoleHistoryPort roleHistory() {
+        if (roleHistoryPort == null) {
+            throw new IllegalStateException("The persistence mode keeps no role history");
+        }
+        return roleHistoryPort;
     }
 
     /**
@@ -160,7 +290,7 @@ public class RoleService implements RoleServicePort {
         if (pattern == null || pattern.trim().isEmpty()) {
             throw new IllegalArgumentException("Search pattern cannot be blank");
         }
-        return roleRepositoryPort.findByNameContaining(pattern.trim());
+        return roleReadModelPort.findByNameContaining(pattern.trim());
     }
 
     /**
@@ -168,7 +298,7 @@ public class RoleService implements RoleServicePort {
      */
     @Override
     public Long getRoleCount() {
-        return roleRepositoryPort.count();
+        return roleReadModelPort.count();
     }
 
     /**
@@ -176,6 +306,35 @@ public class RoleService implements RoleServicePort {
      */
     @Override
     public boolean roleExists(String name) {
-        return roleRepositoryPort.existsByName(name.trim().toUpperCase());
+        return roleRepositoryPort.existsByName(RoleName.of(name).value());
+    }
+
+    // ========== READ MODEL CONSISTENCY ==========
+
+    /**
+     * Returns the position of the latest published event as the write token;
+     * positions are durable, so a token still holds after a restart.
+     */
+    @Override
+    public long getWriteToken() {
+        return eventPublisher.position();
+    }
+
+    /**
+     * Waits for the read model to apply the token, then reports its status.
+     */
+    @Override
+    public ReadModelStatus awaitReadModel(long token) {
+        roleReadModelPort.awaitVersion(token);
+        return getReadModelStatus();
+    }
+
+    /**
+     * Reports the applied position of the read model and its lag.
+     */
+    @Override
+    public ReadModelStatus getReadModelStatus() {
+        long version = roleReadModelPort.version();
+        return new ReadModelStatus(version, Math.max(0, eventPublisher.position() - version));
     }
-}
\ No newline at end of file
+}
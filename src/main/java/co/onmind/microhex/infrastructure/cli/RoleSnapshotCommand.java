@@ -0,0 +1,119 @@
+package co.onmind.microhex.infrastructure.cli;
+
+import co.onmind.microhex.MicroHexApplication;
+import co.onmind.microhex.infrastructure.persistence.snapshot.RoleTableSnapshot;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line entry point exporting and importing the roles table as a
+ * binary snapshot (see RoleTableSnapshot):
+ *
+ * - roles-export &lt;file&gt; - writes the snapshot of every role to the file
+ * - roles-import &lt;file&gt; [--replace] - restores the snapshot in the file
+ *
+ * Any other argument (--spring.datasource.url=... for instance) configures
+ * the application as usual. The command starts the application without the
+ * web server and with lazy beans, so only the persistence layer comes up,
+ * and the read model dump is turned off: the running instances reload from
+ * the role changes the import records. Unless given, ddl-auto is update.
+ *
+ * The import deletes the memberships, permissions and inheritance relations
+ * of the previous roles, which running instances keep in memory until they
+ * restart: import into a database no instance is serving, or through the
+ * admin endpoint, which empties the indexes of its own instance.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public final class RoleSnapshotCommand {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleSnapshotCommand.class);
+
+    private static final String EXPORT = "roles-export";
+    private static final String IMPORT = "roles-import";
+    private static final String REPLACE = "--replace";
+    private static final String DDL_AUTO = "--spring.jpa.hibernate.ddl-auto";
+
+    private RoleSnapshotCommand() {
+    }
+
+    /**
+     * Returns whether the arguments name a snapshot command.
+     *
+     * @param args command line arguments
+     * @return true if the first argument is roles-export or roles-import
+     */
+    public static boolean isCommand(String[] args) {
+        return args.length > 0 && (EXPORT.equals(args[0]) || IMPORT.equals(args[0]));
+    }
+
+    /**
+     * Runs the snapshot command.
+     *
+     * @param args command line arguments, starting with the command
+     * @return the process exit status
+     */
+    public static int run(String[] args) {
+        if (args.length < 2 || args[1].startsWith("--")) {
+            logger.error("Usage: {} <file> | {} <file> [{}]", EXPORT, IMPORT, REPLACE);
+            return 2;
+        }
+        boolean export = EXPORT.equals(args[0]);
+        Path file = Path.of(args[1]);
+        boolean replace = false;
+        List<String> springArgs = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            if (REPLACE.equals(args[i])) {
+                replace = true;
+            } else {
+                springArgs.add(args[i]);
+            }
+        }
+        // Command line arguments win over application.yml. The schema is
+        // created if missing but never dropped, whatever ddl-auto the
+        // application runs with (create-drop by default)
+        springArgs.add("--read-model.warm-start.enabled=false");
+        if (springArgs.stream().noneMatch(arg -> arg.startsWith(DDL_AUTO))) {
+            springArgs.add(DDL_AUTO + "=update");
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MicroHexApplication.class)
+                .web(WebApplicationType.NONE)
+                .lazyInitialization(true)
+                .logStartupInfo(false)
+                .run(springArgs.toArray(String[]::new))) {
+            // Lazy beans: the schema is created or validated with the entity manager factory
+            context.getBean(EntityManagerFactory.class);
+            RoleTableSnapshot snapshot = context.getBean(RoleTableSnapshot.class);
+            RoleTableSnapshot.Summary summary;
+            if (export) {
+                try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+                    summary = snapshot.export(output);
+                }
+            } else {
+                try (InputStream input = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+                    summary = snapshot.importFrom(input, replace);
+                }
+            }
+            System.out.printf("%s %d roles in %d ms%n", export ? "Exported" : "Imported", summary.rows(), summary.millis());
+            return 0;
+        } catch (Exception e) {
+            logger.error("{} failed", args[0], e);
+            return 1;
+        }
+    }
+}
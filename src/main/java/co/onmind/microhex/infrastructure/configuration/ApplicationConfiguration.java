@@ -1,11 +1,16 @@
 package co.onmind.microhex.infrastructure.configuration;
 
 
+import co.onmind.microhex.transverse.concurrency.StripedLock;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -19,8 +24,10 @@ import java.time.Clock;
  * cross-cutting concerns for the application including:
  * - Transaction management
  * - AOP support for cross-cutting concerns
+ * - Scheduling for background tasks
  * - CORS configuration for web endpoints
  * - Clock bean for time-related operations
+ * - Striped locks serializing role commands on the same name
  * - Application layer beans configuration
  * 
  * @author OnMind (Cesar Andres Arcila Buitrago)
@@ -29,6 +36,7 @@ import java.time.Clock;
 @Configuration
 @EnableTransactionManagement
 @EnableAspectJAutoProxy
+@EnableScheduling
 public class ApplicationConfiguration implements WebMvcConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(ApplicationConfiguration.class);
@@ -45,6 +53,27 @@ public class ApplicationConfiguration implements WebMvcConfigurer {
         return Clock.systemUTC();
     }
 
+    /**
+     * Provides the locks that serialize creates and renames of the same role name.
+     * 
+     * @param stripes number of locks shared by all names
+     * @param meterRegistry registry for the lock metrics
+     * @return the role name locks
+     */
+    @Bean
+    public StripedLock roleNameLocks(@Value("${role.name-locks.stripes:256}") int stripes,
+                                     MeterRegistry meterRegistry) {
+        StripedLock locks = new StripedLock(stripes);
+        FunctionCounter.builder("role.name-locks.acquired", locks, StripedLock::acquisitionCount)
+                .description("Role name locks taken by creates and renames")
+                .register(meterRegistry);
+        FunctionCounter.builder("role.name-locks.contended", locks, StripedLock::contendedCount)
+                .description("Creates and renames that waited for another command on the same name stripe")
+                .register(meterRegistry);
+        logger.info("Configuring {} role name lock stripes", locks.stripeCount());
+        return locks;
+    }
+
 
 
     /**
@@ -0,0 +1,150 @@
+package co.onmind.microhex.infrastructure.configuration;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.ports.in.MembershipServicePort;
+import co.onmind.microhex.domain.ports.in.RoleHierarchyServicePort;
+import co.onmind.microhex.domain.ports.in.RolePermissionServicePort;
+import co.onmind.microhex.domain.ports.out.NotificationPort;
+import co.onmind.microhex.domain.ports.out.RoleChangeLogPort;
+import co.onmind.microhex.infrastructure.events.MembershipCleanupHandler;
+import co.onmind.microhex.infrastructure.events.NotificationEventHandler;
+import co.onmind.microhex.infrastructure.events.RoleCatalogPublisher;
+import co.onmind.microhex.infrastructure.events.RoleEventMetricsHandler;
+import co.onmind.microhex.infrastructure.events.RoleEventVersions;
+import co.onmind.microhex.infrastructure.events.RoleHierarchyCleanupHandler;
+import co.onmind.microhex.infrastructure.persistence.adapters.ColumnarRoleCatalogAdapter;
+import co.onmind.microhex.infrastructure.persistence.adapters.EventSourcedRoleRepositoryAdapter;
+import co.onmind.microhex.infrastructure.events.RolePermissionCleanupHandler;
+import co.onmind.microhex.infrastructure.readmodel.InMemoryRoleReadModel;
+import co.onmind.microhex.transverse.events.RingBufferEventBus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration class for the in-process role event bus.
+ *
+ * The domain service publishes role events to a preallocated ring buffer.
+ * Every side effect of a role change is a consumer registered here, running
+ * in parallel with the others or after the ones it depends on:
+ * - notifications, forwarded to the notification pipeline
+ * - metrics, counting events by type
+ * - the in-memory role read model that answers the queries (CQRS), when created
+ * - permission, membership and hierarchy cleanup, dropping what deleted roles leave behind
+ * - the shared role catalog file (catalog.snapshot.publish), marked as changed after the
+ *   read model and written by its own thread at most once per catalog.snapshot.publish-interval
+ * - the columnar role catalog (catalog.columnar.enabled), applying the changes to its copy
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Configuration
+public class EventBusConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventBusConfiguration.class);
+
+    /**
+     * Creates and starts the role event bus.
+     * On shutdown the bus drains the published events before the consumers stop.
+     *
+     * @param notificationPort the notification pipeline
+     * @param roleReadModel the in-memory read model, when created
+     * @param rolePermissionServicePort the role permission service
+     * @param membershipServicePort the user membership service
+     * @param roleHierarchyServicePort the role hierarchy service
+     * @param columnarRoleCatalog the columnar role catalog, when enabled
+     * @param roleCatalogPublisher the publisher of the role catalog file, when enabled
+     * @param roleEventVersions the durable numbering of the role events
+     * @param bufferSize number of preallocated events, a power of two
+     * @param meterRegistry registry for the event bus metrics
+     * @return the started event bus
+     */
+    @Bean
+    public RingBufferEventBus<RoleEvent> roleEventBus(
+            NotificationPort notificationPort,
+            ObjectProvider<InMemoryRoleReadModel> roleReadModel,
+            RolePermissionServicePort rolePermissionServicePort,
+            MembershipServicePort membershipServicePort,
+            RoleHierarchyServicePort roleHierarchyServicePort,
+            ObjectProvider<ColumnarRoleCatalogAdapter> columnarRoleCatalog,
+            ObjectProvider<RoleCatalogPublisher> roleCatalogPublisher,
+            RoleEventVersions roleEventVersions,
+            @Value("${events.ring-buffer.size:4096}") int bufferSize,
+            MeterRegistry meterRegistry) {
+        RingBufferEventBus<RoleEvent> bus = new RingBufferEventBus<>(RoleEvent::new, bufferSize,
+                Thread.ofPlatform().name("role-events-", 0).daemon(true).factory());
+
+        bus.handleEventsWith(
+                new NotificationEventHandler(notificationPort),
+                new RoleEventMetricsHandler(meterRegistry),
+                new RolePermissionCleanupHandler(rolePermissionServicePort),
+                new MembershipCleanupHandler(membershipServicePort),
+                new RoleHierarchyCleanupHandler(roleHierarchyServicePort));
+        InMemoryRoleReadModel readModel = roleReadModel.getIfAvailable();
+        if (readModel != null) {
+            // The catalog publisher exists only with the read model it writes the file from
+            RingBufferEventBus<RoleEvent>.HandlerGroup readModelStage = bus.handleEventsWith(readModel);
+            roleCatalogPublisher.ifAvailable(publisher -> readModelStage.then(publisher));
+            Gauge.builder("role.readmodel.lag", bus.getRingBuffer(),
+                            ring -> Math.max(0, roleEventVersions.versionOf(ring.getCursor()) - readModel.version()))
+                    .description("Role events published but not yet applied to the read model")
+                    .register(meterRegistry);
+        }
+        columnarRoleCatalog.ifAvailable(catalog -> bus.handleEventsWith(catalog));
+
+        Gauge.builder("role.events.ring.remaining", bus.getRingBuffer(), ring -> ring.remainingCapacity())
+                .description("Free slots in the role event ring buffer")
+                .register(meterRegistry);
+
+        bus.start();
+        logger.info("Role event bus started with {} slots", bufferSize);
+        return bus;
+    }
+
+    /**
+     * Numbers the role events from the durable change version of the roles at
+     * startup, so read tokens keep growing across restarts.
+     *
+     * @param changeLog the role change log of the JPA mode
+     * @param eventSourcedRepository the event-sourced repository of the event-sourced mode
+     * @return the numbering of the role events
+     */
+    @Bean
+    public RoleEventVersions roleEventVersions(ObjectProvider<RoleChangeLogPort> changeLog,
+                                               ObjectProvider<EventSourcedRoleRepositoryAdapter> eventSourcedRepository) {
+        RoleChangeLogPort log = changeLog.getIfAvailable();
+        EventSourcedRoleRepositoryAdapter eventSourced = eventSourcedRepository.getIfAvailable();
+        long base = log != null ? log.currentVersion() : eventSourced != null ? eventSourced.lastSequence() : 0;
+        logger.info("Role event versions start after {}", base);
+        return new RoleEventVersions(base);
+    }
+
+    /**
+     * Creates the publisher of the role catalog file shared with other processes.
+     * It is closed after the event bus has drained, publishing the last changes.
+     *
+     * @param roleReadModel the read model the catalog is written from
+     * @param catalogFile the role catalog file
+     * @param publishInterval minimum time between two publications
+     * @param meterRegistry registry for the publication metrics
+     * @return the catalog publisher
+     */
+    @Bean
+    @ConditionalOnProperty(name = "catalog.snapshot.publish", havingValue = "true")
+    public RoleCatalogPublisher roleCatalogPublisher(
+            InMemoryRoleReadModel roleReadModel,
+            @Value("${catalog.snapshot.path:./data/role-catalog.bin}") Path catalogFile,
+            @Value("${catalog.snapshot.publish-interval:1s}") Duration publishInterval,
+            MeterRegistry meterRegistry) {
+        return new RoleCatalogPublisher(roleReadModel, catalogFile, publishInterval, meterRegistry);
+    }
+}
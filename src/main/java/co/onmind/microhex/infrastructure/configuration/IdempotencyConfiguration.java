@@ -0,0 +1,62 @@
+package co.onmind.microhex.infrastructure.configuration;
+
+import co.onmind.microhex.application.dto.RoleResponse;
+import co.onmind.microhex.transverse.idempotency.IdempotencyCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Configuration class for idempotent role commands.
+ *
+ * POST and PUT requests carrying an Idempotency-Key header run once per key
+ * and request; retries within the TTL get the stored response back.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Configuration
+public class IdempotencyConfiguration {
+
+    /**
+     * Creates the cache of role command responses.
+     *
+     * @param maxEntries maximum number of keys kept
+     * @param ttl how long a response is replayed
+     * @param inFlightTimeout how long a duplicate waits for the first request
+     * @param clock clock used for expiry
+     * @param meterRegistry registry for the cache metrics
+     * @return the response cache
+     */
+    @Bean
+    public IdempotencyCache<ResponseEntity<RoleResponse>> roleIdempotencyCache(
+            @Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.in-flight-timeout:30s}") Duration inFlightTimeout,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        IdempotencyCache<ResponseEntity<RoleResponse>> cache =
+                new IdempotencyCache<>(maxEntries, ttl, inFlightTimeout, clock);
+
+        FunctionCounter.builder("idempotency.executed", cache, IdempotencyCache::executedCount)
+                .description("Role commands executed with an idempotency key")
+                .register(meterRegistry);
+        FunctionCounter.builder("idempotency.replayed", cache, IdempotencyCache::replayedCount)
+                .description("Role command responses replayed for a repeated idempotency key")
+                .register(meterRegistry);
+        FunctionCounter.builder("idempotency.evicted", cache, IdempotencyCache::evictedCount)
+                .description("Idempotency keys evicted before expiry because the cache was full")
+                .register(meterRegistry);
+        Gauge.builder("idempotency.keys", cache, IdempotencyCache::size)
+                .description("Idempotency keys currently held")
+                .register(meterRegistry);
+        return cache;
+    }
+}
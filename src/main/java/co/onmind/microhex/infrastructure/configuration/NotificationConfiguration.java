@@ -0,0 +1,91 @@
+package co.onmind.microhex.infrastructure.configuration;
+
+import co.onmind.microhex.domain.ports.out.NotificationPort;
+import co.onmind.microhex.infrastructure.notification.CompactingNotificationPort;
+import co.onmind.microhex.infrastructure.notification.NotificationAdapter;
+import co.onmind.microhex.infrastructure.notification.PartitionedNotificationPort;
+import co.onmind.microhex.transverse.spool.SegmentedSpool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration class for the notification delivery pipeline.
+ *
+ * The NotificationAdapter is the terminal stage of the pipeline. The stages
+ * in front of it are exposed as the primary NotificationPort used by the
+ * domain service, in this order:
+ * - compaction (optional, notification.compaction.enabled) - merges bursts of events per role
+ * - partitioned lanes (notification.lanes.count) - ordered delivery per role, parallel across roles;
+ *   events a full lane cannot take go to the dead-letter spool
+ *
+ * Each stage closes the next one on shutdown, so queued events are delivered
+ * before the application stops. Notifications that cannot be delivered are
+ * kept in a file-backed dead-letter spool (notification.spool.*).
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Configuration
+public class NotificationConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationConfiguration.class);
+
+    /**
+     * Builds the notification pipeline in front of the notification adapter.
+     *
+     * @param notificationAdapter the terminal notification adapter
+     * @param laneCount number of delivery lanes
+     * @param laneCapacity maximum queued events per lane
+     * @param compactionEnabled whether the compaction stage is enabled
+     * @param compactionWindow how long events are held per role for compaction
+     * @param meterRegistry registry for the pipeline metrics
+     * @return the first stage of the pipeline
+     */
+    @Bean
+    @Primary
+    public NotificationPort notificationPipeline(
+            NotificationAdapter notificationAdapter,
+            @Value("${notification.lanes.count:8}") int laneCount,
+            @Value("${notification.lanes.capacity:10000}") int laneCapacity,
+            @Value("${notification.compaction.enabled:false}") boolean compactionEnabled,
+            @Value("${notification.compaction.window:2s}") Duration compactionWindow,
+            MeterRegistry meterRegistry) {
+        logger.info("Notification delivery partitioned over {} lanes", laneCount);
+        NotificationPort pipeline = new PartitionedNotificationPort(
+                notificationAdapter, notificationAdapter.deferred(), laneCount, laneCapacity, meterRegistry);
+
+        if (compactionEnabled) {
+            logger.info("Notification compaction enabled with a window of {}", compactionWindow);
+            pipeline = new CompactingNotificationPort(pipeline, compactionWindow, meterRegistry);
+        }
+        return pipeline;
+    }
+
+    /**
+     * Dead-letter spool for notifications that failed after all retries.
+     *
+     * @param directory directory holding the spool segments
+     * @param segmentSize size of each memory-mapped segment
+     * @param fsyncPolicy when appended records are forced to disk
+     * @param fsyncInterval force interval for the INTERVAL policy
+     * @return the opened spool
+     */
+    @Bean
+    public SegmentedSpool notificationSpool(
+            @Value("${notification.spool.directory:./data/notification-spool}") Path directory,
+            @Value("${notification.spool.segment-size:4194304}") int segmentSize,
+            @Value("${notification.spool.fsync-policy:INTERVAL}") SegmentedSpool.FsyncPolicy fsyncPolicy,
+            @Value("${notification.spool.fsync-interval:1s}") Duration fsyncInterval) {
+        logger.info("Notification spool at {} with {} byte segments and fsync policy {}",
+                directory, segmentSize, fsyncPolicy);
+        return new SegmentedSpool(directory, segmentSize, fsyncPolicy, fsyncInterval);
+    }
+}
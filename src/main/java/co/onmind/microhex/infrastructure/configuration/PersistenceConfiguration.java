@@ -0,0 +1,170 @@
+package co.onmind.microhex.infrastructure.configuration;
+
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import co.onmind.microhex.infrastructure.persistence.adapters.ColumnarRoleCatalogAdapter;
+import co.onmind.microhex.infrastructure.persistence.adapters.GroupCommitUnitOfWorkAdapter;
+import co.onmind.microhex.infrastructure.persistence.adapters.MaintenanceAwareUnitOfWorkAdapter;
+import co.onmind.microhex.infrastructure.persistence.adapters.MappedRoleCatalogAdapter;
+import co.onmind.microhex.infrastructure.persistence.adapters.TransactionalUnitOfWorkAdapter;
+import co.onmind.microhex.transverse.concurrency.MaintenanceLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration class for the role persistence adapters.
+ *
+ * The persistence adapter selected by persistence.mode (JPA or event-sourced)
+ * is registered as {@value #ROLE_PERSISTENCE_ADAPTER} and exposed as the
+ * primary RoleRepositoryPort used by the application, ahead of the read-only
+ * catalogs below, which implement the port too.
+ *
+ * Processes sharing the role catalog published by another process on the
+ * host can read it through the {@value #MAPPED_ROLE_CATALOG} adapter
+ * (catalog.snapshot.mapped.enabled), which queries the memory-mapped file;
+ * it then answers the role queries (see ReadModelConfiguration).
+ * The {@value #COLUMNAR_ROLE_CATALOG} adapter (catalog.columnar.enabled) keeps
+ * a compact columnar copy of the roles on the heap for very large catalogs
+ * and likewise answers the role queries.
+ *
+ * Domain commands run as units of work: in JPA mode one transaction per
+ * command, or with group commit (persistence.group-commit.enabled) a single
+ * writer running concurrent commands in one transaction; the event-sourced
+ * adapter is atomic per call and needs none. In JPA mode the units of work
+ * and bulk writes share the {@value #ROLE_TABLE_MAINTENANCE} lock, which a
+ * snapshot import holds exclusively while it replaces the roles.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Configuration
+public class PersistenceConfiguration {
+
+    /**
+     * Bean name of the terminal role persistence adapter.
+     */
+    public static final String ROLE_PERSISTENCE_ADAPTER = "rolePersistenceAdapter";
+
+    /**
+     * Bean name of the read-only adapter over the shared role catalog file.
+     */
+    public static final String MAPPED_ROLE_CATALOG = "mappedRoleCatalog";
+
+    /**
+     * Bean name of the read-only columnar copy of the roles.
+     */
+    public static final String COLUMNAR_ROLE_CATALOG = "columnarRoleCatalog";
+
+    /**
+     * Bean name of the lock held by the maintenance operations on the role tables.
+     */
+    public static final String ROLE_TABLE_MAINTENANCE = "roleTableMaintenance";
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceConfiguration.class);
+
+    /**
+     * Exposes the persistence adapter as the primary role repository.
+     *
+     * @param persistenceAdapter the terminal persistence adapter
+     * @return the role repository used by the application
+     */
+    @Bean
+    @Primary
+    public RoleRepositoryPort roleRepository(
+            @Qualifier(ROLE_PERSISTENCE_ADAPTER) RoleRepositoryPort persistenceAdapter) {
+        return persistenceAdapter;
+    }
+
+    /**
+     * Read-only role repository over the memory-mapped role catalog file.
+     *
+     * @param file the role catalog file
+     * @param refreshInterval how often queries look for a newly published catalog
+     * @return the mapped catalog adapter
+     */
+    @Bean(MAPPED_ROLE_CATALOG)
+    @ConditionalOnProperty(name = "catalog.snapshot.mapped.enabled", havingValue = "true")
+    public MappedRoleCatalogAdapter mappedRoleCatalog(
+            @Value("${catalog.snapshot.path:./data/role-catalog.bin}") Path file,
+            @Value("${catalog.snapshot.mapped.refresh-interval:1s}") Duration refreshInterval) {
+        return new MappedRoleCatalogAdapter(file, refreshInterval);
+    }
+
+    /**
+     * Read-only role repository over a columnar copy of the roles, built
+     * from the role repository and kept current by the role events.
+     *
+     * @param roleRepository the role repository the copy is built from
+     * @param refreshInterval how often the changes are checked for compaction
+     * @return the columnar catalog adapter
+     */
+    @Bean(COLUMNAR_ROLE_CATALOG)
+    @ConditionalOnProperty(name = "catalog.columnar.enabled", havingValue = "true")
+    public ColumnarRoleCatalogAdapter columnarRoleCatalog(
+            @Qualifier("roleRepository") RoleRepositoryPort roleRepository,
+            @Value("${catalog.columnar.refresh-interval:1s}") Duration refreshInterval) {
+        return new ColumnarRoleCatalogAdapter(roleRepository, refreshInterval);
+    }
+
+    /**
+     * Lock letting a maintenance operation such as a snapshot import hold off
+     * the role writes for its whole duration.
+     *
+     * @return the role table maintenance lock
+     */
+    @Bean(ROLE_TABLE_MAINTENANCE)
+    public MaintenanceLock roleTableMaintenance() {
+        return new MaintenanceLock();
+    }
+
+    /**
+     * Unit of work used by the domain services to run each command in one transaction.
+     * With group commit the writer commits the queued commands on shutdown, before
+     * the transaction manager goes away.
+     *
+     * @param transactionManager manager of the command transactions
+     * @param dataSource data source of the command transactions, for the group commit savepoints
+     * @param mode the persistence mode (jpa or event-sourced)
+     * @param groupCommitEnabled whether a single writer commits concurrent commands together
+     * @param maxBatchSize maximum number of commands per transaction
+     * @param linger how long the writer waits for more commands before committing
+     * @param meterRegistry registry for the group commit metrics
+     * @param roleTableMaintenance lock the JPA units of work wait on during a maintenance operation
+     * @return the unit of work
+     */
+    @Bean
+    public UnitOfWorkPort unitOfWork(PlatformTransactionManager transactionManager,
+                                     DataSource dataSource,
+                                     @Value("${persistence.mode:jpa}") String mode,
+                                     @Value("${persistence.group-commit.enabled:false}") boolean groupCommitEnabled,
+                                     @Value("${persistence.group-commit.max-batch-size:64}") int maxBatchSize,
+                                     @Value("${persistence.group-commit.linger:200us}") Duration linger,
+                                     MeterRegistry meterRegistry,
+                                     MaintenanceLock roleTableMaintenance) {
+        if (!"jpa".equals(mode)) {
+            return new TransactionalUnitOfWorkAdapter(TransactionOperations.withoutTransaction());
+        }
+        if (groupCommitEnabled) {
+            logger.info("Group commit enabled for role commands (up to {} per transaction, linger {})", maxBatchSize, linger);
+            return new MaintenanceAwareUnitOfWorkAdapter(new GroupCommitUnitOfWorkAdapter(
+                    new TransactionTemplate(transactionManager), dataSource, maxBatchSize, linger, meterRegistry),
+                    roleTableMaintenance);
+        }
+        return new MaintenanceAwareUnitOfWorkAdapter(
+                new TransactionalUnitOfWorkAdapter(new TransactionTemplate(transactionManager)), roleTableMaintenance);
+    }
+}
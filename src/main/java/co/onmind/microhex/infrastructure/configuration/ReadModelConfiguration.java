@@ -0,0 +1,97 @@
+package co.onmind.microhex.infrastructure.configuration;
+
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.events.RoleEventVersions;
+import co.onmind.microhex.infrastructure.persistence.adapters.ColumnarRoleCatalogAdapter;
+import co.onmind.microhex.infrastructure.persistence.adapters.MappedRoleCatalogAdapter;
+import co.onmind.microhex.infrastructure.readmodel.CatalogRoleReadModel;
+import co.onmind.microhex.infrastructure.readmodel.InMemoryRoleReadModel;
+import co.onmind.microhex.infrastructure.readmodel.RoleReadModelWarmStart;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the query side of the roles (CQRS).
+ *
+ * The queries of the domain services go to the in-memory read model that
+ * follows the role events, unless a role catalog is enabled to answer them:
+ * the memory-mapped catalog file published by another process on the host
+ * (catalog.snapshot.mapped.enabled), or else the columnar copy of the roles
+ * (catalog.columnar.enabled).
+ *
+ * The in-memory read model holds every role on the heap, so it is only
+ * created when it answers the queries, or when this process publishes the
+ * role catalog file, which is written from it.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Configuration
+public class ReadModelConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadModelConfiguration.class);
+
+    /**
+     * Creates the in-memory read model following the role events, unless a
+     * role catalog answers the queries of a process that does not publish
+     * the catalog file. The columnar catalog is built from the repository,
+     * not from this read model.
+     *
+     * @param roleRepositoryPort the repository the roles are loaded from
+     * @param warmStart loads the roles, from the last dump when it is valid
+     * @param roleEventVersions the durable numbering of the role events
+     * @param consistencyTimeout maximum wait for a read-your-writes token
+     * @return the in-memory read model
+     */
+    @Bean
+    @ConditionalOnExpression("(!${catalog.snapshot.mapped.enabled:false} and !${catalog.columnar.enabled:false})"
+            + " or ${catalog.snapshot.publish:false}")
+    public InMemoryRoleReadModel inMemoryRoleReadModel(
+            RoleRepositoryPort roleRepositoryPort,
+            RoleReadModelWarmStart warmStart,
+            RoleEventVersions roleEventVersions,
+            @Value("${read-model.consistency-timeout:2s}") Duration consistencyTimeout) {
+        return new InMemoryRoleReadModel(roleRepositoryPort, warmStart, roleEventVersions, consistencyTimeout);
+    }
+
+    /**
+     * Selects the read model answering the role queries.
+     *
+     * @param inMemoryReadModel the read model following the role events, when created
+     * @param mappedRoleCatalog the memory-mapped role catalog, when enabled
+     * @param columnarRoleCatalog the columnar role catalog, when enabled
+     * @param roleEventVersions the durable numbering of the role events
+     * @param consistencyTimeout maximum wait for a read-your-writes token
+     * @return the query-side port used by the domain services
+     */
+    @Bean
+    @Primary
+    public RoleReadModelPort roleReadModel(
+            ObjectProvider<InMemoryRoleReadModel> inMemoryReadModel,
+            ObjectProvider<MappedRoleCatalogAdapter> mappedRoleCatalog,
+            ObjectProvider<ColumnarRoleCatalogAdapter> columnarRoleCatalog,
+            RoleEventVersions roleEventVersions,
+            @Value("${read-model.consistency-timeout:2s}") Duration consistencyTimeout) {
+        MappedRoleCatalogAdapter mapped = mappedRoleCatalog.getIfAvailable();
+        if (mapped != null) {
+            logger.info("Role queries answered by the mapped role catalog");
+            return new CatalogRoleReadModel(mapped, mapped::sequence, consistencyTimeout);
+        }
+        ColumnarRoleCatalogAdapter columnar = columnarRoleCatalog.getIfAvailable();
+        if (columnar != null) {
+            logger.info("Role queries answered by the columnar role catalog");
+            return new CatalogRoleReadModel(columnar,
+                    () -> roleEventVersions.versionOf(columnar.version()), consistencyTimeout);
+        }
+        return inMemoryReadModel.getObject();
+    }
+}
@@ -1,14 +1,39 @@
 package co.onmind.microhex.infrastructure.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 @Configuration
 public class WebClientConfiguration {
-    
+
+    /**
+     * Executor running the response callbacks of the HTTP client; shut down with the context.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService httpClientExecutor(@Value("${notification.service.io-threads:2}") int ioThreads) {
+        ThreadFactory threadFactory = Thread.ofPlatform().name("http-client-", 0).daemon(true).factory();
+        return Executors.newFixedThreadPool(ioThreads, threadFactory);
+    }
+
+    /**
+     * Non-blocking HTTP client shared by the web clients.
+     * Exchanges are driven by the client's selector thread, so the small executor
+     * only runs response callbacks and does not grow with the number of in-flight requests.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient httpClient(@Value("${notification.service.connect-timeout:2s}") Duration connectTimeout,
+                                 ExecutorService httpClientExecutor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(httpClientExecutor)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package co.onmind.microhex.infrastructure.controllers;
+
+import co.onmind.microhex.application.dto.RoleUsersResponse;
+import co.onmind.microhex.application.dto.UserRolesResponse;
+import co.onmind.microhex.application.handlers.MembershipHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * REST controller for the roles assigned to users.
+ * 
+ * Users are identified by the numeric ID of the caller's identity system.
+ * Queries in both directions are answered from the in-memory membership
+ * index; membership checks are not logged at info level since callers run
+ * them on every request they authorize.
+ * 
+ * A role assigned with an expiry is removed automatically once it passes.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class MembershipController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MembershipController.class);
+    
+    private final MembershipHandler membershipHandler;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param membershipHandler Application handler for membership operations
+     */
+    public MembershipController(MembershipHandler membershipHandler) {
+        this.membershipHandler = membershipHandler;
+    }
+    
+    /**
+     * Lists the roles of a user.
+     * 
+     * GET /api/v1/users/{userId}/roles
+     * 
+     * @param userId The user ID
+     * @return ResponseEntity with the user's role IDs
+     */
+    @GetMapping("/users/{userId}/roles")
+    public ResponseEntity<UserRolesResponse> getUserRoles(@PathVariable Long userId) {
+        logger.info("Retrieving roles of user with ID: {}", userId);
+        return membershipHandler.getUserRoles(userId);
+    }
+    
+    /**
+     * Checks whether a user has a role.
+     * 
+     * GET /api/v1/users/{userId}/roles/{roleId}
+     * 
+     * @param userId The user ID
+     * @param roleId The role ID
+     * @return ResponseEntity with {"member": true|false}
+     */
+    @GetMapping("/users/{userId}/roles/{roleId}")
+    public ResponseEntity<Map<String, Boolean>> hasRole(@PathVariable Long userId, @PathVariable Long roleId) {
+        logger.debug("Checking role {} of user with ID: {}", roleId, userId);
+        return membershipHandler.hasRole(userId, roleId);
+    }
+    
+    /**
+     * Assigns a role to a user, until an expiry time when one is given.
+     * Assigning an assigned role replaces its expiry, or removes it.
+     * 
+     * PUT /api/v1/users/{userId}/roles/{roleId}?expiresAt={instant}
+     * 
+     * @param userId The user ID
+     * @param roleId The role ID
+     * @param expiresAt When the assignment is removed (ISO-8601 instant), optional
+     * @return ResponseEntity with the user's role IDs
+     */
+    @PutMapping("/users/{userId}/roles/{roleId}")
+    public ResponseEntity<UserRolesResponse> assignRole(@PathVariable Long userId, @PathVariable Long roleId,
+                                                        @RequestParam(required = false) Instant expiresAt) {
+        logger.info("Assigning role {} to user with ID: {} until {}", roleId, userId,
+                expiresAt != null ? expiresAt : "revoked");
+        return membershipHandler.assignRole(userId, roleId, expiresAt);
+    }
+    
+    /**
+     * Unassigns a role from a user.
+     * 
+     * DELETE /api/v1/users/{userId}/roles/{roleId}
+     * 
+     * @param userId The user ID
+     * @param roleId The role ID
+     * @return ResponseEntity with appropriate HTTP status
+     */
+    @DeleteMapping("/users/{userId}/roles/{roleId}")
+    public ResponseEntity<Void> unassignRole(@PathVariable Long userId, @PathVariable Long roleId) {
+        logger.info("Unassigning role {} from user with ID: {}", roleId, userId);
+        return membershipHandler.unassignRole(userId, roleId);
+    }
+    
+    /**
+     * Lists a page of the users in a role.
+     * 
+     * GET /api/v1/roles/{roleId}/users?offset={offset}&limit={limit}
+     * 
+     * @param roleId The role ID
+     * @param offset Index of the first user
+     * @param limit Maximum number of users, up to 1000
+     * @return ResponseEntity with the page of user IDs and the total
+     */
+    @GetMapping("/roles/{roleId}/users")
+    public ResponseEntity<RoleUsersResponse> getUsersInRole(@PathVariable Long roleId,
+                                                            @RequestParam(defaultValue = "0") int offset,
+                                                            @RequestParam(defaultValue = "100") int limit) {
+        logger.info("Retrieving users in role with ID: {} (offset {}, limit {})", roleId, offset, limit);
+        return membershipHandler.getUsersInRole(roleId, offset, limit);
+    }
+}
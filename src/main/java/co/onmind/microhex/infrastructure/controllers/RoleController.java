@@ -7,9 +7,14 @@ import co.onmind.microhex.application.handlers.RoleHandler;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +27,9 @@ import java.util.Map;
  * 
  * All endpoints include proper validation, error handling, and logging.
  * 
+ * Queries accept an optional X-Read-Token header (returned by the commands)
+ * to read their own writes from the read model.
+ * 
  * @author OnMind (Cesar Andres Arcila Buitrago)
  * @version 2.0.0
  */
@@ -48,13 +56,15 @@ public class RoleController {
      * POST /api/v1/roles
      * 
      * @param request The role creation request with validation
+     * @param idempotencyKey Optional key that makes retries of this request return the first response
      * @return ResponseEntity with the created role and appropriate HTTP status
      */
     @PostMapping
-    public ResponseEntity<RoleResponse> createRole(@Valid @RequestBody CreateRoleRequest request) {
+    public ResponseEntity<RoleResponse> createRole(@Valid @RequestBody CreateRoleRequest request,
+                                                   @RequestHeader(value = RoleHandler.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         logger.info("Creating new role with name: {}", request.getName());
         
-        ResponseEntity<RoleResponse> response = roleHandler.createRole(request);
+        ResponseEntity<RoleResponse> response = roleHandler.createRole(request, idempotencyKey);
         
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             logger.info("Successfully created role with ID: {}", response.getBody().getId());
@@ -70,13 +80,15 @@ public class RoleController {
      * 
      * @param id The role ID to update
      * @param request The role update request with validation
+     * @param idempotencyKey Optional key that makes retries of this request return the first response
      * @return ResponseEntity with the updated role and appropriate HTTP status
      */
     @PutMapping("/{id}")
-    public ResponseEntity<RoleResponse> updateRole(@PathVariable Long id, @Valid @RequestBody UpdateRoleRequest request) {
+    public ResponseEntity<RoleResponse> updateRole(@PathVariable Long id, @Valid @RequestBody UpdateRoleRequest request,
+                                                   @RequestHeader(value = RoleHandler.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         logger.info("Updating role with ID: {} and new name: {}", id, request.getName());
         
-        ResponseEntity<RoleResponse> response = roleHandler.updateRole(id, request);
+        ResponseEntity<RoleResponse> response = roleHandler.updateRole(id, request, idempotencyKey);
         
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             logger.info("Successfully updated role with ID: {}", response.getBody().getId());
@@ -106,19 +118,45 @@ public class RoleController {
         return response;
     }
     
+    /**
+     * Imports roles in bulk from a streamed body.
+     * 
+     * POST /api/v1/roles/import
+     * 
+     * The body is NDJSON (one {"name": ...} object or string per line) or CSV
+     * (a name column, or the first column). The response streams one NDJSON
+     * line of inserted, duplicate and invalid counts per committed chunk, and
+     * a last line with "done" and the read token.
+     * 
+     * @param body The records, read as they arrive
+     * @param contentType application/x-ndjson or text/csv
+     * @return ResponseEntity streaming the import totals
+     */
+    @PostMapping(value = "/import",
+                 consumes = {MediaType.APPLICATION_NDJSON_VALUE, RoleHandler.TEXT_CSV_VALUE},
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importRoles(InputStream body,
+                                                             @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) {
+        logger.info("Importing roles from {}", contentType);
+        
+        return roleHandler.importRoles(body, contentType);
+    }
+    
     /**
      * Retrieves a specific role by ID.
      * 
      * GET /api/v1/roles/{id}
      * 
      * @param id The unique identifier of the role to retrieve
+     * @param readToken Optional token of a previous command to read after
      * @return ResponseEntity with the role and appropriate HTTP status
      */
     @GetMapping("/{id}")
-    public ResponseEntity<RoleResponse> getRoleById(@PathVariable Long id) {
+    public ResponseEntity<RoleResponse> getRoleById(@PathVariable Long id,
+                                                    @RequestHeader(value = RoleHandler.READ_TOKEN_HEADER, required = false) Long readToken) {
         logger.info("Retrieving role with ID: {}", id);
         
-        ResponseEntity<RoleResponse> response = roleHandler.getRoleById(id);
+        ResponseEntity<RoleResponse> response = roleHandler.getRoleById(id, readToken);
         
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             logger.info("Successfully retrieved role: {}", response.getBody().getName());
@@ -127,18 +165,36 @@ public class RoleController {
         return response;
     }
     
+    /**
+     * Retrieves a role as it was at a given time.
+     * 
+     * GET /api/v1/roles/{id}?asOf=2025-03-14T15:09:26Z
+     * 
+     * @param id The unique identifier of the role to retrieve
+     * @param asOf The time, ISO-8601
+     * @return ResponseEntity with the role as of that time, 404 if it did not exist then,
+     *         501 if the persistence mode keeps no role history
+     */
+    @GetMapping(value = "/{id}", params = "asOf")
+    public ResponseEntity<RoleResponse> getRoleByIdAsOf(@PathVariable Long id, @RequestParam Instant asOf) {
+        logger.info("Retrieving role with ID: {} as of {}", id, asOf);
+        
+        return roleHandler.getRoleByIdAsOf(id, asOf);
+    }
+    
     /**
      * Retrieves all roles.
      * 
      * GET /api/v1/roles
      * 
+     * @param readToken Optional token of a previous command to read after
      * @return ResponseEntity with list of all roles and HTTP 200 status
      */
     @GetMapping
-    public ResponseEntity<List<RoleResponse>> getAllRoles() {
+    public ResponseEntity<List<RoleResponse>> getAllRoles(@RequestHeader(value = RoleHandler.READ_TOKEN_HEADER, required = false) Long readToken) {
         logger.info("Retrieving all roles");
         
-        ResponseEntity<List<RoleResponse>> response = roleHandler.getAllRoles();
+        ResponseEntity<List<RoleResponse>> response = roleHandler.getAllRoles(readToken);
         
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             logger.info("Successfully retrieved {} roles", response.getBody().size());
@@ -147,19 +203,43 @@ public class RoleController {
         return response;
     }
     
+    /**
+     * Retrieves all roles as they were at a given time.
+     * 
+     * GET /api/v1/roles?asOf=2025-03-14T15:09:26Z
+     * 
+     * @param asOf The time, ISO-8601
+     * @return ResponseEntity with the roles that existed then, ordered by ID,
+     *         501 if the persistence mode keeps no role history
+     */
+    @GetMapping(params = "asOf")
+    public ResponseEntity<List<RoleResponse>> getAllRolesAsOf(@RequestParam Instant asOf) {
+        logger.info("Retrieving all roles as of {}", asOf);
+        
+        ResponseEntity<List<RoleResponse>> response = roleHandler.getAllRolesAsOf(asOf);
+        
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            logger.info("Successfully retrieved {} roles as of {}", response.getBody().size(), asOf);
+        }
+        
+        return response;
+    }
+    
     /**
      * Searches roles by name pattern.
      * 
      * GET /api/v1/roles/search?name={pattern}
      * 
      * @param name The search pattern
+     * @param readToken Optional token of a previous command to read after
      * @return ResponseEntity with list of matching roles
      */
     @GetMapping("/search")
-    public ResponseEntity<List<RoleResponse>> searchRoles(@RequestParam String name) {
+    public ResponseEntity<List<RoleResponse>> searchRoles(@RequestParam String name,
+                                                          @RequestHeader(value = RoleHandler.READ_TOKEN_HEADER, required = false) Long readToken) {
         logger.info("Searching roles with pattern: {}", name);
         
-        ResponseEntity<List<RoleResponse>> response = roleHandler.searchRoles(name);
+        ResponseEntity<List<RoleResponse>> response = roleHandler.searchRoles(name, readToken);
         
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             logger.info("Found {} roles matching pattern: {}", response.getBody().size(), name);
@@ -173,13 +253,14 @@ public class RoleController {
      * 
      * GET /api/v1/roles/count
      * 
+     * @param readToken Optional token of a previous command to read after
      * @return ResponseEntity with the role count
      */
     @GetMapping("/count")
-    public ResponseEntity<Map<String, Long>> getRoleCount() {
+    public ResponseEntity<Map<String, Long>> getRoleCount(@RequestHeader(value = RoleHandler.READ_TOKEN_HEADER, required = false) Long readToken) {
         logger.info("Getting role count");
         
-        ResponseEntity<Map<String, Long>> response = roleHandler.getRoleCount();
+        ResponseEntity<Map<String, Long>> response = roleHandler.getRoleCount(readToken);
         
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             logger.info("Total roles count: {}", response.getBody().get("count"));
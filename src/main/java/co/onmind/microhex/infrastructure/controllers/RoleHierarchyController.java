@@ -0,0 +1,127 @@
+package co.onmind.microhex.infrastructure.controllers;
+
+import co.onmind.microhex.application.dto.RoleResponse;
+import co.onmind.microhex.application.handlers.RoleHierarchyHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for role inheritance.
+ * 
+ * A role inherits its parents and, transitively, everything they inherit.
+ * Effective roles and inheritance checks are answered from the in-memory
+ * transitive closure; checks are not logged at info level since callers run
+ * them on every request they authorize.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class RoleHierarchyController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RoleHierarchyController.class);
+    
+    private final RoleHierarchyHandler roleHierarchyHandler;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param roleHierarchyHandler Application handler for role inheritance operations
+     */
+    public RoleHierarchyController(RoleHierarchyHandler roleHierarchyHandler) {
+        this.roleHierarchyHandler = roleHierarchyHandler;
+    }
+    
+    /**
+     * Lists the direct parents of a role.
+     * 
+     * GET /api/v1/roles/{id}/parents
+     * 
+     * @param id The role ID
+     * @return ResponseEntity with the parent roles
+     */
+    @GetMapping("/roles/{id}/parents")
+    public ResponseEntity<List<RoleResponse>> getParents(@PathVariable Long id) {
+        logger.info("Retrieving parents of role with ID: {}", id);
+        return roleHierarchyHandler.getParents(id);
+    }
+    
+    /**
+     * Makes a role inherit a parent role.
+     * 
+     * PUT /api/v1/roles/{id}/parents/{parentId}
+     * 
+     * @param id The inheriting role ID
+     * @param parentId The inherited role ID
+     * @return ResponseEntity with the parent roles, or 409 if it would close a cycle
+     */
+    @PutMapping("/roles/{id}/parents/{parentId}")
+    public ResponseEntity<List<RoleResponse>> addParent(@PathVariable Long id, @PathVariable Long parentId) {
+        logger.info("Adding parent {} to role with ID: {}", parentId, id);
+        return roleHierarchyHandler.addParent(id, parentId);
+    }
+    
+    /**
+     * Stops a role inheriting a parent role.
+     * 
+     * DELETE /api/v1/roles/{id}/parents/{parentId}
+     * 
+     * @param id The inheriting role ID
+     * @param parentId The inherited role ID
+     * @return ResponseEntity with appropriate HTTP status
+     */
+    @DeleteMapping("/roles/{id}/parents/{parentId}")
+    public ResponseEntity<Void> removeParent(@PathVariable Long id, @PathVariable Long parentId) {
+        logger.info("Removing parent {} from role with ID: {}", parentId, id);
+        return roleHierarchyHandler.removeParent(id, parentId);
+    }
+    
+    /**
+     * Lists a role together with every role it inherits.
+     * 
+     * GET /api/v1/roles/{id}/effective-roles
+     * 
+     * @param id The role ID
+     * @return ResponseEntity with the effective roles
+     */
+    @GetMapping("/roles/{id}/effective-roles")
+    public ResponseEntity<List<RoleResponse>> getEffectiveRoles(@PathVariable Long id) {
+        logger.info("Retrieving effective roles of role with ID: {}", id);
+        return roleHierarchyHandler.getEffectiveRoles(id);
+    }
+    
+    /**
+     * Checks whether a role is or inherits another.
+     * 
+     * GET /api/v1/roles/{id}/effective-roles/{ancestorId}
+     * 
+     * @param id The role ID
+     * @param ancestorId The possibly inherited role ID
+     * @return ResponseEntity with {"inherits": true|false}
+     */
+    @GetMapping("/roles/{id}/effective-roles/{ancestorId}")
+    public ResponseEntity<Map<String, Boolean>> inherits(@PathVariable Long id, @PathVariable Long ancestorId) {
+        logger.debug("Checking whether role {} inherits role {}", id, ancestorId);
+        return roleHierarchyHandler.inherits(id, ancestorId);
+    }
+    
+    /**
+     * Lists the roles of a user together with every role they inherit.
+     * 
+     * GET /api/v1/users/{userId}/effective-roles
+     * 
+     * @param userId The user ID
+     * @return ResponseEntity with the effective roles
+     */
+    @GetMapping("/users/{userId}/effective-roles")
+    public ResponseEntity<List<RoleResponse>> getEffectiveRolesOfUser(@PathVariable Long userId) {
+        logger.info("Retrieving effective roles of user with ID: {}", userId);
+        return roleHierarchyHandler.getEffectiveRolesOfUser(userId);
+    }
+}
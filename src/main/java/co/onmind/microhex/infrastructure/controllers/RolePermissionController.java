@@ -0,0 +1,133 @@
+package co.onmind.microhex.infrastructure.controllers;
+
+import co.onmind.microhex.application.dto.PermissionCheckRequest;
+import co.onmind.microhex.application.dto.RolePermissionsRequest;
+import co.onmind.microhex.application.dto.RolePermissionsResponse;
+import co.onmind.microhex.application.handlers.RolePermissionHandler;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST controller for the permissions granted to roles.
+ * 
+ * Grants and revokes are stored with the role; checks are answered from the
+ * in-memory permission index without touching the database, and are not
+ * logged at info level since they are the hot path of callers authorizing
+ * their own requests.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/roles/{id}/permissions")
+public class RolePermissionController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RolePermissionController.class);
+    
+    private final RolePermissionHandler rolePermissionHandler;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param rolePermissionHandler Application handler for role permission operations
+     */
+    public RolePermissionController(RolePermissionHandler rolePermissionHandler) {
+        this.rolePermissionHandler = rolePermissionHandler;
+    }
+    
+    /**
+     * Lists the permissions granted to a role.
+     * 
+     * GET /api/v1/roles/{id}/permissions
+     * 
+     * @param id The role ID
+     * @return ResponseEntity with the granted permissions
+     */
+    @GetMapping
+    public ResponseEntity<RolePermissionsResponse> getPermissions(@PathVariable Long id) {
+        logger.info("Retrieving permissions of role with ID: {}", id);
+        return rolePermissionHandler.getPermissions(id);
+    }
+    
+    /**
+     * Replaces the permissions granted to a role.
+     * 
+     * PUT /api/v1/roles/{id}/permissions
+     * 
+     * @param id The role ID
+     * @param request The new permission set with validation
+     * @return ResponseEntity with the granted permissions
+     */
+    @PutMapping
+    public ResponseEntity<RolePermissionsResponse> setPermissions(@PathVariable Long id,
+                                                                  @Valid @RequestBody RolePermissionsRequest request) {
+        logger.info("Replacing permissions of role with ID: {} with {} permissions", id, request.getPermissions().size());
+        return rolePermissionHandler.setPermissions(id, request);
+    }
+    
+    /**
+     * Checks whether a role grants a permission.
+     * 
+     * GET /api/v1/roles/{id}/permissions/{permission}
+     * 
+     * @param id The role ID
+     * @param permission The permission name
+     * @return ResponseEntity with {"granted": true|false}
+     */
+    @GetMapping("/{permission}")
+    public ResponseEntity<Map<String, Boolean>> checkPermission(@PathVariable Long id, @PathVariable String permission) {
+        logger.debug("Checking permission {} of role with ID: {}", permission, id);
+        return rolePermissionHandler.checkPermission(id, permission);
+    }
+    
+    /**
+     * Checks several permissions of a role at once.
+     * 
+     * POST /api/v1/roles/{id}/permissions/check
+     * 
+     * @param id The role ID
+     * @param request The permissions to check with validation
+     * @return ResponseEntity with whether each permission is granted
+     */
+    @PostMapping("/check")
+    public ResponseEntity<Map<String, Boolean>> checkPermissions(@PathVariable Long id,
+                                                                 @Valid @RequestBody PermissionCheckRequest request) {
+        logger.debug("Checking {} permissions of role with ID: {}", request.getPermissions().size(), id);
+        return rolePermissionHandler.checkPermissions(id, request);
+    }
+    
+    /**
+     * Grants a permission to a role.
+     * 
+     * PUT /api/v1/roles/{id}/permissions/{permission}
+     * 
+     * @param id The role ID
+     * @param permission The permission name
+     * @return ResponseEntity with the granted permissions
+     */
+    @PutMapping("/{permission}")
+    public ResponseEntity<RolePermissionsResponse> grantPermission(@PathVariable Long id, @PathVariable String permission) {
+        logger.info("Granting permission {} to role with ID: {}", permission, id);
+        return rolePermissionHandler.grantPermission(id, permission);
+    }
+    
+    /**
+     * Revokes a permission from a role.
+     * 
+     * DELETE /api/v1/roles/{id}/permissions/{permission}
+     * 
+     * @param id The role ID
+     * @param permission The permission name
+     * @return ResponseEntity with the granted permissions
+     */
+    @DeleteMapping("/{permission}")
+    public ResponseEntity<RolePermissionsResponse> revokePermission(@PathVariable Long id, @PathVariable String permission) {
+        logger.info("Revoking permission {} from role with ID: {}", permission, id);
+        return rolePermissionHandler.revokePermission(id, permission);
+    }
+}
@@ -0,0 +1,185 @@
+package co.onmind.microhex.infrastructure.controllers;
+
+import co.onmind.microhex.application.dto.RoleResponse;
+import co.onmind.microhex.domain.ports.out.MembershipIndexPort;
+import co.onmind.microhex.domain.ports.out.PermissionIndexPort;
+import co.onmind.microhex.domain.ports.out.RoleHierarchyIndexPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.events.RoleCatalogPublisher;
+import co.onmind.microhex.infrastructure.persistence.adapters.ColumnarRoleCatalogAdapter;
+import co.onmind.microhex.infrastructure.persistence.snapshot.RoleTableSnapshot;
+import co.onmind.microhex.infrastructure.readmodel.InMemoryRoleReadModel;
+import co.onmind.microhex.transverse.concurrency.MaintenanceLock;
+import co.onmind.microhex.transverse.idempotency.IdempotencyCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Admin endpoints exporting and importing the roles table as a binary
+ * snapshot (see RoleTableSnapshot), enabled with admin.role-snapshot.enabled
+ * in JPA mode. The same operations are available from the command line,
+ * see MicroHexApplication.
+ *
+ * - GET /api/v1/admin/roles/snapshot - streams the snapshot of every role
+ * - POST /api/v1/admin/roles/snapshot?replace=true - restores a snapshot sent as the request body
+ *
+ * An import deletes the memberships, permissions and inheritance relations
+ * of the previous roles, so the in-memory indexes over them are emptied. It
+ * publishes no role events, so everything following them is refreshed from
+ * the imported roles: the read model is reloaded, the columnar catalog
+ * rebuilt and the shared catalog file republished. The responses kept for
+ * idempotency keys refer to the previous roles and are dropped. Role writes
+ * wait for the import and this refresh to finish.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/admin/roles/snapshot")
+@ConditionalOnProperty(name = "admin.role-snapshot.enabled", havingValue = "true")
+public class RoleSnapshotController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleSnapshotController.class);
+
+    private final RoleTableSnapshot roleTableSnapshot;
+    private final RoleRepositoryPort roleRepositoryPort;
+    private final InMemoryRoleReadModel roleReadModel;
+    private final ColumnarRoleCatalogAdapter columnarRoleCatalog;
+    private final RoleCatalogPublisher roleCatalogPublisher;
+    private final IdempotencyCache<ResponseEntity<RoleResponse>> idempotencyCache;
+    private final MaintenanceLock maintenanceLock;
+    private final MembershipIndexPort membershipIndex;
+    private final PermissionIndexPort permissionIndex;
+    private final RoleHierarchyIndexPort hierarchyIndex;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param roleTableSnapshot Exports and imports the roles table, present in JPA mode only
+     * @param roleRepositoryPort Reloads the roles after an import
+     * @param roleReadModel Read model refreshed after an import, which publishes no events, when created
+     * @param columnarRoleCatalog Columnar role catalog rebuilt after an import, when enabled
+     * @param roleCatalogPublisher Publisher of the shared role catalog file, when enabled
+     * @param idempotencyCache Responses kept for idempotency keys, dropped after an import
+     * @param roleTableMaintenance Lock holding off role writes during an import and the refresh after it
+     * @param membershipIndex Membership index emptied with the memberships an import deletes
+     * @param permissionIndex Permission index emptied with the permissions an import deletes
+     * @param hierarchyIndex Hierarchy index emptied with the relations an import deletes
+     */
+    public RoleSnapshotController(ObjectProvider<RoleTableSnapshot> roleTableSnapshot,
+                                  RoleRepositoryPort roleRepositoryPort,
+                                  ObjectProvider<InMemoryRoleReadModel> roleReadModel,
+                                  ObjectProvider<ColumnarRoleCatalogAdapter> columnarRoleCatalog,
+                                  ObjectProvider<RoleCatalogPublisher> roleCatalogPublisher,
+                                  IdempotencyCache<ResponseEntity<RoleResponse>> idempotencyCache,
+                                  MaintenanceLock roleTableMaintenance,
+                                  MembershipIndexPort membershipIndex,
+                                  PermissionIndexPort permissionIndex,
+                                  RoleHierarchyIndexPort hierarchyIndex) {
+        this.roleTableSnapshot = roleTableSnapshot.getIfAvailable();
+        if (this.roleTableSnapshot == null) {
+            throw new IllegalStateException("admin.role-snapshot.enabled requires persistence.mode=jpa");
+        }
+        this.roleRepositoryPort = roleRepositoryPort;
+        this.roleReadModel = roleReadModel.getIfAvailable();
+        this.columnarRoleCatalog = columnarRoleCatalog.getIfAvailable();
+        this.roleCatalogPublisher = roleCatalogPublisher.getIfAvailable();
+        this.idempotencyCache = idempotencyCache;
+        this.maintenanceLock = roleTableMaintenance;
+        this.membershipIndex = membershipIndex;
+        this.permissionIndex = permissionIndex;
+        this.hierarchyIndex = hierarchyIndex;
+    }
+
+    /**
+     * Streams the snapshot of every role.
+     *
+     * GET /api/v1/admin/roles/snapshot
+     *
+     * @return the snapshot, as an attachment
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportRoles() {
+        StreamingResponseBody body = output -> {
+            try {
+                roleTableSnapshot.export(output);
+            } catch (SQLException e) {
+                throw new IOException("Role snapshot export failed", e);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("roles.snapshot").build().toString())
+                .body(body);
+    }
+
+    /**
+     * Restores the roles of a snapshot.
+     *
+     * POST /api/v1/admin/roles/snapshot
+     *
+     * @param replace whether to delete the current roles first; otherwise the table must be empty
+     * @param snapshot the snapshot, as the request body
+     * @param request the HTTP request, for error responses
+     * @return the number of roles imported and the time taken, or 409 if the table is not empty
+     * @throws IOException if the snapshot is not valid
+     * @throws SQLException if the roles cannot be written
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> importRoles(@RequestParam(defaultValue = "false") boolean replace,
+                                         InputStream snapshot,
+                                         HttpServletRequest request) throws IOException, SQLException {
+        RoleTableSnapshot.Summary summary;
+        try (MaintenanceLock.Hold maintenance = maintenanceLock.exclusive()) {
+            try {
+                summary = roleTableSnapshot.importFrom(snapshot, replace, this::clearIndexes);
+            } catch (IllegalStateException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ErrorResponse.conflict(e.getMessage(), request.getRequestURI()));
+            }
+            refreshRoleViews();
+        }
+        logger.info("Role snapshot imported: {} roles in {} ms", summary.rows(), summary.millis());
+        return ResponseEntity.ok(Map.of("rows", summary.rows(), "millis", summary.millis()));
+    }
+
+    private void refreshRoleViews() {
+        if (roleReadModel != null) {
+            roleReadModel.reload(roleRepositoryPort.findAll());
+        }
+        // Written from the read model, once reloaded
+        if (roleCatalogPublisher != null) {
+            roleCatalogPublisher.requestPublish();
+        }
+        if (columnarRoleCatalog != null) {
+            columnarRoleCatalog.rebuild();
+        }
+        idempotencyCache.clear();
+    }
+
+    private void clearIndexes() {
+        membershipIndex.clear();
+        permissionIndex.clear();
+        hierarchyIndex.clear();
+    }
+}
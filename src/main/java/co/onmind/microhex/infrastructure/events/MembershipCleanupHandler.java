@@ -0,0 +1,35 @@
+package co.onmind.microhex.infrastructure.events;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.ports.in.MembershipServicePort;
+import co.onmind.microhex.transverse.events.EventHandler;
+
+/**
+ * Event bus consumer removing the user assignments of deleted roles.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class MembershipCleanupHandler implements EventHandler<RoleEvent> {
+
+    private final MembershipServicePort membershipServicePort;
+
+    /**
+     * Creates the handler.
+     *
+     * @param membershipServicePort The membership service
+     */
+    public MembershipCleanupHandler(MembershipServicePort membershipServicePort) {
+        this.membershipServicePort = membershipServicePort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(RoleEvent event, long sequence, boolean endOfBatch) {
+        if (event.getType() == RoleEvent.Type.ROLE_DELETED) {
+            membershipServicePort.removeRole(event.getRoleId());
+        }
+    }
+}
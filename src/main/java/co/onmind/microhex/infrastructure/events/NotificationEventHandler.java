@@ -0,0 +1,37 @@
+package co.onmind.microhex.infrastructure.events;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.ports.out.NotificationPort;
+import co.onmind.microhex.transverse.events.EventHandler;
+
+/**
+ * Event bus consumer forwarding role events to the notification pipeline.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class NotificationEventHandler implements EventHandler<RoleEvent> {
+
+    private final NotificationPort notificationPort;
+
+    /**
+     * Creates the handler.
+     *
+     * @param notificationPort The notification pipeline
+     */
+    public NotificationEventHandler(NotificationPort notificationPort) {
+        this.notificationPort = notificationPort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(RoleEvent event, long sequence, boolean endOfBatch) {
+        switch (event.getType()) {
+            case ROLE_CREATED -> notificationPort.notifyRoleCreated(event.getRole());
+            case ROLE_UPDATED -> notificationPort.notifyRoleUpdated(event.getRole());
+            case ROLE_DELETED -> notificationPort.notifyRoleDeleted(event.getRoleId());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package co.onmind.microhex.infrastructure.events;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleEventPublisherPort;
+import co.onmind.microhex.transverse.events.RingBuffer;
+import co.onmind.microhex.transverse.events.RingBufferEventBus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementation of the RoleEventPublisherPort on top of the ring buffer event bus.
+ *
+ * Publishing claims a slot, overwrites the preallocated RoleEvent in place
+ * and publishes its sequence, so no object is allocated and no lock is taken
+ * on the request thread. Consumers run on their own threads.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+public class RingBufferRoleEventPublisher implements RoleEventPublisherPort {
+
+    private final RingBuffer<RoleEvent> ringBuffer;
+    private final RoleEventVersions versions;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param roleEventBus The event bus consuming role events
+     * @param versions The durable numbering of the role events
+     */
+    public RingBufferRoleEventPublisher(RingBufferEventBus<RoleEvent> roleEventBus, RoleEventVersions versions) {
+        this.ringBuffer = roleEventBus.getRingBuffer();
+        this.versions = versions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishRoleCreated(Role role) {
+        publish(RoleEvent.Type.ROLE_CREATED, role.getId(), role);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishRoleUpdated(Role role) {
+        publish(RoleEvent.Type.ROLE_UPDATED, role.getId(), role);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishRoleDeleted(Long roleId) {
+        publish(RoleEvent.Type.ROLE_DELETED, roleId, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The position is the durable version of the event at the ring buffer cursor.
+     */
+    @Override
+    public long position() {
+        return versions.versionOf(ringBuffer.getCursor());
+    }
+
+    private void publish(RoleEvent.Type type, Long roleId, Role role) {
+        long sequence = ringBuffer.next();
+        try {
+            ringBuffer.get(sequence).set(type, roleId, role);
+        } finally {
+            ringBuffer.publish(sequence);
+        }
+    }
+}
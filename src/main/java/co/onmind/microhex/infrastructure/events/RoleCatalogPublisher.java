@@ -0,0 +1,130 @@
+package co.onmind.microhex.infrastructure.events;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.infrastructure.persistence.catalog.MappedRoleCatalog;
+import co.onmind.microhex.transverse.events.EventHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Event bus consumer publishing the role catalog file shared with other processes.
+ *
+ * It runs after the read model, so the read model already holds the changes
+ * of the events it sees. Events only mark the catalog as changed: a publisher
+ * thread of its own rewrites the catalog from the read model at most once per
+ * publish interval, so a steady stream of role changes costs one file write
+ * and fsync per interval and never holds up the event bus. The catalog is also
+ * published when the handler is created and, if changed, when it is closed.
+ * The read model may move on while the catalog is written; the version written
+ * with the catalog is the lowest it reflects.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class RoleCatalogPublisher implements EventHandler<RoleEvent>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleCatalogPublisher.class);
+
+    private final RoleReadModelPort roleReadModel;
+    private final Path file;
+    private final Counter publishes;
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private final ScheduledExecutorService publisher;
+
+    /**
+     * Creates the handler, publishes the current catalog and starts the publisher thread.
+     *
+     * @param roleReadModel The read model the catalog is written from
+     * @param file The catalog file
+     * @param publishInterval Minimum time between two publications
+     * @param meterRegistry Registry for the publication metrics
+     */
+    public RoleCatalogPublisher(RoleReadModelPort roleReadModel, Path file, Duration publishInterval,
+                                MeterRegistry meterRegistry) {
+        this.roleReadModel = roleReadModel;
+        this.file = file;
+        this.publishes = Counter.builder("role.catalog.publishes")
+                .description("Role catalog files published for other processes")
+                .register(meterRegistry);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create the role catalog directory for " + file, e);
+        }
+        publish();
+        this.publisher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("role-catalog-publisher").daemon(true).factory());
+        long intervalNanos = Math.max(1, publishInterval.toNanos());
+        publisher.scheduleWithFixedDelay(this::publishIfChanged, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        logger.info("Publishing the role catalog to {} at most every {}", file, publishInterval);
+    }
+
+    /**
+     * Marks the catalog as changed.
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(RoleEvent event, long sequence, boolean endOfBatch) {
+        if (endOfBatch) {
+            changed.set(true);
+        }
+    }
+
+    /**
+     * Marks the catalog as changed after a bulk change made without events,
+     * such as a snapshot import; it is published on the next interval.
+     */
+    public void requestPublish() {
+        changed.set(true);
+    }
+
+    /**
+     * Stops the publisher thread and publishes the last changes, if any.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        publisher.shutdown();
+        if (!publisher.awaitTermination(10, TimeUnit.SECONDS)) {
+            publisher.shutdownNow();
+        }
+        publishIfChanged();
+    }
+
+    private void publishIfChanged() {
+        if (!changed.getAndSet(false)) {
+            return;
+        }
+        try {
+            publish();
+        } catch (RuntimeException e) {
+            // Try again on the next interval
+            changed.set(true);
+            logger.warn("Cannot publish the role catalog to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void publish() {
+        long started = System.nanoTime();
+        // Read first: the roles read next reflect at least this version
+        long version = roleReadModel.version();
+        MappedRoleCatalog.write(file, version, roleReadModel.findAll());
+        publishes.increment();
+        logger.debug("Role catalog at version {} published in {} us", version, (System.nanoTime() - started) / 1000);
+    }
+}
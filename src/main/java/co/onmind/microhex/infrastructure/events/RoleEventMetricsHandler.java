@@ -0,0 +1,42 @@
+package co.onmind.microhex.infrastructure.events;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.transverse.events.EventHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Event bus consumer counting role events by type (role.events metric).
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class RoleEventMetricsHandler implements EventHandler<RoleEvent> {
+
+    private final Map<RoleEvent.Type, Counter> counters = new EnumMap<>(RoleEvent.Type.class);
+
+    /**
+     * Creates the handler and registers one counter per event type.
+     *
+     * @param meterRegistry registry for the event counters
+     */
+    public RoleEventMetricsHandler(MeterRegistry meterRegistry) {
+        for (RoleEvent.Type type : RoleEvent.Type.values()) {
+            counters.put(type, Counter.builder("role.events")
+                    .description("Role domain events published")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(RoleEvent event, long sequence, boolean endOfBatch) {
+        counters.get(event.getType()).increment();
+    }
+}
@@ -0,0 +1,38 @@
+package co.onmind.microhex.infrastructure.events;
+
+/**
+ * Durable numbering of the role events published on the event bus.
+ *
+ * The ring buffer numbers the events of each run from 0, so its sequences
+ * start over on every restart and cannot be handed out as read tokens. The
+ * version of an event is instead its sequence added to the durable change
+ * version of the roles at startup: the role change log version in JPA mode,
+ * the last event sequence of the log in event-sourced mode. Every published
+ * event follows its own durable change, so the versions of a run never pass
+ * the change version the next run starts from, and tokens stay ordered
+ * across restarts.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public final class RoleEventVersions {
+
+    private final long base;
+
+    /**
+     * @param base the durable change version of the roles at startup, 0 if none
+     */
+    public RoleEventVersions(long base) {
+        this.base = base;
+    }
+
+    /**
+     * Returns the version of the event published at a ring buffer sequence.
+     *
+     * @param sequence the sequence of the event, -1 before the first one
+     * @return the version of the event, the startup version for -1
+     */
+    public long versionOf(long sequence) {
+        return base + sequence + 1;
+    }
+}
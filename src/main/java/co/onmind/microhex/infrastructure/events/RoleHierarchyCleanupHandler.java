@@ -0,0 +1,35 @@
+package co.onmind.microhex.infrastructure.events;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.ports.in.RoleHierarchyServicePort;
+import co.onmind.microhex.transverse.events.EventHandler;
+
+/**
+ * Event bus consumer removing the inheritance relations of deleted roles.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class RoleHierarchyCleanupHandler implements EventHandler<RoleEvent> {
+
+    private final RoleHierarchyServicePort roleHierarchyServicePort;
+
+    /**
+     * Creates the handler.
+     *
+     * @param roleHierarchyServicePort The role hierarchy service
+     */
+    public RoleHierarchyCleanupHandler(RoleHierarchyServicePort roleHierarchyServicePort) {
+        this.roleHierarchyServicePort = roleHierarchyServicePort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(RoleEvent event, long sequence, boolean endOfBatch) {
+        if (event.getType() == RoleEvent.Type.ROLE_DELETED) {
+            roleHierarchyServicePort.removeRole(event.getRoleId());
+        }
+    }
+}
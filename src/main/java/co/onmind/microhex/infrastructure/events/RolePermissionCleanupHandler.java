@@ -0,0 +1,35 @@
+package co.onmind.microhex.infrastructure.events;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.ports.in.RolePermissionServicePort;
+import co.onmind.microhex.transverse.events.EventHandler;
+
+/**
+ * Event bus consumer removing the permissions of deleted roles.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class RolePermissionCleanupHandler implements EventHandler<RoleEvent> {
+
+    private final RolePermissionServicePort rolePermissionServicePort;
+
+    /**
+     * Creates the handler.
+     *
+     * @param rolePermissionServicePort The role permission service
+     */
+    public RolePermissionCleanupHandler(RolePermissionServicePort rolePermissionServicePort) {
+        this.rolePermissionServicePort = rolePermissionServicePort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(RoleEvent event, long sequence, boolean endOfBatch) {
+        if (event.getType() == RoleEvent.Type.ROLE_DELETED) {
+            rolePermissionServicePort.clearPermissions(event.getRoleId());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package co.onmind.microhex.infrastructure.expiry;
+
+import co.onmind.microhex.domain.ports.in.MembershipServicePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job removing expired role grants.
+ *
+ * On every tick it asks the membership service to remove the grants the
+ * expiry wheel reports as due, membership.expiry.batch-size per transaction.
+ * A failed batch is kept by the service and retried on the next tick.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+public class GrantExpiryJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrantExpiryJob.class);
+
+    private final MembershipServicePort membershipServicePort;
+    private final int batchSize;
+    private final Counter expired;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param membershipServicePort The membership service
+     * @param batchSize Maximum grants removed per transaction
+     * @param meterRegistry Registry for the expired grants counter
+     */
+    public GrantExpiryJob(MembershipServicePort membershipServicePort,
+                          @Value("${membership.expiry.batch-size:500}") int batchSize,
+                          MeterRegistry meterRegistry) {
+        this.membershipServicePort = membershipServicePort;
+        this.batchSize = batchSize;
+        this.expired = Counter.builder("membership.expiry.expired")
+                .description("Time-limited role grants removed on expiry")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Removes the grants that are due.
+     *
+     * @return the number of grants removed
+     */
+    @Scheduled(fixedDelayString = "${membership.expiry.tick-ms:1000}")
+    public int expire() {
+        try {
+            int removed = membershipServicePort.expireGrants(batchSize);
+            if (removed > 0) {
+                expired.increment(removed);
+                logger.info("Removed {} expired role grants", removed);
+            }
+            return removed;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to remove expired role grants, retrying on the next tick: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package co.onmind.microhex.infrastructure.expiry;
+
+import co.onmind.microhex.domain.models.RoleGrant;
+import co.onmind.microhex.domain.ports.out.GrantExpiryPort;
+import co.onmind.microhex.domain.ports.out.MembershipRepositoryPort;
+import co.onmind.microhex.transverse.timing.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory expiry tracker for time-limited role grants, built on a
+ * hierarchical timing wheel.
+ *
+ * Every stored grant with an expiry is loaded at startup and scheduled in the
+ * wheel; later grants, extensions and revocations schedule or cancel their
+ * timeout in constant time, and a key map finds the timeout of a user and
+ * role. Polling advances the wheel to the current time: fired grants wait in
+ * a ready queue until they are taken, so a mass expiry is handed out in
+ * batches. Nothing here queries the database after the initial load.
+ *
+ * A pending grant costs about 170 bytes (timeout, grant, key and map entry).
+ * Expiries fire at most one tick (membership.expiry.tick-ms) late, never early.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+public class TimingWheelGrantExpiry implements GrantExpiryPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheelGrantExpiry.class);
+
+    /**
+     * Identity of a grant: one expiry per user and role.
+     */
+    private record GrantKey(long userId, long roleId) {}
+
+    private final HierarchicalTimingWheel<RoleGrant> wheel;
+    private final Map<GrantKey, HierarchicalTimingWheel.Timeout<RoleGrant>> timeouts = new HashMap<>();
+    private final ArrayDeque<RoleGrant> ready = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Constructor for dependency injection; loads the stored time-limited grants.
+     *
+     * @param membershipRepositoryPort The membership repository used for the initial load
+     * @param tickMillis Wheel tick in milliseconds, the expiry granularity
+     * @param clock Clock the wheel starts from
+     * @param meterRegistry Registry for the pending grants gauge
+     */
+    public TimingWheelGrantExpiry(MembershipRepositoryPort membershipRepositoryPort,
+                                  @Value("${membership.expiry.tick-ms:1000}") long tickMillis,
+                                  Clock clock,
+                                  MeterRegistry meterRegistry) {
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, clock.millis());
+        membershipRepositoryPort.forEachExpiring(this::schedule);
+        Gauge.builder("membership.expiry.pending", this, TimingWheelGrantExpiry::pendingCount)
+                .description("Time-limited role grants waiting to expire")
+                .register(meterRegistry);
+        logger.info("Grant expiry loaded with {} time-limited grants", pendingCount());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void schedule(long userId, long roleId, Instant expiresAt) {
+        RoleGrant grant = new RoleGrant(userId, roleId, expiresAt);
+        lock.lock();
+        try {
+            HierarchicalTimingWheel.Timeout<RoleGrant> previous =
+                    timeouts.put(new GrantKey(userId, roleId), wheel.schedule(grant, deadlineOf(expiresAt)));
+            if (previous != null) {
+                wheel.cancel(previous);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void scheduleIfAbsent(long userId, long roleId, Instant expiresAt) {
+        RoleGrant grant = new RoleGrant(userId, roleId, expiresAt);
+        lock.lock();
+        try {
+            timeouts.computeIfAbsent(new GrantKey(userId, roleId),
+                    key -> wheel.schedule(grant, deadlineOf(expiresAt)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel(long userId, long roleId) {
+        lock.lock();
+        try {
+            HierarchicalTimingWheel.Timeout<RoleGrant> timeout = timeouts.remove(new GrantKey(userId, roleId));
+            if (timeout != null) {
+                wheel.cancel(timeout);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the wheel and takes grants from the ready queue. A grant
+     * already in the ready queue is not recalled by cancel; the caller
+     * checks the stored expiry before removing it.
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RoleGrant> pollExpired(Instant now, int max) {
+        lock.lock();
+        try {
+            if (ready.size() < max) {
+                wheel.advance(now.toEpochMilli(), grant -> {
+                    timeouts.remove(new GrantKey(grant.userId(), grant.roleId()));
+                    ready.add(grant);
+                });
+            }
+            List<RoleGrant> expired = new ArrayList<>(Math.min(max, ready.size()));
+            while (expired.size() < max && !ready.isEmpty()) {
+                expired.add(ready.poll());
+            }
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return wheel.size() + ready.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long deadlineOf(Instant expiresAt) {
+        // Rounded up to the millisecond so a grant never fires before its expiry
+        return expiresAt.plusNanos(999_999).toEpochMilli();
+    }
+}
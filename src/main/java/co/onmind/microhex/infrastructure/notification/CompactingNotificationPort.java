@@ -0,0 +1,243 @@
+package co.onmind.microhex.infrastructure.notification;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.NotificationPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compaction stage placed in front of a NotificationPort.
+ *
+ * Events are held per role ID for a short window, starting with the first
+ * event for that role, and merged before being forwarded:
+ * - create followed by update becomes one create with the final name
+ * - create followed by delete is dropped
+ * - update followed by update keeps the last update
+ * - update followed by delete becomes the delete
+ * - a create arriving after an update becomes a create with the updated name,
+ *   and anything arriving after a delete is dropped: a merged event always
+ *   carries the latest known state of the role
+ *
+ * Each window has a generation of its own, so the flush scheduled for a
+ * window whose events cancelled out is a no-op, and does not cut short a
+ * window opened later for the same role.
+ *
+ * This cuts downstream traffic when provisioning scripts create, rename and
+ * delete roles within seconds. Received, emitted and dropped counts and the
+ * resulting compaction ratio are published as metrics.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class CompactingNotificationPort implements NotificationPort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactingNotificationPort.class);
+
+    enum Kind { CREATED, UPDATED, DELETED }
+
+    /**
+     * Merged event waiting for its window to close.
+     */
+    record PendingEvent(Kind kind, Long roleId, Role role, long generation) {
+
+        /**
+         * Merges a newer event into this one, keeping the generation of this window.
+         * @param next the newer event for the same role
+         * @return the merged event, or null when both cancel out
+         */
+        PendingEvent merge(PendingEvent next) {
+            return switch (kind) {
+                case CREATED -> switch (next.kind) {
+                    case CREATED, UPDATED -> new PendingEvent(Kind.CREATED, roleId, next.role, generation);
+                    case DELETED -> null;
+                };
+                case UPDATED -> switch (next.kind) {
+                    // A create never follows an update of the same role: the update is newer
+                    case CREATED -> new PendingEvent(Kind.CREATED, roleId, role, generation);
+                    case UPDATED, DELETED -> new PendingEvent(next.kind, roleId, next.role, generation);
+                };
+                // Role IDs are never reused: nothing follows a delete
+                case DELETED -> this;
+            };
+        }
+    }
+
+    private final NotificationPort delegate;
+    private final Duration window;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, PendingEvent> pending = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+
+    private final Counter received;
+    private final Counter emitted;
+    private final Counter dropped;
+
+    /**
+     * Creates a compaction stage.
+     *
+     * @param delegate the port receiving the compacted events
+     * @param window how long events are held per role before being forwarded
+     * @param meterRegistry registry for the compaction metrics
+     */
+    public CompactingNotificationPort(NotificationPort delegate, Duration window, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.window = window;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("notification-compaction").daemon(true).factory());
+
+        this.received = Counter.builder("notification.compaction.received")
+                .description("Role change events received by the compaction stage")
+                .register(meterRegistry);
+        this.emitted = Counter.builder("notification.compaction.emitted")
+                .description("Compacted events forwarded downstream")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("notification.compaction.dropped")
+                .description("Create/delete pairs dropped without notification")
+                .register(meterRegistry);
+        Gauge.builder("notification.compaction.pending", pending, Map::size)
+                .description("Roles with events waiting for their window to close")
+                .register(meterRegistry);
+        Gauge.builder("notification.compaction.ratio", this, CompactingNotificationPort::compactionRatio)
+                .description("Received events per forwarded event")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRoleCreated(Role role) {
+        offer(Kind.CREATED, role.getId(), role);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRoleUpdated(Role role) {
+        offer(Kind.UPDATED, role.getId(), role);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRoleDeleted(Long roleId) {
+        offer(Kind.DELETED, roleId, null);
+    }
+
+    /**
+     * Forwarded at once: each expiry concerns different users, there is nothing to merge.
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRoleGrantsExpired(Long roleId, long[] userIds) {
+        try {
+            delegate.notifyRoleGrantsExpired(roleId, userIds);
+        } catch (Exception e) {
+            logger.warn("Failed to forward expired grants notification for role {}: {}", roleId, e.getMessage());
+        }
+    }
+
+    /**
+     * Forwards every pending event immediately.
+     */
+    public void flushAll() {
+        for (Long roleId : pending.keySet()) {
+            PendingEvent event = pending.remove(roleId);
+            if (event != null) {
+                emit(event);
+            }
+        }
+    }
+
+    /**
+     * Received events per forwarded event; 1.0 means nothing was compacted.
+     * @return the compaction ratio
+     */
+    public double compactionRatio() {
+        double out = emitted.count();
+        return out == 0 ? 1.0 : received.count() / out;
+    }
+
+    /**
+     * Flushes pending events, stops the window scheduler and closes the downstream stage.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        flushAll();
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close downstream notification stage: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void offer(Kind kind, Long roleId, Role role) {
+        received.increment();
+        PendingEvent event = new PendingEvent(kind, roleId, role, generations.incrementAndGet());
+        if (roleId == null) {
+            emit(event);
+            return;
+        }
+
+        boolean[] opened = new boolean[1];
+        pending.compute(roleId, (id, current) -> {
+            if (current == null) {
+                opened[0] = true;
+                return event;
+            }
+            PendingEvent merged = current.merge(event);
+            if (merged == null) {
+                dropped.increment();
+            }
+            return merged;
+        });
+
+        if (opened[0]) {
+            scheduler.schedule(() -> flush(roleId, event.generation()), window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(Long roleId, long generation) {
+        PendingEvent[] closed = new PendingEvent[1];
+        // Only the window this flush was scheduled for; a later window has its own flush
+        pending.computeIfPresent(roleId, (id, current) -> {
+            if (current.generation() != generation) {
+                return current;
+            }
+            closed[0] = current;
+            return null;
+        });
+        if (closed[0] != null) {
+            emit(closed[0]);
+        }
+    }
+
+    private void emit(PendingEvent event) {
+        emitted.increment();
+        try {
+            switch (event.kind()) {
+                case CREATED -> delegate.notifyRoleCreated(event.role());
+                case UPDATED -> delegate.notifyRoleUpdated(event.role());
+                case DELETED -> delegate.notifyRoleDeleted(event.roleId());
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to forward compacted notification for role {}: {}", event.roleId(), e.getMessage());
+        }
+    }
+}
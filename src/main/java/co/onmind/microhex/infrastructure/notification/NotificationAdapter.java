@@ -2,23 +2,60 @@ package co.onmind.microhex.infrastructure.notification;
 
 import co.onmind.microhex.domain.models.Role;
 import co.onmind.microhex.domain.ports.out.NotificationPort;
+import co.onmind.microhex.infrastructure.webclients.dto.NotificationRequest;
+import co.onmind.microhex.transverse.spool.SegmentedSpool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+
 /**
  * Implementation of the NotificationPort for sending notifications
  * about role operations to external systems.
  * 
- * This is a simple implementation that logs notifications.
- * In a real-world scenario, this could send messages to message queues,
- * webhooks, email services, etc.
+ * Notifications are always logged. When notification.service.enabled is set,
+ * they are also delivered to the remote notification service through the
+ * resilient client, so a slow or unavailable service is retried with backoff
+ * and then short-circuited instead of holding resources for every call.
+ * 
+ * This adapter is the terminal stage of the notification pipeline and is
+ * called from the delivery lanes, so it waits for the outcome of each
+ * delivery to keep the notifications of a role in order. Notifications that
+ * still fail after the retries are written to the dead-letter spool and
+ * redelivered later by the NotificationReplayer. The pipeline hands the
+ * notifications it cannot queue to {@link #deferred()}, which writes them
+ * to the same spool without trying the remote service first.
  */
 @Component
 public class NotificationAdapter implements NotificationPort {
     
     private static final Logger logger = LoggerFactory.getLogger(NotificationAdapter.class);
     
+    private final ResilientNotificationClient notificationClient;
+    private final SegmentedSpool notificationSpool;
+    private final boolean remoteEnabled;
+    private final NotificationPort deferred = new DeferredNotifications();
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param notificationClient The resilient client for the remote notification service
+     * @param notificationSpool The dead-letter spool for undeliverable notifications
+     * @param remoteEnabled Whether notifications are delivered to the remote service
+     */
+    public NotificationAdapter(ResilientNotificationClient notificationClient,
+                               SegmentedSpool notificationSpool,
+                               @Value("${notification.service.enabled:false}") boolean remoteEnabled) {
+        this.notificationClient = notificationClient;
+        this.notificationSpool = notificationSpool;
+        this.remoteEnabled = remoteEnabled;
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -27,12 +64,7 @@ public class NotificationAdapter implements NotificationPort {
         logger.info("NOTIFICATION: Role created - ID: {}, Name: {}, CreatedAt: {}", 
                    role.getId(), role.getName(), role.getCreatedAt());
         
-        // Here you could implement actual notification logic:
-        // - Send message to message queue (RabbitMQ, Apache Kafka, etc.)
-        // - Send webhook notification
-        // - Send email notification
-        // - Update external systems
-        // - Trigger other business processes
+        deliver(createdMessage(role));
     }
     
     /**
@@ -43,7 +75,7 @@ public class NotificationAdapter implements NotificationPort {
         logger.info("NOTIFICATION: Role updated - ID: {}, Name: {}, CreatedAt: {}", 
                    role.getId(), role.getName(), role.getCreatedAt());
         
-        // Here you could implement actual notification logic for updates
+        deliver(updatedMessage(role));
     }
     
     /**
@@ -53,6 +85,97 @@ public class NotificationAdapter implements NotificationPort {
     public void notifyRoleDeleted(Long roleId) {
         logger.info("NOTIFICATION: Role deleted - ID: {}", roleId);
         
-        // Here you could implement actual notification logic for deletions
+        deliver(deletedMessage(roleId));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRoleGrantsExpired(Long roleId, long[] userIds) {
+        logger.info("NOTIFICATION: Role grants expired - ID: {}, Users: {}", roleId, userIds.length);
+        
+        deliver(grantsExpiredMessage(roleId, userIds));
+    }
+    
+    /**
+     * Returns a port writing the notifications straight to the dead-letter
+     * spool, for the NotificationReplayer to deliver later. It is meant for
+     * pipeline stages that cannot queue a notification; it never blocks on
+     * the remote service.
+     * 
+     * @return the deferred notification port
+     */
+    public NotificationPort deferred() {
+        return deferred;
+    }
+    
+    /**
+     * Delivers the message to the remote notification service when enabled.
+     * Waits for the final outcome after retries; failures go to the spool.
+     * 
+     * @param message the notification message
+     */
+    private void deliver(String message) {
+        if (!remoteEnabled) {
+            return;
+        }
+        try {
+            ResponseEntity<String> response = notificationClient.send(new NotificationRequest(message)).join();
+            logger.debug("Notification delivered with status {}: {}", response.getStatusCode(), message);
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.warn("Notification delivery failed, spooling for replay: {} - {}", message, cause.toString());
+            notificationSpool.append(message.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+    
+    private static String createdMessage(Role role) {
+        return "Role created: ID=" + role.getId() + ", name=" + role.getName();
+    }
+    
+    private static String updatedMessage(Role role) {
+        return "Role updated: ID=" + role.getId() + ", name=" + role.getName();
+    }
+    
+    private static String deletedMessage(Long roleId) {
+        return "Role deleted: ID=" + roleId;
+    }
+    
+    private static String grantsExpiredMessage(Long roleId, long[] userIds) {
+        return "Role grants expired: ID=" + roleId + ", users=" + Arrays.toString(userIds);
+    }
+    
+    /**
+     * Notifications spooled for the replayer instead of being delivered now.
+     */
+    private final class DeferredNotifications implements NotificationPort {
+        
+        @Override
+        public void notifyRoleCreated(Role role) {
+            defer(createdMessage(role));
+        }
+        
+        @Override
+        public void notifyRoleUpdated(Role role) {
+            defer(updatedMessage(role));
+        }
+        
+        @Override
+        public void notifyRoleDeleted(Long roleId) {
+            defer(deletedMessage(roleId));
+        }
+        
+        @Override
+        public void notifyRoleGrantsExpired(Long roleId, long[] userIds) {
+            defer(grantsExpiredMessage(roleId, userIds));
+        }
+        
+        private void defer(String message) {
+            logger.info("NOTIFICATION (deferred): {}", message);
+            if (remoteEnabled) {
+                notificationSpool.append(message.getBytes(StandardCharsets.UTF_8));
+            }
+        }
     }
 }
\ No newline at end of file
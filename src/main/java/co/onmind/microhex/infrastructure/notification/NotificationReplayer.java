@@ -0,0 +1,81 @@
+package co.onmind.microhex.infrastructure.notification;
+
+import co.onmind.microhex.infrastructure.webclients.dto.NotificationRequest;
+import co.onmind.microhex.transverse.spool.SegmentedSpool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Background replayer for notifications captured in the dead-letter spool.
+ *
+ * On every tick it redelivers up to notification.spool.replay-batch records in
+ * append order, so the replay rate is bounded by batch size per interval. The
+ * tick stops at the first failure, which leaves the record in the spool until
+ * the notification service recovers (an open circuit fails fast here too).
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+public class NotificationReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationReplayer.class);
+
+    private final ResilientNotificationClient notificationClient;
+    private final SegmentedSpool notificationSpool;
+    private final boolean remoteEnabled;
+    private final int replayBatch;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param notificationClient The resilient client for the remote notification service
+     * @param notificationSpool The dead-letter spool
+     * @param remoteEnabled Whether notifications are delivered to the remote service
+     * @param replayBatch Maximum records redelivered per tick
+     */
+    public NotificationReplayer(ResilientNotificationClient notificationClient,
+                                SegmentedSpool notificationSpool,
+                                @Value("${notification.service.enabled:false}") boolean remoteEnabled,
+                                @Value("${notification.spool.replay-batch:50}") int replayBatch) {
+        this.notificationClient = notificationClient;
+        this.notificationSpool = notificationSpool;
+        this.remoteEnabled = remoteEnabled;
+        this.replayBatch = replayBatch;
+    }
+
+    /**
+     * Redelivers a batch of spooled notifications.
+     *
+     * @return the number of notifications redelivered
+     */
+    @Scheduled(fixedDelayString = "${notification.spool.replay-interval-ms:5000}")
+    public int replay() {
+        if (!remoteEnabled) {
+            return 0;
+        }
+        List<byte[]> records = notificationSpool.peek(replayBatch);
+        int delivered = 0;
+        for (byte[] record : records) {
+            String message = new String(record, StandardCharsets.UTF_8);
+            try {
+                notificationClient.send(new NotificationRequest(message)).join();
+                delivered++;
+            } catch (RuntimeException e) {
+                logger.debug("Notification service still unavailable, replay paused: {}", e.getMessage());
+                break;
+            }
+        }
+        if (delivered > 0) {
+            notificationSpool.acknowledge(delivered);
+            logger.info("Replayed {} spooled notifications, {} pending", delivered, notificationSpool.pendingCount());
+        }
+        return delivered;
+    }
+}
@@ -0,0 +1,70 @@
+package co.onmind.microhex.infrastructure.notification;
+
+import co.onmind.microhex.transverse.spool.SegmentedSpool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the notification dead-letter spool.
+ *
+ * - GET /actuator/notificationspool?limit=N - segments, pending count and the first N pending messages
+ * - DELETE /actuator/notificationspool - purges every segment
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "notificationspool")
+public class NotificationSpoolEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationSpoolEndpoint.class);
+
+    private final SegmentedSpool notificationSpool;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param notificationSpool The dead-letter spool
+     */
+    public NotificationSpoolEndpoint(SegmentedSpool notificationSpool) {
+        this.notificationSpool = notificationSpool;
+    }
+
+    /**
+     * Describes the spool.
+     *
+     * @param limit number of pending messages to include, 10 by default
+     * @return the spool summary
+     */
+    @ReadOperation
+    public Map<String, Object> spool(@Nullable Integer limit) {
+        List<String> messages = notificationSpool.peek(limit != null ? limit : 10).stream()
+                .map(record -> new String(record, StandardCharsets.UTF_8))
+                .toList();
+        return Map.of(
+                "pending", notificationSpool.pendingCount(),
+                "segments", notificationSpool.segments(),
+                "messages", messages);
+    }
+
+    /**
+     * Discards every spooled notification.
+     *
+     * @return the number of discarded notifications
+     */
+    @DeleteOperation
+    public Map<String, Object> purge() {
+        long discarded = notificationSpool.purge();
+        logger.warn("Notification spool purged, {} pending notifications discarded", discarded);
+        return Map.of("discarded", discarded);
+    }
+}
@@ -0,0 +1,201 @@
+package co.onmind.microhex.infrastructure.notification;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.NotificationPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Delivery stage that partitions notifications by role ID over a fixed set of lanes.
+ *
+ * Each lane is a single consumer thread with its own queue, so notifications
+ * for the same role are delivered one after the other in the order they were
+ * raised, while different roles are delivered in parallel across lanes.
+ * Calls only enqueue the event and return immediately.
+ *
+ * When a lane queue is full, or the stage is closing, the event is handed to
+ * the overflow port on the caller's thread instead, typically a spool that is
+ * replayed later, so it is never lost nor does it hold up the caller; it may
+ * then reach the receiver after later events of the same role.
+ *
+ * Per lane metrics:
+ * - notification.lane.depth - events waiting in the lane queue
+ * - notification.lane.wait - time an event waited behind earlier events (head-of-line blocking)
+ * - notification.lane.delivery - time spent delivering an event downstream
+ * - notification.lane.rejected - events handed to the overflow port because the lane could not take them
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class PartitionedNotificationPort implements NotificationPort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedNotificationPort.class);
+
+    private final NotificationPort delegate;
+    private final NotificationPort overflow;
+    private final ThreadPoolExecutor[] lanes;
+    private final Timer[] waitTimers;
+    private final Timer[] deliveryTimers;
+    private final Counter[] rejectedCounters;
+
+    /**
+     * Creates the partitioned delivery stage.
+     *
+     * @param delegate the port receiving the events, called from the lane threads
+     * @param overflow the port receiving the events a lane cannot take, called from the caller's thread
+     * @param laneCount the number of lanes
+     * @param laneCapacity the maximum number of queued events per lane
+     * @param meterRegistry registry for the lane metrics
+     */
+    public PartitionedNotificationPort(NotificationPort delegate, NotificationPort overflow, int laneCount,
+                                       int laneCapacity, MeterRegistry meterRegistry) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("Lane count must be at least 1");
+        }
+        this.delegate = delegate;
+        this.overflow = overflow;
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        this.waitTimers = new Timer[laneCount];
+        this.deliveryTimers = new Timer[laneCount];
+        this.rejectedCounters = new Counter[laneCount];
+
+        for (int i = 0; i < laneCount; i++) {
+            String lane = String.valueOf(i);
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(laneCapacity),
+                    Thread.ofVirtual().name("notification-lane-" + i).factory());
+
+            ThreadPoolExecutor executor = lanes[i];
+            Gauge.builder("notification.lane.depth", executor, e -> e.getQueue().size())
+                    .description("Events waiting in the notification lane")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+            waitTimers[i] = Timer.builder("notification.lane.wait")
+                    .description("Time events waited behind earlier events of the lane")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+            deliveryTimers[i] = Timer.builder("notification.lane.delivery")
+                    .description("Time spent delivering an event downstream")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+            rejectedCounters[i] = Counter.builder("notification.lane.rejected")
+                    .description("Events handed to the overflow port because the lane could not take them")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRoleCreated(Role role) {
+        submit(role.getId(), port -> port.notifyRoleCreated(role));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRoleUpdated(Role role) {
+        submit(role.getId(), port -> port.notifyRoleUpdated(role));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRoleDeleted(Long roleId) {
+        submit(roleId, port -> port.notifyRoleDeleted(roleId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyRoleGrantsExpired(Long roleId, long[] userIds) {
+        submit(roleId, port -> port.notifyRoleGrantsExpired(roleId, userIds));
+    }
+
+    /**
+     * Returns the lane that delivers the events of a role.
+     * @param roleId the role ID
+     * @return the lane index
+     */
+    public int laneOf(Long roleId) {
+        return roleId == null ? 0 : Math.floorMod(Long.hashCode(roleId), lanes.length);
+    }
+
+    /**
+     * Returns the number of events waiting in a lane.
+     * @param lane the lane index
+     * @return the queue depth
+     */
+    public int depthOf(int lane) {
+        return lanes[lane].getQueue().size();
+    }
+
+    /**
+     * Returns the number of events a lane handed to the overflow port.
+     * @param lane the lane index
+     * @return the rejected events
+     */
+    public long rejectedOf(int lane) {
+        return (long) rejectedCounters[lane].count();
+    }
+
+    /**
+     * Stops queueing events, delivers the queued ones and closes the downstream stage.
+     * Events raised meanwhile go to the overflow port.
+     */
+    @Override
+    public void close() throws Exception {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Notification lane did not drain in time, {} events dropped", lane.shutdownNow().size());
+            }
+        }
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void submit(Long roleId, Consumer<NotificationPort> notification) {
+        int lane = laneOf(roleId);
+        long enqueuedAt = System.nanoTime();
+        try {
+            lanes[lane].execute(() -> {
+                long startedAt = System.nanoTime();
+                waitTimers[lane].record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    notification.accept(delegate);
+                } catch (Exception e) {
+                    logger.warn("Failed to deliver notification for role {}: {}", roleId, e.getMessage());
+                } finally {
+                    deliveryTimers[lane].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException rejected) {
+            rejectedCounters[lane].increment();
+            logger.warn("Notification lane {} cannot take the notification for role {}, deferring it", lane, roleId);
+            try {
+                notification.accept(overflow);
+            } catch (Exception e) {
+                logger.error("Failed to defer notification for role {}, dropped: {}", roleId, e.getMessage());
+            }
+        }
+    }
+}
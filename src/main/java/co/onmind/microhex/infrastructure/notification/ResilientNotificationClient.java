@@ -0,0 +1,56 @@
+package co.onmind.microhex.infrastructure.notification;
+
+import co.onmind.microhex.infrastructure.webclients.dto.NotificationRequest;
+import co.onmind.microhex.transverse.WebClientGeneric;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Resilient client for the remote notification service.
+ *
+ * Wraps the asynchronous web client with the "notification" Resilience4j
+ * instances configured in application.yml. Calls are applied in the order
+ * retry → circuit breaker → bulkhead, so each retry attempt is checked against
+ * the circuit state and the concurrency limit, and an open circuit or a full
+ * bulkhead fails fast without waiting for the remote timeout.
+ *
+ * The state of each instance is available through the actuator endpoints
+ * (/actuator/circuitbreakers, /actuator/retries, /actuator/bulkheads).
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+public class ResilientNotificationClient {
+
+    static final String INSTANCE = "notification";
+
+    private final WebClientGeneric webClient;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param webClient The asynchronous web client for the notification service
+     */
+    public ResilientNotificationClient(WebClientGeneric webClient) {
+        this.webClient = webClient;
+    }
+
+    /**
+     * Sends a notification to the remote notification service.
+     *
+     * @param request The notification to send
+     * @return future completed with the remote response or the final failure
+     */
+    @Retry(name = INSTANCE)
+    @CircuitBreaker(name = INSTANCE)
+    @Bulkhead(name = INSTANCE)
+    public CompletableFuture<ResponseEntity<String>> send(NotificationRequest request) {
+        return webClient.postAsync("/api/notify", request);
+    }
+}
@@ -0,0 +1,371 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.persistence.catalog.ColumnarRoleCatalog;
+import co.onmind.microhex.transverse.events.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only RoleRepositoryPort answering from a compact columnar copy of the roles.
+ *
+ * The copy is a {@link ColumnarRoleCatalog} built from the source repository,
+ * a fraction of the heap the same roles take as Role objects, plus the roles
+ * changed since it was built. The role events are applied to those changes
+ * as they arrive: a created or renamed role is kept as a Role, a deleted one
+ * as a tombstone, and queries read the columns through them, so the copy is
+ * current as soon as an event is applied and a query never waits for the
+ * source.
+ *
+ * Once the changes outgrow an eighth of the columns (checked every refresh
+ * interval), a thread of its own compacts them: it rebuilds the columns from
+ * the source, reading it in pages of ids straight into the columns so the
+ * roles are never all held as Role objects at once, then swaps them in with
+ * the changes made meanwhile. Queries keep reading the previous copy until
+ * then. The events up to the one last applied when a rebuild starts were
+ * published after their commit, so the new columns have their changes.
+ *
+ * The version of the copy is the sequence of the last event applied.
+ *
+ * Writes are not supported: they go through the source repository.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class ColumnarRoleCatalogAdapter implements RoleRepositoryPort, EventHandler<RoleEvent>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarRoleCatalogAdapter.class);
+
+    private static final int REBUILD_PAGE_SIZE = 1_000;
+
+    private static final int MIN_CHANGES_BEFORE_COMPACTION = 1024;
+
+    /**
+     * Change of a role applied after the columns were built; a null role is a deletion.
+     */
+    private record Change(Role role, long sequence) {
+    }
+
+    /**
+     * Columns built from the source, with the changes applied since and the
+     * ids of the changed roles by name.
+     */
+    private record View(ColumnarRoleCatalog columns, ConcurrentSkipListMap<Long, Change> changes,
+                        ConcurrentHashMap<String, Long> changedNames) {
+    }
+
+    private final RoleRepositoryPort source;
+    private final Object changeMonitor = new Object();
+    private final Object compactMonitor = new Object();
+    private final ScheduledExecutorService compactor;
+
+    private volatile View view;
+    private volatile long version = -1;
+
+    /**
+     * Creates the adapter, builds the first copy and starts the compaction thread.
+     *
+     * @param source the repository the copy is built from
+     * @param refreshInterval how often the changes are checked for compaction
+     */
+    public ColumnarRoleCatalogAdapter(RoleRepositoryPort source, Duration refreshInterval) {
+        this.source = source;
+        this.view = new View(build(0), new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>());
+        this.compactor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("columnar-role-catalog").daemon(true).factory());
+        long intervalNanos = Math.max(1, refreshInterval.toNanos());
+        compactor.scheduleWithFixedDelay(this::compactIfNeeded, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Applies a role event to the changes of the copy.
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(RoleEvent event, long sequence, boolean endOfBatch) {
+        synchronized (changeMonitor) {
+            View current = view;
+            switch (event.getType()) {
+                case ROLE_CREATED, ROLE_UPDATED -> put(current, event.getRole(), sequence);
+                case ROLE_DELETED -> delete(current, event.getRoleId(), sequence);
+            }
+            version = sequence;
+        }
+    }
+
+    /**
+     * Returns the event sequence the copy reflects.
+     * @return the last event sequence applied to the copy, -1 if none
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Rebuilds the columns from the source now, for bulk changes made without
+     * events such as a snapshot import. Run while role writes are quiet: the
+     * changes of events applied during the rebuild are kept over the columns.
+     */
+    public void rebuild() {
+        compact();
+    }
+
+    /**
+     * Stops the compaction thread.
+     */
+    @Override
+    public void close() {
+        compactor.shutdownNow();
+    }
+
+    /**
+     * Not supported: the catalog is read-only.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Role save(Role role) {
+        throw new UnsupportedOperationException("The columnar role catalog is read-only");
+    }
+
+    /**
+     * Not supported: the catalog is read-only.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean deleteById(Long id) {
+        throw new UnsupportedOperationException("The columnar role catalog is read-only");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        View current = view;
+        Change change = current.changes().get(id);
+        return change != null ? Optional.ofNullable(change.role()) : current.columns().findById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or blank");
+        }
+        return find(view, name.trim());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findAll() {
+        View current = view;
+        NavigableMap<Long, Change> changes = new TreeMap<>(current.changes());
+        return merge(current.columns().findAll(), changes, changedRoles(changes, null), Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findAllAfter(long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        View current = view;
+        NavigableMap<Long, Change> changes = new TreeMap<>(current.changes().tailMap(afterId, false));
+        // Each change hides at most one row of the columns
+        int rows = (int) Math.min(Integer.MAX_VALUE, (long) limit + changes.size());
+        return merge(current.columns().findAfter(afterId, rows), changes, changedRoles(changes, null), limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findByNameContaining(String pattern) {
+        if (pattern == null || pattern.trim().isEmpty()) {
+            throw new IllegalArgumentException("Pattern cannot be null or blank");
+        }
+        String trimmed = pattern.trim();
+        View current = view;
+        NavigableMap<Long, Change> changes = new TreeMap<>(current.changes());
+        return merge(current.columns().findByNameContaining(trimmed), changes,
+                changedRoles(changes, trimmed.toLowerCase(Locale.ROOT)), Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or blank");
+        }
+        return find(view, name.trim()).isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long count() {
+        View current = view;
+        long count = current.columns().size();
+        for (Map.Entry<Long, Change> entry : current.changes().entrySet()) {
+            boolean inColumns = current.columns().containsId(entry.getKey());
+            if (entry.getValue().role() == null) {
+                count -= inColumns ? 1 : 0;
+            } else {
+                count += inColumns ? 0 : 1;
+            }
+        }
+        return count;
+    }
+
+    private static Optional<Role> find(View current, String name) {
+        Long id = current.changedNames().get(name);
+        if (id != null) {
+            Change change = current.changes().get(id);
+            if (change != null && change.role() != null && change.role().getName().equals(name)) {
+                return Optional.of(change.role());
+            }
+        }
+        // A row of the columns is only current if its role has not changed since
+        return current.columns().findByName(name).filter(role -> !current.changes().containsKey(role.getId()));
+    }
+
+    private static NavigableMap<Long, Role> changedRoles(NavigableMap<Long, Change> changes, String searchKey) {
+        NavigableMap<Long, Role> roles = new TreeMap<>();
+        changes.forEach((id, change) -> {
+            Role role = change.role();
+            if (role != null && (searchKey == null || role.getName().toLowerCase(Locale.ROOT).contains(searchKey))) {
+                roles.put(id, role);
+            }
+        });
+        return roles;
+    }
+
+    private static List<Role> merge(List<Role> rows, NavigableMap<Long, Change> changes,
+                                    NavigableMap<Long, Role> changedRoles, int limit) {
+        // Both lists are ordered by id; rows of changed roles are replaced by their change
+        List<Role> roles = new ArrayList<>((int) Math.min(limit, (long) rows.size() + changedRoles.size()));
+        Iterator<Role> changed = changedRoles.values().iterator();
+        Role next = changed.hasNext() ? changed.next() : null;
+        for (Role row : rows) {
+            while (next != null && next.getId() <= row.getId() && roles.size() < limit) {
+                roles.add(next);
+                next = changed.hasNext() ? changed.next() : null;
+            }
+            if (roles.size() == limit) {
+                return roles;
+            }
+            if (!changes.containsKey(row.getId())) {
+                roles.add(row);
+            }
+        }
+        while (next != null && roles.size() < limit) {
+            roles.add(next);
+            next = changed.hasNext() ? changed.next() : null;
+        }
+        return roles;
+    }
+
+    private static void put(View current, Role role, long sequence) {
+        Change previous = current.changes().put(role.getId(), new Change(role, sequence));
+        if (previous != null && previous.role() != null && !previous.role().getName().equals(role.getName())) {
+            current.changedNames().remove(previous.role().getName(), role.getId());
+        }
+        current.changedNames().put(role.getName(), role.getId());
+    }
+
+    private static void delete(View current, Long id, long sequence) {
+        Change previous = current.changes().put(id, new Change(null, sequence));
+        if (previous != null && previous.role() != null) {
+            current.changedNames().remove(previous.role().getName(), id);
+        }
+    }
+
+    private void compactIfNeeded() {
+        View current = view;
+        int limit = Math.max(MIN_CHANGES_BEFORE_COMPACTION, current.columns().size() / 8);
+        if (current.changes().size() < limit) {
+            return;
+        }
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            // Queries keep reading through the changes; try again on the next interval
+            logger.warn("Cannot compact the columnar role catalog, keeping the current one: {}", e.getMessage());
+        }
+    }
+
+    private void compact() {
+        // One rebuild at a time: a later one must not be replaced by an earlier one
+        synchronized (compactMonitor) {
+            compactNow();
+        }
+    }
+
+    private void compactNow() {
+        long started = System.nanoTime();
+        // The source has the changes of every event applied so far
+        long sequence = version;
+        ColumnarRoleCatalog columns = build(view.columns().size());
+        synchronized (changeMonitor) {
+            ConcurrentSkipListMap<Long, Change> changes = new ConcurrentSkipListMap<>();
+            ConcurrentHashMap<String, Long> changedNames = new ConcurrentHashMap<>();
+            view.changes().forEach((id, change) -> {
+                // Changes made while the columns were read are kept; the columns may have them already
+                if (change.sequence() > sequence) {
+                    changes.put(id, change);
+                    if (change.role() != null) {
+                        changedNames.put(change.role().getName(), id);
+                    }
+                }
+            });
+            view = new View(columns, changes, changedNames);
+        }
+        logger.debug("Columnar role catalog compacted to {} roles ({} KB) in {} ms", columns.size(),
+                columns.footprintBytes() / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private ColumnarRoleCatalog build(int expectedRoles) {
+        ColumnarRoleCatalog.Builder builder = ColumnarRoleCatalog.builder(expectedRoles);
+        long afterId = 0;
+        List<Role> page;
+        do {
+            page = source.findAllAfter(afterId, REBUILD_PAGE_SIZE);
+            for (Role role : page) {
+                builder.add(role);
+            }
+            if (!page.isEmpty()) {
+                afterId = page.getLast().getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        return builder.build();
+    }
+}
@@ -0,0 +1,337 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.configuration.PersistenceConfiguration;
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleEventLog;
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleLogEvent;
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleProjection;
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleSnapshot;
+import co.onmind.microhex.infrastructure.persistence.eventsourcing.RoleSnapshotStore;
+import co.onmind.microhex.transverse.spool.SegmentedSpool.FsyncPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Event-sourced implementation of the RoleRepositoryPort.
+ *
+ * Enabled with persistence.mode=event-sourced. Every change is appended to a
+ * segmented event log as RoleCreated, RoleRenamed or RoleDeleted and then
+ * applied to an in-memory projection that answers the queries. Nothing is
+ * ever updated in place.
+ *
+ * On startup the projection is rebuilt from the latest snapshot plus the
+ * events appended after it. A snapshot is taken every
+ * persistence.event-sourced.snapshot-every events on a background thread and
+ * on shutdown; the log segments it covers are then removed.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository(PersistenceConfiguration.ROLE_PERSISTENCE_ADAPTER)
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "event-sourced")
+public class EventSourcedRoleRepositoryAdapter implements RoleRepositoryPort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSourcedRoleRepositoryAdapter.class);
+
+    private static final String SNAPSHOT_FILE = "roles.snapshot";
+
+    private final RoleEventLog eventLog;
+    private final RoleSnapshotStore snapshotStore;
+    private final RoleProjection projection = new RoleProjection();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService snapshotExecutor;
+    private final int snapshotEvery;
+
+    private int eventsSinceSnapshot;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param directory Directory holding the event log segments and the snapshot
+     * @param segmentSize Size at which a new log segment is started
+     * @param snapshotEvery Number of events between snapshots
+     * @param fsyncPolicy When appended events are forced to disk
+     * @param fsyncInterval Force interval for the INTERVAL policy
+     */
+    public EventSourcedRoleRepositoryAdapter(
+            @Value("${persistence.event-sourced.directory:./data/role-events}") Path directory,
+            @Value("${persistence.event-sourced.segment-size:67108864}") long segmentSize,
+            @Value("${persistence.event-sourced.snapshot-every:100000}") int snapshotEvery,
+            @Value("${persistence.event-sourced.fsync-policy:ALWAYS}") FsyncPolicy fsyncPolicy,
+            @Value("${persistence.event-sourced.fsync-interval:1s}") Duration fsyncInterval) {
+        this.eventLog = new RoleEventLog(directory, segmentSize, fsyncPolicy, fsyncInterval);
+        this.snapshotStore = new RoleSnapshotStore(directory.resolve(SNAPSHOT_FILE));
+        this.snapshotEvery = snapshotEvery;
+        this.snapshotExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("role-snapshot").daemon(true).factory());
+        rebuild();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Role save(Role role) {
+        if (role == null) {
+            throw new IllegalArgumentException("Role cannot be null");
+        }
+
+        lock.writeLock().lock();
+        try {
+            Role stored = role.getId() != null ? projection.findById(role.getId()) : null;
+            Role holder = projection.findByName(role.getName());
+            if (holder != null && !holder.getId().equals(role.getId())) {
+                throw new DataIntegrityViolationException("Role with name '" + role.getName() + "' already exists");
+            }
+
+            long sequence = projection.lastSequence() + 1;
+            RoleLogEvent event;
+            if (stored == null) {
+                long id = role.getId() != null ? role.getId() : projection.allocateId();
+                event = new RoleLogEvent.RoleCreated(sequence, id, role.getName(), role.getCreatedAt());
+            } else if (stored.getName().equals(role.getName())) {
+                return stored;
+            } else {
+                event = new RoleLogEvent.RoleRenamed(sequence, stored.getId(), role.getName());
+            }
+
+            append(event);
+            return projection.findById(event.roleId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the sequence of the last event appended to the log.
+     * @return the last event sequence, 0 if the log is empty
+     */
+    public long lastSequence() {
+        lock.readLock().lock();
+        try {
+            return projection.lastSequence();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(projection.findById(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or blank");
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(projection.findByName(name.trim()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findAll() {
+        lock.readLock().lock();
+        try {
+            return projection.sortedRoles();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findAllAfter(long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        lock.readLock().lock();
+        try {
+            return projection.rolesAfter(afterId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findByNameContaining(String pattern) {
+        if (pattern == null || pattern.trim().isEmpty()) {
+            throw new IllegalArgumentException("Pattern cannot be null or blank");
+        }
+
+        String trimmed = pattern.trim();
+        List<Role> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Role role : projection.roles()) {
+                if (containsIgnoreCase(role.getName(), trimmed)) {
+                    matches.add(role);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByName(String name) {
+        return findByName(name).isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean deleteById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (projection.findById(id) == null) {
+                return false;
+            }
+            append(new RoleLogEvent.RoleDeleted(projection.lastSequence() + 1, id));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long count() {
+        lock.readLock().lock();
+        try {
+            return (long) projection.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Takes a final snapshot and closes the event log.
+     */
+    @Override
+    public void close() {
+        snapshotExecutor.shutdown();
+        try {
+            snapshotExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.writeLock().lock();
+        try {
+            if (eventsSinceSnapshot > 0) {
+                writeSnapshot(projection.snapshot(eventLog.position()));
+            }
+            eventLog.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void append(RoleLogEvent event) {
+        // Write-ahead: the event is in the log before it becomes visible to readers
+        eventLog.append(event);
+        projection.apply(event);
+
+        if (++eventsSinceSnapshot >= snapshotEvery) {
+            eventsSinceSnapshot = 0;
+            // Roles are immutable, so the copy is consistent while writes continue
+            RoleSnapshot snapshot = projection.snapshot(eventLog.position());
+            snapshotExecutor.execute(() -> writeSnapshot(snapshot));
+        }
+    }
+
+    private void writeSnapshot(RoleSnapshot snapshot) {
+        try {
+            snapshotStore.write(snapshot);
+            int pruned = eventLog.pruneBefore(snapshot.position().segmentId());
+            logger.debug("Role snapshot at sequence {} written, {} log segments pruned",
+                    snapshot.sequence(), pruned);
+        } catch (RuntimeException e) {
+            logger.error("Cannot write role snapshot at sequence {}: {}", snapshot.sequence(), e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        Optional<RoleSnapshot> snapshot = snapshotStore.read();
+        RoleEventLog.LogPosition start = eventLog.start();
+        if (snapshot.isPresent()) {
+            projection.restore(snapshot.get());
+            start = snapshot.get().position();
+        } else if (start.segmentId() > 0) {
+            throw new IllegalStateException(
+                    "Role event log has been pruned but no valid snapshot was found; cannot rebuild the roles");
+        }
+        long replayed = eventLog.replay(start, projection::apply);
+        eventsSinceSnapshot = (int) Math.min(replayed, Integer.MAX_VALUE);
+        logger.info("Rebuilt {} roles from {} and {} log events in {} ms",
+                projection.size(), snapshot.isPresent() ? "snapshot" : "no snapshot", replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private static boolean containsIgnoreCase(String value, String pattern) {
+        int max = value.length() - pattern.length();
+        for (int i = 0; i <= max; i++) {
+            if (value.regionMatches(true, i, pattern, 0, pattern.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
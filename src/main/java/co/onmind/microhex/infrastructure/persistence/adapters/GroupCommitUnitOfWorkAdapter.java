@@ -0,0 +1,267 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Group commit implementation of the UnitOfWorkPort.
+ *
+ * Units of work (whole domain commands: their lookups and their writes) are
+ * queued by the calling threads and run by a single writer thread. The writer
+ * takes up to maxBatchSize units, waiting at most the linger time for more to
+ * arrive, and runs them one after the other in one transaction, so a burst of
+ * commands pays for one commit instead of one each. Every caller blocks until
+ * the transaction holding its unit has committed and gets back its own result,
+ * so the side effects it applies after execute returns still follow the commit.
+ *
+ * Each unit runs under a savepoint of the batch transaction. A unit rejected
+ * by a domain rule (an unknown role, a name already taken) rolls back to its
+ * savepoint and its caller gets the error, while the rest of the batch still
+ * commits together; the domain checks run before a unit writes, so nothing
+ * of it is left in the persistence context either. Any other failure (a
+ * constraint violation, a lost connection) rolls back the whole transaction,
+ * and the units of that batch are run again one per transaction, so each
+ * caller gets its own result or its own error and the others are not
+ * affected. A unit must therefore only change state through the transaction.
+ *
+ * A unit started by a caller that already runs a transaction joins it on the
+ * caller's thread.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class GroupCommitUnitOfWorkAdapter implements UnitOfWorkPort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitUnitOfWorkAdapter.class);
+
+    /**
+     * Unit of work waiting for the writer thread.
+     */
+    private record Command(Supplier<?> work, CompletableFuture<Object> result) {}
+
+    private static final String DOMAIN_EXCEPTIONS = RoleNotFoundException.class.getPackageName();
+
+    private final TransactionOperations transactionOperations;
+    private final DataSource dataSource;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    // Unbounded: every queued unit has a caller blocked on it, so the
+    // queue never holds more units than there are calling threads
+    private final BlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final DistributionSummary batchSize;
+    private final Counter commits;
+    private final Counter fallbacks;
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates the unit of work and starts its writer thread.
+     *
+     * @param transactionOperations runs each batch in one transaction
+     * @param dataSource data source of the transaction connection, which holds the savepoints
+     * @param maxBatchSize maximum number of units per transaction
+     * @param linger how long the writer waits for more units before committing
+     * @param meterRegistry registry for the group commit metrics
+     */
+    public GroupCommitUnitOfWorkAdapter(TransactionOperations transactionOperations,
+                                        DataSource dataSource,
+                                        int maxBatchSize,
+                                        Duration linger,
+                                        MeterRegistry meterRegistry) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        this.transactionOperations = transactionOperations;
+        this.dataSource = dataSource;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.batchSize = DistributionSummary.builder("unit-of-work.group-commit.batch.size")
+                .description("Units of work committed per transaction")
+                .register(meterRegistry);
+        this.commits = Counter.builder("unit-of-work.group-commit.commits")
+                .description("Transactions committed by the unit of work writer")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("unit-of-work.group-commit.fallbacks")
+                .description("Batches rolled back and run again one unit per transaction")
+                .register(meterRegistry);
+        this.writer = Thread.ofPlatform().name("unit-of-work-writer").daemon(true).start(this::drain);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Nested unit: the surrounding transaction decides when it commits
+            return work.get();
+        }
+        if (!running) {
+            throw new IllegalStateException("Unit of work writer is closed");
+        }
+        Command command = new Command(work, new CompletableFuture<>());
+        queue.add(command);
+        try {
+            return (T) command.result().join();
+        } catch (CompletionException e) {
+            // Rethrow the unit's own failure
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops accepting units and commits the queued ones before returning.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join();
+    }
+
+    private void drain() {
+        List<Command> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                linger(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                logger.warn("Unit of work writer interrupted, {} units still queued", batch.size() + queue.size());
+                batch.forEach(command -> command.result().completeExceptionally(
+                        new IllegalStateException("Unit of work writer was interrupted")));
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException | Error e) {
+                // Never leave a caller blocked on a unit the writer has dropped
+                batch.forEach(command -> command.result().completeExceptionally(e));
+                logger.error("Unit of work writer failed to commit a batch", e);
+            } finally {
+                batch.clear();
+            }
+        }
+        for (Command command; (command = queue.poll()) != null; ) {
+            command.result().completeExceptionally(new IllegalStateException("Unit of work writer is closed"));
+        }
+    }
+
+    private void linger(List<Command> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Command next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    private void commit(List<Command> batch) {
+        Object[] results = new Object[batch.size()];
+        RuntimeException[] rejections = new RuntimeException[batch.size()];
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                try {
+                    runUnits(batch, results, rejections);
+                } catch (SQLException e) {
+                    throw new TransactionSystemException("Cannot use a savepoint of the batch transaction", e);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // One unit rolled the batch back: run each on its own so
+            // only the failing unit reports an error
+            fallbacks.increment();
+            for (Command command : batch) {
+                commitAlone(command);
+            }
+            return;
+        }
+        commits.increment();
+        batchSize.record(results.length);
+        for (int i = 0; i < results.length; i++) {
+            if (rejections[i] != null) {
+                batch.get(i).result().completeExceptionally(rejections[i]);
+            } else {
+                batch.get(i).result().complete(results[i]);
+            }
+        }
+    }
+
+    private void runUnits(List<Command> batch, Object[] results, RuntimeException[] rejections) throws SQLException {
+        // The connection bound to the batch transaction
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            for (int i = 0; i < results.length; i++) {
+                Savepoint savepoint = connection.setSavepoint();
+                try {
+                    results[i] = batch.get(i).work().get();
+                } catch (RuntimeException e) {
+                    if (!isDomainRejection(e)) {
+                        throw e;
+                    }
+                    connection.rollback(savepoint);
+                    rejections[i] = e;
+                }
+                connection.releaseSavepoint(savepoint);
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static boolean isDomainRejection(RuntimeException e) {
+        return DOMAIN_EXCEPTIONS.equals(e.getClass().getPackageName());
+    }
+
+    private void commitAlone(Command command) {
+        try {
+            Object result = transactionOperations.execute(status -> command.work().get());
+            commits.increment();
+            batchSize.record(1);
+            command.result().complete(result);
+        } catch (RuntimeException e) {
+            command.result().completeExceptionally(e);
+        }
+    }
+}
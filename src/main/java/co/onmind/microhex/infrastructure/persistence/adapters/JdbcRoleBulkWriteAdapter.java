@@ -0,0 +1,137 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.exceptions.RoleAlreadyExistsException;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleBulkWritePort;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleHistoryEntity;
+import co.onmind.microhex.transverse.concurrency.MaintenanceLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC implementation of the RoleBulkWritePort (persistence.mode=jpa).
+ * 
+ * A chunk of new roles costs one query for the names already taken and three
+ * JDBC batches, the roles, their role_changes entries and their first
+ * role_history versions, in the current transaction, instead of entities
+ * and flushes per role through the JPA adapter. Chunks wait while a
+ * maintenance operation such as a snapshot import holds the role tables.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+@Transactional
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class JdbcRoleBulkWriteAdapter implements RoleBulkWritePort {
+    
+    private static final String INSERT_ROLE = "INSERT INTO roles (name, created_at) VALUES (?, ?)";
+    private static final String INSERT_CHANGE = "INSERT INTO role_changes (role_id, changed_at) VALUES (?, CURRENT_TIMESTAMP)";
+    private static final String INSERT_VERSION =
+            "INSERT INTO role_history (role_id, name, created_at, valid_from, valid_to) VALUES (?, ?, ?, ?, ?)";
+    private static final OffsetDateTime OPEN = RoleHistoryEntity.OPEN.atOffset(ZoneOffset.UTC);
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final MaintenanceLock maintenanceLock;
+    private final Clock clock;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param dataSource The data source holding the roles table
+     * @param roleTableMaintenance Lock held by the maintenance operations on the role tables
+     * @param clock The clock giving the start of the first role versions
+     */
+    public JdbcRoleBulkWriteAdapter(DataSource dataSource, MaintenanceLock roleTableMaintenance, Clock clock) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.maintenanceLock = roleTableMaintenance;
+        this.clock = clock;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> insertNew(List<Role> roles) {
+        if (roles.isEmpty()) {
+            return List.of();
+        }
+        return maintenanceLock.withShared(() -> insertFresh(roles));
+    }
+    
+    private List<Role> insertFresh(List<Role> roles) {
+        Set<String> taken = new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT name FROM roles WHERE name IN (:names)",
+                Map.of("names", roles.stream().map(Role::getName).toList()),
+                String.class));
+        List<Role> fresh = new ArrayList<>(roles.size());
+        for (Role role : roles) {
+            if (!taken.contains(role.getName())) {
+                fresh.add(role);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return List.of();
+        }
+        
+        KeyHolder keys = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_ROLE, new String[] {"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement insert, int i) throws SQLException {
+                            insert.setString(1, fresh.get(i).getName());
+                            insert.setObject(2, fresh.get(i).getCreatedAt());
+                        }
+                        
+                        @Override
+                        public int getBatchSize() {
+                            return fresh.size();
+                        }
+                    }, keys);
+        } catch (DuplicateKeyException e) {
+            throw new RoleAlreadyExistsException("A role name of the chunk was created concurrently", e);
+        }
+        
+        List<Role> inserted = new ArrayList<>(fresh.size());
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        for (int i = 0; i < fresh.size(); i++) {
+            Role role = fresh.get(i);
+            // The key column is labelled ID or id depending on the database
+            long id = ((Number) keyList.get(i).values().iterator().next()).longValue();
+            inserted.add(new Role(id, role.getRoleName(), role.getCreatedAt()));
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, inserted, inserted.size(),
+                (change, role) -> change.setLong(1, role.getId()));
+        OffsetDateTime now = OffsetDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_VERSION, inserted, inserted.size(), (version, role) -> {
+            version.setLong(1, role.getId());
+            version.setString(2, role.getName());
+            version.setObject(3, role.getCreatedAt());
+            version.setObject(4, now);
+            version.setObject(5, OPEN);
+        });
+        return inserted;
+    }
+}
@@ -0,0 +1,53 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import co.onmind.microhex.transverse.concurrency.MaintenanceLock;
+
+import java.util.function.Supplier;
+
+/**
+ * UnitOfWorkPort running each unit of work under the shared side of the
+ * role table maintenance lock.
+ * 
+ * Commands wait while a maintenance operation such as a snapshot import
+ * holds the lock, instead of writing to the tables it is replacing. Closing
+ * the adapter closes the delegate, so a group commit writer still commits
+ * its queued commands on shutdown.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class MaintenanceAwareUnitOfWorkAdapter implements UnitOfWorkPort, AutoCloseable {
+    
+    private final UnitOfWorkPort delegate;
+    private final MaintenanceLock maintenanceLock;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param delegate Runs the units of work
+     * @param maintenanceLock Lock held by the maintenance operations on the role tables
+     */
+    public MaintenanceAwareUnitOfWorkAdapter(UnitOfWorkPort delegate, MaintenanceLock maintenanceLock) {
+        this.delegate = delegate;
+        this.maintenanceLock = maintenanceLock;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        return maintenanceLock.withShared(() -> delegate.execute(work));
+    }
+    
+    /**
+     * Closes the delegate, if it holds resources.
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
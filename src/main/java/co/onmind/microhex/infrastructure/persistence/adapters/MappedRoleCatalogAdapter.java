@@ -0,0 +1,208 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.persistence.catalog.MappedRoleCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-only RoleRepositoryPort answering from a memory-mapped role catalog file.
+ *
+ * The catalog is published by the process that owns the role writes (see
+ * catalog.snapshot.publish); any number of processes on the host map the same
+ * file and query it in place, so the roles cost no heap and nothing is loaded
+ * on startup. At most once per refresh interval a query checks whether a new
+ * catalog has been moved over the file and maps it; until then the previous
+ * mapping keeps answering. Before the first catalog is published the adapter
+ * answers as an empty repository.
+ *
+ * Writes are not supported: they belong to the publishing process.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class MappedRoleCatalogAdapter implements RoleRepositoryPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedRoleCatalogAdapter.class);
+
+    /**
+     * Mapped catalog together with the identity of the file it was mapped from.
+     */
+    private record Mapping(MappedRoleCatalog catalog, Object fileKey, long modified) {}
+
+    private static final Mapping NONE = new Mapping(null, null, Long.MIN_VALUE);
+
+    private final Path file;
+    private final long refreshNanos;
+    private final AtomicLong nextCheck = new AtomicLong();
+
+    private volatile Mapping mapping = NONE;
+
+    /**
+     * Creates the adapter and maps the current catalog, if any.
+     *
+     * @param file the catalog file
+     * @param refreshInterval how often queries look for a newly published catalog
+     */
+    public MappedRoleCatalogAdapter(Path file, Duration refreshInterval) {
+        this.file = file;
+        this.refreshNanos = refreshInterval.toNanos();
+        refresh();
+        nextCheck.set(System.nanoTime() + refreshNanos);
+        MappedRoleCatalog catalog = mapping.catalog();
+        if (catalog != null) {
+            logger.info("Mapped role catalog {} with {} roles at sequence {}", file, catalog.size(), catalog.sequence());
+        } else {
+            logger.info("No role catalog at {} yet, answering as empty until one is published", file);
+        }
+    }
+
+    /**
+     * Returns the event sequence of the mapped catalog.
+     * @return the sequence, or -1 if no catalog has been mapped
+     */
+    public long sequence() {
+        MappedRoleCatalog catalog = catalog();
+        return catalog != null ? catalog.sequence() : -1;
+    }
+
+    /**
+     * Not supported: the catalog is read-only.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Role save(Role role) {
+        throw new UnsupportedOperationException("The mapped role catalog is read-only");
+    }
+
+    /**
+     * Not supported: the catalog is read-only.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean deleteById(Long id) {
+        throw new UnsupportedOperationException("The mapped role catalog is read-only");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        MappedRoleCatalog catalog = catalog();
+        return catalog != null ? catalog.findById(id) : Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or blank");
+        }
+        MappedRoleCatalog catalog = catalog();
+        return catalog != null ? catalog.findByName(name.trim()) : Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findAll() {
+        MappedRoleCatalog catalog = catalog();
+        return catalog != null ? catalog.findAll() : List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findAllAfter(long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        MappedRoleCatalog catalog = catalog();
+        return catalog != null ? catalog.findAfter(afterId, limit) : List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findByNameContaining(String pattern) {
+        if (pattern == null || pattern.trim().isEmpty()) {
+            throw new IllegalArgumentException("Pattern cannot be null or blank");
+        }
+        MappedRoleCatalog catalog = catalog();
+        return catalog != null ? catalog.findByNameContaining(pattern.trim()) : List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or blank");
+        }
+        MappedRoleCatalog catalog = catalog();
+        return catalog != null && catalog.containsName(name.trim());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long count() {
+        MappedRoleCatalog catalog = catalog();
+        return catalog != null ? (long) catalog.size() : 0L;
+    }
+
+    private MappedRoleCatalog catalog() {
+        long now = System.nanoTime();
+        long next = nextCheck.get();
+        // One caller per interval looks at the file; the others keep the current mapping
+        if (now - next >= 0 && nextCheck.compareAndSet(next, now + refreshNanos)) {
+            refresh();
+        }
+        return mapping.catalog();
+    }
+
+    private void refresh() {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            logger.warn("Cannot check role catalog {}: {}", file, e.getMessage());
+            return;
+        }
+        Mapping current = mapping;
+        long modified = attributes.lastModifiedTime().toMillis();
+        if (current.catalog() != null && Objects.equals(current.fileKey(), attributes.fileKey())
+                && current.modified() == modified) {
+            return;
+        }
+        MappedRoleCatalog.open(file).ifPresent(catalog -> {
+            mapping = new Mapping(catalog, attributes.fileKey(), modified);
+            logger.debug("Mapped role catalog at sequence {} ({} roles)", catalog.sequence(), catalog.size());
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.ports.out.MembershipRepositoryPort;
+import co.onmind.microhex.infrastructure.persistence.entities.MembershipEntity;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaMembershipRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA implementation of the MembershipRepositoryPort.
+ * 
+ * Assignments are rows of the user_roles join table. The full scan used to
+ * load the membership index reads the table in keyset pages of projected
+ * rows, each page in its own short transaction, so loading tens of millions
+ * of assignments never fills a persistence context.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+@Transactional
+public class MembershipRepositoryAdapter implements MembershipRepositoryPort {
+    
+    private static final int SCAN_PAGE_SIZE = 10_000;
+    
+    private final JpaMembershipRepository jpaRepository;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param jpaRepository The JPA repository for the user_roles table
+     */
+    public MembershipRepositoryAdapter(JpaMembershipRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean save(long userId, long roleId, Instant expiresAt) {
+        Optional<MembershipEntity> existing = jpaRepository.findByUserIdAndRoleId(userId, roleId);
+        if (existing.isPresent()) {
+            // Managed entity: flushed on commit only if the expiry changed
+            existing.get().setExpiresAt(expiresAt);
+            return false;
+        }
+        jpaRepository.save(new MembershipEntity(userId, roleId, expiresAt));
+        return true;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean delete(long userId, long roleId) {
+        return jpaRepository.deleteAssignment(userId, roleId) > 0;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean deleteExpired(long userId, long roleId, Instant now) {
+        return jpaRepository.deleteExpired(userId, roleId, now) > 0;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long deleteByRoleId(long roleId) {
+        return jpaRepository.deleteByRole(roleId);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEach(AssignmentVisitor visitor) {
+        long lastId = 0;
+        List<JpaMembershipRepository.AssignmentRow> page;
+        do {
+            page = jpaRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(SCAN_PAGE_SIZE));
+            for (JpaMembershipRepository.AssignmentRow row : page) {
+                visitor.visit(row.getUserId(), row.getRoleId());
+                lastId = row.getId();
+            }
+        } while (page.size() == SCAN_PAGE_SIZE);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachExpiring(GrantVisitor visitor) {
+        long lastId = 0;
+        List<JpaMembershipRepository.GrantRow> page;
+        do {
+            page = jpaRepository.findByExpiresAtIsNotNullAndIdGreaterThanOrderByIdAsc(lastId, Limit.of(SCAN_PAGE_SIZE));
+            for (JpaMembershipRepository.GrantRow row : page) {
+                visitor.visit(row.getUserId(), row.getRoleId(), row.getExpiresAt());
+                lastId = row.getId();
+            }
+        } while (page.size() == SCAN_PAGE_SIZE);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long count() {
+        return jpaRepository.count();
+    }
+}
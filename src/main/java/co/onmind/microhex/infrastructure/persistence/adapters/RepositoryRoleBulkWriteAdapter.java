@@ -0,0 +1,48 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleBulkWritePort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RoleBulkWritePort of the event-sourced mode: appending to the event log is
+ * already sequential, so the roles are saved one by one through the role
+ * repository, skipping the names already taken.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "event-sourced")
+public class RepositoryRoleBulkWriteAdapter implements RoleBulkWritePort {
+    
+    private final RoleRepositoryPort roleRepositoryPort;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param roleRepositoryPort The role repository
+     */
+    public RepositoryRoleBulkWriteAdapter(RoleRepositoryPort roleRepositoryPort) {
+        this.roleRepositoryPort = roleRepositoryPort;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> insertNew(List<Role> roles) {
+        List<Role> inserted = new ArrayList<>(roles.size());
+        for (Role role : roles) {
+            if (!roleRepositoryPort.existsByName(role.getName())) {
+                inserted.add(roleRepositoryPort.save(role));
+            }
+        }
+        return inserted;
+    }
+}
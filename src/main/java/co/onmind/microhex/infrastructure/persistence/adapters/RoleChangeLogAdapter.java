@@ -0,0 +1,88 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.ports.out.RoleChangeLogPort;
+import co.onmind.microhex.infrastructure.persistence.entities.DatabaseIdentityEntity;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaDatabaseIdentityRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleChangeRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPA implementation of the RoleChangeLogPort over the role_changes table,
+ * which the JPA role adapter writes on every save and delete.
+ * 
+ * Versions are generated IDs: the log reaches back to a version as long as
+ * the change right after it has not been pruned. Rolled back changes leave
+ * gaps, which at worst make a copy reload in full. The database identity is
+ * the row of database_identity, inserted the first time it is asked for.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class RoleChangeLogAdapter implements RoleChangeLogPort {
+    
+    private final JpaRoleChangeRepository changeRepository;
+    private final JpaDatabaseIdentityRepository identityRepository;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param changeRepository The JPA repository of the role changes
+     * @param identityRepository The JPA repository of the database identity
+     */
+    public RoleChangeLogAdapter(JpaRoleChangeRepository changeRepository,
+                                JpaDatabaseIdentityRepository identityRepository) {
+        this.changeRepository = changeRepository;
+        this.identityRepository = identityRepository;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public UUID databaseId() {
+        return identityRepository.findById(DatabaseIdentityEntity.SINGLE_ROW)
+                .orElseGet(() -> identityRepository.saveAndFlush(new DatabaseIdentityEntity(UUID.randomUUID())))
+                .getDatabaseId();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long currentVersion() {
+        return changeRepository.findLatestVersion();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Set<Long>> rolesChangedSince(long version) {
+        Long oldest = changeRepository.findOldestVersion();
+        if (oldest != null && oldest > version + 1) {
+            return Optional.empty();
+        }
+        return Optional.of(new LinkedHashSet<>(changeRepository.findRoleIdsChangedAfter(version)));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public int prune(Instant before) {
+        return changeRepository.deleteOlderThan(before, changeRepository.findLatestVersion());
+    }
+}
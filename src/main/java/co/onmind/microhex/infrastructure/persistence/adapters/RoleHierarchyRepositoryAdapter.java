@@ -0,0 +1,72 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.ports.out.RoleHierarchyRepositoryPort;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleInheritanceEntity;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleInheritanceRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JPA implementation of the RoleHierarchyRepositoryPort.
+ * 
+ * Direct relations are rows of the role_inheritance table. A hierarchy holds
+ * at most one relation per pair of roles, so the full scan used to load the
+ * hierarchy index reads projected rows in a single query.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+@Transactional
+public class RoleHierarchyRepositoryAdapter implements RoleHierarchyRepositoryPort {
+    
+    private final JpaRoleInheritanceRepository jpaRepository;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param jpaRepository The JPA repository for the role_inheritance table
+     */
+    public RoleHierarchyRepositoryAdapter(JpaRoleInheritanceRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean save(long roleId, long parentId) {
+        if (jpaRepository.existsByRoleIdAndParentId(roleId, parentId)) {
+            return false;
+        }
+        jpaRepository.save(new RoleInheritanceEntity(roleId, parentId));
+        return true;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean delete(long roleId, long parentId) {
+        return jpaRepository.deleteEdge(roleId, parentId) > 0;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long deleteByRoleId(long roleId) {
+        return jpaRepository.deleteByRole(roleId);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(EdgeVisitor visitor) {
+        for (JpaRoleInheritanceRepository.EdgeRow row : jpaRepository.findAllEdges()) {
+            visitor.visit(row.getRoleId(), row.getParentId());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.ports.out.RolePermissionRepositoryPort;
+import co.onmind.microhex.infrastructure.persistence.entities.PermissionEntity;
+import co.onmind.microhex.infrastructure.persistence.entities.RolePermissionsEntity;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaPermissionRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRolePermissionsRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JPA implementation of the RolePermissionRepositoryPort.
+ * 
+ * The permissions of a role are stored as a single bitmap row in the
+ * role_permissions side table, over the permission dictionary (permissions
+ * table) whose IDs are the bit numbers. The dictionary is cached in memory
+ * and only grows.
+ * 
+ * New dictionary entries are committed in their own transaction, so a bit
+ * number cached here is never rolled back with the caller's transaction.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+@Transactional
+public class RolePermissionRepositoryAdapter implements RolePermissionRepositoryPort {
+    
+    private final JpaPermissionRepository permissionRepository;
+    private final JpaRolePermissionsRepository rolePermissionsRepository;
+    private final TransactionTemplate dictionaryTransaction;
+    private final Map<String, Integer> bitsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesByBit = new ConcurrentHashMap<>();
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param permissionRepository The JPA repository for the permission dictionary
+     * @param rolePermissionsRepository The JPA repository for the role bitmaps
+     * @param transactionManager Transaction manager used to commit new dictionary entries
+     */
+    public RolePermissionRepositoryAdapter(JpaPermissionRepository permissionRepository,
+                                           JpaRolePermissionsRepository rolePermissionsRepository,
+                                           PlatformTransactionManager transactionManager) {
+        this.permissionRepository = permissionRepository;
+        this.rolePermissionsRepository = rolePermissionsRepository;
+        this.dictionaryTransaction = new TransactionTemplate(transactionManager);
+        this.dictionaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findByRoleId(Long roleId) {
+        if (roleId == null) {
+            throw new IllegalArgumentException("Role ID cannot be null");
+        }
+        return rolePermissionsRepository.findById(roleId)
+                .map(entity -> decode(entity.getBitmap()))
+                .orElse(Collections.emptySet());
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Set<String>> findAll() {
+        Map<Long, Set<String>> permissions = new HashMap<>();
+        for (RolePermissionsEntity entity : rolePermissionsRepository.findAll()) {
+            permissions.put(entity.getRoleId(), decode(entity.getBitmap()));
+        }
+        return permissions;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(Long roleId, Set<String> permissions) {
+        if (roleId == null) {
+            throw new IllegalArgumentException("Role ID cannot be null");
+        }
+        if (permissions.isEmpty()) {
+            rolePermissionsRepository.deleteById(roleId);
+            return;
+        }
+        BitSet bits = new BitSet();
+        for (String permission : permissions) {
+            bits.set(intern(permission));
+        }
+        rolePermissionsRepository.save(new RolePermissionsEntity(roleId, bits.toByteArray()));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteByRoleId(Long roleId) {
+        if (roleId == null) {
+            throw new IllegalArgumentException("Role ID cannot be null");
+        }
+        rolePermissionsRepository.deleteById(roleId);
+    }
+    
+    private Set<String> decode(byte[] bitmap) {
+        BitSet bits = BitSet.valueOf(bitmap);
+        Set<String> permissions = new TreeSet<>();
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+            permissions.add(nameOf(bit));
+        }
+        return permissions;
+    }
+    
+    private String nameOf(int bit) {
+        String name = namesByBit.get(bit);
+        if (name == null) {
+            // Written by another instance since the cache was filled
+            for (PermissionEntity entity : permissionRepository.findAll()) {
+                cache(entity.getName(), entity.getId());
+            }
+            name = namesByBit.get(bit);
+            if (name == null) {
+                throw new IllegalStateException("Unknown permission bit " + bit);
+            }
+        }
+        return name;
+    }
+    
+    private int intern(String permission) {
+        Integer bit = bitsByName.get(permission);
+        if (bit != null) {
+            return bit;
+        }
+        synchronized (bitsByName) {
+            bit = bitsByName.get(permission);
+            if (bit == null) {
+                bit = findOrInsert(permission);
+                cache(permission, bit);
+            }
+            return bit;
+        }
+    }
+    
+    private int findOrInsert(String permission) {
+        try {
+            return dictionaryTransaction.execute(status -> permissionRepository.findByName(permission)
+                    .orElseGet(() -> permissionRepository.saveAndFlush(new PermissionEntity(permission)))
+                    .getId());
+        } catch (DataIntegrityViolationException e) {
+            // Inserted concurrently by another instance: read its row in a fresh transaction
+            return dictionaryTransaction.execute(status -> permissionRepository.findByName(permission)
+                    .orElseThrow(() -> e)
+                    .getId());
+        }
+    }
+    
+    private void cache(String permission, int bit) {
+        bitsByName.put(permission, bit);
+        namesByBit.put(bit, permission);
+    }
+}
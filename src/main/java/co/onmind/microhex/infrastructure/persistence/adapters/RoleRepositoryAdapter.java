@@ -1,18 +1,29 @@
 package co.onmind.microhex.infrastructure.persistence.adapters;
 
 import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleName;
+import co.onmind.microhex.domain.ports.out.RoleHistoryPort;
 import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.configuration.PersistenceConfiguration;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleChangeEntity;
 import co.onmind.microhex.infrastructure.persistence.entities.RoleEntity;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleHistoryEntity;
 import co.onmind.microhex.infrastructure.persistence.mappers.RoleEntityMapper;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleChangeRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleHistoryRepository;
 import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 /**
- * JPA implementation of the RoleRepositoryPort.
+ * JPA implementation of the RoleRepositoryPort and the RoleHistoryPort.
  * 
  * This adapter implements the output port for role persistence using JPA.
  * It acts as a bridge between the hexagonal architecture's port interface
@@ -21,26 +32,49 @@ import java.util.Optional;
  * 
  * The class is annotated with @Repository to be managed by Spring and
  * uses @Transactional to ensure proper transaction management.
+ * It is the default persistence mode (persistence.mode=jpa).
+ * 
+ * Every save and delete is also recorded in the role change log, in the
+ * same transaction (see RoleChangeLogAdapter).
+ * 
+ * Every save also adds a version of the role to role_history and ends the
+ * previous one; a delete ends the last one. Lookups as of a time
+ * (RoleHistoryPort) read the versions valid then; no other persistence mode
+ * keeps them. Updates and deletes lock the role row first, so
+ * concurrent changes of the same role end each other's versions in turn and
+ * the role never has two open versions.
  * 
  * @author OnMind (Cesar Andres Arcila Buitrago)
  * @version 1.0.0
  */
-@Repository
+@Repository(PersistenceConfiguration.ROLE_PERSISTENCE_ADAPTER)
 @Transactional
-public class RoleRepositoryAdapter implements RoleRepositoryPort {
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class RoleRepositoryAdapter implements RoleRepositoryPort, RoleHistoryPort {
     
     private final JpaRoleRepository jpaRepository;
+    private final JpaRoleChangeRepository changeRepository;
+    private final JpaRoleHistoryRepository historyRepository;
     private final RoleEntityMapper entityMapper;
+    private final Clock clock;
     
     /**
      * Constructor for dependency injection.
      * 
      * @param jpaRepository The JPA repository for database operations
+     * @param changeRepository The JPA repository of the role change log
+     * @param historyRepository The JPA repository of the role versions
      * @param entityMapper The mapper for converting between domain and entity objects
+     * @param clock The clock giving the start and end of the role versions
      */
-    public RoleRepositoryAdapter(JpaRoleRepository jpaRepository, RoleEntityMapper entityMapper) {
+    public RoleRepositoryAdapter(JpaRoleRepository jpaRepository, JpaRoleChangeRepository changeRepository,
+                                 JpaRoleHistoryRepository historyRepository, RoleEntityMapper entityMapper,
+                                 Clock clock) {
         this.jpaRepository = jpaRepository;
+        this.changeRepository = changeRepository;
+        this.historyRepository = historyRepository;
         this.entityMapper = entityMapper;
+        this.clock = clock;
     }
     
     /**
@@ -57,11 +91,18 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
             // Creating new role - don't set ID to let database generate it
             entity = entityMapper.toNewEntity(role);
         } else {
-            // Updating existing role
+            // Updating existing role - a concurrent save of the same role waits until this one commits
+            jpaRepository.findForUpdateById(role.getId());
             entity = entityMapper.toEntity(role);
         }
         
         RoleEntity savedEntity = jpaRepository.save(entity);
+        changeRepository.save(new RoleChangeEntity(savedEntity.getId()));
+        Instant now = clock.instant();
+        if (role.getId() != null) {
+            historyRepository.closeVersion(savedEntity.getId(), now, RoleHistoryEntity.OPEN);
+        }
+        historyRepository.save(new RoleHistoryEntity(savedEntity, now));
         return entityMapper.toDomain(savedEntity);
     }
     
@@ -89,6 +130,20 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
         return entityMapper.toDomainList(entities);
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Role> findAllAfter(long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        
+        List<RoleEntity> entities = jpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        return entityMapper.toDomainList(entities);
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -139,8 +194,10 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
             throw new IllegalArgumentException("ID cannot be null");
         }
         
-        if (jpaRepository.existsById(id)) {
+        if (jpaRepository.findForUpdateById(id).isPresent()) {
             jpaRepository.deleteById(id);
+            changeRepository.save(new RoleChangeEntity(id));
+            historyRepository.closeVersion(id, clock.instant(), RoleHistoryEntity.OPEN);
             return true;
         }
         return false;
@@ -155,6 +212,34 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
         return jpaRepository.count();
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Role> findByIdAsOf(Long id, Instant asOf) {
+        if (id == null || asOf == null) {
+            throw new IllegalArgumentException("ID and time cannot be null");
+        }
+        
+        return historyRepository.findVersionAsOf(id, asOf).map(RoleRepositoryAdapter::toDomain);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Role> findAllAsOf(Instant asOf) {
+        if (asOf == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        
+        return historyRepository.findVersionsAsOf(asOf).stream()
+                .map(RoleRepositoryAdapter::toDomain)
+                .toList();
+    }
+    
     /**
      * Additional method to check if a role exists by name (case-insensitive).
      * This method extends the port interface with infrastructure-specific functionality.
@@ -185,4 +270,8 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
         return jpaRepository.findByNameIgnoreCase(name.trim())
                 .map(entityMapper::toDomain);
     }
-}
\ No newline at end of file
+    
+    private static Role toDomain(RoleHistoryEntity version) {
+        return new Role(version.getRoleId(), RoleName.ofNormalized(version.getName()), version.getCreatedAt());
+    }
+}
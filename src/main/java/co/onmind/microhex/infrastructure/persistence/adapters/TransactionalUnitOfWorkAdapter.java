@@ -0,0 +1,39 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.function.Supplier;
+
+/**
+ * Spring implementation of the UnitOfWorkPort.
+ * 
+ * This adapter runs the work through a TransactionOperations, normally a
+ * TransactionTemplate over the JPA transaction manager. The repository
+ * adapter joins that transaction instead of opening one per call, so a
+ * command takes one connection and commits once.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class TransactionalUnitOfWorkAdapter implements UnitOfWorkPort {
+    
+    private final TransactionOperations transactionOperations;
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param transactionOperations Runs each unit of work in a transaction
+     */
+    public TransactionalUnitOfWorkAdapter(TransactionOperations transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        return transactionOperations.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,511 @@
+package co.onmind.microhex.infrastructure.persistence.catalog;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleName;
+import co.onmind.microhex.transverse.search.SubstringScanner;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, column-oriented role catalog for very large role counts.
+ *
+ * Instead of one Role object per role (with its Long, String, LocalDateTime,
+ * LocalDate and LocalTime, each with an object header) the catalog keeps
+ * parallel primitive arrays sorted by id:
+ * - ids, searched by binary search
+ * - creation times as epoch milliseconds (UTC); sub-millisecond precision is dropped
+ * - name offsets into one arena holding the names as Latin-1 bytes back to back
+ * - an open-addressed hash table of row numbers for lookups by name
+ *
+ * A role costs about 28 bytes plus one byte per name character. Roles are
+ * only materialized when a query returns them. Names with characters outside
+ * Latin-1 are rare; they are kept as Strings in a side table.
+ *
+ * Searches by part of the name scan the arena with a {@link SubstringScanner}
+ * when no name has lower-case letters, as with normalized names, and the
+ * pattern is ASCII; otherwise each name is compared ignoring case.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public final class ColumnarRoleCatalog {
+
+    private static final SubstringScanner SCANNER = SubstringScanner.create();
+
+    private final long[] ids;
+    private final long[] createdAtMillis;
+    private final int[] nameOffsets;
+    private final byte[] names;
+    private final Map<Integer, String> wideNames;
+    private final int[] table;
+    private final boolean upperCaseNames;
+
+    private ColumnarRoleCatalog(long[] ids, long[] createdAtMillis, int[] nameOffsets, byte[] names,
+                                Map<Integer, String> wideNames, int[] table) {
+        this.ids = ids;
+        this.createdAtMillis = createdAtMillis;
+        this.nameOffsets = nameOffsets;
+        this.names = names;
+        this.wideNames = wideNames;
+        this.table = table;
+        this.upperCaseNames = isUpperCase(names);
+    }
+
+    /**
+     * Builds a catalog of the given roles.
+     *
+     * @param roles the roles, with distinct ids and names
+     * @return the catalog
+     */
+    public static ColumnarRoleCatalog of(Collection<Role> roles) {
+        Builder builder = builder(roles.size());
+        for (Role role : roles) {
+            builder.add(role);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a builder sized for the expected number of roles.
+     *
+     * @param expectedRoles the expected number of roles
+     * @return the builder
+     */
+    public static Builder builder(int expectedRoles) {
+        return new Builder(expectedRoles);
+    }
+
+    /**
+     * Returns the number of roles in the catalog.
+     * @return the role count
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the heap taken by the columns and the name table, without the
+     * side table of non Latin-1 names.
+     * @return the size of the catalog arrays in bytes
+     */
+    public long footprintBytes() {
+        return (long) ids.length * Long.BYTES + (long) createdAtMillis.length * Long.BYTES
+                + (long) nameOffsets.length * Integer.BYTES + names.length + (long) table.length * Integer.BYTES;
+    }
+
+    /**
+     * Finds a role by id.
+     *
+     * @param id the role id
+     * @return the role, or empty if the catalog has none with that id
+     */
+    public Optional<Role> findById(long id) {
+        int row = Arrays.binarySearch(ids, id);
+        return row >= 0 ? Optional.of(role(row)) : Optional.empty();
+    }
+
+    /**
+     * Returns whether the catalog has a role with the given id.
+     *
+     * @param id the role id
+     * @return true if a role has that id
+     */
+    public boolean containsId(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * Finds a role by its exact name.
+     *
+     * @param name the normalized role name
+     * @return the role, or empty if the catalog has none with that name
+     */
+    public Optional<Role> findByName(String name) {
+        int row = rowOf(name);
+        return row >= 0 ? Optional.of(role(row)) : Optional.empty();
+    }
+
+    /**
+     * Returns whether the catalog has a role with the given name.
+     *
+     * @param name the normalized role name
+     * @return true if a role has that name
+     */
+    public boolean containsName(String name) {
+        return rowOf(name) >= 0;
+    }
+
+    /**
+     * Returns every role, ordered by id.
+     * @return the roles
+     */
+    public List<Role> findAll() {
+        List<Role> roles = new ArrayList<>(ids.length);
+        for (int row = 0; row < ids.length; row++) {
+            roles.add(role(row));
+        }
+        return roles;
+    }
+
+    /**
+     * Returns the roles after an id, ordered by id.
+     *
+     * @param afterId the id of the last role already read
+     * @param limit the maximum number of roles returned
+     * @return at most limit roles with a greater id
+     */
+    public List<Role> findAfter(long afterId, int limit) {
+        int row = Arrays.binarySearch(ids, afterId);
+        int from = row >= 0 ? row + 1 : -row - 1;
+        int to = (int) Math.min(ids.length, (long) from + limit);
+        List<Role> roles = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            roles.add(role(i));
+        }
+        return roles;
+    }
+
+    /**
+     * Returns the roles whose name contains the pattern, ignoring case, ordered by id.
+     *
+     * @param pattern the text to look for
+     * @return the matching roles
+     */
+    public List<Role> findByNameContaining(String pattern) {
+        if (upperCaseNames && !pattern.isEmpty() && isAscii(pattern)) {
+            return scanNames(pattern);
+        }
+        List<Role> matches = new ArrayList<>();
+        for (int row = 0; row < ids.length; row++) {
+            String name = name(row);
+            if (containsIgnoreCase(name, pattern)) {
+                matches.add(role(row, name));
+            }
+        }
+        return matches;
+    }
+
+    private List<Role> scanNames(String pattern) {
+        // Without lower-case letters in the arena, an ASCII pattern matches
+        // ignoring case exactly where its upper-case form matches
+        int[] rows = SCANNER.scan(names, nameOffsets, ids.length,
+                pattern.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII));
+        int[] wideRows = wideNames.keySet().stream()
+                .filter(row -> containsIgnoreCase(wideNames.get(row), pattern))
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+        List<Role> matches = new ArrayList<>(rows.length + wideRows.length);
+        // Wide names have no bytes in the arena, so both lists are disjoint
+        int i = 0;
+        int j = 0;
+        while (i < rows.length || j < wideRows.length) {
+            if (j == wideRows.length || (i < rows.length && rows[i] < wideRows[j])) {
+                matches.add(role(rows[i++]));
+            } else {
+                matches.add(role(wideRows[j++]));
+            }
+        }
+        return matches;
+    }
+
+    private int rowOf(String name) {
+        int mask = table.length - 1;
+        int slot = spread(name.hashCode()) & mask;
+        while (true) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (nameEquals(entry - 1, name)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean nameEquals(int row, String name) {
+        int offset = nameOffsets[row];
+        int length = nameOffsets[row + 1] - offset;
+        if (length == 0) {
+            return name.equals(wideNames.get(row));
+        }
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if ((names[offset + i] & 0xff) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Role role(int row) {
+        return role(row, name(row));
+    }
+
+    private Role role(int row, String name) {
+        return new Role(ids[row], RoleName.ofNormalized(name), toDateTime(createdAtMillis[row]));
+    }
+
+    private String name(int row) {
+        int offset = nameOffsets[row];
+        int length = nameOffsets[row + 1] - offset;
+        return length == 0 ? wideNames.get(row) : new String(names, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1000 + dateTime.getNano() / 1_000_000;
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private static int spread(int hash) {
+        return (hash ^ (hash >>> 16)) * 0x9E3779B9;
+    }
+
+    private static boolean isUpperCase(byte[] names) {
+        for (byte b : names) {
+            int c = b & 0xff;
+            if (Character.toUpperCase(c) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsIgnoreCase(String value, String pattern) {
+        int max = value.length() - pattern.length();
+        for (int i = 0; i <= max; i++) {
+            if (value.regionMatches(true, i, pattern, 0, pattern.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accumulates the columns of a catalog, in any id order, without
+     * creating Role objects.
+     */
+    public static final class Builder {
+
+        private long[] ids;
+        private long[] createdAtMillis;
+        private int[] nameOffsets;
+        private byte[] names;
+        private final Map<Integer, String> wideNames = new HashMap<>();
+        private int size;
+        private int nameLength;
+        private boolean sorted = true;
+
+        private Builder(int expectedRoles) {
+            int capacity = Math.max(16, expectedRoles);
+            this.ids = new long[capacity];
+            this.createdAtMillis = new long[capacity];
+            this.nameOffsets = new int[capacity + 1];
+            this.names = new byte[(int) Math.min(capacity * 16L, Integer.MAX_VALUE - 8)];
+        }
+
+        /**
+         * Adds the columns of a role.
+         *
+         * @param role the role
+         * @return this builder
+         */
+        public Builder add(Role role) {
+            return add(role.getId(), toMillis(role.getCreatedAt()), role.getName());
+        }
+
+        /**
+         * Adds a role.
+         *
+         * @param id the role id
+         * @param createdAt the creation time in epoch milliseconds (UTC)
+         * @param name the normalized role name
+         * @return this builder
+         */
+        public Builder add(long id, long createdAt, String name) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                createdAtMillis = Arrays.copyOf(createdAtMillis, capacity);
+                nameOffsets = Arrays.copyOf(nameOffsets, capacity + 1);
+            }
+            if (size > 0 && id <= ids[size - 1]) {
+                sorted = false;
+            }
+            ids[size] = id;
+            createdAtMillis[size] = createdAt;
+            if (isLatin1(name)) {
+                ensureNameCapacity(name.length());
+                for (int i = 0; i < name.length(); i++) {
+                    names[nameLength++] = (byte) name.charAt(i);
+                }
+            } else {
+                wideNames.put(size, name);
+            }
+            size++;
+            nameOffsets[size] = nameLength;
+            return this;
+        }
+
+        /**
+         * Builds the catalog; the columns are trimmed to size and sorted by id.
+         * @return the catalog
+         */
+        public ColumnarRoleCatalog build() {
+            long[] builtIds;
+            long[] builtCreatedAt;
+            int[] builtOffsets;
+            byte[] builtNames;
+            Map<Integer, String> builtWideNames;
+            if (sorted) {
+                // Columns filled to capacity are kept as they are
+                builtIds = ids.length == size ? ids : Arrays.copyOf(ids, size);
+                builtCreatedAt = createdAtMillis.length == size ? createdAtMillis : Arrays.copyOf(createdAtMillis, size);
+                builtOffsets = nameOffsets.length == size + 1 ? nameOffsets : Arrays.copyOf(nameOffsets, size + 1);
+                builtNames = names.length == nameLength ? names : Arrays.copyOf(names, nameLength);
+                builtWideNames = Map.copyOf(wideNames);
+            } else {
+                int[] order = new int[size];
+                for (int i = 0; i < size; i++) {
+                    order[i] = i;
+                }
+                sortById(order, 0, size - 1);
+                builtIds = new long[size];
+                builtCreatedAt = new long[size];
+                builtOffsets = new int[size + 1];
+                builtNames = new byte[nameLength];
+                Map<Integer, String> reordered = new HashMap<>();
+                int offset = 0;
+                for (int row = 0; row < size; row++) {
+                    int source = order[row];
+                    builtIds[row] = ids[source];
+                    builtCreatedAt[row] = createdAtMillis[source];
+                    int length = nameOffsets[source + 1] - nameOffsets[source];
+                    System.arraycopy(names, nameOffsets[source], builtNames, offset, length);
+                    offset += length;
+                    builtOffsets[row + 1] = offset;
+                    String wide = wideNames.get(source);
+                    if (wide != null) {
+                        reordered.put(row, wide);
+                    }
+                }
+                builtWideNames = Map.copyOf(reordered);
+            }
+            return new ColumnarRoleCatalog(builtIds, builtCreatedAt, builtOffsets, builtNames, builtWideNames,
+                    nameTable(builtOffsets, builtNames, builtWideNames, size));
+        }
+
+        private void ensureNameCapacity(int extra) {
+            if (nameLength + extra > names.length) {
+                long capacity = Math.max((long) names.length + (names.length >> 1), (long) nameLength + extra);
+                if (capacity > Integer.MAX_VALUE - 8) {
+                    throw new IllegalArgumentException("Role names exceed the capacity of the name arena");
+                }
+                names = Arrays.copyOf(names, (int) capacity);
+            }
+        }
+
+        private void sortById(int[] order, int low, int high) {
+            // Quicksort of the row order by id; insertion sort for short ranges
+            while (high - low > 16) {
+                long pivot = ids[order[(low + high) >>> 1]];
+                int i = low;
+                int j = high;
+                while (i <= j) {
+                    while (ids[order[i]] < pivot) {
+                        i++;
+                    }
+                    while (ids[order[j]] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        int swap = order[i];
+                        order[i++] = order[j];
+                        order[j--] = swap;
+                    }
+                }
+                // Recurse into the smaller side to bound the stack depth
+                if (j - low < high - i) {
+                    sortById(order, low, j);
+                    low = i;
+                } else {
+                    sortById(order, i, high);
+                    high = j;
+                }
+            }
+            for (int i = low + 1; i <= high; i++) {
+                int row = order[i];
+                int j = i - 1;
+                while (j >= low && ids[order[j]] > ids[row]) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = row;
+            }
+        }
+
+        private static int[] nameTable(int[] offsets, byte[] names, Map<Integer, String> wideNames, int size) {
+            // Load factor of at most one half keeps probe sequences short
+            int[] table = new int[Math.max(2, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1)];
+            int mask = table.length - 1;
+            for (int row = 0; row < size; row++) {
+                int hash;
+                String wide = wideNames.get(row);
+                if (wide != null) {
+                    hash = wide.hashCode();
+                } else {
+                    // Same value as String.hashCode() of the Latin-1 name, without creating it
+                    hash = 0;
+                    for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                        hash = 31 * hash + (names[i] & 0xff);
+                    }
+                }
+                int slot = spread(hash) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = row + 1;
+            }
+            return table;
+        }
+
+        private static boolean isLatin1(String name) {
+            if (name.isEmpty()) {
+                // An empty arena entry marks a wide name
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                if (name.charAt(i) > 0xff) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
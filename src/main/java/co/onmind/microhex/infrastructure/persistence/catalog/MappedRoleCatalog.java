@@ -0,0 +1,394 @@
+package co.onmind.microhex.infrastructure.persistence.catalog;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only view of a role catalog file, memory-mapped and queried in place.
+ *
+ * The file is a compact binary image of the catalog, little-endian:
+ * - header: magic, format version, the event sequence it reflects, role count,
+ *   hash table size, name blob length and a CRC32 of everything after the header
+ * - id index: one fixed-width record per role sorted by id (id, creation time,
+ *   name offset, name length and name hash), searched by binary search
+ * - name table: open-addressed hash table of record numbers, linear probing
+ * - name blob: the UTF-8 names back to back
+ *
+ * Nothing is decoded when the file is opened: lookups read the mapping, so
+ * every process mapping the same file shares one copy in the page cache.
+ * A catalog is written to a temporary file and moved over the previous one
+ * atomically; processes holding the old mapping keep reading the old file
+ * until they open the new one.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public final class MappedRoleCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedRoleCatalog.class);
+
+    private static final int MAGIC = 0x52434154; // "RCAT"
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_BYTES = 32;
+
+    // Header fields
+    private static final int SEQUENCE = 8;
+    private static final int COUNT = 16;
+    private static final int TABLE_SIZE = 20;
+    private static final int BLOB_LENGTH = 24;
+    private static final int CHECKSUM = 28;
+
+    // Record fields
+    private static final int ID = 0;
+    private static final int EPOCH_SECOND = 8;
+    private static final int NANO = 16;
+    private static final int NAME_OFFSET = 20;
+    private static final int NAME_LENGTH = 24;
+    private static final int NAME_HASH = 28;
+
+    private final ByteBuffer buffer;
+    private final long sequence;
+    private final int count;
+    private final int mask;
+    private final int tableOffset;
+    private final int blobOffset;
+
+    private MappedRoleCatalog(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.sequence = buffer.getLong(SEQUENCE);
+        this.count = buffer.getInt(COUNT);
+        this.mask = buffer.getInt(TABLE_SIZE) - 1;
+        this.tableOffset = HEADER_BYTES + count * RECORD_BYTES;
+        this.blobOffset = tableOffset + (mask + 1) * Integer.BYTES;
+    }
+
+    /**
+     * Writes a catalog of the given roles and publishes it in place of the previous one.
+     *
+     * @param file the catalog file
+     * @param sequence the event sequence the roles reflect
+     * @param roles the roles, with distinct ids and names
+     * @throws IllegalArgumentException if the catalog would not fit in one mapping
+     */
+    public static void write(Path file, long sequence, Collection<Role> roles) {
+        Role[] sorted = roles.toArray(Role[]::new);
+        Arrays.sort(sorted, Comparator.comparingLong(Role::getId));
+        byte[][] names = new byte[sorted.length][];
+        long blobLength = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            names[i] = sorted[i].getName().getBytes(StandardCharsets.UTF_8);
+            blobLength += names[i].length;
+        }
+        int tableSize = tableSize(sorted.length);
+        long length = HEADER_BYTES + (long) sorted.length * RECORD_BYTES + (long) tableSize * Integer.BYTES + blobLength;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Role catalog of " + sorted.length + " roles is too large to map");
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            out.order(ByteOrder.LITTLE_ENDIAN);
+            int tableOffset = HEADER_BYTES + sorted.length * RECORD_BYTES;
+            int blobOffset = tableOffset + tableSize * Integer.BYTES;
+            int nameOffset = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                Role role = sorted[i];
+                int record = HEADER_BYTES + i * RECORD_BYTES;
+                int hash = role.getName().hashCode();
+                out.putLong(record + ID, role.getId());
+                out.putLong(record + EPOCH_SECOND, role.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                out.putInt(record + NANO, role.getCreatedAt().getNano());
+                out.putInt(record + NAME_OFFSET, nameOffset);
+                out.putInt(record + NAME_LENGTH, names[i].length);
+                out.putInt(record + NAME_HASH, hash);
+                out.put(blobOffset + nameOffset, names[i]);
+                nameOffset += names[i].length;
+
+                int slot = spread(hash) & (tableSize - 1);
+                while (out.getInt(tableOffset + slot * Integer.BYTES) != 0) {
+                    slot = (slot + 1) & (tableSize - 1);
+                }
+                out.putInt(tableOffset + slot * Integer.BYTES, i + 1);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(out.slice(HEADER_BYTES, (int) length - HEADER_BYTES));
+            out.putInt(0, MAGIC);
+            out.putInt(4, VERSION);
+            out.putLong(SEQUENCE, sequence);
+            out.putInt(COUNT, sorted.length);
+            out.putInt(TABLE_SIZE, tableSize);
+            out.putInt(BLOB_LENGTH, (int) blobLength);
+            out.putInt(CHECKSUM, (int) crc.getValue());
+            out.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write role catalog " + temp, e);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot publish role catalog " + file, e);
+        }
+    }
+
+    /**
+     * Maps a catalog file. The header and the checksum are verified; the
+     * content is not decoded.
+     *
+     * @param file the catalog file
+     * @return the catalog, or empty if there is none or it is not valid
+     */
+    public static Optional<MappedRoleCatalog> open(Path file) {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES || length > Integer.MAX_VALUE) {
+                logger.warn("Role catalog {} has an invalid length {}, ignoring it", file, length);
+                return Optional.empty();
+            }
+            // The mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                logger.warn("Role catalog {} has an unknown format, ignoring it", file);
+                return Optional.empty();
+            }
+            int count = buffer.getInt(COUNT);
+            int tableSize = buffer.getInt(TABLE_SIZE);
+            long expected = HEADER_BYTES + (long) count * RECORD_BYTES + (long) tableSize * Integer.BYTES
+                    + buffer.getInt(BLOB_LENGTH);
+            if (count < 0 || tableSize != tableSize(count) || expected != length) {
+                logger.warn("Role catalog {} has an inconsistent header, ignoring it", file);
+                return Optional.empty();
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(HEADER_BYTES, (int) length - HEADER_BYTES));
+            if ((int) crc.getValue() != buffer.getInt(CHECKSUM)) {
+                logger.warn("Role catalog {} has a bad checksum, ignoring it", file);
+                return Optional.empty();
+            }
+            return Optional.of(new MappedRoleCatalog(buffer));
+        } catch (IOException e) {
+            logger.warn("Cannot map role catalog {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the event sequence the catalog reflects.
+     * @return the sequence written with the catalog
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the number of roles in the catalog.
+     * @return the role count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Finds a role by id with a binary search of the id index.
+     *
+     * @param id the role id
+     * @return the role, or empty if the catalog has none with that id
+     */
+    public Optional<Role> findById(long id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long candidate = buffer.getLong(record(middle) + ID);
+            if (candidate < id) {
+                low = middle + 1;
+            } else if (candidate > id) {
+                high = middle - 1;
+            } else {
+                return Optional.of(role(middle));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the roles after an id, ordered by id.
+     *
+     * @param afterId the id of the last role already read
+     * @param limit the maximum number of roles returned
+     * @return at most limit roles with a greater id
+     */
+    public List<Role> findAfter(long afterId, int limit) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (buffer.getLong(record(middle) + ID) <= afterId) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int end = (int) Math.min(count, (long) low + limit);
+        List<Role> roles = new ArrayList<>(end - low);
+        for (int i = low; i < end; i++) {
+            roles.add(role(i));
+        }
+        return roles;
+    }
+
+    /**
+     * Finds a role by its exact name through the name table.
+     *
+     * @param name the normalized role name
+     * @return the role, or empty if the catalog has none with that name
+     */
+    public Optional<Role> findByName(String name) {
+        int index = indexOf(name);
+        return index >= 0 ? Optional.of(role(index)) : Optional.empty();
+    }
+
+    /**
+     * Returns whether the catalog has a role with the given name.
+     *
+     * @param name the normalized role name
+     * @return true if a role has that name
+     */
+    public boolean containsName(String name) {
+        return indexOf(name) >= 0;
+    }
+
+    /**
+     * Returns every role, ordered by id.
+     * @return the roles
+     */
+    public List<Role> findAll() {
+        List<Role> roles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            roles.add(role(i));
+        }
+        return roles;
+    }
+
+    /**
+     * Returns the roles whose name contains the pattern, ignoring case, ordered by id.
+     *
+     * @param pattern the text to look for
+     * @return the matching roles
+     */
+    public List<Role> findByNameContaining(String pattern) {
+        List<Role> matches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = name(record(i));
+            if (containsIgnoreCase(name, pattern)) {
+                matches.add(role(i, name));
+            }
+        }
+        return matches;
+    }
+
+    private int indexOf(String name) {
+        int hash = name.hashCode();
+        byte[] encoded = null;
+        int slot = spread(hash) & mask;
+        while (true) {
+            int entry = buffer.getInt(tableOffset + slot * Integer.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            int record = record(entry - 1);
+            if (buffer.getInt(record + NAME_HASH) == hash) {
+                if (encoded == null) {
+                    encoded = name.getBytes(StandardCharsets.UTF_8);
+                }
+                if (nameEquals(record, encoded)) {
+                    return entry - 1;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean nameEquals(int record, byte[] encoded) {
+        if (buffer.getInt(record + NAME_LENGTH) != encoded.length) {
+            return false;
+        }
+        int offset = blobOffset + buffer.getInt(record + NAME_OFFSET);
+        for (int i = 0; i < encoded.length; i++) {
+            if (buffer.get(offset + i) != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Role role(int index) {
+        return role(index, name(record(index)));
+    }
+
+    private Role role(int index, String name) {
+        int record = record(index);
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                buffer.getLong(record + EPOCH_SECOND), buffer.getInt(record + NANO), ZoneOffset.UTC);
+        return new Role(buffer.getLong(record + ID), RoleName.ofNormalized(name), createdAt);
+    }
+
+    private String name(int record) {
+        byte[] bytes = new byte[buffer.getInt(record + NAME_LENGTH)];
+        buffer.get(blobOffset + buffer.getInt(record + NAME_OFFSET), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int record(int index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    private static int tableSize(int count) {
+        // Load factor of at most one half keeps probe sequences short
+        return Math.max(2, Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1);
+    }
+
+    private static int spread(int hash) {
+        return (hash ^ (hash >>> 16)) * 0x9E3779B9;
+    }
+
+    private static boolean containsIgnoreCase(String value, String pattern) {
+        int max = value.length() - pattern.length();
+        for (int i = 0; i <= max; i++) {
+            if (value.regionMatches(true, i, pattern, 0, pattern.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
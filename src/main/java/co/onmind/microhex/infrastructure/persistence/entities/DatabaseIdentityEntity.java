@@ -0,0 +1,79 @@
+package co.onmind.microhex.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the identity of the database.
+ *
+ * The database_identity table holds a single row with a random UUID, created
+ * along with the schema on first use. Copies of the roles kept outside the
+ * database (the read model dump) carry it, so a copy taken from another
+ * database, or from this one before its schema was recreated, is told apart
+ * even when their change versions overlap.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "database_identity")
+public class DatabaseIdentityEntity {
+
+    /**
+     * Key of the single row.
+     */
+    public static final Integer SINGLE_ROW = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "database_id", nullable = false, updatable = false)
+    private UUID databaseId;
+
+    public DatabaseIdentityEntity() {}
+
+    public DatabaseIdentityEntity(UUID databaseId) {
+        this.id = SINGLE_ROW;
+        this.databaseId = databaseId;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public UUID getDatabaseId() {
+        return databaseId;
+    }
+
+    public void setDatabaseId(UUID databaseId) {
+        this.databaseId = databaseId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DatabaseIdentityEntity that = (DatabaseIdentityEntity) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(databaseId, that.databaseId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, databaseId);
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseIdentityEntity{" +
+                "id=" + id +
+                ", databaseId=" + databaseId +
+                '}';
+    }
+}
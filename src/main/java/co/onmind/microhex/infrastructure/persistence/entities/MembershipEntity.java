@@ -0,0 +1,131 @@
+package co.onmind.microhex.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA Entity for a role assigned to a user.
+ * 
+ * One row of the user_roles join table per assignment. The unique key
+ * (user_id, role_id) serves lookups by user; a separate index serves the
+ * removal of a role's assignments. Time-limited assignments carry their
+ * expiry, indexed so the ones to track can be loaded at startup without
+ * reading the permanent ones.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "user_roles", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"user_id", "role_id"}, name = "uk_user_role")
+}, indexes = {
+    @Index(columnList = "role_id", name = "ix_user_roles_role"),
+    @Index(columnList = "expires_at", name = "ix_user_roles_expiry")
+})
+public class MembershipEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "role_id", nullable = false)
+    private Long roleId;
+    
+    @Column(name = "assigned_at", nullable = false)
+    private LocalDateTime assignedAt;
+    
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+    
+    public MembershipEntity() {}
+    
+    public MembershipEntity(Long userId, Long roleId) {
+        this(userId, roleId, null);
+    }
+    
+    public MembershipEntity(Long userId, Long roleId, Instant expiresAt) {
+        this.userId = userId;
+        this.roleId = roleId;
+        this.assignedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        if (assignedAt == null) {
+            assignedAt = LocalDateTime.now();
+        }
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public Long getRoleId() {
+        return roleId;
+    }
+    
+    public void setRoleId(Long roleId) {
+        this.roleId = roleId;
+    }
+    
+    public LocalDateTime getAssignedAt() {
+        return assignedAt;
+    }
+    
+    public void setAssignedAt(LocalDateTime assignedAt) {
+        this.assignedAt = assignedAt;
+    }
+    
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MembershipEntity that = (MembershipEntity) o;
+        return Objects.equals(id, that.id) && 
+               Objects.equals(userId, that.userId) && 
+               Objects.equals(roleId, that.roleId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, userId, roleId);
+    }
+    
+    @Override
+    public String toString() {
+        return "MembershipEntity{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", roleId=" + roleId +
+                ", assignedAt=" + assignedAt +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package co.onmind.microhex.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.util.Objects;
+
+/**
+ * JPA Entity for the permission dictionary.
+ * 
+ * Each distinct permission name is stored once; its ID is the bit number
+ * used for it in the role permission bitmaps.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "permissions", uniqueConstraints = {
+    @UniqueConstraint(columnNames = "name", name = "uk_permission_name")
+})
+public class PermissionEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+    
+    public PermissionEntity() {}
+    
+    public PermissionEntity(String name) {
+        this.name = name;
+    }
+    
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+    
+    public void setId(Integer id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PermissionEntity that = (PermissionEntity) o;
+        return Objects.equals(id, that.id) && 
+               Objects.equals(name, that.name);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name);
+    }
+    
+    @Override
+    public String toString() {
+        return "PermissionEntity{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
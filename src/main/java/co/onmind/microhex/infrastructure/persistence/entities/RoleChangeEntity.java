@@ -0,0 +1,88 @@
+package co.onmind.microhex.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * JPA Entity for one change of a role.
+ * 
+ * One row of the role_changes table per role save or delete, written in the
+ * transaction of the change. The generated ID is the change version, so a
+ * range of versions is read through the primary key; the time of the change
+ * is indexed for pruning.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "role_changes", indexes = {
+    @Index(columnList = "changed_at", name = "ix_role_changes_time")
+})
+public class RoleChangeEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version;
+    
+    @Column(name = "role_id", nullable = false)
+    private Long roleId;
+    
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+    
+    public RoleChangeEntity() {}
+    
+    public RoleChangeEntity(Long roleId) {
+        this.roleId = roleId;
+        this.changedAt = Instant.now();
+    }
+    
+    // Getters and Setters
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public Long getRoleId() {
+        return roleId;
+    }
+    
+    public void setRoleId(Long roleId) {
+        this.roleId = roleId;
+    }
+    
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+    
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RoleChangeEntity that = (RoleChangeEntity) o;
+        return Objects.equals(version, that.version) && 
+               Objects.equals(roleId, that.roleId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, roleId);
+    }
+    
+    @Override
+    public String toString() {
+        return "RoleChangeEntity{" +
+                "version=" + version +
+                ", roleId=" + roleId +
+                ", changedAt=" + changedAt +
+                '}';
+    }
+}
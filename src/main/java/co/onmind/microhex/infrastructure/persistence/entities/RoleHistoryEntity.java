@@ -0,0 +1,133 @@
+package co.onmind.microhex.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA Entity for one version of a role.
+ * 
+ * One row of the role_history table per role save, valid from the time of
+ * the save until the next save or the delete of the role closes it. The
+ * version still valid ends at {@link #OPEN} rather than NULL, so "valid at
+ * time t" is a plain range on valid_to that both indexes can seek: one
+ * per role for a role as of a time, one by time for every role as of it.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "role_history", indexes = {
+    @Index(columnList = "role_id, valid_to", name = "ix_role_history_role"),
+    @Index(columnList = "valid_to, valid_from", name = "ix_role_history_time")
+})
+public class RoleHistoryEntity {
+    
+    /**
+     * End of the version of a role that is still valid.
+     */
+    public static final Instant OPEN = Instant.parse("9999-12-31T00:00:00Z");
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "role_id", nullable = false)
+    private Long roleId;
+    
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "valid_from", nullable = false)
+    private Instant validFrom;
+    
+    @Column(name = "valid_to", nullable = false)
+    private Instant validTo;
+    
+    public RoleHistoryEntity() {}
+    
+    public RoleHistoryEntity(RoleEntity role, Instant validFrom) {
+        this.roleId = role.getId();
+        this.name = role.getName();
+        this.createdAt = role.getCreatedAt();
+        this.validFrom = validFrom;
+        this.validTo = OPEN;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getRoleId() {
+        return roleId;
+    }
+    
+    public void setRoleId(Long roleId) {
+        this.roleId = roleId;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public Instant getValidFrom() {
+        return validFrom;
+    }
+    
+    public void setValidFrom(Instant validFrom) {
+        this.validFrom = validFrom;
+    }
+    
+    public Instant getValidTo() {
+        return validTo;
+    }
+    
+    public void setValidTo(Instant validTo) {
+        this.validTo = validTo;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RoleHistoryEntity that = (RoleHistoryEntity) o;
+        return Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+    
+    @Override
+    public String toString() {
+        return "RoleHistoryEntity{" +
+                "id=" + id +
+                ", roleId=" + roleId +
+                ", name='" + name + '\'' +
+                ", validFrom=" + validFrom +
+                ", validTo=" + validTo +
+                '}';
+    }
+}
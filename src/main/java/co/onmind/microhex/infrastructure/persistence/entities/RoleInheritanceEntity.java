@@ -0,0 +1,110 @@
+package co.onmind.microhex.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA Entity for a role inheriting another role.
+ * 
+ * One row of the role_inheritance table per direct relation. The unique key
+ * (role_id, parent_id) serves lookups by the inheriting role; a separate
+ * index serves the removal of a deleted role's relations as a parent.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "role_inheritance", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"role_id", "parent_id"}, name = "uk_role_parent")
+}, indexes = {
+    @Index(columnList = "parent_id", name = "ix_role_inheritance_parent")
+})
+public class RoleInheritanceEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "role_id", nullable = false)
+    private Long roleId;
+    
+    @Column(name = "parent_id", nullable = false)
+    private Long parentId;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    public RoleInheritanceEntity() {}
+    
+    public RoleInheritanceEntity(Long roleId, Long parentId) {
+        this.roleId = roleId;
+        this.parentId = parentId;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getRoleId() {
+        return roleId;
+    }
+    
+    public void setRoleId(Long roleId) {
+        this.roleId = roleId;
+    }
+    
+    public Long getParentId() {
+        return parentId;
+    }
+    
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RoleInheritanceEntity that = (RoleInheritanceEntity) o;
+        return Objects.equals(id, that.id) && 
+               Objects.equals(roleId, that.roleId) && 
+               Objects.equals(parentId, that.parentId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, roleId, parentId);
+    }
+    
+    @Override
+    public String toString() {
+        return "RoleInheritanceEntity{" +
+                "id=" + id +
+                ", roleId=" + roleId +
+                ", parentId=" + parentId +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package co.onmind.microhex.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * JPA Entity for the permissions granted to a role.
+ * 
+ * The permissions are stored as one bitmap per role (the bytes of a
+ * java.util.BitSet) over the permission dictionary, so a role's whole
+ * permission set is one row in a side table next to the roles table.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "role_permissions")
+public class RolePermissionsEntity {
+    
+    @Id
+    @Column(name = "role_id")
+    private Long roleId;
+    
+    @Column(name = "bitmap", nullable = false, length = 8192)
+    private byte[] bitmap;
+    
+    public RolePermissionsEntity() {}
+    
+    public RolePermissionsEntity(Long roleId, byte[] bitmap) {
+        this.roleId = roleId;
+        this.bitmap = bitmap;
+    }
+    
+    // Getters and Setters
+    public Long getRoleId() {
+        return roleId;
+    }
+    
+    public void setRoleId(Long roleId) {
+        this.roleId = roleId;
+    }
+    
+    public byte[] getBitmap() {
+        return bitmap;
+    }
+    
+    public void setBitmap(byte[] bitmap) {
+        this.bitmap = bitmap;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RolePermissionsEntity that = (RolePermissionsEntity) o;
+        return Objects.equals(roleId, that.roleId) && 
+               Arrays.equals(bitmap, that.bitmap);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(roleId, Arrays.hashCode(bitmap));
+    }
+    
+    @Override
+    public String toString() {
+        return "RolePermissionsEntity{" +
+                "roleId=" + roleId +
+                ", bitmapBytes=" + (bitmap != null ? bitmap.length : 0) +
+                '}';
+    }
+}
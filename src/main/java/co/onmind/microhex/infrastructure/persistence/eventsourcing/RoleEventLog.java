@@ -0,0 +1,372 @@
+package co.onmind.microhex.infrastructure.persistence.eventsourcing;
+
+import co.onmind.microhex.transverse.spool.SegmentedSpool.FsyncPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, segmented file log of {@link RoleLogEvent}s.
+ *
+ * Events are written sequentially at the end of the active segment file and
+ * never rewritten. A new segment is started once the active one reaches the
+ * configured size. Each record is stored as [int length][int CRC32][payload];
+ * on open the active segment is scanned and a torn tail (incomplete record or
+ * bad checksum) is truncated. An append that fails truncates the segment back
+ * to the start of its record before reporting the error.
+ *
+ * Segments that are fully covered by a snapshot can be removed with
+ * {@link #pruneBefore(long)}.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class RoleEventLog implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleEventLog.class);
+
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 1024;
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final byte CREATED = 1;
+    private static final byte RENAMED = 2;
+    private static final byte DELETED = 3;
+
+    /**
+     * Position in the log: a segment and a byte offset within it.
+     */
+    public record LogPosition(long segmentId, long offset) {}
+
+    private final Path directory;
+    private final long segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final ScheduledExecutorService fsyncScheduler;
+    private final List<Long> segmentIds = new ArrayList<>();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(MAX_RECORD_SIZE);
+    private final CRC32 writeCrc = new CRC32();
+
+    private FileChannel active;
+    private long activeId;
+    private long writePosition;
+    private boolean dirty;
+
+    /**
+     * Opens the log, creating the directory and the first segment when needed.
+     *
+     * @param directory directory holding the segment files
+     * @param segmentSize size at which a new segment is started
+     * @param fsyncPolicy when appended events are forced to disk
+     * @param fsyncInterval interval used with {@link FsyncPolicy#INTERVAL}
+     */
+    public RoleEventLog(Path directory, long segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        if (segmentSize <= MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("Segment size must be larger than " + MAX_RECORD_SIZE + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open event log at " + directory, e);
+        }
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            fsyncScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("role-log-fsync").daemon(true).factory());
+            long millis = fsyncInterval.toMillis();
+            fsyncScheduler.scheduleWithFixedDelay(this::force, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            fsyncScheduler = null;
+        }
+    }
+
+    /**
+     * Appends an event at the end of the log.
+     * @param event the event to append
+     */
+    public synchronized void append(RoleLogEvent event) {
+        ByteBuffer buffer = encode(event);
+        int recordSize = buffer.remaining();
+        try {
+            if (writePosition + recordSize > segmentSize) {
+                roll();
+            }
+            long position = writePosition;
+            try {
+                while (buffer.hasRemaining()) {
+                    position += active.write(buffer, position);
+                }
+                if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                    active.force(false);
+                }
+            } catch (IOException e) {
+                // Drop the partial record, so the next append starts where this one did
+                truncateTo(writePosition, e);
+                throw e;
+            }
+            writePosition = position;
+            dirty = fsyncPolicy != FsyncPolicy.ALWAYS;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to event log " + directory, e);
+        }
+    }
+
+    /**
+     * Reads the events from a position to the end of the log, in order.
+     *
+     * @param from position of the first event to read
+     * @param consumer receives each event
+     * @return the number of events read
+     */
+    public long replay(LogPosition from, Consumer<RoleLogEvent> consumer) {
+        List<Long> ids;
+        synchronized (this) {
+            ids = List.copyOf(segmentIds);
+        }
+        long count = 0;
+        for (long id : ids) {
+            if (id < from.segmentId()) {
+                continue;
+            }
+            long offset = id == from.segmentId() ? from.offset() : 0;
+            try (FileChannel channel = FileChannel.open(segmentPath(id), StandardOpenOption.READ)) {
+                long[] result = read(channel, offset, consumer);
+                count += result[1];
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read event log segment " + segmentPath(id), e);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Position of the first event still in the log.
+     * @return the start position
+     */
+    public synchronized LogPosition start() {
+        return new LogPosition(segmentIds.get(0), 0);
+    }
+
+    /**
+     * Position right after the last appended event.
+     * @return the end position
+     */
+    public synchronized LogPosition position() {
+        return new LogPosition(activeId, writePosition);
+    }
+
+    /**
+     * Deletes the segments older than the given one.
+     * @param segmentId the oldest segment to keep
+     * @return the number of deleted segments
+     */
+    public synchronized int pruneBefore(long segmentId) {
+        int deleted = 0;
+        while (segmentIds.size() > 1 && segmentIds.get(0) < segmentId) {
+            Path path = segmentPath(segmentIds.remove(0));
+            try {
+                Files.deleteIfExists(path);
+                deleted++;
+            } catch (IOException e) {
+                logger.warn("Cannot delete event log segment {}: {}", path, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Forces the appended events to disk.
+     */
+    public synchronized void force() {
+        if (dirty) {
+            try {
+                active.force(false);
+                dirty = false;
+            } catch (IOException e) {
+                logger.warn("Cannot force event log segment {}: {}", activeId, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (fsyncScheduler != null) {
+            fsyncScheduler.shutdownNow();
+        }
+        force();
+        try {
+            active.close();
+        } catch (IOException e) {
+            logger.warn("Cannot close event log segment {}: {}", activeId, e.getMessage());
+        }
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(segmentIds::add);
+        }
+        if (segmentIds.isEmpty()) {
+            segmentIds.add(0L);
+        }
+        activeId = segmentIds.get(segmentIds.size() - 1);
+        active = FileChannel.open(segmentPath(activeId), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        writePosition = read(active, 0, null)[0];
+        if (active.size() > writePosition) {
+            logger.warn("Event log segment {} has a torn tail at offset {}, truncating {} bytes",
+                    activeId, writePosition, active.size() - writePosition);
+            active.truncate(writePosition);
+        }
+    }
+
+    private void truncateTo(long position, IOException cause) {
+        try {
+            active.truncate(position);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void roll() throws IOException {
+        active.force(false);
+        active.close();
+        activeId++;
+        segmentIds.add(activeId);
+        active = FileChannel.open(segmentPath(activeId), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        writePosition = 0;
+    }
+
+    /**
+     * Reads valid records from an offset to the end of a segment.
+     * @return the offset after the last valid record and the number of records read
+     */
+    private static long[] read(FileChannel channel, long offset, Consumer<RoleLogEvent> consumer) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        CRC32 crc = new CRC32();
+        buffer.limit(0);
+        long filePosition = offset;
+        long recordOffset = offset;
+        long count = 0;
+        boolean eof = false;
+        while (true) {
+            int remaining = buffer.remaining();
+            boolean complete = remaining >= HEADER_SIZE
+                    && remaining >= HEADER_SIZE + buffer.getInt(buffer.position());
+            if (!complete) {
+                if (eof) {
+                    break;
+                }
+                buffer.compact();
+                int n = channel.read(buffer, filePosition);
+                buffer.flip();
+                if (n <= 0) {
+                    eof = true;
+                } else {
+                    filePosition += n;
+                }
+                continue;
+            }
+            int start = buffer.position();
+            int length = buffer.getInt(start);
+            if (length <= 0 || length > MAX_RECORD_SIZE) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.array(), start + HEADER_SIZE, length);
+            if ((int) crc.getValue() != buffer.getInt(start + 4)) {
+                break;
+            }
+            buffer.position(start + HEADER_SIZE);
+            RoleLogEvent event = decode(buffer);
+            buffer.position(start + HEADER_SIZE + length);
+            if (consumer != null) {
+                consumer.accept(event);
+            }
+            recordOffset += HEADER_SIZE + length;
+            count++;
+        }
+        return new long[] { recordOffset, count };
+    }
+
+    private ByteBuffer encode(RoleLogEvent event) {
+        ByteBuffer buffer = writeBuffer.clear();
+        buffer.position(HEADER_SIZE);
+        switch (event) {
+            case RoleLogEvent.RoleCreated created -> {
+                buffer.put(CREATED).putLong(created.sequence()).putLong(created.roleId());
+                buffer.putLong(created.createdAt().toEpochSecond(ZoneOffset.UTC)).putInt(created.createdAt().getNano());
+                putName(buffer, created.name());
+            }
+            case RoleLogEvent.RoleRenamed renamed -> {
+                buffer.put(RENAMED).putLong(renamed.sequence()).putLong(renamed.roleId());
+                putName(buffer, renamed.name());
+            }
+            case RoleLogEvent.RoleDeleted deleted ->
+                    buffer.put(DELETED).putLong(deleted.sequence()).putLong(deleted.roleId());
+        }
+        int length = buffer.position() - HEADER_SIZE;
+        writeCrc.reset();
+        writeCrc.update(buffer.array(), HEADER_SIZE, length);
+        buffer.putInt(0, length).putInt(4, (int) writeCrc.getValue());
+        return buffer.flip();
+    }
+
+    private static void putName(ByteBuffer buffer, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static RoleLogEvent decode(ByteBuffer buffer) {
+        byte type = buffer.get();
+        long sequence = buffer.getLong();
+        long roleId = buffer.getLong();
+        return switch (type) {
+            case CREATED -> {
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+                yield new RoleLogEvent.RoleCreated(sequence, roleId, getName(buffer), createdAt);
+            }
+            case RENAMED -> new RoleLogEvent.RoleRenamed(sequence, roleId, getName(buffer));
+            case DELETED -> new RoleLogEvent.RoleDeleted(sequence, roleId);
+            default -> throw new IllegalStateException("Unknown event type " + type + " in event log");
+        };
+    }
+
+    private static String getName(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        String name = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return name;
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,43 @@
+package co.onmind.microhex.infrastructure.persistence.eventsourcing;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry of the append-only role event log.
+ *
+ * Every change to a role is recorded as one of these events, numbered by a
+ * strictly increasing sequence. The current state of the roles is the result
+ * of applying the events in sequence order (see {@link RoleProjection}).
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public sealed interface RoleLogEvent {
+
+    /**
+     * Position of the event in the log.
+     * @return the event sequence
+     */
+    long sequence();
+
+    /**
+     * Role the event applies to.
+     * @return the role ID
+     */
+    long roleId();
+
+    /**
+     * A role was created.
+     */
+    record RoleCreated(long sequence, long roleId, String name, LocalDateTime createdAt) implements RoleLogEvent {}
+
+    /**
+     * A role was given a new name.
+     */
+    record RoleRenamed(long sequence, long roleId, String name) implements RoleLogEvent {}
+
+    /**
+     * A role was deleted.
+     */
+    record RoleDeleted(long sequence, long roleId) implements RoleLogEvent {}
+}
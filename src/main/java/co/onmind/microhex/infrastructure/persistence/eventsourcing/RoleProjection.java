@@ -0,0 +1,142 @@
+package co.onmind.microhex.infrastructure.persistence.eventsourcing;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleName;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory state of the roles, built by applying {@link RoleLogEvent}s in order.
+ *
+ * The projection keeps the roles indexed by ID, in ID order, and by name,
+ * the sequence of the last applied event and the next ID to assign. It is
+ * not thread-safe; the owner serializes access to it.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class RoleProjection {
+
+    private final NavigableMap<Long, Role> rolesById = new TreeMap<>();
+    private final Map<String, Role> rolesByName = new HashMap<>();
+    private long lastSequence;
+    private long nextId = 1;
+
+    /**
+     * Applies one event; events at or below the last applied sequence are ignored.
+     * @param event the event to apply
+     */
+    public void apply(RoleLogEvent event) {
+        if (event.sequence() <= lastSequence) {
+            return;
+        }
+        switch (event) {
+            case RoleLogEvent.RoleCreated created -> put(new Role(created.roleId(),
+                    RoleName.ofNormalized(created.name()), created.createdAt()));
+            case RoleLogEvent.RoleRenamed renamed -> {
+                Role role = rolesById.get(renamed.roleId());
+                if (role != null) {
+                    rolesByName.remove(role.getName());
+                    put(role.withName(RoleName.ofNormalized(renamed.name())));
+                }
+            }
+            case RoleLogEvent.RoleDeleted deleted -> {
+                Role role = rolesById.remove(deleted.roleId());
+                if (role != null) {
+                    rolesByName.remove(role.getName());
+                }
+            }
+        }
+        lastSequence = event.sequence();
+    }
+
+    /**
+     * Replaces the state with the content of a snapshot.
+     * @param snapshot the snapshot to restore
+     */
+    public void restore(RoleSnapshot snapshot) {
+        rolesById.clear();
+        rolesByName.clear();
+        for (Role role : snapshot.roles()) {
+            put(role);
+        }
+        lastSequence = snapshot.sequence();
+        nextId = Math.max(nextId, snapshot.nextId());
+    }
+
+    /**
+     * Captures the current state for a snapshot.
+     * @param position log position right after the last applied event
+     * @return the snapshot
+     */
+    public RoleSnapshot snapshot(RoleEventLog.LogPosition position) {
+        return new RoleSnapshot(lastSequence, position, nextId, new ArrayList<>(rolesById.values()));
+    }
+
+    public Role findById(long id) {
+        return rolesById.get(id);
+    }
+
+    public Role findByName(String name) {
+        return rolesByName.get(name);
+    }
+
+    public Collection<Role> roles() {
+        return rolesById.values();
+    }
+
+    public int size() {
+        return rolesById.size();
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Reserves the next role ID.
+     * @return the reserved ID
+     */
+    public long allocateId() {
+        return nextId++;
+    }
+
+    /**
+     * Returns the roles sorted by ID.
+     * @return the sorted roles
+     */
+    public List<Role> sortedRoles() {
+        return new ArrayList<>(rolesById.values());
+    }
+
+    /**
+     * Returns the roles after an ID, sorted by ID.
+     * @param afterId the ID of the last role already read
+     * @param limit the maximum number of roles returned
+     * @return at most limit roles with a greater ID
+     */
+    public List<Role> rolesAfter(long afterId, int limit) {
+        List<Role> roles = new ArrayList<>(Math.min(limit, rolesById.size()));
+        for (Role role : rolesById.tailMap(afterId, false).values()) {
+            if (roles.size() == limit) {
+                break;
+            }
+            roles.add(role);
+        }
+        return roles;
+    }
+
+    private void put(Role role) {
+        rolesById.put(role.getId(), role);
+        rolesByName.put(role.getName(), role);
+        if (role.getId() >= nextId) {
+            nextId = role.getId() + 1;
+        }
+    }
+}
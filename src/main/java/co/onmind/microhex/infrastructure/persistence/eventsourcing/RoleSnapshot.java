@@ -0,0 +1,18 @@
+package co.onmind.microhex.infrastructure.persistence.eventsourcing;
+
+import co.onmind.microhex.domain.models.Role;
+
+import java.util.Collection;
+
+/**
+ * Point-in-time copy of the role projection.
+ *
+ * @param sequence sequence of the last event folded into the snapshot
+ * @param position log position of the first event after the snapshot
+ * @param nextId next role ID to assign
+ * @param roles the roles at that point
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public record RoleSnapshot(long sequence, RoleEventLog.LogPosition position, long nextId, Collection<Role> roles) {}
@@ -0,0 +1,127 @@
+package co.onmind.microhex.infrastructure.persistence.eventsourcing;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * File store for the latest {@link RoleSnapshot}.
+ *
+ * The snapshot is written to a temporary file, forced to disk and moved over
+ * the previous one atomically, so a crash leaves either the old or the new
+ * snapshot. The file carries a magic number, a format version and a trailing
+ * CRC32 of its content.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class RoleSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleSnapshotStore.class);
+
+    private static final int MAGIC = 0x52534e50; // "RSNP"
+    private static final int VERSION = 1;
+
+    private final Path file;
+
+    /**
+     * @param file the snapshot file
+     */
+    public RoleSnapshotStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Replaces the stored snapshot.
+     * @param snapshot the snapshot to store
+     */
+    public void write(RoleSnapshot snapshot) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.sequence());
+            out.writeLong(snapshot.position().segmentId());
+            out.writeLong(snapshot.position().offset());
+            out.writeLong(snapshot.nextId());
+            out.writeInt(snapshot.roles().size());
+            for (Role role : snapshot.roles()) {
+                out.writeLong(role.getId());
+                out.writeLong(role.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(role.getCreatedAt().getNano());
+                out.writeUTF(role.getName());
+            }
+            out.writeLong(crc.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write role snapshot " + temp, e);
+        }
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot publish role snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Reads the stored snapshot.
+     * @return the snapshot, or empty if there is none or it is not valid
+     */
+    public Optional<RoleSnapshot> read() {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16), crc))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                logger.warn("Role snapshot {} has an unknown format, ignoring it", file);
+                return Optional.empty();
+            }
+            long sequence = in.readLong();
+            RoleEventLog.LogPosition position = new RoleEventLog.LogPosition(in.readLong(), in.readLong());
+            long nextId = in.readLong();
+            int count = in.readInt();
+            List<Role> roles = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                roles.add(new Role(id, RoleName.ofNormalized(in.readUTF()), createdAt));
+            }
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                logger.warn("Role snapshot {} has a bad checksum, ignoring it", file);
+                return Optional.empty();
+            }
+            return Optional.of(new RoleSnapshot(sequence, position, nextId, roles));
+        } catch (IOException e) {
+            logger.warn("Cannot read role snapshot {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package co.onmind.microhex.infrastructure.persistence.mappers;
 
 import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleName;
 import co.onmind.microhex.infrastructure.persistence.entities.RoleEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -24,11 +25,17 @@ public interface RoleEntityMapper {
     
     /**
      * Converts a RoleEntity to Role domain model.
+     * Persisted names were normalized when they were written, so they are
+     * wrapped as they are instead of being validated again.
      * @param entity the JPA entity
      * @return the domain model
      */
-    @Mapping(target = "withName", ignore = true)
-    Role toDomain(RoleEntity entity);
+    default Role toDomain(RoleEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new Role(entity.getId(), RoleName.ofNormalized(entity.getName()), entity.getCreatedAt());
+    }
     
     /**
      * Converts a Role domain model to RoleEntity.
@@ -0,0 +1,15 @@
+package co.onmind.microhex.infrastructure.persistence.repositories;
+
+import co.onmind.microhex.infrastructure.persistence.entities.DatabaseIdentityEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA Repository interface for the identity of the database.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaDatabaseIdentityRepository extends JpaRepository<DatabaseIdentityEntity, Integer> {
+}
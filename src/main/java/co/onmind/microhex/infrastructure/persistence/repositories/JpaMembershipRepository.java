@@ -0,0 +1,99 @@
+package co.onmind.microhex.infrastructure.persistence.repositories;
+
+import co.onmind.microhex.infrastructure.persistence.entities.MembershipEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA Repository interface for user role assignments.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaMembershipRepository extends JpaRepository<MembershipEntity, Long> {
+    
+    /**
+     * Row of the user_roles table without the entity overhead.
+     */
+    interface AssignmentRow {
+        Long getId();
+        Long getUserId();
+        Long getRoleId();
+    }
+    
+    /**
+     * Row of a time-limited assignment without the entity overhead.
+     */
+    interface GrantRow extends AssignmentRow {
+        Instant getExpiresAt();
+    }
+    
+    /**
+     * Finds the assignment of a role to a user.
+     * 
+     * @param userId The user ID
+     * @param roleId The role ID
+     * @return the assignment, if it exists
+     */
+    Optional<MembershipEntity> findByUserIdAndRoleId(Long userId, Long roleId);
+    
+    /**
+     * Removes an assignment.
+     * 
+     * @param userId The user ID
+     * @param roleId The role ID
+     * @return the number of rows removed
+     */
+    @Modifying
+    @Query("DELETE FROM MembershipEntity m WHERE m.userId = :userId AND m.roleId = :roleId")
+    int deleteAssignment(@Param("userId") Long userId, @Param("roleId") Long roleId);
+    
+    /**
+     * Removes an assignment if its expiry is not after the given time.
+     * 
+     * @param userId The user ID
+     * @param roleId The role ID
+     * @param now The current time
+     * @return the number of rows removed
+     */
+    @Modifying
+    @Query("DELETE FROM MembershipEntity m WHERE m.userId = :userId AND m.roleId = :roleId AND m.expiresAt <= :now")
+    int deleteExpired(@Param("userId") Long userId, @Param("roleId") Long roleId, @Param("now") Instant now);
+    
+    /**
+     * Removes every assignment of a role.
+     * 
+     * @param roleId The role ID
+     * @return the number of rows removed
+     */
+    @Modifying
+    @Query("DELETE FROM MembershipEntity m WHERE m.roleId = :roleId")
+    int deleteByRole(@Param("roleId") Long roleId);
+    
+    /**
+     * Reads the next page of assignments in ID order (keyset pagination).
+     * 
+     * @param id The ID of the last row of the previous page
+     * @param limit The page size
+     * @return the next rows
+     */
+    List<AssignmentRow> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    /**
+     * Reads the next page of time-limited assignments in ID order (keyset pagination).
+     * 
+     * @param id The ID of the last row of the previous page
+     * @param limit The page size
+     * @return the next rows
+     */
+    List<GrantRow> findByExpiresAtIsNotNullAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+}
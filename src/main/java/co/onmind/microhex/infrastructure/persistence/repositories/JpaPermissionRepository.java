@@ -0,0 +1,25 @@
+package co.onmind.microhex.infrastructure.persistence.repositories;
+
+import co.onmind.microhex.infrastructure.persistence.entities.PermissionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * JPA Repository interface for the permission dictionary.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaPermissionRepository extends JpaRepository<PermissionEntity, Integer> {
+    
+    /**
+     * Finds a permission entity by its name.
+     * 
+     * @param name The permission name
+     * @return Optional containing the permission entity if found, empty otherwise
+     */
+    Optional<PermissionEntity> findByName(String name);
+}
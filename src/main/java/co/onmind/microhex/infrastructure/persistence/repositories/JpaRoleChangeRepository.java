@@ -0,0 +1,57 @@
+package co.onmind.microhex.infrastructure.persistence.repositories;
+
+import co.onmind.microhex.infrastructure.persistence.entities.RoleChangeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JPA Repository interface for the log of role changes.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaRoleChangeRepository extends JpaRepository<RoleChangeEntity, Long> {
+    
+    /**
+     * Returns the version of the latest change.
+     * 
+     * @return the latest version, 0 if the log is empty
+     */
+    @Query("SELECT COALESCE(MAX(c.version), 0) FROM RoleChangeEntity c")
+    long findLatestVersion();
+    
+    /**
+     * Returns the version of the oldest change still in the log.
+     * 
+     * @return the oldest version, or null if the log is empty
+     */
+    @Query("SELECT MIN(c.version) FROM RoleChangeEntity c")
+    Long findOldestVersion();
+    
+    /**
+     * Finds the roles changed after a version.
+     * 
+     * @param version The version to start after
+     * @return the IDs of the roles changed since, once each
+     */
+    @Query("SELECT DISTINCT c.roleId FROM RoleChangeEntity c WHERE c.version > :version")
+    List<Long> findRoleIdsChangedAfter(@Param("version") long version);
+    
+    /**
+     * Removes the changes recorded before a time, below a version.
+     * 
+     * @param before The oldest time to keep
+     * @param below The first version to keep regardless of its time
+     * @return the number of rows removed
+     */
+    @Modifying
+    @Query("DELETE FROM RoleChangeEntity c WHERE c.changedAt < :before AND c.version < :below")
+    int deleteOlderThan(@Param("before") Instant before, @Param("below") long below);
+}
@@ -0,0 +1,55 @@
+package co.onmind.microhex.infrastructure.persistence.repositories;
+
+import co.onmind.microhex.infrastructure.persistence.entities.RoleHistoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA Repository interface for the versions of the roles.
+ * 
+ * A version is valid at a time t when valid_from &lt;= t &lt; valid_to. The
+ * lookups filter on valid_to first, the leading range column of the indexes.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaRoleHistoryRepository extends JpaRepository<RoleHistoryEntity, Long> {
+    
+    /**
+     * Finds the version of a role valid at a time.
+     * 
+     * @param roleId The role ID
+     * @param asOf The time
+     * @return the version, empty if the role did not exist then
+     */
+    @Query("SELECT h FROM RoleHistoryEntity h WHERE h.roleId = :roleId AND h.validTo > :asOf AND h.validFrom <= :asOf")
+    Optional<RoleHistoryEntity> findVersionAsOf(@Param("roleId") Long roleId, @Param("asOf") Instant asOf);
+    
+    /**
+     * Finds the versions of every role valid at a time.
+     * 
+     * @param asOf The time
+     * @return the versions, ordered by role ID
+     */
+    @Query("SELECT h FROM RoleHistoryEntity h WHERE h.validTo > :asOf AND h.validFrom <= :asOf ORDER BY h.roleId")
+    List<RoleHistoryEntity> findVersionsAsOf(@Param("asOf") Instant asOf);
+    
+    /**
+     * Ends the version of a role still valid.
+     * 
+     * @param roleId The role ID
+     * @param at The end of the version
+     * @return the number of versions ended, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE RoleHistoryEntity h SET h.validTo = :at WHERE h.roleId = :roleId AND h.validTo = :open")
+    int closeVersion(@Param("roleId") Long roleId, @Param("at") Instant at, @Param("open") Instant open);
+}
@@ -0,0 +1,66 @@
+package co.onmind.microhex.infrastructure.persistence.repositories;
+
+import co.onmind.microhex.infrastructure.persistence.entities.RoleInheritanceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA Repository interface for role inheritance relations.
+ * 
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaRoleInheritanceRepository extends JpaRepository<RoleInheritanceEntity, Long> {
+    
+    /**
+     * Row of the role_inheritance table without the entity overhead.
+     */
+    interface EdgeRow {
+        Long getRoleId();
+        Long getParentId();
+    }
+    
+    /**
+     * Checks if a role inherits a parent directly.
+     * 
+     * @param roleId The inheriting role ID
+     * @param parentId The inherited role ID
+     * @return true if the relation exists
+     */
+    boolean existsByRoleIdAndParentId(Long roleId, Long parentId);
+    
+    /**
+     * Removes a relation.
+     * 
+     * @param roleId The inheriting role ID
+     * @param parentId The inherited role ID
+     * @return the number of rows removed
+     */
+    @Modifying
+    @Query("DELETE FROM RoleInheritanceEntity r WHERE r.roleId = :roleId AND r.parentId = :parentId")
+    int deleteEdge(@Param("roleId") Long roleId, @Param("parentId") Long parentId);
+    
+    /**
+     * Removes every relation of a role, as child or as parent.
+     * 
+     * @param roleId The role ID
+     * @return the number of rows removed
+     */
+    @Modifying
+    @Query("DELETE FROM RoleInheritanceEntity r WHERE r.roleId = :roleId OR r.parentId = :roleId")
+    int deleteByRole(@Param("roleId") Long roleId);
+    
+    /**
+     * Reads every relation in insertion order.
+     * 
+     * @return the relations
+     */
+    @Query("SELECT r.roleId AS roleId, r.parentId AS parentId FROM RoleInheritanceEntity r ORDER BY r.id")
+    List<EdgeRow> findAllEdges();
+}
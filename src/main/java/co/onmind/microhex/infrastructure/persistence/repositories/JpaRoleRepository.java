@@ -1,7 +1,10 @@
 package co.onmind.microhex.infrastructure.persistence.repositories;
 
 import co.onmind.microhex.infrastructure.persistence.entities.RoleEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -29,6 +32,15 @@ public interface JpaRoleRepository extends JpaRepository<RoleEntity, Long> {
      */
     Optional<RoleEntity> findByName(String name);
     
+    /**
+     * Finds a role entity by its ID and locks its row until the end of the transaction.
+     * 
+     * @param id The ID of the role to lock
+     * @return Optional containing the locked role entity if found, empty otherwise
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RoleEntity> findForUpdateById(Long id);
+    
     /**
      * Checks if a role exists with the given name.
      * 
@@ -64,6 +76,15 @@ public interface JpaRoleRepository extends JpaRepository<RoleEntity, Long> {
     @Query("SELECT r FROM RoleEntity r WHERE r.name LIKE %:namePattern%")
     java.util.List<RoleEntity> findByNameContaining(@Param("namePattern") String namePattern);
     
+    /**
+     * Finds the roles after an ID, ordered by ID (keyset pagination).
+     * 
+     * @param id The ID of the last role already read
+     * @param limit The maximum number of roles returned
+     * @return List of role entities with a greater ID
+     */
+    java.util.List<RoleEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
     /**
      * Finds roles by name containing a specific substring (case-insensitive).
      * 
@@ -0,0 +1,154 @@
+package co.onmind.microhex.infrastructure.persistence.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads a role snapshot written by {@link RoleSnapshotWriter}, one block at a time.
+ *
+ * Each block is checked against its CRC32 before any of its rows is handed
+ * out, and the total row count is checked at the end, so a corrupted or
+ * truncated snapshot fails at the first bad block.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public final class RoleSnapshotReader implements Closeable {
+
+    /**
+     * Receives the rows of a block.
+     */
+    @FunctionalInterface
+    public interface RowHandler<E extends Exception> {
+
+        /**
+         * Handles a row.
+         *
+         * @param id the role ID
+         * @param name the role name
+         * @param createdAt the creation time
+         * @throws E if the row cannot be handled
+         */
+        void row(long id, String name, LocalDateTime createdAt) throws E;
+    }
+
+    private static final int MAX_BLOCK_BYTES = 64 << 20;
+
+    private final DataInputStream in;
+    private final CRC32 crc = new CRC32();
+    private byte[] block = new byte[1 << 18];
+    private int position;
+    private long rows;
+    private boolean ended;
+
+    /**
+     * Reads and checks the header.
+     *
+     * @param input the stream the snapshot is read from, closed with the reader
+     * @throws IOException if the stream is not a role snapshot of a known format version
+     */
+    public RoleSnapshotReader(InputStream input) throws IOException {
+        DataInputStream header = new DataInputStream(input);
+        int magic = header.readInt();
+        int version = header.readInt();
+        if (magic != RoleSnapshotWriter.MAGIC) {
+            throw new IOException("Not a role snapshot");
+        }
+        if (version != RoleSnapshotWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported role snapshot format version " + version);
+        }
+        this.in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(input), 1 << 16));
+    }
+
+    /**
+     * Reads the next block and hands its rows to the handler.
+     *
+     * @param handler receives the rows of the block
+     * @param <E> the exception the handler may throw
+     * @return the number of rows in the block, 0 at the end of the snapshot
+     * @throws IOException if the snapshot is corrupted or truncated
+     * @throws E if the handler fails
+     */
+    public <E extends Exception> int readBlock(RowHandler<E> handler) throws IOException, E {
+        if (ended) {
+            return 0;
+        }
+        int blockRows = in.readInt();
+        if (blockRows == 0) {
+            long expected = in.readLong();
+            if (expected != rows) {
+                throw new IOException("Role snapshot has " + rows + " rows, " + expected + " expected");
+            }
+            ended = true;
+            return 0;
+        }
+        int length = in.readInt();
+        if (blockRows < 0 || length < 0 || length > MAX_BLOCK_BYTES) {
+            throw new IOException("Role snapshot block header is corrupted");
+        }
+        if (length > block.length) {
+            block = new byte[length];
+        }
+        in.readFully(block, 0, length);
+        crc.reset();
+        crc.update(block, 0, length);
+        if (in.readInt() != (int) crc.getValue()) {
+            throw new IOException("Role snapshot block " + (rows / RoleSnapshotWriter.BLOCK_ROWS) + " has a bad checksum");
+        }
+
+        position = 0;
+        long id = 0;
+        long second = 0;
+        for (int i = 0; i < blockRows; i++) {
+            id += unZigZag(readVarLong());
+            second += unZigZag(readVarLong());
+            int nano = (int) readVarLong();
+            int nameLength = (int) readVarLong();
+            if (nameLength < 0 || position + nameLength > length) {
+                throw new IOException("Role snapshot row is corrupted");
+            }
+            String name = new String(block, position, nameLength, StandardCharsets.UTF_8);
+            position += nameLength;
+            handler.row(id, name, LocalDateTime.ofEpochSecond(second, nano, ZoneOffset.UTC));
+        }
+        rows += blockRows;
+        return blockRows;
+    }
+
+    /**
+     * Returns the number of rows read so far.
+     * @return the row count
+     */
+    public long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = block[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        return value;
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,135 @@
+package co.onmind.microhex.infrastructure.persistence.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Streams roles, in ID order, to a compressed binary snapshot.
+ *
+ * After a header (magic number, format version) written as is, the rest is
+ * deflate-compressed and made of blocks of up to {@value #BLOCK_ROWS} rows:
+ * row count, payload length, payload and CRC32 of the payload. A block of
+ * zero rows followed by the total row count ends the snapshot. Within a
+ * block each row is stored as variable-length deltas from the previous one:
+ * ID, creation second (UTC), then nanoseconds and the UTF-8 name.
+ *
+ * Only one block is held in memory, so tables of any size stream through.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public final class RoleSnapshotWriter implements Closeable {
+
+    static final int MAGIC = 0x52544253; // "RTBS"
+    static final int FORMAT_VERSION = 1;
+    static final int BLOCK_ROWS = 10_000;
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream(1 << 18);
+    private final CRC32 crc = new CRC32();
+    private int blockRows;
+    private long previousId;
+    private long previousSecond;
+    private long rows;
+
+    /**
+     * Writes the header.
+     *
+     * @param output the stream the snapshot is written to, closed with the writer
+     * @throws IOException if the header cannot be written
+     */
+    public RoleSnapshotWriter(OutputStream output) throws IOException {
+        DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        header.flush();
+        this.out = new DataOutputStream(new DeflaterOutputStream(output, deflater, 1 << 16));
+    }
+
+    /**
+     * Adds a role; roles must come in ascending ID order.
+     *
+     * @param id the role ID
+     * @param name the role name
+     * @param createdAt the creation time
+     * @throws IOException if a full block cannot be written
+     */
+    public void write(long id, String name, LocalDateTime createdAt) throws IOException {
+        long second = createdAt.toEpochSecond(ZoneOffset.UTC);
+        writeVarLong(zigZag(id - previousId));
+        writeVarLong(zigZag(second - previousSecond));
+        writeVarLong(createdAt.getNano());
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        block.write(bytes);
+        previousId = id;
+        previousSecond = second;
+        rows++;
+        if (++blockRows == BLOCK_ROWS) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * Returns the number of roles written so far.
+     * @return the row count
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Writes the last block and the end of the snapshot, and closes the stream.
+     * @throws IOException if the snapshot cannot be completed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBlock();
+            out.writeInt(0);
+            out.writeLong(rows);
+            out.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRows == 0) {
+            return;
+        }
+        crc.reset();
+        crc.update(block.toByteArray(), 0, block.size());
+        out.writeInt(blockRows);
+        out.writeInt(block.size());
+        block.writeTo(out);
+        out.writeInt((int) crc.getValue());
+        block.reset();
+        blockRows = 0;
+        // Each block decodes on its own
+        previousId = 0;
+        previousSecond = 0;
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            block.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        block.write((int) value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
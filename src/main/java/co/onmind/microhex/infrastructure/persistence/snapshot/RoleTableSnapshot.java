@@ -0,0 +1,311 @@
+package co.onmind.microhex.infrastructure.persistence.snapshot;
+
+import co.onmind.microhex.infrastructure.persistence.entities.RoleHistoryEntity;
+import co.onmind.microhex.transverse.concurrency.MaintenanceLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the roles table to a binary snapshot and restores it from one,
+ * for backups and for seeding environments (see {@link RoleSnapshotWriter}
+ * for the format).
+ *
+ * Both directions go straight through JDBC rather than the JPA adapter: the
+ * export streams a forward-only cursor into the snapshot, and the import
+ * inserts each snapshot block as one JDBC batch committed on its own, so
+ * neither holds more than a block in memory or builds a persistence context.
+ *
+ * The unique name constraint cannot be deferred on H2, so the import drops
+ * it and adds it back once every row is in, checking all names in one pass
+ * instead of one index probe per insert. Snapshots keep the role IDs; the
+ * ID generator is moved past the IDs of each block before the block is
+ * inserted, and every replaced and
+ * imported role is recorded in role_changes, so copies kept by ID (the
+ * read model dump) reload. In role_history the import ends the versions of
+ * the replaced roles and starts one for each imported role.
+ *
+ * Memberships, permissions and inheritance relations are keyed by role ID
+ * and not part of the snapshot. The import deletes them together with the
+ * replaced roles, so none re-attaches to an imported role that takes over
+ * an ID; the caller empties the in-memory indexes over them once that
+ * delete has committed.
+ *
+ * The import holds the role table maintenance lock exclusively from start
+ * to end: role commands and bulk writes wait for it instead of writing to
+ * the table while its name constraint is dropped and its rows replaced.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class RoleTableSnapshot {
+
+    /**
+     * Outcome of an export or an import.
+     *
+     * @param rows number of roles
+     * @param millis time taken
+     */
+    public record Summary(long rows, long millis) {
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleTableSnapshot.class);
+
+    private static final int FETCH_SIZE = RoleSnapshotWriter.BLOCK_ROWS;
+    private static final String NAME_CONSTRAINT = "uk_role_name";
+    private static final String SELECT_ROLES = "SELECT id, name, created_at FROM roles ORDER BY id";
+    private static final String INSERT_ROLE = "INSERT INTO roles (id, name, created_at) VALUES (?, ?, ?)";
+    private static final String RECORD_CHANGES =
+            "INSERT INTO role_changes (role_id, changed_at) SELECT id, CURRENT_TIMESTAMP FROM roles";
+    private static final String CLOSE_VERSIONS = "UPDATE role_history SET valid_to = ? WHERE valid_to = ?";
+    private static final String OPEN_VERSIONS = "INSERT INTO role_history (role_id, name, created_at, valid_from, valid_to)"
+            + " SELECT id, name, created_at, ?, ? FROM roles";
+    private static final OffsetDateTime OPEN = RoleHistoryEntity.OPEN.atOffset(ZoneOffset.UTC);
+    private static final String[] ROLE_REFERENCES = {"user_roles", "role_permissions", "role_inheritance"};
+
+    /**
+     * Role of a snapshot block, held until the block is inserted.
+     */
+    private record Row(long id, String name, LocalDateTime createdAt) {
+    }
+
+    private final DataSource dataSource;
+    private final MaintenanceLock maintenanceLock;
+    private final Clock clock;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param dataSource The data source holding the roles table
+     * @param roleTableMaintenance Lock held exclusively for the whole import
+     * @param clock The clock giving the end and start of the role versions an import replaces
+     */
+    public RoleTableSnapshot(DataSource dataSource, MaintenanceLock roleTableMaintenance, Clock clock) {
+        this.dataSource = dataSource;
+        this.maintenanceLock = roleTableMaintenance;
+        this.clock = clock;
+    }
+
+    /**
+     * Writes every role, in ID order, to the output, and closes it.
+     *
+     * @param output where the snapshot is written
+     * @return the number of roles exported
+     * @throws IOException if the snapshot cannot be written
+     * @throws SQLException if the roles cannot be read
+     */
+    public Summary export(OutputStream output) throws IOException, SQLException {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            // Drivers such as PostgreSQL only honor the fetch size inside a transaction
+            connection.setAutoCommit(false);
+            try (PreparedStatement select = connection.prepareStatement(SELECT_ROLES,
+                         ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                 RoleSnapshotWriter writer = new RoleSnapshotWriter(output)) {
+                select.setFetchSize(FETCH_SIZE);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        writer.write(rows.getLong(1), rows.getString(2), rows.getObject(3, LocalDateTime.class));
+                    }
+                }
+                connection.commit();
+                Summary summary = new Summary(writer.rows(), elapsedMillis(start));
+                logger.info("Exported {} roles in {} ms", summary.rows(), summary.millis());
+                return summary;
+            }
+        }
+    }
+
+    /**
+     * Restores the roles of a snapshot, with no in-memory indexes to empty.
+     *
+     * @param input the snapshot, closed once read
+     * @param replace whether to delete the current roles first; otherwise the table must be empty
+     * @return the number of roles imported
+     * @throws IllegalStateException if the table is not empty and replace is false
+     * @throws IOException if the snapshot is not valid
+     * @throws SQLException if the roles cannot be written, duplicate names included
+     */
+    public Summary importFrom(InputStream input, boolean replace) throws IOException, SQLException {
+        return importFrom(input, replace, () -> { });
+    }
+
+    /**
+     * Restores the roles of a snapshot.
+     *
+     * Blocks are committed as they are read: if the snapshot turns out to be
+     * corrupted halfway, the roles of the blocks before stay in the table and
+     * the import can be run again with replace.
+     *
+     * @param input the snapshot, closed once read
+     * @param replace whether to delete the current roles first; otherwise the table must be empty
+     * @param afterClear run once the previous roles and everything keyed by their IDs are deleted
+     * @return the number of roles imported
+     * @throws IllegalStateException if the table is not empty and replace is false
+     * @throws IOException if the snapshot is not valid
+     * @throws SQLException if the roles cannot be written, duplicate names included
+     */
+    public Summary importFrom(InputStream input, boolean replace, Runnable afterClear) throws IOException, SQLException {
+        long start = System.nanoTime();
+        // The header is checked before the table is touched
+        try (RoleSnapshotReader reader = new RoleSnapshotReader(input);
+             MaintenanceLock.Hold maintenance = maintenanceLock.exclusive();
+             Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            boolean constraintDropped = false;
+            try {
+                clear(connection, replace);
+                constraintDropped = dropNameConstraint(connection);
+                connection.commit();
+                afterClear.run();
+
+                List<Row> block = new ArrayList<>(RoleSnapshotWriter.BLOCK_ROWS);
+                RoleSnapshotReader.RowHandler<RuntimeException> rows =
+                        (id, name, createdAt) -> block.add(new Row(id, name, createdAt));
+                while (reader.readBlock(rows) > 0) {
+                    // Rows come in ID order: the generator never hands out an ID still to be inserted
+                    restartIds(connection, block.getLast().id());
+                    insertBlock(connection, block);
+                    connection.commit();
+                    block.clear();
+                }
+
+                if (constraintDropped) {
+                    addNameConstraint(connection);
+                    constraintDropped = false;
+                }
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate(RECORD_CHANGES);
+                }
+                updateVersions(connection, OPEN_VERSIONS);
+                connection.commit();
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                if (constraintDropped) {
+                    try {
+                        addNameConstraint(connection);
+                        connection.commit();
+                    } catch (SQLException constraintFailure) {
+                        e.addSuppressed(constraintFailure);
+                    }
+                }
+                throw e;
+            }
+            Summary summary = new Summary(reader.rows(), elapsedMillis(start));
+            logger.info("Imported {} roles in {} ms", summary.rows(), summary.millis());
+            return summary;
+        }
+    }
+
+    private static void insertBlock(Connection connection, List<Row> block) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_ROLE)) {
+            for (Row row : block) {
+                insert.setLong(1, row.id());
+                insert.setString(2, row.name());
+                insert.setObject(3, row.createdAt());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void clear(Connection connection, boolean replace) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM roles")) {
+            count.next();
+            long existing = count.getLong(1);
+            if (existing > 0 && !replace) {
+                throw new IllegalStateException("The roles table holds " + existing + " roles; import with replace to overwrite them");
+            }
+            // Left behind, these rows would belong to whichever imported role takes over their role ID
+            for (String table : ROLE_REFERENCES) {
+                int deleted = statement.executeUpdate("DELETE FROM " + table);
+                if (deleted > 0) {
+                    logger.info("Deleted {} rows of {} before the import", deleted, table);
+                }
+            }
+            if (existing == 0) {
+                return;
+            }
+            statement.executeUpdate(RECORD_CHANGES);
+            updateVersions(connection, CLOSE_VERSIONS);
+            statement.executeUpdate("DELETE FROM roles");
+            logger.info("Deleted {} roles before the import", existing);
+        }
+    }
+
+    /**
+     * Runs a role_history statement taking the current time of the clock and the open end.
+     */
+    private void updateVersions(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement versions = connection.prepareStatement(sql)) {
+            versions.setObject(1, OffsetDateTime.ofInstant(clock.instant(), ZoneOffset.UTC));
+            versions.setObject(2, OPEN);
+            versions.executeUpdate();
+        }
+    }
+
+    private static boolean dropNameConstraint(Connection connection) throws SQLException {
+        try (PreparedStatement find = connection.prepareStatement(
+                "SELECT COUNT(*) FROM information_schema.table_constraints"
+                        + " WHERE UPPER(table_name) = 'ROLES' AND UPPER(constraint_name) = 'UK_ROLE_NAME'")) {
+            try (ResultSet found = find.executeQuery()) {
+                if (!found.next() || found.getLong(1) == 0) {
+                    return false;
+                }
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE roles DROP CONSTRAINT " + NAME_CONSTRAINT);
+        }
+        return true;
+    }
+
+    private static void addNameConstraint(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE roles ADD CONSTRAINT " + NAME_CONSTRAINT + " UNIQUE (name)");
+        }
+    }
+
+    /**
+     * Moves the ID generator past the imported IDs, which are inserted as is.
+     */
+    private static void restartIds(Connection connection, long maxId) throws SQLException {
+        if (maxId == 0) {
+            return;
+        }
+        String database = connection.getMetaData().getDatabaseProductName();
+        try (Statement statement = connection.createStatement()) {
+            switch (database) {
+                case "H2" -> statement.execute("ALTER TABLE roles ALTER COLUMN id RESTART WITH " + (maxId + 1));
+                case "PostgreSQL" -> statement.execute("SELECT setval(pg_get_serial_sequence('roles', 'id'), " + maxId + ")");
+                default -> logger.warn("Cannot move the role ID generator on {}; new roles may reuse imported IDs up to {}",
+                        database, maxId);
+            }
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,158 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.ports.out.PermissionIndexPort;
+import co.onmind.microhex.domain.ports.out.RolePermissionRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory permission index: one bitmap per role over an interned
+ * permission dictionary.
+ *
+ * Each distinct permission name gets a bit number the first time it is
+ * indexed, and a role's permissions are the bits set in its BitSet, so a
+ * role with dozens of permissions costs a few words. A check is two hash
+ * lookups and a bit test, without allocating.
+ *
+ * Role bitmaps are never modified once published: an update replaces the
+ * role's bitmap, so checks run without locks alongside updates. Bit numbers
+ * are never reused; a name no role grants any more keeps its bit.
+ *
+ * The index is loaded from the permission repository at startup and then
+ * updated by the permission service after each committed change.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+public class BitSetPermissionIndex implements PermissionIndexPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(BitSetPermissionIndex.class);
+
+    private final ConcurrentHashMap<String, Integer> bitsByName = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, BitSet> bitsByRole = new ConcurrentHashMap<>();
+    // Written under the intern lock, replaced when it grows
+    private volatile String[] namesByBit = new String[64];
+
+    /**
+     * Constructor for dependency injection; loads the current permissions.
+     *
+     * @param permissionRepositoryPort The permission repository used for the initial load
+     */
+    public BitSetPermissionIndex(RolePermissionRepositoryPort permissionRepositoryPort) {
+        Map<Long, Set<String>> permissions = permissionRepositoryPort.findAll();
+        permissions.forEach(this::put);
+        logger.info("Permission index loaded with {} roles and {} permissions",
+                bitsByRole.size(), bitsByName.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasPermission(Long roleId, String permission) {
+        Integer bit = bitsByName.get(permission);
+        if (bit == null) {
+            return false;
+        }
+        BitSet bits = bitsByRole.get(roleId);
+        return bits != null && bits.get(bit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> permissionsOf(Long roleId) {
+        BitSet bits = bitsByRole.get(roleId);
+        if (bits == null) {
+            return Collections.emptySet();
+        }
+        String[] names = namesByBit;
+        Set<String> permissions = new TreeSet<>();
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+            permissions.add(names[bit]);
+        }
+        return Collections.unmodifiableSet(permissions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Long roleId, Set<String> permissions) {
+        if (permissions.isEmpty()) {
+            bitsByRole.remove(roleId);
+            return;
+        }
+        BitSet bits = new BitSet();
+        for (String permission : permissions) {
+            bits.set(intern(permission));
+        }
+        bitsByRole.put(roleId, bits);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(Long roleId) {
+        bitsByRole.remove(roleId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        bitsByRole.clear();
+    }
+
+    /**
+     * Returns the number of distinct permission names indexed.
+     * @return the dictionary size
+     */
+    public int dictionarySize() {
+        return bitsByName.size();
+    }
+
+    /**
+     * Returns the number of roles with at least one permission.
+     * @return the indexed role count
+     */
+    public int roleCount() {
+        return bitsByRole.size();
+    }
+
+    private int intern(String permission) {
+        Integer bit = bitsByName.get(permission);
+        if (bit != null) {
+            return bit;
+        }
+        synchronized (bitsByName) {
+            bit = bitsByName.get(permission);
+            if (bit != null) {
+                return bit;
+            }
+            int next = bitsByName.size();
+            String[] names = namesByBit;
+            if (next == names.length) {
+                names = Arrays.copyOf(names, names.length * 2);
+            }
+            names[next] = permission;
+            // Name published before the bit, so a reader that finds the bit finds its name
+            namesByBit = names;
+            bitsByName.put(permission, next);
+            return next;
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.ports.out.RoleHierarchyIndexPort;
+import co.onmind.microhex.domain.ports.out.RoleHierarchyRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Transitive closure of the role hierarchy as reachability bitsets.
+ *
+ * Every role taking part in the hierarchy gets a dense slot number. Each
+ * slot keeps three bitsets over the slots: its direct parents, all its
+ * ancestors and all its descendants. "Does A inherit B" is a single bit
+ * test and the effective roles of a role are its ancestor bits.
+ *
+ * The closure is maintained incrementally rather than recomputed:
+ * - adding B as a parent of A ORs {B} + ancestors(B) into the ancestors of
+ *   A and of every descendant of A, and {A} + descendants(A) into the
+ *   descendants of each of those ancestors;
+ * - removing it recomputes the ancestors of A and its descendants only,
+ *   parents before children, from their remaining direct parents, and
+ *   clears them from the descendants of every ancestor they lost.
+ * Both touch only the part of the hierarchy below A, one word per 64 roles.
+ *
+ * Writes come one at a time from the hierarchy service and take the write
+ * lock; queries take the read lock.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+public class BitSetRoleHierarchyIndex implements RoleHierarchyIndexPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(BitSetRoleHierarchyIndex.class);
+    private static final long[] NONE = new long[0];
+
+    private final Map<Long, Integer> slotsByRole = new HashMap<>();
+    private final BitSet freeSlots = new BitSet();
+    private final StampedLock lock = new StampedLock();
+    private long[] rolesBySlot = new long[64];
+    private BitSet[] parents = new BitSet[64];
+    private BitSet[] ancestors = new BitSet[64];
+    private BitSet[] descendants = new BitSet[64];
+    private int slotCount;
+
+    /**
+     * Constructor for dependency injection; loads the stored relations.
+     *
+     * @param hierarchyRepositoryPort The hierarchy repository used for the initial load
+     */
+    public BitSetRoleHierarchyIndex(RoleHierarchyRepositoryPort hierarchyRepositoryPort) {
+        int[] edges = new int[1];
+        hierarchyRepositoryPort.forEach((roleId, parentId) -> {
+            try {
+                addEdge(roleId, parentId);
+                edges[0]++;
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping stored role relation {} -> {}: {}", roleId, parentId, e.getMessage());
+            }
+        });
+        logger.info("Role hierarchy loaded with {} relations between {} roles", edges[0], slotsByRole.size());
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean inherits(long roleId, long ancestorId) {
+        long stamp = lock.readLock();
+        try {
+            Integer slot = slotsByRole.get(roleId);
+            Integer ancestor = slotsByRole.get(ancestorId);
+            return slot != null && ancestor != null && ancestors[slot].get(ancestor);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] parentsOf(long roleId) {
+        return roleIdsOf(roleId, parents);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] ancestorsOf(long roleId) {
+        return roleIdsOf(roleId, ancestors);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] descendantsOf(long roleId) {
+        return roleIdsOf(roleId, descendants);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] effectiveRoles(long[] roleIds) {
+        long stamp = lock.readLock();
+        try {
+            BitSet effective = new BitSet(slotCount);
+            int outside = 0;
+            long[] result = new long[roleIds.length];
+            for (long roleId : roleIds) {
+                Integer slot = slotsByRole.get(roleId);
+                if (slot == null) {
+                    // Not part of any relation: effective only as itself
+                    result[outside++] = roleId;
+                } else {
+                    effective.set(slot);
+                    effective.or(ancestors[slot]);
+                }
+            }
+            result = Arrays.copyOf(result, outside + effective.cardinality());
+            for (int slot = effective.nextSetBit(0); slot >= 0; slot = effective.nextSetBit(slot + 1)) {
+                result[outside++] = rolesBySlot[slot];
+            }
+            return sortedUnique(result);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** @return the number of roles taking part in the hierarchy */
+    public int roleCount() {
+        long stamp = lock.readLock();
+        try {
+            return slotsByRole.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // ========== UPDATES ==========
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addEdge(long roleId, long parentId) {
+        long stamp = lock.writeLock();
+        try {
+            if (roleId == parentId) {
+                throw new IllegalArgumentException("A role cannot inherit itself");
+            }
+            Integer existingRole = slotsByRole.get(roleId);
+            Integer existingParent = slotsByRole.get(parentId);
+            if (existingRole != null && existingParent != null && ancestors[existingParent].get(existingRole)) {
+                throw new IllegalArgumentException("Role " + parentId + " already inherits role " + roleId);
+            }
+            int child = slotOf(roleId);
+            int parent = slotOf(parentId);
+            if (parents[child].get(parent)) {
+                return;
+            }
+            parents[child].set(parent);
+
+            BitSet gained = (BitSet) ancestors[parent].clone();
+            gained.set(parent);
+            BitSet below = (BitSet) descendants[child].clone();
+            below.set(child);
+            for (int slot = below.nextSetBit(0); slot >= 0; slot = below.nextSetBit(slot + 1)) {
+                ancestors[slot].or(gained);
+            }
+            for (int slot = gained.nextSetBit(0); slot >= 0; slot = gained.nextSetBit(slot + 1)) {
+                descendants[slot].or(below);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeEdge(long roleId, long parentId) {
+        long stamp = lock.writeLock();
+        try {
+            Integer child = slotsByRole.get(roleId);
+            Integer parent = slotsByRole.get(parentId);
+            if (child == null || parent == null || !parents[child].get(parent)) {
+                return;
+            }
+            parents[child].clear(parent);
+            recomputeBelow(child);
+            releaseIfIsolated(child);
+            releaseIfIsolated(parent);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeRole(long roleId) {
+        long stamp = lock.writeLock();
+        try {
+            Integer slot = slotsByRole.get(roleId);
+            if (slot == null) {
+                return;
+            }
+            // Its children lose it (and what it brought them), then it loses its parents
+            BitSet below = descendants[slot];
+            for (int child = below.nextSetBit(0); child >= 0; child = below.nextSetBit(child + 1)) {
+                parents[child].clear(slot);
+            }
+            BitSet touched = (BitSet) parents[slot].clone();
+            parents[slot].clear();
+            BitSet affected = (BitSet) below.clone();
+            affected.set(slot);
+            recompute(affected);
+            touched.or(affected);
+            for (int other = touched.nextSetBit(0); other >= 0; other = touched.nextSetBit(other + 1)) {
+                releaseIfIsolated(other);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            slotsByRole.clear();
+            freeSlots.clear();
+            Arrays.fill(parents, null);
+            Arrays.fill(ancestors, null);
+            Arrays.fill(descendants, null);
+            slotCount = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // ========== CLOSURE MAINTENANCE ==========
+
+    private void recomputeBelow(int slot) {
+        BitSet affected = (BitSet) descendants[slot].clone();
+        affected.set(slot);
+        recompute(affected);
+    }
+
+    /**
+     * Recomputes the ancestors of the affected slots from their direct
+     * parents. In the closure before the change an ancestor always has fewer
+     * ancestors than its descendants, so ordering by that count processes
+     * parents first.
+     */
+    private void recompute(BitSet affected) {
+        int[] order = affected.stream().toArray();
+        long[] keyed = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            keyed[i] = ((long) ancestors[order[i]].cardinality() << 32) | order[i];
+        }
+        Arrays.sort(keyed);
+
+        for (long key : keyed) {
+            int slot = (int) key;
+            BitSet fresh = new BitSet(slotCount);
+            BitSet direct = parents[slot];
+            for (int parent = direct.nextSetBit(0); parent >= 0; parent = direct.nextSetBit(parent + 1)) {
+                fresh.set(parent);
+                fresh.or(ancestors[parent]);
+            }
+            BitSet lost = ancestors[slot];
+            lost.andNot(fresh);
+            for (int ancestor = lost.nextSetBit(0); ancestor >= 0; ancestor = lost.nextSetBit(ancestor + 1)) {
+                descendants[ancestor].clear(slot);
+            }
+            ancestors[slot] = fresh;
+        }
+    }
+
+    // ========== SLOTS ==========
+
+    private int slotOf(long roleId) {
+        Integer slot = slotsByRole.get(roleId);
+        if (slot != null) {
+            return slot;
+        }
+        int free = freeSlots.nextSetBit(0);
+        if (free >= 0) {
+            freeSlots.clear(free);
+        } else {
+            free = slotCount++;
+            if (free == rolesBySlot.length) {
+                int capacity = rolesBySlot.length * 2;
+                rolesBySlot = Arrays.copyOf(rolesBySlot, capacity);
+                parents = Arrays.copyOf(parents, capacity);
+                ancestors = Arrays.copyOf(ancestors, capacity);
+                descendants = Arrays.copyOf(descendants, capacity);
+            }
+        }
+        rolesBySlot[free] = roleId;
+        parents[free] = new BitSet();
+        ancestors[free] = new BitSet();
+        descendants[free] = new BitSet();
+        slotsByRole.put(roleId, free);
+        return free;
+    }
+
+    /**
+     * Gives back the slot of a role left without any relation, so slots
+     * (and bitset widths) follow the roles in the hierarchy, not all roles ever seen.
+     */
+    private void releaseIfIsolated(int slot) {
+        if (!parents[slot].isEmpty() || !descendants[slot].isEmpty()) {
+            return;
+        }
+        slotsByRole.remove(rolesBySlot[slot]);
+        parents[slot] = null;
+        ancestors[slot] = null;
+        descendants[slot] = null;
+        freeSlots.set(slot);
+    }
+
+    private long[] roleIdsOf(long roleId, BitSet[] relation) {
+        long stamp = lock.readLock();
+        try {
+            Integer slot = slotsByRole.get(roleId);
+            if (slot == null) {
+                return NONE;
+            }
+            BitSet bits = relation[slot];
+            long[] roleIds = new long[bits.cardinality()];
+            int i = 0;
+            for (int other = bits.nextSetBit(0); other >= 0; other = bits.nextSetBit(other + 1)) {
+                roleIds[i++] = rolesBySlot[other];
+            }
+            Arrays.sort(roleIds);
+            return roleIds;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static long[] sortedUnique(long[] values) {
+        Arrays.sort(values);
+        int unique = values.length == 0 ? 0 : 1;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] != values[unique - 1]) {
+                values[unique++] = values[i];
+            }
+        }
+        return unique == values.length ? values : Arrays.copyOf(values, unique);
+    }
+}
@@ -0,0 +1,109 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Query side of the roles answered by a read-only role catalog, such as the
+ * memory-mapped catalog file or the columnar copy, instead of the in-memory
+ * read model.
+ *
+ * The catalog tells which read model version it reflects. The catalog is
+ * replaced as a whole, without notifying anyone, so readers waiting for a
+ * token poll the version until it is reached or read-model.consistency-timeout
+ * has passed.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class CatalogRoleReadModel implements RoleReadModelPort {
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final RoleRepositoryPort catalog;
+    private final LongSupplier catalogVersion;
+    private final long consistencyTimeoutNanos;
+
+    /**
+     * @param catalog the read-only catalog answering the queries
+     * @param catalogVersion the read model version the catalog currently reflects
+     * @param consistencyTimeout maximum wait for a read-your-writes token
+     */
+    public CatalogRoleReadModel(RoleRepositoryPort catalog, LongSupplier catalogVersion, Duration consistencyTimeout) {
+        this.catalog = catalog;
+        this.catalogVersion = catalogVersion;
+        this.consistencyTimeoutNanos = consistencyTimeout.toNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findById(Long id) {
+        return catalog.findById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findByName(String name) {
+        return catalog.findByName(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findAll() {
+        return catalog.findAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findByNameContaining(String pattern) {
+        return catalog.findByNameContaining(pattern);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long count() {
+        return catalog.count();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long version() {
+        return catalogVersion.getAsLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean awaitVersion(long target) {
+        long deadline = System.nanoTime() + consistencyTimeoutNanos;
+        while (catalogVersion.getAsLong() < target) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(Math.min(POLL_NANOS, remaining));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,343 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.events.RoleEventVersions;
+import co.onmind.microhex.transverse.events.EventHandler;
+import co.onmind.microhex.transverse.search.SubstringScanner;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory, denormalized read model of the roles (query side of CQRS).
+ *
+ * The model is loaded at startup, from the repository or from the dump of
+ * the last shutdown (see RoleReadModelWarmStart), and then follows the
+ * role event bus as one of its consumers, so queries never touch the
+ * command-side tables or transactions. Each entry keeps the role together
+ * with a lower-cased search key, and a name index answers lookups by name.
+ *
+ * Searches by part of the name scan a {@link SubstringScanner} arena holding
+ * the search keys as UTF-8 bytes back to back, built on the first search.
+ * Roles changed since the arena was built are tracked by id and checked one
+ * by one; the arena is rebuilt once they are more than an eighth of it.
+ *
+ * The durable version of the last applied event (see RoleEventVersions) is
+ * the read model version; it starts at the version of the roles loaded at
+ * startup. Readers that need their own writes wait until the version reaches
+ * their token, bounded by read-model.consistency-timeout.
+ *
+ * It is only created when no role catalog answers the queries, or when this
+ * process publishes the role catalog file (see ReadModelConfiguration).
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class InMemoryRoleReadModel implements RoleReadModelPort, EventHandler<RoleEvent> {
+
+    /**
+     * Denormalized row of the read model.
+     */
+    private record RoleView(Role role, String searchKey) {
+
+        static RoleView of(Role role) {
+            return new RoleView(role, role.getName().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Search keys of the roles as of the time it was built, ordered by id,
+     * with the ids of the roles changed since then.
+     */
+    private record SearchArena(long[] ids, byte[] keys, int[] offsets, ConcurrentSkipListSet<Long> changedIds) {
+    }
+
+    private static final int MIN_CHANGES_BEFORE_REBUILD = 1024;
+
+    private final ConcurrentNavigableMap<Long, RoleView> rolesById = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final Object versionMonitor = new Object();
+    private final long consistencyTimeoutNanos;
+    private final RoleEventVersions versions;
+    private final SubstringScanner scanner = SubstringScanner.create();
+    private final Object arenaMonitor = new Object();
+
+    private volatile long version;
+    private volatile SearchArena searchArena;
+    private volatile ConcurrentSkipListSet<Long> changedIds;
+
+    /**
+     * Creates the read model and loads the current roles.
+     *
+     * @param roleRepositoryPort The command-side repository used for the initial load
+     * @param warmStart Loads the roles, from the last dump when it is valid
+     * @param versions The durable numbering of the role events, taken before the roles are loaded
+     * @param consistencyTimeout Maximum wait for a read-your-writes token
+     */
+    public InMemoryRoleReadModel(RoleRepositoryPort roleRepositoryPort, RoleReadModelWarmStart warmStart,
+                                 RoleEventVersions versions,
+                                 Duration consistencyTimeout) {
+        this.consistencyTimeoutNanos = consistencyTimeout.toNanos();
+        this.versions = versions;
+        this.version = versions.versionOf(-1);
+        for (Role role : warmStart.load(roleRepositoryPort)) {
+            put(role);
+        }
+    }
+
+    /**
+     * Applies a role event from the event bus.
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(RoleEvent event, long sequence, boolean endOfBatch) {
+        switch (event.getType()) {
+            case ROLE_CREATED, ROLE_UPDATED -> put(event.getRole());
+            case ROLE_DELETED -> remove(event.getRoleId());
+        }
+        version = versions.versionOf(sequence);
+        if (endOfBatch && waiters.get() > 0) {
+            synchronized (versionMonitor) {
+                versionMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findById(Long id) {
+        RoleView view = rolesById.get(id);
+        return view != null ? Optional.of(view.role()) : Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Role> findByName(String name) {
+        Long id = idsByName.get(name);
+        return id != null ? findById(id) : Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findAll() {
+        List<Role> roles = new ArrayList<>(rolesById.size());
+        for (RoleView view : rolesById.values()) {
+            roles.add(view.role());
+        }
+        return roles;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Role> findByNameContaining(String pattern) {
+        String key = pattern.toLowerCase(Locale.ROOT);
+        SearchArena arena = searchArena();
+        int[] rows = scanner.scan(arena.keys(), arena.offsets(), arena.ids().length,
+                key.getBytes(StandardCharsets.UTF_8));
+
+        // Merges, in id order, the unchanged roles found in the arena with
+        // the changed roles that match now
+        long[] changed = arena.changedIds().stream().mapToLong(Long::longValue).toArray();
+        List<Role> roles = new ArrayList<>(rows.length);
+        int next = 0;
+        for (int row : rows) {
+            long id = arena.ids()[row];
+            while (next < changed.length && changed[next] < id) {
+                addIfMatches(roles, changed[next++], key);
+            }
+            if (next < changed.length && changed[next] == id) {
+                continue;
+            }
+            RoleView view = rolesById.get(id);
+            if (view != null) {
+                roles.add(view.role());
+            }
+        }
+        while (next < changed.length) {
+            addIfMatches(roles, changed[next++], key);
+        }
+        return roles;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long count() {
+        return rolesById.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long version() {
+        return version;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean awaitVersion(long target) {
+        if (version >= target) {
+            return true;
+        }
+        long deadline = System.nanoTime() + consistencyTimeoutNanos;
+        // Registered before re-checking the version, so the event thread either
+        // sees the waiter or this thread sees the new version
+        waiters.incrementAndGet();
+        try {
+            synchronized (versionMonitor) {
+                while (version < target) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(versionMonitor, remaining);
+                }
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return version >= target;
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Replaces the content of the read model with the given roles, for bulk
+     * changes made without events such as a snapshot import. Run while role
+     * writes are quiet: an event applied during the reload may be undone.
+     *
+     * @param roles every current role
+     */
+    public void reload(Collection<Role> roles) {
+        Set<Long> ids = new HashSet<>(Math.max(16, roles.size() * 2));
+        for (Role role : roles) {
+            put(role);
+            ids.add(role.getId());
+        }
+        for (Long id : rolesById.keySet()) {
+            if (!ids.contains(id)) {
+                remove(id);
+            }
+        }
+    }
+
+    private void addIfMatches(List<Role> roles, long id, String key) {
+        RoleView view = rolesById.get(id);
+        if (view != null && view.searchKey().contains(key)) {
+            roles.add(view.role());
+        }
+    }
+
+    private SearchArena searchArena() {
+        SearchArena arena = searchArena;
+        if (arena != null && !needsRebuild(arena)) {
+            return arena;
+        }
+        synchronized (arenaMonitor) {
+            arena = searchArena;
+            if (arena == null || needsRebuild(arena)) {
+                arena = buildSearchArena();
+                searchArena = arena;
+            }
+            return arena;
+        }
+    }
+
+    private static boolean needsRebuild(SearchArena arena) {
+        int limit = Math.max(MIN_CHANGES_BEFORE_REBUILD, arena.ids().length / 8);
+        // Stops counting at the limit: size() walks the whole set
+        Iterator<Long> changed = arena.changedIds().iterator();
+        for (int i = 0; i <= limit; i++) {
+            if (!changed.hasNext()) {
+                return false;
+            }
+            changed.next();
+        }
+        return true;
+    }
+
+    private SearchArena buildSearchArena() {
+        // Tracked before reading the roles, so a change either reaches the
+        // arena or is in its set of changed ids
+        ConcurrentSkipListSet<Long> changed = new ConcurrentSkipListSet<>();
+        changedIds = changed;
+        int capacity = Math.max(16, rolesById.size());
+        long[] ids = new long[capacity];
+        int[] offsets = new int[capacity + 1];
+        byte[] keys = new byte[capacity * 16];
+        int rows = 0;
+        int length = 0;
+        for (RoleView view : rolesById.values()) {
+            byte[] key = view.searchKey().getBytes(StandardCharsets.UTF_8);
+            if (rows == ids.length) {
+                ids = Arrays.copyOf(ids, rows + (rows >> 1));
+                offsets = Arrays.copyOf(offsets, ids.length + 1);
+            }
+            if (length + key.length > keys.length) {
+                keys = Arrays.copyOf(keys, Math.max(keys.length + (keys.length >> 1), length + key.length));
+            }
+            System.arraycopy(key, 0, keys, length, key.length);
+            length += key.length;
+            ids[rows++] = view.role().getId();
+            offsets[rows] = length;
+        }
+        return new SearchArena(Arrays.copyOf(ids, rows), Arrays.copyOf(keys, length),
+                Arrays.copyOf(offsets, rows + 1), changed);
+    }
+
+    private void changed(Long id) {
+        ConcurrentSkipListSet<Long> changed = changedIds;
+        if (changed != null) {
+            changed.add(id);
+        }
+    }
+
+    private void put(Role role) {
+        RoleView previous = rolesById.put(role.getId(), RoleView.of(role));
+        if (previous != null && !previous.role().getName().equals(role.getName())) {
+            idsByName.remove(previous.role().getName(), role.getId());
+        }
+        idsByName.put(role.getName(), role.getId());
+        changed(role.getId());
+    }
+
+    private void remove(Long id) {
+        RoleView previous = rolesById.remove(id);
+        if (previous != null) {
+            idsByName.remove(previous.role().getName(), id);
+        }
+        changed(id);
+    }
+}
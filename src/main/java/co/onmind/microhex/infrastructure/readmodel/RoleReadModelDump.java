@@ -0,0 +1,18 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.models.Role;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Copy of the role read model saved at shutdown to warm the next start.
+ *
+ * @param databaseId identity of the database the roles come from
+ * @param dataVersion role change version of the database the roles reflect
+ * @param roles the roles of the read model
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public record RoleReadModelDump(UUID databaseId, long dataVersion, Collection<Role> roles) {}
@@ -0,0 +1,133 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * File store for the {@link RoleReadModelDump}.
+ *
+ * The dump is written to a temporary file, forced to disk and moved over the
+ * previous one atomically. The file carries a magic number, a format version,
+ * the identity of the database and the data version of the roles, and a
+ * trailing CRC32 of its content; a file of another format version is ignored
+ * rather than converted.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public class RoleReadModelDumpStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleReadModelDumpStore.class);
+
+    private static final int MAGIC = 0x52524d44; // "RRMD"
+    private static final int FORMAT_VERSION = 2;
+
+    private final Path file;
+
+    /**
+     * @param file the dump file
+     */
+    public RoleReadModelDumpStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Replaces the stored dump.
+     * @param dump the dump to store
+     */
+    public void write(RoleReadModelDump dump) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16), crc))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(dump.databaseId().getMostSignificantBits());
+                out.writeLong(dump.databaseId().getLeastSignificantBits());
+                out.writeLong(dump.dataVersion());
+                out.writeInt(dump.roles().size());
+                for (Role role : dump.roles()) {
+                    out.writeLong(role.getId());
+                    out.writeLong(role.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                    out.writeInt(role.getCreatedAt().getNano());
+                    out.writeUTF(role.getName());
+                }
+                out.writeLong(crc.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write role read model dump " + temp, e);
+        }
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot publish role read model dump " + file, e);
+        }
+    }
+
+    /**
+     * Reads the stored dump.
+     * @return the dump, or empty if there is none or it is not valid
+     */
+    public Optional<RoleReadModelDump> read() {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16), crc))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                logger.warn("Role read model dump {} has an unknown format, ignoring it", file);
+                return Optional.empty();
+            }
+            UUID databaseId = new UUID(in.readLong(), in.readLong());
+            long dataVersion = in.readLong();
+            int count = in.readInt();
+            List<Role> roles = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                roles.add(new Role(id, RoleName.ofNormalized(in.readUTF()), createdAt));
+            }
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                logger.warn("Role read model dump {} has a bad checksum, ignoring it", file);
+                return Optional.empty();
+            }
+            return Optional.of(new RoleReadModelDump(databaseId, dataVersion, roles));
+        } catch (IOException e) {
+            logger.warn("Cannot read role read model dump {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.ports.out.RoleEventPublisherPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dumps the role read model at graceful shutdown (read-model.warm-start.enabled).
+ *
+ * It stops in the last lifecycle phase, after the web server has finished
+ * the requests in flight and before any bean is destroyed: the database is
+ * still open and the event bus still running, so the read model first
+ * applies the events already published, then is dumped. Nothing is dumped
+ * when a role catalog answers the queries instead of the read model.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "read-model.warm-start.enabled", havingValue = "true")
+public class RoleReadModelShutdownDump implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleReadModelShutdownDump.class);
+
+    private final InMemoryRoleReadModel readModel;
+    private final RoleEventPublisherPort eventPublisher;
+    private final RoleReadModelWarmStart warmStart;
+
+    private volatile boolean running;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param readModel The role read model to dump, when created
+     * @param eventPublisher The publisher of the events the read model follows
+     * @param warmStart The warm start the dump is written for
+     */
+    public RoleReadModelShutdownDump(ObjectProvider<InMemoryRoleReadModel> readModel,
+                                     RoleEventPublisherPort eventPublisher, RoleReadModelWarmStart warmStart) {
+        this.readModel = readModel.getIfAvailable();
+        this.eventPublisher = eventPublisher;
+        this.warmStart = warmStart;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (readModel == null || !warmStart.isEnabled()) {
+            return;
+        }
+        try {
+            long dataVersion = warmStart.dataVersion();
+            if (!readModel.awaitVersion(eventPublisher.position())) {
+                logger.warn("Role read model did not catch up with the published events, not dumping it");
+                return;
+            }
+            warmStart.dump(dataVersion, readModel.findAll());
+        } catch (RuntimeException e) {
+            logger.warn("Cannot dump the role read model, the next start will load every role: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stopped last, after the web server.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
@@ -0,0 +1,177 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleChangeLogPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warm start of the role read model from the dump saved at the last shutdown.
+ *
+ * With read-model.warm-start.enabled, the read model is dumped at graceful
+ * shutdown, stamped with the identity and the role change version of the
+ * database. On the next start the dump is validated against the database:
+ * it must come from the same database, it must not be ahead of the current
+ * change version, the change log must still reach back
+ * to its version, and once the roles changed since are reloaded one by one,
+ * the role count must match the repository. Any check failing, or a delta
+ * larger than a quarter of the roles, falls back to loading every role.
+ *
+ * Warm starts need the change log of the JPA mode; the event-sourced mode
+ * loads its roles from memory and always starts cold.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@Component
+public class RoleReadModelWarmStart {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleReadModelWarmStart.class);
+
+    private static final int MIN_DELTA_LIMIT = 1024;
+
+    private final RoleChangeLogPort changeLog;
+    private final RoleReadModelDumpStore store;
+    private final Duration changeLogRetention;
+    private final Clock clock;
+    private final boolean enabled;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param changeLog The role change log, absent in event-sourced mode
+     * @param enabled Whether the read model is dumped at shutdown and reloaded at startup
+     * @param file The dump file
+     * @param changeLogRetention How long role changes are kept for the dumps to catch up
+     * @param clock The clock the retention is counted back from
+     */
+    public RoleReadModelWarmStart(ObjectProvider<RoleChangeLogPort> changeLog,
+                                  @Value("${read-model.warm-start.enabled:false}") boolean enabled,
+                                  @Value("${read-model.warm-start.path:./data/role-read-model.bin}") Path file,
+                                  @Value("${read-model.warm-start.change-log-retention:7d}") Duration changeLogRetention,
+                                  Clock clock) {
+        this.changeLog = changeLog.getIfAvailable();
+        this.enabled = enabled && this.changeLog != null;
+        this.store = new RoleReadModelDumpStore(file);
+        this.changeLogRetention = changeLogRetention;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns whether the read model is dumped at shutdown and reloaded at startup.
+     * @return true if warm starts are enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Loads the roles of the read model: from the dump and the changes made
+     * since when it is valid, otherwise from the repository.
+     *
+     * @param roleRepositoryPort the repository the roles come from
+     * @return the roles, ordered by ID
+     */
+    public List<Role> load(RoleRepositoryPort roleRepositoryPort) {
+        long started = System.nanoTime();
+        Optional<List<Role>> warm = enabled ? loadFromDump(roleRepositoryPort) : Optional.empty();
+        List<Role> roles = warm.orElseGet(roleRepositoryPort::findAll);
+        logger.info("Role read model {} with {} roles in {} ms", warm.isPresent() ? "warm-started" : "loaded",
+                roles.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return roles;
+    }
+
+    /**
+     * Returns the change version to stamp a dump with. Read before the roles
+     * are copied, so changes made in between are reloaded on the next start.
+     *
+     * @return the current role change version of the database
+     */
+    public long dataVersion() {
+        return changeLog.currentVersion();
+    }
+
+    /**
+     * Saves the roles of the read model for the next start, and prunes the
+     * changes older than the retention.
+     *
+     * @param dataVersion the change version the roles reflect
+     * @param roles the roles of the read model
+     */
+    public void dump(long dataVersion, Collection<Role> roles) {
+        long started = System.nanoTime();
+        store.write(new RoleReadModelDump(changeLog.databaseId(), dataVersion, roles));
+        int pruned = changeLog.prune(clock.instant().minus(changeLogRetention));
+        logger.info("Role read model dumped with {} roles at change version {} in {} ms ({} old changes pruned)",
+                roles.size(), dataVersion, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), pruned);
+    }
+
+    private Optional<List<Role>> loadFromDump(RoleRepositoryPort roleRepositoryPort) {
+        Optional<RoleReadModelDump> stored = store.read();
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        RoleReadModelDump dump = stored.get();
+        UUID databaseId = changeLog.databaseId();
+        if (!dump.databaseId().equals(databaseId)) {
+            // Change versions of another database, or of a recreated schema, mean nothing here
+            logger.warn("Role read model dump comes from another database ({}, expected {}), not using it",
+                    dump.databaseId(), databaseId);
+            return Optional.empty();
+        }
+        long currentVersion = changeLog.currentVersion();
+        if (dump.dataVersion() > currentVersion) {
+            logger.warn("Role read model dump is ahead of the database (change version {} > {}), not using it",
+                    dump.dataVersion(), currentVersion);
+            return Optional.empty();
+        }
+        Optional<Set<Long>> changed = changeLog.rolesChangedSince(dump.dataVersion());
+        if (changed.isEmpty()) {
+            logger.info("Role change log no longer reaches back to the dump (change version {}), not using it",
+                    dump.dataVersion());
+            return Optional.empty();
+        }
+        if (changed.get().size() > Math.max(MIN_DELTA_LIMIT, dump.roles().size() / 4)) {
+            logger.info("{} roles changed since the read model dump, loading every role", changed.get().size());
+            return Optional.empty();
+        }
+
+        TreeMap<Long, Role> roles = new TreeMap<>();
+        for (Role role : dump.roles()) {
+            roles.put(role.getId(), role);
+        }
+        for (Long id : changed.get()) {
+            Optional<Role> role = roleRepositoryPort.findById(id);
+            if (role.isPresent()) {
+                roles.put(id, role.get());
+            } else {
+                roles.remove(id);
+            }
+        }
+        long count = roleRepositoryPort.count();
+        if (roles.size() != count) {
+            logger.warn("Role read model dump does not match the database ({} roles, {} expected), not using it",
+                    roles.size(), count);
+            return Optional.empty();
+        }
+        logger.debug("Role read model dump at change version {} caught up with {} changed roles",
+                dump.dataVersion(), changed.get().size());
+        return Optional.of(new ArrayList<>(roles.values()));
+    }
+}
@@ -1,31 +1,134 @@
 package co.onmind.microhex.infrastructure.webclients;
 
 import co.onmind.microhex.transverse.WebClientGeneric;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class NotificationWebClient implements WebClientGeneric {
-    
-    private final RestTemplate restTemplate;
-    private final String notificationUrl;
-    
-    public NotificationWebClient(RestTemplate restTemplate, 
-                               @Value("${notification.service.url}") String baseUrl) {
-        this.restTemplate = restTemplate;
-        this.notificationUrl = baseUrl + "/api/notify";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI notificationUri;
+    private final Duration defaultTimeout;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    public NotificationWebClient(HttpClient httpClient,
+                               ObjectMapper objectMapper,
+                               @Value("${notification.service.url}") String baseUrl,
+                               @Value("${notification.service.timeout:2s}") Duration defaultTimeout,
+                               @Value("${notification.service.max-in-flight:256}") int maxInFlight) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.notificationUri = URI.create(baseUrl + "/api/notify");
+        this.defaultTimeout = defaultTimeout;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
     }
-    
+
     @Override
     public <T> ResponseEntity<String> post(String url, T body) {
+        try {
+            return postAsync(url, body).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<ResponseEntity<String>> postAsync(String url, T body) {
+        return postAsync(url, body, defaultTimeout);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Requests beyond the in-flight limit are rejected immediately with a
+     * RejectedExecutionException instead of queueing behind the slow ones.
+     */
+    @Override
+    public <T> CompletableFuture<ResponseEntity<String>> postAsync(String url, T body, Duration timeout) {
+        if (!inFlight.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    "Notification in-flight limit of " + maxInFlight + " requests reached"));
+        }
+
+        CompletableFuture<HttpResponse<String>> exchange;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(notificationUri)
+                    .timeout(timeout)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+            exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        } catch (JsonProcessingException | RuntimeException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<ResponseEntity<String>> result = exchange
+                .thenApply(NotificationWebClient::toResponseEntity)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        result.whenComplete((response, error) -> {
+            inFlight.release();
+            if (error != null) {
+                // Deadline exceeded or cancelled by the caller: abort the underlying exchange
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the number of requests currently waiting for a response.
+     * @return the in-flight request count
+     */
+    public int getInFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private static ResponseEntity<String> toResponseEntity(HttpResponse<String> response) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<T> entity = new HttpEntity<>(body, headers);
-        return restTemplate.postForEntity(notificationUrl, entity, String.class);
+        headers.putAll(response.headers().map());
+
+        // Keep the RestTemplate contract: error statuses surface as exceptions
+        if (status.is4xxClientError()) {
+            throw HttpClientErrorException.create(status, "", headers,
+                    bytesOf(response.body()), StandardCharsets.UTF_8);
+        }
+        if (status.is5xxServerError()) {
+            throw HttpServerErrorException.create(status, "", headers,
+                    bytesOf(response.body()), StandardCharsets.UTF_8);
+        }
+        return ResponseEntity.status(status).headers(headers).body(response.body());
+    }
+
+    private static byte[] bytesOf(String body) {
+        return body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0];
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,21 @@ package co.onmind.microhex.transverse;
 
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 public interface WebClientGeneric {
     <T> ResponseEntity<String> post(String url, T body);
-}
\ No newline at end of file
+
+    /**
+     * Sends the body without blocking the calling thread.
+     * The returned future can be cancelled to abort the exchange.
+     */
+    <T> CompletableFuture<ResponseEntity<String>> postAsync(String url, T body);
+
+    /**
+     * Sends the body without blocking the calling thread, failing with a
+     * TimeoutException when no response arrives before the given deadline.
+     */
+    <T> CompletableFuture<ResponseEntity<String>> postAsync(String url, T body, Duration timeout);
+}
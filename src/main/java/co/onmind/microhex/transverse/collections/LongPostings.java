@@ -0,0 +1,378 @@
+package co.onmind.microhex.transverse.collections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Primitive multimap from a long key to a sorted set of long values
+ * (a postings list per key), without boxing.
+ *
+ * Keys live in an open-addressing table with linear probing; each key owns a
+ * sorted long[] that grows by half when full. Lookups are a hash probe and a
+ * binary search, and allocate nothing. Tens of millions of values cost little
+ * more than their eight bytes each.
+ *
+ * Not thread-safe for writes: one writer at a time. Reads running at the
+ * same time as a write may see a torn state and return a wrong answer, but
+ * they never throw or loop, so they can run under an optimistic read of a
+ * StampedLock and be retried when the stamp is no longer valid.
+ *
+ * Bulk loads use {@link #append(long, long)} and then {@link #sortAll()},
+ * which sorts every list once instead of inserting each value in place.
+ */
+public class LongPostings {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final long[] NONE = new long[0];
+    private static final int MIN_LIST_CAPACITY = 4;
+
+    /**
+     * Slot arrays, replaced as a whole when the table grows so readers always
+     * see arrays of the same length.
+     */
+    private static final class Table {
+        final long[] keys;
+        final long[][] values;
+        final int[] sizes;
+        final int mask;
+
+        Table(int capacity) {
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            values = new long[capacity][];
+            sizes = new int[capacity];
+            mask = capacity - 1;
+        }
+    }
+
+    private volatile Table table;
+    private int keyCount;
+    private long valueCount;
+
+    /**
+     * @param expectedKeys number of keys to size the table for
+     */
+    public LongPostings(int expectedKeys) {
+        if (expectedKeys < 0) {
+            throw new IllegalArgumentException("Expected keys cannot be negative");
+        }
+        this.table = new Table(tableCapacityFor(expectedKeys));
+    }
+
+    // ========== READS ==========
+
+    /**
+     * Checks whether the key holds the value.
+     * @param key the key
+     * @param value the value
+     * @return true if the value is in the key's list
+     */
+    public boolean contains(long key, long value) {
+        Table t = table;
+        int slot = find(t, key);
+        if (slot < 0) {
+            return false;
+        }
+        long[] list = t.values[slot];
+        if (list == null) {
+            return false;
+        }
+        return Arrays.binarySearch(list, 0, Math.min(t.sizes[slot], list.length), value) >= 0;
+    }
+
+    /**
+     * Returns the number of values held by the key.
+     * @param key the key
+     * @return the size of the key's list, 0 if absent
+     */
+    public int size(long key) {
+        Table t = table;
+        int slot = find(t, key);
+        return slot < 0 ? 0 : t.sizes[slot];
+    }
+
+    /**
+     * Copies a range of the key's values, in ascending order.
+     * @param key the key
+     * @param offset index of the first value to copy
+     * @param limit maximum number of values to copy
+     * @return the values, empty if the key is absent or the range past its end
+     */
+    public long[] copy(long key, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative");
+        }
+        Table t = table;
+        int slot = find(t, key);
+        if (slot < 0) {
+            return NONE;
+        }
+        long[] list = t.values[slot];
+        int size = list == null ? 0 : Math.min(t.sizes[slot], list.length);
+        if (offset >= size) {
+            return NONE;
+        }
+        return Arrays.copyOfRange(list, offset, offset + Math.min(limit, size - offset));
+    }
+
+    /**
+     * Passes each of the key's values to the consumer, in ascending order.
+     * Must not run concurrently with a write.
+     * @param key the key
+     * @param consumer receives the values
+     */
+    public void forEach(long key, LongConsumer consumer) {
+        Table t = table;
+        int slot = find(t, key);
+        if (slot < 0) {
+            return;
+        }
+        long[] list = t.values[slot];
+        for (int i = 0, size = t.sizes[slot]; i < size; i++) {
+            consumer.accept(list[i]);
+        }
+    }
+
+    /** @return the number of keys holding at least one value */
+    public int keyCount() {
+        return keyCount;
+    }
+
+    /** @return the number of values across all keys */
+    public long valueCount() {
+        return valueCount;
+    }
+
+    // ========== WRITES ==========
+
+    /**
+     * Adds the value to the key's list, keeping it sorted.
+     * @param key the key, any value but Long.MIN_VALUE
+     * @param value the value
+     * @return true if the value was not there yet
+     */
+    public boolean add(long key, long value) {
+        int slot = findOrInsert(key);
+        Table t = table;
+        long[] list = t.values[slot];
+        int size = t.sizes[slot];
+        int index = Arrays.binarySearch(list, 0, size, value);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (size == list.length) {
+            long[] grown = new long[grow(size)];
+            System.arraycopy(list, 0, grown, 0, index);
+            grown[index] = value;
+            System.arraycopy(list, index, grown, index + 1, size - index);
+            t.values[slot] = grown;
+        } else {
+            System.arraycopy(list, index, list, index + 1, size - index);
+            list[index] = value;
+        }
+        t.sizes[slot] = size + 1;
+        valueCount++;
+        return true;
+    }
+
+    /**
+     * Appends the value to the key's list without sorting it or checking for
+     * duplicates. Lookups are undefined until {@link #sortAll()} is called.
+     * @param key the key, any value but Long.MIN_VALUE
+     * @param value the value
+     */
+    public void append(long key, long value) {
+        int slot = findOrInsert(key);
+        Table t = table;
+        long[] list = t.values[slot];
+        int size = t.sizes[slot];
+        if (size == list.length) {
+            list = Arrays.copyOf(list, grow(size));
+            t.values[slot] = list;
+        }
+        list[size] = value;
+        t.sizes[slot] = size + 1;
+        valueCount++;
+    }
+
+    /**
+     * Sorts every list, drops duplicates and trims spare capacity.
+     */
+    public void sortAll() {
+        Table t = table;
+        long total = 0;
+        for (int slot = 0; slot <= t.mask; slot++) {
+            long[] list = t.values[slot];
+            if (list == null) {
+                continue;
+            }
+            int size = t.sizes[slot];
+            Arrays.sort(list, 0, size);
+            int unique = size == 0 ? 0 : 1;
+            for (int i = 1; i < size; i++) {
+                if (list[i] != list[unique - 1]) {
+                    list[unique++] = list[i];
+                }
+            }
+            if (unique < list.length) {
+                t.values[slot] = Arrays.copyOf(list, unique);
+            }
+            t.sizes[slot] = unique;
+            total += unique;
+        }
+        valueCount = total;
+    }
+
+    /**
+     * Removes the value from the key's list; the key goes when its list is empty.
+     * @param key the key
+     * @param value the value
+     * @return true if the value was there
+     */
+    public boolean remove(long key, long value) {
+        Table t = table;
+        int slot = find(t, key);
+        if (slot < 0) {
+            return false;
+        }
+        long[] list = t.values[slot];
+        int size = t.sizes[slot];
+        int index = Arrays.binarySearch(list, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(list, index + 1, list, index, size - index - 1);
+        t.sizes[slot] = size - 1;
+        valueCount--;
+        if (size == 1) {
+            delete(t, slot);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the key and all its values.
+     * @param key the key
+     * @return the values the key held, in ascending order
+     */
+    public long[] removeKey(long key) {
+        Table t = table;
+        int slot = find(t, key);
+        if (slot < 0) {
+            return NONE;
+        }
+        long[] values = Arrays.copyOf(t.values[slot], t.sizes[slot]);
+        valueCount -= values.length;
+        delete(t, slot);
+        return values;
+    }
+
+    /**
+     * Removes every key, keeping the table capacity.
+     */
+    public void clear() {
+        table = new Table(table.mask + 1);
+        keyCount = 0;
+        valueCount = 0;
+    }
+
+    // ========== TABLE ==========
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int find(Table t, long key) {
+        int mask = t.mask;
+        int slot = mix(key) & mask;
+        // Bounded so a reader racing a writer cannot spin forever
+        for (int probes = 0; probes <= mask; probes++) {
+            long current = t.keys[slot];
+            if (current == key) {
+                return slot;
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int findOrInsert(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key cannot be Long.MIN_VALUE");
+        }
+        int slot = find(table, key);
+        if (slot >= 0) {
+            return slot;
+        }
+        if ((keyCount + 1) * 3L > table.keys.length * 2L) {
+            resize(table.keys.length * 2);
+        }
+        Table t = table;
+        slot = mix(key) & t.mask;
+        while (t.keys[slot] != EMPTY) {
+            slot = (slot + 1) & t.mask;
+        }
+        t.values[slot] = new long[MIN_LIST_CAPACITY];
+        t.sizes[slot] = 0;
+        t.keys[slot] = key;
+        keyCount++;
+        return slot;
+    }
+
+    private void delete(Table t, int slot) {
+        // Backward-shift deletion keeps every probe chain unbroken
+        int mask = t.mask;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (t.keys[next] != EMPTY) {
+            int home = mix(t.keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                t.values[hole] = t.values[next];
+                t.sizes[hole] = t.sizes[next];
+                t.keys[hole] = t.keys[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        t.keys[hole] = EMPTY;
+        t.values[hole] = null;
+        t.sizes[hole] = 0;
+        keyCount--;
+    }
+
+    private void resize(int capacity) {
+        Table old = table;
+        Table grown = new Table(capacity);
+        for (int i = 0; i <= old.mask; i++) {
+            long key = old.keys[i];
+            if (key == EMPTY) {
+                continue;
+            }
+            int slot = mix(key) & grown.mask;
+            while (grown.keys[slot] != EMPTY) {
+                slot = (slot + 1) & grown.mask;
+            }
+            grown.keys[slot] = key;
+            grown.values[slot] = old.values[i];
+            grown.sizes[slot] = old.sizes[i];
+        }
+        table = grown;
+    }
+
+    private static int tableCapacityFor(int keys) {
+        long wanted = Math.max(16, keys * 3L / 2 + 1);
+        if (wanted > 1 << 30) {
+            throw new IllegalArgumentException("Too many keys: " + keys);
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    private static int grow(int size) {
+        return Math.max(MIN_LIST_CAPACITY, size + (size >> 1));
+    }
+}
@@ -0,0 +1,55 @@
+package co.onmind.microhex.transverse.concurrency;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Lock letting a maintenance operation exclude the regular operations on a
+ * resource for its whole duration, across transactions of its own.
+ *
+ * Regular operations run under the shared side and never wait for each
+ * other; a maintenance operation takes the exclusive side, waits for the
+ * regular operations in progress to finish, and holds the new ones until it
+ * is done. Both sides are reentrant, but a regular operation cannot start
+ * a maintenance operation: it would wait for itself.
+ */
+public class MaintenanceLock {
+
+    /**
+     * Exclusive hold of the lock, released on close.
+     */
+    public interface Hold extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Runs a regular operation, waiting for a maintenance operation in progress.
+     *
+     * @param action the action to run
+     * @return the result of the action
+     */
+    public <T> T withShared(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts a maintenance operation, once the regular operations in progress
+     * have finished.
+     *
+     * @return the hold to close when the maintenance operation ends
+     */
+    public Hold exclusive() {
+        ReentrantReadWriteLock.WriteLock writeLock = lock.writeLock();
+        writeLock.lock();
+        return writeLock::unlock;
+    }
+}
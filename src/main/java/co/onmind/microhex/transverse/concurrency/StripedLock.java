@@ -0,0 +1,111 @@
+package co.onmind.microhex.transverse.concurrency;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of locks shared by keys through their hash.
+ *
+ * Operations on the same key run one at a time; operations on different keys
+ * run in parallel unless their keys land on the same stripe. Memory stays
+ * constant however many keys are seen, at the cost of occasional false
+ * sharing between keys. ReentrantLock is used so virtual threads waiting on a
+ * stripe do not pin their carrier.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+
+    /**
+     * @param stripes number of locks, rounded up to a power of two
+     */
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripes must be positive");
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Runs the action while holding the lock of the key's stripe.
+     *
+     * @param key the key to serialize on
+     * @param action the action to run
+     * @return the result of the action
+     */
+    public <T> T withLock(Object key, Supplier<T> action) {
+        ReentrantLock lock = stripes[indexFor(key)];
+        acquire(lock);
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs the action while holding the locks of every key's stripe. Stripes
+     * are taken in index order, so callers locking several keys at once
+     * cannot deadlock each other.
+     *
+     * @param keys the keys to serialize on
+     * @param action the action to run
+     * @return the result of the action
+     */
+    public <T> T withLocks(Collection<?> keys, Supplier<T> action) {
+        BitSet needed = new BitSet(stripes.length);
+        for (Object key : keys) {
+            needed.set(indexFor(key));
+        }
+        int[] taken = needed.stream().toArray();
+        for (int index : taken) {
+            acquire(stripes[index]);
+        }
+        try {
+            return action.get();
+        } finally {
+            for (int i = taken.length - 1; i >= 0; i--) {
+                stripes[taken[i]].unlock();
+            }
+        }
+    }
+
+    /** @return the number of stripes */
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    /** @return the number of times a lock was taken */
+    public long acquisitionCount() {
+        return acquisitions.sum();
+    }
+
+    /** @return the number of times a caller had to wait for a lock */
+    public long contendedCount() {
+        return contended.sum();
+    }
+
+    private void acquire(ReentrantLock lock) {
+        acquisitions.increment();
+        if (!lock.tryLock()) {
+            contended.increment();
+            lock.lock();
+        }
+    }
+
+    private int indexFor(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
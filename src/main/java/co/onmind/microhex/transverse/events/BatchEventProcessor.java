@@ -0,0 +1,66 @@
+package co.onmind.microhex.transverse.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs an event handler on its own thread, consuming every available entry
+ * in batches and publishing its progress through its sequence.
+ *
+ * @param <E> the entry type
+ */
+public class BatchEventProcessor<E> implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchEventProcessor.class);
+
+    private final RingBuffer<E> ringBuffer;
+    private final SequenceBarrier barrier;
+    private final EventHandler<? super E> handler;
+    private final Sequence sequence = new Sequence(-1);
+
+    public BatchEventProcessor(RingBuffer<E> ringBuffer, SequenceBarrier barrier, EventHandler<? super E> handler) {
+        this.ringBuffer = ringBuffer;
+        this.barrier = barrier;
+        this.handler = handler;
+    }
+
+    /**
+     * Returns the sequence of the last entry processed.
+     * @return the processor sequence
+     */
+    public Sequence getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Stops the processor once it is waiting for new entries.
+     */
+    public void halt() {
+        barrier.alert();
+    }
+
+    @Override
+    public void run() {
+        long nextSequence = sequence.get() + 1;
+        while (true) {
+            long availableSequence = barrier.waitFor(nextSequence);
+            if (availableSequence < nextSequence) {
+                if (barrier.isAlerted()) {
+                    return;
+                }
+                continue;
+            }
+
+            while (nextSequence <= availableSequence) {
+                E event = ringBuffer.get(nextSequence);
+                try {
+                    handler.onEvent(event, nextSequence, nextSequence == availableSequence);
+                } catch (Exception e) {
+                    logger.error("Event handler {} failed at sequence {}", handler.getClass().getSimpleName(), nextSequence, e);
+                }
+                nextSequence++;
+            }
+            sequence.set(availableSequence);
+        }
+    }
+}
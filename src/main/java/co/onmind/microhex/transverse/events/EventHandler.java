@@ -0,0 +1,22 @@
+package co.onmind.microhex.transverse.events;
+
+/**
+ * Consumer of ring buffer entries.
+ *
+ * Entries are reused by the ring buffer, so handlers must copy anything
+ * they need to keep after returning.
+ *
+ * @param <E> the entry type
+ */
+@FunctionalInterface
+public interface EventHandler<E> {
+
+    /**
+     * Handles a published entry.
+     * @param event the entry
+     * @param sequence the sequence of the entry
+     * @param endOfBatch true if this is the last entry currently available
+     * @throws Exception if handling fails; the failure is logged and the entry skipped
+     */
+    void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+}
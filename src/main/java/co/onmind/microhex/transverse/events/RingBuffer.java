@@ -0,0 +1,168 @@
+package co.onmind.microhex.transverse.events;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Preallocated multi-producer ring buffer.
+ *
+ * Entries are created once and reused: producers claim a sequence with
+ * {@link #next()}, fill the entry returned by {@link #get(long)} and make it
+ * visible with {@link #publish(long)}. Claiming is a single CAS on the cursor
+ * and publishing a single ordered store, so no allocation or lock happens on
+ * the producer side. Producers wait only when the buffer is full, until the
+ * slowest consumer (the gating sequences) frees the slot.
+ *
+ * @param <E> the entry type
+ */
+public class RingBuffer<E> {
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final Object[] entries;
+    private final int bufferSize;
+    private final int indexMask;
+    private final int indexShift;
+    private final int[] available;
+
+    private final Sequence cursor = new Sequence(-1);
+    private final Sequence gatingCache = new Sequence(-1);
+    private volatile Sequence[] gatingSequences = new Sequence[0];
+
+    /**
+     * Creates a ring buffer and preallocates all of its entries.
+     * @param factory creates the reusable entries
+     * @param bufferSize number of entries, must be a power of two
+     */
+    public RingBuffer(Supplier<E> factory, int bufferSize) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a power of two");
+        }
+        this.bufferSize = bufferSize;
+        this.indexMask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.entries = new Object[bufferSize];
+        this.available = new int[bufferSize];
+        Arrays.fill(available, -1);
+        for (int i = 0; i < bufferSize; i++) {
+            entries[i] = factory.get();
+        }
+    }
+
+    /**
+     * Claims the next sequence, waiting while the buffer is full.
+     * @return the claimed sequence
+     */
+    public long next() {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - bufferSize;
+            long cachedGating = gatingCache.get();
+
+            if (wrapPoint > cachedGating || cachedGating > current) {
+                long gating = Sequence.minimumOf(gatingSequences, current);
+                if (wrapPoint > gating) {
+                    LockSupport.parkNanos(1);
+                    continue;
+                }
+                gatingCache.set(gating);
+            } else if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Returns the entry for a sequence.
+     * @param sequence the sequence
+     * @return the preallocated entry
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) entries[(int) sequence & indexMask];
+    }
+
+    /**
+     * Makes the entry of a claimed sequence visible to consumers.
+     * @param sequence the claimed sequence
+     */
+    public void publish(long sequence) {
+        AVAILABLE.setRelease(available, (int) sequence & indexMask, (int) (sequence >>> indexShift));
+    }
+
+    /**
+     * Checks whether the entry of a sequence has been published.
+     * @param sequence the sequence
+     * @return true if published
+     */
+    public boolean isAvailable(long sequence) {
+        return (int) AVAILABLE.getAcquire(available, (int) sequence & indexMask) == (int) (sequence >>> indexShift);
+    }
+
+    /**
+     * Returns the highest sequence of a contiguous published range.
+     * Claimed sequences may be published out of order by different producers.
+     * @param lowerBound the first sequence to check
+     * @param availableSequence the highest claimed sequence
+     * @return the highest published sequence without gaps, or lowerBound - 1
+     */
+    public long getHighestPublishedSequence(long lowerBound, long availableSequence) {
+        for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            if (!isAvailable(sequence)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+
+    /**
+     * Registers consumer sequences that producers must not overrun.
+     * @param sequences the consumer sequences
+     */
+    public synchronized void addGatingSequences(Sequence... sequences) {
+        Sequence[] current = gatingSequences;
+        Sequence[] updated = Arrays.copyOf(current, current.length + sequences.length);
+        System.arraycopy(sequences, 0, updated, current.length, sequences.length);
+        gatingSequences = updated;
+    }
+
+    /**
+     * Creates a barrier for consumers that depend on the given sequences,
+     * or on the publisher cursor when none are given.
+     * @param dependents the sequences of the upstream consumers
+     * @return a new sequence barrier
+     */
+    public SequenceBarrier newBarrier(Sequence... dependents) {
+        return new SequenceBarrier(this, cursor, dependents);
+    }
+
+    /**
+     * Returns the highest claimed sequence.
+     * @return the cursor value
+     */
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    /**
+     * Returns the number of entries.
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns the number of entries that can be claimed without waiting.
+     * @return the remaining capacity
+     */
+    public long remainingCapacity() {
+        long produced = cursor.get();
+        long consumed = Sequence.minimumOf(gatingSequences, produced);
+        return bufferSize - (produced - consumed);
+    }
+}
@@ -0,0 +1,143 @@
+package co.onmind.microhex.transverse.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * In-process event bus built on a preallocated ring buffer.
+ *
+ * Handlers are arranged in stages: handlers of the same stage consume every
+ * entry in parallel, each on its own thread, and handlers added with
+ * {@link HandlerGroup#then} only see an entry after the whole previous stage
+ * has processed it. Producers are gated on the last stage, so entries are
+ * reused only once every handler is done with them.
+ *
+ * <pre>
+ * bus.handleEventsWith(indexHandler, metricsHandler).then(notificationHandler);
+ * bus.start();
+ * </pre>
+ *
+ * @param <E> the entry type
+ */
+public class RingBufferEventBus<E> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferEventBus.class);
+
+    private final RingBuffer<E> ringBuffer;
+    private final ThreadFactory threadFactory;
+    private final List<BatchEventProcessor<E>> processors = new ArrayList<>();
+    private final Set<Sequence> lastStage = new LinkedHashSet<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private boolean started;
+
+    /**
+     * Creates an event bus.
+     * @param factory creates the reusable entries
+     * @param bufferSize number of entries, must be a power of two
+     * @param threadFactory creates one thread per handler
+     */
+    public RingBufferEventBus(Supplier<E> factory, int bufferSize, ThreadFactory threadFactory) {
+        this.ringBuffer = new RingBuffer<>(factory, bufferSize);
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Adds handlers consuming published entries in parallel.
+     * @param handlers the handlers
+     * @return the group, to add handlers that depend on it
+     */
+    @SafeVarargs
+    public final HandlerGroup handleEventsWith(EventHandler<? super E>... handlers) {
+        return addStage(new Sequence[0], handlers);
+    }
+
+    /**
+     * Starts one thread per handler and gates producers on the last stage.
+     */
+    public synchronized void start() {
+        if (started) {
+            throw new IllegalStateException("Event bus already started");
+        }
+        started = true;
+        ringBuffer.addGatingSequences(lastStage.toArray(Sequence[]::new));
+        for (BatchEventProcessor<E> processor : processors) {
+            Thread thread = threadFactory.newThread(processor);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    public RingBuffer<E> getRingBuffer() {
+        return ringBuffer;
+    }
+
+    /**
+     * Waits for the handlers to process every published entry, then stops them.
+     */
+    @Override
+    public synchronized void close() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        long cursor = ringBuffer.getCursor();
+        while (Sequence.minimumOf(lastStage.toArray(Sequence[]::new), cursor) < cursor
+                && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        for (BatchEventProcessor<E> processor : processors) {
+            processor.halt();
+        }
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        logger.debug("Event bus stopped at sequence {}", cursor);
+    }
+
+    @SafeVarargs
+    private synchronized HandlerGroup addStage(Sequence[] dependents, EventHandler<? super E>... handlers) {
+        if (started) {
+            throw new IllegalStateException("Handlers must be added before the event bus is started");
+        }
+        SequenceBarrier barrier = ringBuffer.newBarrier(dependents);
+        Sequence[] stage = new Sequence[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            BatchEventProcessor<E> processor = new BatchEventProcessor<>(ringBuffer, barrier, handlers[i]);
+            processors.add(processor);
+            stage[i] = processor.getSequence();
+        }
+        for (Sequence dependent : dependents) {
+            lastStage.remove(dependent);
+        }
+        lastStage.addAll(List.of(stage));
+        return new HandlerGroup(stage);
+    }
+
+    /**
+     * Group of handlers forming a stage of the bus.
+     */
+    public class HandlerGroup {
+
+        private final Sequence[] sequences;
+
+        private HandlerGroup(Sequence[] sequences) {
+            this.sequences = sequences;
+        }
+
+        /**
+         * Adds handlers that only see an entry after this group processed it.
+         * @param handlers the handlers
+         * @return the new group
+         */
+        @SafeVarargs
+        public final HandlerGroup then(EventHandler<? super E>... handlers) {
+            return addStage(sequences, handlers);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package co.onmind.microhex.transverse.events;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Barrier used by a consumer to wait for entries that are published and
+ * already processed by the consumers it depends on.
+ *
+ * Waiting spins first, then yields, then parks with a growing delay capped at
+ * one millisecond, so producers never have to signal consumers.
+ */
+public class SequenceBarrier {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    private final RingBuffer<?> ringBuffer;
+    private final Sequence cursor;
+    private final Sequence[] dependents;
+    private volatile boolean alerted;
+
+    SequenceBarrier(RingBuffer<?> ringBuffer, Sequence cursor, Sequence[] dependents) {
+        this.ringBuffer = ringBuffer;
+        this.cursor = cursor;
+        this.dependents = dependents;
+    }
+
+    /**
+     * Waits until the given sequence can be consumed or the barrier is alerted.
+     * @param sequence the sequence to wait for
+     * @return the highest sequence that can be consumed, lower than the
+     *         requested one only when the barrier was alerted
+     */
+    public long waitFor(long sequence) {
+        int tries = 0;
+        long parkNanos = 1_000L;
+        long available;
+        while ((available = dependentSequence()) < sequence) {
+            if (alerted) {
+                return available;
+            }
+            if (tries < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+            }
+            tries++;
+        }
+        return dependents.length == 0 ? ringBuffer.getHighestPublishedSequence(sequence, available) : available;
+    }
+
+    /**
+     * Returns the highest sequence reached by the cursor or the upstream consumers.
+     * @return the dependent sequence
+     */
+    public long dependentSequence() {
+        return dependents.length == 0 ? cursor.get() : Sequence.minimumOf(dependents, Long.MAX_VALUE);
+    }
+
+    /**
+     * Wakes up the consumer waiting on this barrier so it can stop.
+     */
+    public void alert() {
+        alerted = true;
+    }
+
+    public boolean isAlerted() {
+        return alerted;
+    }
+}
@@ -0,0 +1,236 @@
+package co.onmind.microhex.transverse.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-evicting cache of results for idempotent request execution.
+ *
+ * The first request with a key runs the action; its result is kept for the
+ * TTL and replayed to later requests with the same key. Requests arriving
+ * while the first one is still running wait for its result instead of
+ * running the action again. Results rejected by the cacheable predicate
+ * (e.g. transient server errors) are handed to the concurrent waiters but
+ * not kept, so a later retry runs the action again.
+ *
+ * When the cache is full the oldest completed entries are evicted first.
+ * Entries still in flight are never evicted, since a duplicate arriving then
+ * would run the action a second time; the cache can exceed its bound by the
+ * number of executions running at once.
+ *
+ * @param <V> the result type
+ */
+public class IdempotencyCache<V> {
+
+    /**
+     * Result of an execution and whether it was replayed from the cache.
+     */
+    public record Outcome<V>(V value, boolean replayed) {}
+
+    private static final long IN_FLIGHT = Long.MAX_VALUE;
+
+    private final Map<String, Entry<V>> entries = new LinkedHashMap<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final long inFlightTimeoutMillis;
+    private final Clock clock;
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * @param maxEntries maximum number of keys kept
+     * @param ttl how long a completed result is replayed
+     * @param inFlightTimeout how long a duplicate waits for the first execution
+     * @param clock clock used for expiry
+     */
+    public IdempotencyCache(int maxEntries, Duration ttl, Duration inFlightTimeout, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.inFlightTimeoutMillis = inFlightTimeout.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Builds a cache key from a client key and a hash of the request it was sent with,
+     * so a key reused with a different request does not replay the wrong result.
+     *
+     * @param idempotencyKey the key sent by the client
+     * @param requestParts the parts identifying the request (method, path, body fields)
+     * @return the cache key
+     */
+    public static String requestKey(String idempotencyKey, Object... requestParts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : requestParts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return idempotencyKey + ':' + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Runs the action once per key and replays its result.
+     *
+     * @param key the cache key, see {@link #requestKey(String, Object...)}
+     * @param action the action to run
+     * @param cacheable whether a result may be kept for replay
+     * @return the result and whether it was replayed
+     * @throws IdempotencyInProgressException if a duplicate waited too long for the first execution
+     */
+    public Outcome<V> execute(String key, Supplier<V> action, Predicate<V> cacheable) {
+        Entry<V> entry;
+        boolean owner = false;
+        synchronized (entries) {
+            long now = clock.millis();
+            evictExpired(now);
+            entry = entries.get(key);
+            if (entry == null || entry.expiresAt <= now) {
+                entry = new Entry<>();
+                entries.remove(key);
+                entries.put(key, entry);
+                owner = true;
+                evictOverflow();
+            }
+        }
+
+        if (!owner) {
+            replayed.increment();
+            return new Outcome<>(await(key, entry), true);
+        }
+
+        executed.increment();
+        try {
+            V value = action.get();
+            if (cacheable.test(value)) {
+                entry.expiresAt = clock.millis() + ttlMillis;
+            } else {
+                remove(key, entry);
+            }
+            entry.future.complete(value);
+            return new Outcome<>(value, false);
+        } catch (RuntimeException | Error e) {
+            remove(key, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops every completed result, for bulk changes that make the results
+     * stale, such as a snapshot import replacing the roles they refer to.
+     * Executions still in flight keep their entry until they complete.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.expiresAt != IN_FLIGHT);
+        }
+    }
+
+    /**
+     * Returns the number of keys currently held.
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** @return the number of actions run */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /** @return the number of results replayed or shared with a waiting duplicate */
+    public long replayedCount() {
+        return replayed.sum();
+    }
+
+    /** @return the number of entries evicted before expiry because the cache was full */
+    public long evictedCount() {
+        return evicted.sum();
+    }
+
+    private V await(String key, Entry<V> entry) {
+        try {
+            return entry.future.get(inFlightTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyInProgressException(
+                    "A request with the same idempotency key is still in progress: " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyInProgressException("Interrupted while waiting for idempotency key " + key);
+        } catch (ExecutionException e) {
+            // The first execution failed: the duplicate fails the same way
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void remove(String key, Entry<V> entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private void evictExpired(long now) {
+        // Entries are in insertion order; completed entries share one TTL, so
+        // the scan can stop at the first live one
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<V> entry = iterator.next();
+            if (entry.expiresAt == IN_FLIGHT) {
+                continue;
+            }
+            if (entry.expiresAt > now) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().expiresAt == IN_FLIGHT) {
+                continue;
+            }
+            iterator.remove();
+            evicted.increment();
+        }
+    }
+
+    /**
+     * Result slot for one key; in flight until the first execution completes.
+     */
+    private static final class Entry<V> {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        volatile long expiresAt = IN_FLIGHT;
+    }
+}
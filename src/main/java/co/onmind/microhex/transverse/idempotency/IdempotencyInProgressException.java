@@ -0,0 +1,12 @@
+package co.onmind.microhex.transverse.idempotency;
+
+/**
+ * Thrown when a duplicate request gives up waiting for the first execution
+ * with the same idempotency key.
+ */
+public class IdempotencyInProgressException extends RuntimeException {
+
+    public IdempotencyInProgressException(String message) {
+        super(message);
+    }
+}
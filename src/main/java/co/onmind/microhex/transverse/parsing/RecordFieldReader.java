@@ -0,0 +1,201 @@
+package co.onmind.microhex.transverse.parsing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads one field of every record of a stream of NDJSON or CSV records,
+ * one record at a time, so the stream never has to fit in memory.
+ *
+ * - NDJSON: one JSON value per line, either an object holding the field or
+ *   a plain string; blank lines are skipped.
+ * - CSV (RFC 4180): comma-separated, fields optionally double-quoted, with
+ *   "" for a quote and line breaks allowed inside quotes. If the first
+ *   record has a column named after the field it is the header and that
+ *   column is read; otherwise the first column of every record is.
+ *
+ * A record that cannot be read, or has no such field, yields null instead
+ * of ending the stream, so callers can count it and go on.
+ */
+public final class RecordFieldReader implements Iterator<String>, Closeable {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private enum Format { NDJSON, CSV }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final String field;
+    private final StringBuilder value = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+    private int column = -1;
+    private boolean ready;
+    private boolean ended;
+    private String next;
+
+    private RecordFieldReader(InputStream input, Format format, String field) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16);
+        this.format = format;
+        this.field = field;
+    }
+
+    /**
+     * Reads a field from newline-delimited JSON.
+     *
+     * @param input the UTF-8 records
+     * @param field the name of the field to read
+     * @return the reader
+     */
+    public static RecordFieldReader ndjson(InputStream input, String field) {
+        return new RecordFieldReader(input, Format.NDJSON, field);
+    }
+
+    /**
+     * Reads a column from CSV.
+     *
+     * @param input the UTF-8 records
+     * @param column the header name of the column to read
+     * @return the reader
+     */
+    public static RecordFieldReader csv(InputStream input, String column) {
+        return new RecordFieldReader(input, Format.CSV, column);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws UncheckedIOException if the stream cannot be read
+     */
+    @Override
+    public boolean hasNext() {
+        if (!ready && !ended) {
+            try {
+                ready = format == Format.NDJSON ? readJsonRecord() : readCsvRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ended = !ready;
+        }
+        return ready;
+    }
+
+    /**
+     * Returns the field of the next record.
+     * @return the field value, or null if the record could not be read
+     */
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ready = false;
+        return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean readJsonRecord() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return false;
+            }
+        } while (line.isBlank());
+        next = null;
+        try {
+            JsonNode node = JSON.readTree(line);
+            if (node.isTextual()) {
+                next = node.textValue();
+            } else if (node.isObject() && node.path(field).isTextual()) {
+                next = node.get(field).textValue();
+            }
+        } catch (IOException e) {
+            // Malformed line: counted by the caller as an unreadable record
+        }
+        return true;
+    }
+
+    private boolean readCsvRecord() throws IOException {
+        if (!readCsvFields()) {
+            return false;
+        }
+        if (column < 0) {
+            column = 0;
+            for (int i = 0; i < fields.size(); i++) {
+                if (fields.get(i).trim().equalsIgnoreCase(field)) {
+                    column = i;
+                    // Header row, the first record is the next one
+                    return readCsvRecord();
+                }
+            }
+        }
+        next = column < fields.size() ? fields.get(column) : null;
+        return true;
+    }
+
+    /**
+     * Splits the next CSV record into fields; false at the end of the stream.
+     */
+    private boolean readCsvFields() throws IOException {
+        fields.clear();
+        value.setLength(0);
+        int c = reader.read();
+        // Skips empty lines between records
+        while (c == '\r' || c == '\n') {
+            c = reader.read();
+        }
+        if (c < 0) {
+            return false;
+        }
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    // Unterminated quote: keeps what was read
+                    fields.add(value.toString());
+                    return true;
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                value.append((char) c);
+            } else if (c == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(value.toString());
+                value.setLength(0);
+            } else if (c < 0 || c == '\n' || c == '\r') {
+                fields.add(value.toString());
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                return true;
+            } else {
+                value.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package co.onmind.microhex.transverse.search;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Substring scan over an arena of names stored back to back in one byte array.
+ *
+ * Row r of the arena is the bytes between offsets[r] and offsets[r + 1]; the
+ * scan returns, in row order, every row containing the pattern bytes. It is
+ * meant for ad-hoc "contains" searches that no index can serve.
+ *
+ * When the JDK Vector API is available (the application runs with
+ * --add-modules jdk.incubator.vector) the arena is read one vector at a time:
+ * the positions holding both the first and the last byte of the pattern at
+ * the right distance are found with two lane-wise compares, and only those
+ * candidates are verified byte by byte. Without it the same scan runs one
+ * byte at a time. Arenas larger than the parallel threshold are split into
+ * row ranges scanned on a ForkJoin pool.
+ */
+public final class SubstringScanner {
+
+    private static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 20;
+    private static final int CHUNK_BYTES = 1 << 18;
+    private static final int[] NO_ROWS = new int[0];
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final boolean vectorized;
+
+    /**
+     * @param pool pool scanning large arenas in parallel
+     * @param parallelThreshold arena size, in bytes, from which the scan is split across the pool
+     * @param vectorized whether to use the Vector API when it is available
+     */
+    public SubstringScanner(ForkJoinPool pool, int parallelThreshold, boolean vectorized) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.vectorized = vectorized && VECTOR_API;
+    }
+
+    /**
+     * Creates a scanner using the Vector API when available and the common pool.
+     * @return the scanner
+     */
+    public static SubstringScanner create() {
+        return new SubstringScanner(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD, true);
+    }
+
+    /**
+     * Returns whether this scanner compares whole vectors.
+     * @return true if the Vector API is used
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Finds the rows containing the pattern.
+     *
+     * @param arena the names, back to back
+     * @param offsets start of each row, followed by the end of the last one
+     * @param rows number of rows
+     * @param pattern the bytes to look for
+     * @return the matching rows, in ascending order
+     */
+    public int[] scan(byte[] arena, int[] offsets, int rows, byte[] pattern) {
+        if (rows == 0) {
+            return NO_ROWS;
+        }
+        if (pattern.length == 0) {
+            int[] all = new int[rows];
+            Arrays.setAll(all, row -> row);
+            return all;
+        }
+        if (offsets[rows] - offsets[0] >= parallelThreshold && pool.getParallelism() > 1) {
+            return pool.invoke(new ScanTask(arena, offsets, 0, rows, pattern));
+        }
+        return scanRange(arena, offsets, 0, rows, pattern);
+    }
+
+    private int[] scanRange(byte[] arena, int[] offsets, int fromRow, int toRow, byte[] pattern) {
+        int[] matches = new int[toRow - fromRow];
+        int count = vectorized
+                ? VectorSubstringKernel.scan(arena, offsets, fromRow, toRow, pattern, matches)
+                : scanScalar(arena, offsets, fromRow, toRow, pattern, matches, 0, offsets[fromRow]);
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Byte-at-a-time scan of the rows from fromRow, starting at byte position start.
+     * Appends the matching rows after the first count ones and returns the new count.
+     */
+    static int scanScalar(byte[] arena, int[] offsets, int fromRow, int toRow, byte[] pattern,
+                          int[] matches, int count, int start) {
+        int length = pattern.length;
+        byte first = pattern[0];
+        for (int row = fromRow; row < toRow; row++) {
+            int last = offsets[row + 1] - length;
+            for (int position = Math.max(start, offsets[row]); position <= last; position++) {
+                if (arena[position] == first
+                        && Arrays.equals(arena, position, position + length, pattern, 0, length)) {
+                    matches[count++] = row;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Splits a row range in two until it is small enough to scan on one worker.
+     */
+    private final class ScanTask extends RecursiveTask<int[]> {
+
+        private final byte[] arena;
+        private final int[] offsets;
+        private final int fromRow;
+        private final int toRow;
+        private final byte[] pattern;
+
+        ScanTask(byte[] arena, int[] offsets, int fromRow, int toRow, byte[] pattern) {
+            this.arena = arena;
+            this.offsets = offsets;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.pattern = pattern;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (offsets[toRow] - offsets[fromRow] <= CHUNK_BYTES || toRow - fromRow < 2) {
+                return scanRange(arena, offsets, fromRow, toRow, pattern);
+            }
+            // Split at the row holding the middle byte, so both halves carry the same work
+            int middleByte = (offsets[fromRow] + offsets[toRow]) >>> 1;
+            int split = Arrays.binarySearch(offsets, fromRow, toRow, middleByte);
+            split = Math.min(Math.max(split >= 0 ? split : -split - 1, fromRow + 1), toRow - 1);
+            ScanTask right = new ScanTask(arena, offsets, split, toRow, pattern);
+            right.fork();
+            int[] left = new ScanTask(arena, offsets, fromRow, split, pattern).compute();
+            int[] rightMatches = right.join();
+            int[] matches = Arrays.copyOf(left, left.length + rightMatches.length);
+            System.arraycopy(rightMatches, 0, matches, left.length, rightMatches.length);
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package co.onmind.microhex.transverse.search;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * Vector API kernel of the {@link SubstringScanner}.
+ *
+ * Loaded only when the jdk.incubator.vector module is present. Each step
+ * loads two vectors, one at the current position and one pattern length
+ * further minus one, and keeps the lanes holding the first and the last
+ * pattern byte respectively: a single compare on the first byte lets through
+ * every occurrence of a common letter, the pair rarely matches by chance.
+ */
+final class VectorSubstringKernel {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private VectorSubstringKernel() {
+    }
+
+    static int scan(byte[] arena, int[] offsets, int fromRow, int toRow, byte[] pattern, int[] matches) {
+        int length = pattern.length;
+        int lanes = SPECIES.length();
+        int end = offsets[toRow];
+        ByteVector first = ByteVector.broadcast(SPECIES, pattern[0]);
+        ByteVector last = ByteVector.broadcast(SPECIES, pattern[length - 1]);
+
+        int count = 0;
+        int row = fromRow;
+        int position = offsets[fromRow];
+        // Both loads stay within the range scanned
+        int vectorEnd = end - (length - 1) - lanes;
+        while (position <= vectorEnd) {
+            long candidates = ByteVector.fromArray(SPECIES, arena, position).eq(first)
+                    .and(ByteVector.fromArray(SPECIES, arena, position + length - 1).eq(last))
+                    .toLong();
+            int next = position + lanes;
+            while (candidates != 0) {
+                int candidate = position + Long.numberOfTrailingZeros(candidates);
+                candidates &= candidates - 1;
+                while (offsets[row + 1] <= candidate) {
+                    row++;
+                }
+                int rowEnd = offsets[row + 1];
+                if (candidate + length <= rowEnd
+                        && Arrays.equals(arena, candidate, candidate + length, pattern, 0, length)) {
+                    matches[count++] = row;
+                    // The rest of the row is not needed any more
+                    int skip = rowEnd - position;
+                    candidates = skip >= lanes ? 0 : candidates & (-1L << skip);
+                    next = Math.max(next, rowEnd);
+                }
+            }
+            position = next;
+        }
+
+        // The last bytes, too few for a vector, one at a time
+        while (row < toRow && offsets[row + 1] <= position) {
+            row++;
+        }
+        if (count > 0 && row < toRow && matches[count - 1] == row) {
+            row++;
+            position = row < toRow ? offsets[row] : end;
+        }
+        return SubstringScanner.scanScalar(arena, offsets, row, toRow, pattern, matches, count, position);
+    }
+}
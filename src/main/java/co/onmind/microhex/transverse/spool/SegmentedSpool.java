@@ -0,0 +1,419 @@
+package co.onmind.microhex.transverse.spool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * File-backed, segmented, append-only spool of opaque records.
+ *
+ * Records are appended to memory-mapped segment files of a fixed size; a new
+ * segment is started when the active one is full. Each record is stored as
+ * [int length][int CRC32][payload], and unwritten space reads as length 0, so
+ * on startup the segments are scanned and the write position is placed after
+ * the last record with a valid checksum (a torn write is discarded).
+ *
+ * Records are consumed in order with {@link #peek(int)} and {@link #acknowledge(int)}.
+ * The read position is kept in a checkpoint file and fully consumed segments
+ * are deleted.
+ *
+ * Durability is chosen with the {@link FsyncPolicy}: forcing every append to
+ * disk, forcing at a fixed interval, or leaving it to the operating system.
+ * Unless the policy is {@link FsyncPolicy#NEVER}, a segment is also forced
+ * when the spool rolls over to the next one, so the interval never leaves
+ * records of a full segment behind.
+ */
+public class SegmentedSpool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentedSpool.class);
+
+    static final int HEADER_SIZE = 8;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "spool.checkpoint";
+
+    /**
+     * When appended records are forced to disk.
+     */
+    public enum FsyncPolicy {
+        /** Force after every append: no loss on crash, slowest. */
+        ALWAYS,
+        /** Force at a fixed interval: bounded loss window. */
+        INTERVAL,
+        /** Leave write-back to the operating system: fastest. */
+        NEVER
+    }
+
+    /**
+     * Summary of a segment file.
+     */
+    public record SegmentInfo(String file, long sizeBytes, int records, int pendingRecords) {}
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final ScheduledExecutorService fsyncScheduler;
+    private final List<Segment> segments = new ArrayList<>();
+
+    private int readRecordIndex;
+    private int readOffset;
+    private boolean dirty;
+
+    /**
+     * Opens the spool, recovering existing segments and the read checkpoint.
+     *
+     * @param directory directory holding the segment files
+     * @param segmentSize size of each segment file in bytes
+     * @param fsyncPolicy when appended records are forced to disk
+     * @param fsyncInterval interval used with {@link FsyncPolicy#INTERVAL}
+     */
+    public SegmentedSpool(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size must be larger than " + HEADER_SIZE + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open spool at " + directory, e);
+        }
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            fsyncScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("spool-fsync").daemon(true).factory());
+            long millis = fsyncInterval.toMillis();
+            fsyncScheduler.scheduleWithFixedDelay(this::force, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            fsyncScheduler = null;
+        }
+    }
+
+    /**
+     * Appends a record, rolling over to a new segment when the active one is full.
+     * @param payload the record bytes
+     */
+    public synchronized void append(byte[] payload) {
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit in a segment");
+        }
+        Segment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (active == null || active.writePosition + recordSize > segmentSize) {
+            if (active != null) {
+                // force() only covers the active segment: the outgoing one is forced now
+                forceOutgoing(active);
+            }
+            active = openSegment(active == null ? 0 : active.id + 1);
+            segments.add(active);
+        }
+        active.write(payload);
+        dirty = true;
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            force();
+        }
+    }
+
+    /**
+     * Returns up to max records from the read position without consuming them.
+     * @param max the maximum number of records
+     * @return the pending records in append order
+     */
+    public synchronized List<byte[]> peek(int max) {
+        List<byte[]> records = new ArrayList<>(Math.min(max, 64));
+        int recordIndex = readRecordIndex;
+        int offset = readOffset;
+        for (int s = 0; s < segments.size() && records.size() < max; s++) {
+            Segment segment = segments.get(s);
+            while (recordIndex < segment.records && records.size() < max) {
+                byte[] payload = segment.read(offset);
+                records.add(payload);
+                offset += HEADER_SIZE + payload.length;
+                recordIndex++;
+            }
+            recordIndex = 0;
+            offset = 0;
+        }
+        return records;
+    }
+
+    /**
+     * Consumes records from the read position, deleting segments that are fully consumed
+     * and persisting the new read position.
+     * @param count the number of records to consume
+     */
+    public synchronized void acknowledge(int count) {
+        int remaining = count;
+        while (remaining > 0 && !segments.isEmpty()) {
+            Segment head = segments.get(0);
+            if (readRecordIndex >= head.records) {
+                if (segments.size() == 1) {
+                    break;
+                }
+                dropHead();
+                continue;
+            }
+            byte[] payload = head.read(readOffset);
+            readOffset += HEADER_SIZE + payload.length;
+            readRecordIndex++;
+            remaining--;
+        }
+        if (!segments.isEmpty() && readRecordIndex >= segments.get(0).records && segments.size() > 1) {
+            dropHead();
+        }
+        writeCheckpoint();
+    }
+
+    /**
+     * Returns the number of records not yet consumed.
+     * @return the pending record count
+     */
+    public synchronized long pendingCount() {
+        long pending = -readRecordIndex;
+        for (Segment segment : segments) {
+            pending += segment.records;
+        }
+        return Math.max(pending, 0);
+    }
+
+    /**
+     * Describes the segment files of the spool.
+     * @return one entry per segment, oldest first
+     */
+    public synchronized List<SegmentInfo> segments() {
+        List<SegmentInfo> infos = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            int pending = i == 0 ? segment.records - readRecordIndex : segment.records;
+            infos.add(new SegmentInfo(segment.path.getFileName().toString(), segment.writePosition,
+                    segment.records, pending));
+        }
+        return infos;
+    }
+
+    /**
+     * Deletes every segment and resets the read position.
+     * @return the number of pending records discarded
+     */
+    public synchronized long purge() {
+        long discarded = pendingCount();
+        long nextId = segments.isEmpty() ? 0 : segments.get(segments.size() - 1).id + 1;
+        while (!segments.isEmpty()) {
+            segments.remove(0).delete();
+        }
+        readRecordIndex = 0;
+        readOffset = 0;
+        // Keep segment IDs increasing so the checkpoint never matches a purged segment
+        segments.add(openSegment(nextId));
+        writeCheckpoint();
+        return discarded;
+    }
+
+    /**
+     * Forces the appended records of the active segment to disk.
+     */
+    public synchronized void force() {
+        if (dirty && !segments.isEmpty()) {
+            segments.get(segments.size() - 1).buffer.force();
+            dirty = false;
+        }
+    }
+
+    private void forceOutgoing(Segment segment) {
+        if (dirty && fsyncPolicy != FsyncPolicy.NEVER) {
+            segment.buffer.force();
+        }
+        dirty = false;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (fsyncScheduler != null) {
+            fsyncScheduler.shutdownNow();
+        }
+        force();
+        for (Segment segment : segments) {
+            segment.closeChannel();
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        long[] checkpoint = readCheckpoint();
+        for (Path file : files) {
+            long id = Long.parseLong(file.getFileName().toString().replace(SEGMENT_SUFFIX, ""));
+            if (checkpoint != null && id < checkpoint[0]) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            Segment segment = openSegment(id);
+            segment.scan();
+            segments.add(segment);
+        }
+        if (checkpoint != null && !segments.isEmpty() && segments.get(0).id == checkpoint[0]) {
+            readRecordIndex = (int) Math.min(checkpoint[1], segments.get(0).records);
+            readOffset = segments.get(0).offsetOf(readRecordIndex);
+        }
+        logger.info("Spool at {} opened with {} segments and {} pending records",
+                directory, segments.size(), pendingCount());
+    }
+
+    private void dropHead() {
+        segments.remove(0).delete();
+        readRecordIndex = 0;
+        readOffset = 0;
+    }
+
+    private long[] readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() < Long.BYTES * 2) {
+            return null;
+        }
+        return new long[] { buffer.getLong(), buffer.getLong() };
+    }
+
+    private void writeCheckpoint() {
+        if (segments.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2)
+                .putLong(segments.get(0).id)
+                .putLong(readRecordIndex);
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try {
+            Files.write(temp, buffer.array(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.SYNC);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write spool checkpoint", e);
+        }
+    }
+
+    private Segment openSegment(long id) {
+        Path path = directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            return new Segment(id, path, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open spool segment " + path, e);
+        }
+    }
+
+    /**
+     * Memory-mapped segment file.
+     */
+    private final class Segment {
+
+        final long id;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int writePosition;
+        int records;
+
+        Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        void write(byte[] payload) {
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            buffer.put(writePosition + HEADER_SIZE, payload);
+            buffer.putInt(writePosition + 4, (int) crc.getValue());
+            // Length last: a record becomes visible to recovery only once fully written
+            buffer.putInt(writePosition, payload.length);
+            writePosition += HEADER_SIZE + payload.length;
+            records++;
+        }
+
+        byte[] read(int offset) {
+            int length = buffer.getInt(offset);
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_SIZE, payload);
+            return payload;
+        }
+
+        void scan() {
+            int position = 0;
+            int count = 0;
+            while (position + HEADER_SIZE <= segmentSize) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || position + HEADER_SIZE + length > segmentSize) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(position + HEADER_SIZE, payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    logger.warn("Spool segment {} has a corrupt record at offset {}, discarding the tail",
+                            path.getFileName(), position);
+                    buffer.put(position, new byte[segmentSize - position]);
+                    break;
+                }
+                position += HEADER_SIZE + length;
+                count++;
+            }
+            writePosition = position;
+            records = count;
+        }
+
+        int offsetOf(int recordIndex) {
+            int offset = 0;
+            for (int i = 0; i < recordIndex; i++) {
+                offset += HEADER_SIZE + buffer.getInt(offset);
+            }
+            return offset;
+        }
+
+        void closeChannel() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Cannot close spool segment {}: {}", path, e.getMessage());
+            }
+        }
+
+        void delete() {
+            closeChannel();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.warn("Cannot delete spool segment {}: {}", path, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package co.onmind.microhex.transverse.timing;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: schedules and cancels timeouts in constant time
+ * and fires them with tick granularity.
+ *
+ * Time is counted in ticks since the origin. Level 0 has one slot per tick
+ * for the next 64 ticks; each level above has slots 64 times wider. A
+ * timeout goes to the lowest level whose span still contains its deadline,
+ * so scheduling is a shift and a list insert whatever the number of pending
+ * timeouts. When level 0 wraps, the next slot of the level above is emptied
+ * into the levels below (cascading), so each timeout moves at most once per
+ * level before it fires. Eleven levels cover the whole range of a long.
+ *
+ * Slots are intrusive doubly-linked lists of the timeouts themselves, so
+ * cancelling unlinks in place. Advancing over ticks with nothing pending
+ * costs nothing; the wheel jumps straight to the target tick.
+ *
+ * Not thread-safe: callers serialize access.
+ *
+ * @param <T> the payload type
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    /**
+     * Pending timeout and its position in the wheel.
+     *
+     * @param <T> the payload type
+     */
+    public static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadline;
+        private long tick;
+        private int slot = -1;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadline) {
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+
+        /** @return the payload handed back when the timeout fires */
+        public T payload() {
+            return payload;
+        }
+
+        /** @return the deadline in milliseconds since the epoch */
+        public long deadline() {
+            return deadline;
+        }
+
+        /** @return true until the timeout fires or is cancelled */
+        public boolean isPending() {
+            return slot >= 0;
+        }
+    }
+
+    private final long origin;
+    private final long tickMillis;
+    private final Timeout<T>[] heads;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis tick duration in milliseconds, the firing granularity
+     * @param startMillis current time in milliseconds since the epoch
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.origin = startMillis;
+        this.heads = new Timeout[LEVELS * SLOTS];
+    }
+
+    /**
+     * Schedules a timeout. A deadline already passed fires on the next tick.
+     *
+     * @param payload handed back when the timeout fires
+     * @param deadlineMillis deadline in milliseconds since the epoch
+     * @return the handle used to cancel the timeout
+     */
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis);
+        long tick = Math.ceilDiv(deadlineMillis - origin, tickMillis);
+        timeout.tick = Math.max(tick, currentTick + 1);
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a pending timeout.
+     *
+     * @param timeout the handle returned by schedule
+     * @return true if it was pending
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the wheel up to the given time, firing every timeout whose tick
+     * has been reached, in deadline order up to the tick granularity.
+     *
+     * @param nowMillis current time in milliseconds since the epoch
+     * @param expired receives the payload of each fired timeout
+     * @return the number of timeouts fired
+     */
+    public int advance(long nowMillis, Consumer<T> expired) {
+        long target = Math.floorDiv(nowMillis - origin, tickMillis);
+        int fired = 0;
+        while (currentTick < target) {
+            if (size == 0) {
+                currentTick = target;
+                break;
+            }
+            long tick = ++currentTick;
+            cascade(tick);
+            fired += fire((int) (tick & SLOT_MASK), expired);
+        }
+        return fired;
+    }
+
+    /** @return the number of pending timeouts */
+    public int size() {
+        return size;
+    }
+
+    /** @return the current time of the wheel, in milliseconds since the epoch */
+    public long currentTime() {
+        return origin + currentTick * tickMillis;
+    }
+
+    /**
+     * Re-inserts the timeouts of every higher-level slot that has just come
+     * into range, highest level first so they can fall through several levels.
+     */
+    private void cascade(long tick) {
+        int top = 0;
+        while (top + 1 < LEVELS && (tick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level > 0; level--) {
+            int slot = level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Timeout<T> timeout = heads[slot];
+            heads[slot] = null;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.previous = null;
+                timeout.next = null;
+                insert(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private int fire(int slot, Consumer<T> expired) {
+        Timeout<T> timeout = heads[slot];
+        heads[slot] = null;
+        int fired = 0;
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.slot = -1;
+            size--;
+            fired++;
+            expired.accept(timeout.payload);
+            timeout = next;
+        }
+        return fired;
+    }
+
+    private void insert(Timeout<T> timeout) {
+        // Lowest level where the deadline and the current tick share every higher digit
+        int level = 0;
+        while (level + 1 < LEVELS
+                && (timeout.tick >>> (SLOT_BITS * (level + 1))) != (currentTick >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = level * SLOTS + (int) ((timeout.tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Timeout<T> head = heads[slot];
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        heads[slot] = timeout;
+        timeout.slot = slot;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            heads[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.slot = -1;
+    }
+}
@@ -7,8 +7,11 @@ import co.onmind.microhex.application.mappers.RoleMapper;
 import co.onmind.microhex.domain.exceptions.RoleAlreadyExistsException;
 import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
 import co.onmind.microhex.domain.exceptions.SystemRoleException;
+import co.onmind.microhex.domain.models.ReadModelStatus;
 import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleImportSummary;
 import co.onmind.microhex.domain.ports.in.RoleServicePort;
+import co.onmind.microhex.transverse.idempotency.IdempotencyCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,12 +21,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -51,7 +65,8 @@ class RoleHandlerTest {
     
     @BeforeEach
     void setUp() {
-        roleHandler = new RoleHandler(roleServicePort, roleMapper);
+        roleHandler = new RoleHandler(roleServicePort, roleMapper,
+                new IdempotencyCache<>(100, Duration.ofHours(1), Duration.ofSeconds(1), Clock.systemUTC()));
     }
     
     @Nested
@@ -334,4 +349,260 @@ class RoleHandlerTest {
             assertEquals(expectedCount, response.getBody().get("count"));
         }
     }
-}
\ No newline at end of file
+    
+    @Nested
+    @DisplayName("Read Model Consistency Tests")
+    class ReadModelConsistencyTests {
+        
+        @Test
+        @DisplayName("Should return a read token after a command")
+        void shouldReturnReadTokenAfterCommand() {
+            // Given
+            Role createdRole = new Role(1L, "ADMIN", LocalDateTime.now());
+            when(roleServicePort.createRole("ADMIN")).thenReturn(createdRole);
+            when(roleServicePort.getWriteToken()).thenReturn(42L);
+            
+            // When
+            ResponseEntity<RoleResponse> response = roleHandler.createRole(new CreateRoleRequest("ADMIN"));
+            
+            // Then
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+            assertEquals("42", response.getHeaders().getFirst(RoleHandler.READ_TOKEN_HEADER));
+        }
+        
+        @Test
+        @DisplayName("Should wait for the read token before querying")
+        void shouldWaitForReadTokenBeforeQuerying() {
+            // Given
+            Role role = new Role(1L, "ADMIN", LocalDateTime.now());
+            when(roleServicePort.awaitReadModel(42L)).thenReturn(new ReadModelStatus(42L, 0L));
+            when(roleServicePort.getRoleById(1L)).thenReturn(Optional.of(role));
+            when(roleMapper.toResponse(role)).thenReturn(new RoleResponse(1L, "ADMIN", LocalDateTime.now()));
+            
+            // When
+            ResponseEntity<RoleResponse> response = roleHandler.getRoleById(1L, 42L);
+            
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals("42", response.getHeaders().getFirst(RoleHandler.READ_MODEL_VERSION_HEADER));
+            assertEquals("0", response.getHeaders().getFirst(RoleHandler.READ_MODEL_LAG_HEADER));
+            var order = inOrder(roleServicePort);
+            order.verify(roleServicePort).awaitReadModel(42L);
+            order.verify(roleServicePort).getRoleById(1L);
+        }
+        
+        @Test
+        @DisplayName("Should report staleness without a read token")
+        void shouldReportStalenessWithoutReadToken() {
+            // Given
+            when(roleServicePort.getReadModelStatus()).thenReturn(new ReadModelStatus(7L, 3L));
+            when(roleServicePort.getRoleCount()).thenReturn(5L);
+            
+            // When
+            ResponseEntity<Map<String, Long>> response = roleHandler.getRoleCount(null);
+            
+            // Then
+            assertEquals("7", response.getHeaders().getFirst(RoleHandler.READ_MODEL_VERSION_HEADER));
+            assertEquals("3", response.getHeaders().getFirst(RoleHandler.READ_MODEL_LAG_HEADER));
+            verify(roleServicePort, never()).awaitReadModel(anyLong());
+        }
+    }
+    
+    @Nested
+    @DisplayName("Idempotency Tests")
+    class IdempotencyTests {
+        
+        @Test
+        @DisplayName("Should replay a create without calling the service again")
+        void shouldReplayCreateWithSameKey() {
+            // Given
+            Role createdRole = new Role(1L, "ADMIN", LocalDateTime.now());
+            when(roleServicePort.createRole("ADMIN")).thenReturn(createdRole);
+            when(roleMapper.toResponse(createdRole)).thenReturn(new RoleResponse(1L, "ADMIN", LocalDateTime.now()));
+            
+            // When
+            ResponseEntity<RoleResponse> first = roleHandler.createRole(new CreateRoleRequest("ADMIN"), "key-1");
+            ResponseEntity<RoleResponse> retry = roleHandler.createRole(new CreateRoleRequest("ADMIN"), "key-1");
+            
+            // Then
+            assertEquals(HttpStatus.CREATED, first.getStatusCode());
+            assertNull(first.getHeaders().getFirst(RoleHandler.IDEMPOTENT_REPLAYED_HEADER));
+            assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+            assertEquals("true", retry.getHeaders().getFirst(RoleHandler.IDEMPOTENT_REPLAYED_HEADER));
+            assertSame(first.getBody(), retry.getBody());
+            verify(roleServicePort, times(1)).createRole("ADMIN");
+        }
+        
+        @Test
+        @DisplayName("Should replay a conflict for the same key")
+        void shouldReplayConflictWithSameKey() {
+            // Given
+            when(roleServicePort.createRole("ADMIN")).thenThrow(new RoleAlreadyExistsException("Role already exists"));
+            
+            // When
+            roleHandler.createRole(new CreateRoleRequest("ADMIN"), "key-1");
+            ResponseEntity<RoleResponse> retry = roleHandler.createRole(new CreateRoleRequest("ADMIN"), "key-1");
+            
+            // Then
+            assertEquals(HttpStatus.CONFLICT, retry.getStatusCode());
+            verify(roleServicePort, times(1)).createRole("ADMIN");
+        }
+        
+        @Test
+        @DisplayName("Should run again when the same key comes with a different request")
+        void shouldRunAgainForDifferentRequest() {
+            // Given
+            Role updatedRole = new Role(1L, "EDITOR", LocalDateTime.now());
+            when(roleServicePort.updateRole(eq(1L), anyString())).thenReturn(updatedRole);
+            
+            // When
+            roleHandler.updateRole(1L, new UpdateRoleRequest("EDITOR"), "key-1");
+            ResponseEntity<RoleResponse> other = roleHandler.updateRole(1L, new UpdateRoleRequest("WRITER"), "key-1");
+            
+            // Then
+            assertNull(other.getHeaders().getFirst(RoleHandler.IDEMPOTENT_REPLAYED_HEADER));
+            verify(roleServicePort).updateRole(1L, "EDITOR");
+            verify(roleServicePort).updateRole(1L, "WRITER");
+        }
+        
+        @Test
+        @DisplayName("Should not keep server errors")
+        void shouldNotKeepServerErrors() {
+            // Given
+            when(roleServicePort.createRole("ADMIN"))
+                    .thenThrow(new RuntimeException("Database unavailable"))
+                    .thenReturn(new Role(1L, "ADMIN", LocalDateTime.now()));
+            
+            // When
+            ResponseEntity<RoleResponse> first = roleHandler.createRole(new CreateRoleRequest("ADMIN"), "key-1");
+            ResponseEntity<RoleResponse> retry = roleHandler.createRole(new CreateRoleRequest("ADMIN"), "key-1");
+            
+            // Then
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, first.getStatusCode());
+            assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+            verify(roleServicePort, times(2)).createRole("ADMIN");
+        }
+        
+        @Test
+        @DisplayName("Should reject a blank idempotency key")
+        void shouldRejectBlankKey() {
+            // When
+            ResponseEntity<RoleResponse> response = roleHandler.createRole(new CreateRoleRequest("ADMIN"), " ");
+            
+            // Then
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            verify(roleServicePort, never()).createRole(anyString());
+        }
+    }
+    
+    @Nested
+    @DisplayName("Role History Tests")
+    class RoleHistoryTests {
+        
+        private final Instant asOf = Instant.parse("2025-03-11T09:00:00Z");
+        
+        @Test
+        @DisplayName("Should get role as of a time successfully")
+        void shouldGetRoleAsOfTimeSuccessfully() {
+            // Given
+            Role role = new Role(42L, "EDITOR", LocalDateTime.now());
+            when(roleServicePort.isRoleHistoryAvailable()).thenReturn(true);
+            when(roleServicePort.getRoleByIdAsOf(42L, asOf)).thenReturn(Optional.of(role));
+            when(roleMapper.toResponse(role)).thenReturn(new RoleResponse(42L, "EDITOR", role.getCreatedAt()));
+            
+            // When
+            ResponseEntity<RoleResponse> response = roleHandler.getRoleByIdAsOf(42L, asOf);
+            
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals("EDITOR", response.getBody().getName());
+            verify(roleServicePort, never()).getRoleById(anyLong());
+        }
+        
+        @Test
+        @DisplayName("Should return not found when role did not exist at that time")
+        void shouldReturnNotFoundWhenRoleDidNotExistAtThatTime() {
+            // Given
+            when(roleServicePort.isRoleHistoryAvailable()).thenReturn(true);
+            when(roleServicePort.getRoleByIdAsOf(42L, asOf)).thenReturn(Optional.empty());
+            
+            // When
+            ResponseEntity<RoleResponse> response = roleHandler.getRoleByIdAsOf(42L, asOf);
+            
+            // Then
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+            verifyNoInteractions(roleMapper);
+        }
+        
+        @Test
+        @DisplayName("Should return not implemented when the persistence mode keeps no history")
+        void shouldReturnNotImplementedWithoutHistory() {
+            // Given
+            when(roleServicePort.isRoleHistoryAvailable()).thenReturn(false);
+            
+            // When
+            ResponseEntity<List<RoleResponse>> response = roleHandler.getAllRolesAsOf(asOf);
+            
+            // Then
+            assertEquals(HttpStatus.NOT_IMPLEMENTED, response.getStatusCode());
+            verify(roleServicePort, never()).getAllRolesAsOf(any(Instant.class));
+            verifyNoInteractions(roleMapper);
+        }
+    }
+    
+    @Nested
+    @DisplayName("Bulk Import Tests")
+    class BulkImportTests {
+        
+        @Test
+        @DisplayName("Should stream the totals of each chunk and the final totals with the read token")
+        @SuppressWarnings("unchecked")
+        void shouldStreamImportTotals() throws Exception {
+            // Given
+            List<String> readNames = new ArrayList<>();
+            when(roleServicePort.importRoles(any(Iterator.class), any(Consumer.class))).thenAnswer(invocation -> {
+                Iterator<String> names = invocation.getArgument(0);
+                names.forEachRemaining(readNames::add);
+                Consumer<RoleImportSummary> progress = invocation.getArgument(1);
+                progress.accept(new RoleImportSummary(2, 0, 0));
+                return new RoleImportSummary(3, 1, 1);
+            });
+            when(roleServicePort.getWriteToken()).thenReturn(42L);
+            InputStream body = new ByteArrayInputStream("name\nadmin\neditor\n".getBytes(StandardCharsets.UTF_8));
+            
+            // When
+            ResponseEntity<StreamingResponseBody> response = roleHandler.importRoles(body, "text/csv; charset=UTF-8");
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            response.getBody().writeTo(output);
+            
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(List.of("admin", "editor"), readNames);
+            assertEquals("{\"inserted\":2,\"duplicates\":0,\"invalid\":0}\n"
+                    + "{\"inserted\":3,\"duplicates\":1,\"invalid\":1,\"done\":true,\"readToken\":42}\n",
+                    output.toString(StandardCharsets.UTF_8));
+        }
+        
+        @Test
+        @DisplayName("Should end the stream with the committed totals when the import fails")
+        @SuppressWarnings("unchecked")
+        void shouldReportCommittedTotalsOnFailure() throws Exception {
+            // Given
+            when(roleServicePort.importRoles(any(Iterator.class), any(Consumer.class))).thenAnswer(invocation -> {
+                Consumer<RoleImportSummary> progress = invocation.getArgument(1);
+                progress.accept(new RoleImportSummary(1000, 0, 0));
+                throw new IllegalStateException("Database unavailable");
+            });
+            InputStream body = new ByteArrayInputStream("{\"name\":\"admin\"}\n".getBytes(StandardCharsets.UTF_8));
+            
+            // When
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            roleHandler.importRoles(body, "application/x-ndjson").getBody().writeTo(output);
+            
+            // Then
+            String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+            assertEquals(2, lines.length);
+            assertTrue(lines[1].startsWith("{\"inserted\":1000,\"duplicates\":0,\"invalid\":0,\"done\":false"));
+        }
+    }
+}
@@ -94,11 +94,11 @@ class RoleMapperTest {
             assertNotNull(role);
             assertEquals(expectedName, role.getName());
             assertNull(role.getId()); // Should be ignored in mapping
-            assertNull(role.getCreatedAt()); // Should be ignored in mapping
+            assertNotNull(role.getCreatedAt()); // Assigned by the domain model
         }
         
         @Test
-        @DisplayName("Should handle CreateRoleRequest with trimmed name")
+        @DisplayName("Should normalize CreateRoleRequest name")
         void shouldHandleCreateRoleRequestWithTrimmedName() {
             // Given
             String inputName = "  ADMIN  ";
@@ -109,9 +109,8 @@ class RoleMapperTest {
             
             // Then
             assertNotNull(role);
-            assertEquals(inputName, role.getName()); // MapStruct doesn't trim automatically
+            assertEquals("ADMIN", role.getName()); // Normalized by the domain model
             assertNull(role.getId());
-            assertNull(role.getCreatedAt());
         }
     }
     
@@ -164,10 +163,10 @@ class RoleMapperTest {
     class EdgeCasesTests {
         
         @Test
-        @DisplayName("Should handle Role with null fields when mapping to DTO")
-        void shouldHandleRoleWithNullFieldsWhenMappingToDto() {
+        @DisplayName("Should handle Role without ID when mapping to DTO")
+        void shouldHandleRoleWithoutIdWhenMappingToDto() {
             // Given
-            Role role = new Role();
+            Role role = new Role("guest");
             
             // When
             RoleResponse response = roleMapper.toResponse(role);
@@ -175,8 +174,8 @@ class RoleMapperTest {
             // Then
             assertNotNull(response);
             assertNull(response.getId());
-            assertNull(response.getName());
-            assertNull(response.getCreatedAt());
+            assertEquals("GUEST", response.getName());
+            assertEquals(role.getCreatedAt(), response.getCreatedAt());
         }
         
         @Test
@@ -194,20 +193,14 @@ class RoleMapperTest {
         }
         
         @Test
-        @DisplayName("Should handle CreateRoleRequest with empty name")
-        void shouldHandleCreateRoleRequestWithEmptyName() {
+        @DisplayName("Should reject CreateRoleRequest with empty name")
+        void shouldRejectCreateRoleRequestWithEmptyName() {
             // Given
             String emptyName = "";
             CreateRoleRequest request = new CreateRoleRequest(emptyName);
             
-            // When
-            Role role = roleMapper.toDomain(request);
-            
-            // Then
-            assertNotNull(role);
-            assertEquals(emptyName, role.getName());
-            assertNull(role.getId());
-            assertNull(role.getCreatedAt());
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> roleMapper.toDomain(request));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package co.onmind.microhex.domain.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Membership aggregate.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Membership Aggregate Tests")
+class MembershipTest {
+
+    @Test
+    @DisplayName("Should keep role IDs sorted and unique")
+    void shouldKeepRoleIdsSortedAndUnique() {
+        // When
+        Membership membership = Membership.of(7L, new long[] {30, 10, 30, 20});
+
+        // Then
+        assertArrayEquals(new long[] {10, 20, 30}, membership.roleIds());
+        assertEquals(3, membership.size());
+        assertTrue(membership.hasRole(20));
+        assertFalse(membership.hasRole(25));
+    }
+
+    @Test
+    @DisplayName("Should not expose its role IDs for modification")
+    void shouldNotExposeRoleIds() {
+        // Given
+        long[] roleIds = {1, 2};
+        Membership membership = Membership.of(7L, roleIds);
+
+        // When
+        roleIds[0] = 9;
+        membership.roleIds()[1] = 9;
+
+        // Then
+        assertArrayEquals(new long[] {1, 2}, membership.roleIds());
+    }
+
+    @Test
+    @DisplayName("Should reject user IDs that are not positive")
+    void shouldRejectInvalidUserIds() {
+        assertThrows(IllegalArgumentException.class, () -> Membership.of(0L, new long[0]));
+        assertThrows(IllegalArgumentException.class, () -> Membership.of(-1L, new long[0]));
+    }
+
+    @Test
+    @DisplayName("Should compare by user and roles")
+    void shouldCompareByValue() {
+        assertEquals(Membership.of(7L, new long[] {2, 1}), Membership.of(7L, new long[] {1, 2}));
+        assertNotEquals(Membership.of(7L, new long[] {1}), Membership.of(8L, new long[] {1}));
+    }
+}
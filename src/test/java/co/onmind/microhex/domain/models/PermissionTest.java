@@ -0,0 +1,55 @@
+package co.onmind.microhex.domain.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Permission value type.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Permission Value Type Tests")
+class PermissionTest {
+
+    @Test
+    @DisplayName("Should accept canonical names and trim surrounding blanks")
+    void shouldAcceptCanonicalNames() {
+        // When & Then
+        assertEquals("roles:read", Permission.of("roles:read").value());
+        assertEquals("billing.invoices:*", Permission.of(" billing.invoices:* ").value());
+        assertEquals("audit_log-v2", Permission.of("audit_log-v2").value());
+    }
+
+    @Test
+    @DisplayName("Should reject names that are not canonical instead of rewriting them")
+    void shouldRejectNonCanonicalNames() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> Permission.of("Roles:Read"));
+        assertThrows(IllegalArgumentException.class, () -> Permission.of("roles read"));
+        assertThrows(IllegalArgumentException.class, () -> Permission.of("roles/read"));
+    }
+
+    @Test
+    @DisplayName("Should reject blank and oversized names")
+    void shouldRejectBlankAndOversizedNames() {
+        // When & Then
+        assertEquals("Permission cannot be blank",
+                assertThrows(IllegalArgumentException.class, () -> Permission.of(null)).getMessage());
+        assertEquals("Permission cannot be blank",
+                assertThrows(IllegalArgumentException.class, () -> Permission.of("  ")).getMessage());
+        assertEquals("Permission cannot exceed 100 characters",
+                assertThrows(IllegalArgumentException.class, () -> Permission.of("a".repeat(101))).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should compare by value")
+    void shouldCompareByValue() {
+        // When & Then
+        assertEquals(Permission.of("roles:read"), Permission.of(" roles:read"));
+        assertEquals(Permission.of("roles:read").hashCode(), Permission.of("roles:read").hashCode());
+        assertNotEquals(Permission.of("roles:read"), Permission.of("roles:write"));
+    }
+}
@@ -0,0 +1,74 @@
+package co.onmind.microhex.domain.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RoleName value type.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Role Name Value Type Tests")
+class RoleNameTest {
+
+    @Test
+    @DisplayName("Should trim and upper-case the raw name")
+    void shouldTrimAndUpperCaseRawName() {
+        // When
+        RoleName name = RoleName.of("  data-analyst \t");
+
+        // Then
+        assertEquals("DATA-ANALYST", name.value());
+    }
+
+    @Test
+    @DisplayName("Should keep an already canonical name without copying it")
+    void shouldKeepCanonicalNameWithoutCopying() {
+        // Given
+        String raw = "USER_MANAGER";
+
+        // When
+        RoleName name = RoleName.of(raw);
+
+        // Then
+        assertSame(raw, name.value());
+    }
+
+    @Test
+    @DisplayName("Should normalize non-ASCII names like String.toUpperCase")
+    void shouldNormalizeNonAsciiNames() {
+        // When
+        RoleName name = RoleName.of("GESTIÓn");
+
+        // Then
+        assertEquals("GESTIÓn".toUpperCase(), name.value());
+    }
+
+    @Test
+    @DisplayName("Should reject blank and oversized names")
+    void shouldRejectBlankAndOversizedNames() {
+        // When & Then
+        assertEquals("Role name cannot be blank",
+                assertThrows(IllegalArgumentException.class, () -> RoleName.of(null)).getMessage());
+        assertEquals("Role name cannot be blank",
+                assertThrows(IllegalArgumentException.class, () -> RoleName.of(" \n ")).getMessage());
+        assertEquals("Role name cannot exceed 100 characters",
+                assertThrows(IllegalArgumentException.class, () -> RoleName.of("A".repeat(101))).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should compare by canonical value")
+    void shouldCompareByCanonicalValue() {
+        // When
+        RoleName first = RoleName.of(" admin");
+        RoleName second = RoleName.ofNormalized("ADMIN");
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals("ADMIN", first.toString());
+    }
+}
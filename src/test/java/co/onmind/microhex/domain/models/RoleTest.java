@@ -59,16 +59,20 @@ class RoleTest {
         }
         
         @Test
-        @DisplayName("Should create role with default constructor")
-        void shouldCreateRoleWithDefaultConstructor() {
+        @DisplayName("Should create role from a normalized name")
+        void shouldCreateRoleFromNormalizedName() {
+            // Given
+            RoleName name = RoleName.of("  manager ");
+            LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+            
             // When
-            Role role = new Role();
+            Role role = new Role(2L, name, createdAt);
             
             // Then
-            assertNotNull(role);
-            assertNull(role.getId());
-            assertNull(role.getName());
-            assertNull(role.getCreatedAt());
+            assertEquals(2L, role.getId());
+            assertEquals("MANAGER", role.getName());
+            assertSame(name, role.getRoleName());
+            assertEquals(createdAt, role.getCreatedAt());
         }
     }
     
@@ -274,49 +278,46 @@ class RoleTest {
     }
     
     @Nested
-    @DisplayName("Setter Tests")
-    class SetterTests {
+    @DisplayName("Immutability Tests")
+    class ImmutabilityTests {
         
         @Test
-        @DisplayName("Should set and get id correctly")
-        void shouldSetAndGetIdCorrectly() {
+        @DisplayName("Should leave the original role unchanged when renamed")
+        void shouldLeaveOriginalRoleUnchangedWhenRenamed() {
             // Given
-            Role role = new Role();
-            Long id = 123L;
+            LocalDateTime createdAt = LocalDateTime.now();
+            Role original = new Role(123L, "TEST_ROLE", createdAt);
             
             // When
-            role.setId(id);
+            Role renamed = original.withName(RoleName.of("other_role"));
             
             // Then
-            assertEquals(id, role.getId());
+            assertEquals("TEST_ROLE", original.getName());
+            assertEquals("OTHER_ROLE", renamed.getName());
+            assertEquals(123L, renamed.getId());
+            assertEquals(createdAt, renamed.getCreatedAt());
         }
         
         @Test
-        @DisplayName("Should set and get name correctly")
-        void shouldSetAndGetNameCorrectly() {
+        @DisplayName("Should reuse the normalized name instead of normalizing again")
+        void shouldReuseNormalizedName() {
             // Given
-            Role role = new Role();
-            String name = "TEST_ROLE";
+            RoleName name = RoleName.of("auditor");
             
             // When
-            role.setName(name);
+            Role role = Role.create(name);
             
             // Then
-            assertEquals(name, role.getName());
+            assertSame(name, role.getRoleName());
+            assertNull(role.getId());
+            assertNotNull(role.getCreatedAt());
         }
         
         @Test
-        @DisplayName("Should set and get createdAt correctly")
-        void shouldSetAndGetCreatedAtCorrectly() {
-            // Given
-            Role role = new Role();
-            LocalDateTime createdAt = LocalDateTime.now();
-            
-            // When
-            role.setCreatedAt(createdAt);
-            
-            // Then
-            assertEquals(createdAt, role.getCreatedAt());
+        @DisplayName("Should reject a null normalized name")
+        void shouldRejectNullNormalizedName() {
+            // When & Then
+            assertThrows(NullPointerException.class, () -> new Role(1L, (RoleName) null, LocalDateTime.now()));
         }
     }
-}
\ No newline at end of file
+}
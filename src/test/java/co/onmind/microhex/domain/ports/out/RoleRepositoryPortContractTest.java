@@ -0,0 +1,184 @@
+package co.onmind.microhex.domain.ports.out;
+
+import co.onmind.microhex.domain.models.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Contract tests for the RoleRepositoryPort.
+ *
+ * Every persistence adapter extends this class and provides its repository,
+ * so all of them are checked against the same expectations.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+public abstract class RoleRepositoryPortContractTest {
+
+    protected static final LocalDateTime CREATED_AT = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    protected RoleRepositoryPort repository;
+
+    /**
+     * Provides the repository under test, empty.
+     * @return the repository
+     */
+    protected abstract RoleRepositoryPort createRepository();
+
+    @BeforeEach
+    void setUpRepository() {
+        repository = createRepository();
+    }
+
+    @Test
+    @DisplayName("Contract: save assigns an ID to a new role")
+    void saveAssignsIdToNewRole() {
+        // When
+        Role saved = repository.save(new Role(null, "ADMIN", CREATED_AT));
+
+        // Then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getName()).isEqualTo("ADMIN");
+        assertThat(saved.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(repository.findById(saved.getId())).contains(saved);
+    }
+
+    @Test
+    @DisplayName("Contract: saved roles get distinct IDs")
+    void savedRolesGetDistinctIds() {
+        // When
+        Role first = repository.save(new Role("ADMIN"));
+        Role second = repository.save(new Role("USER"));
+
+        // Then
+        assertThat(first.getId()).isNotEqualTo(second.getId());
+        assertThat(repository.count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Contract: save of an existing role renames it")
+    void saveOfExistingRoleRenamesIt() {
+        // Given
+        Role saved = repository.save(new Role(null, "EDITOR", CREATED_AT));
+
+        // When
+        Role renamed = repository.save(saved.withName("WRITER"));
+
+        // Then
+        assertThat(renamed.getId()).isEqualTo(saved.getId());
+        assertThat(renamed.getName()).isEqualTo("WRITER");
+        assertThat(renamed.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(repository.findByName("EDITOR")).isEmpty();
+        assertThat(repository.findByName("WRITER")).contains(renamed);
+        assertThat(repository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Contract: find by name matches the exact name")
+    void findByNameMatchesExactName() {
+        // Given
+        Role saved = repository.save(new Role("MANAGER"));
+
+        // When
+        Optional<Role> found = repository.findByName("MANAGER");
+
+        // Then
+        assertThat(found).contains(saved);
+        assertThat(repository.existsByName("MANAGER")).isTrue();
+        assertThat(repository.existsByName("MANAGERS")).isFalse();
+        assertThat(repository.findByName("MISSING")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Contract: find all returns every role")
+    void findAllReturnsEveryRole() {
+        // Given
+        Role admin = repository.save(new Role("ADMIN"));
+        Role user = repository.save(new Role("USER"));
+
+        // When
+        List<Role> roles = repository.findAll();
+
+        // Then
+        assertThat(roles).containsExactlyInAnyOrder(admin, user);
+    }
+
+    @Test
+    @DisplayName("Contract: find all after walks the roles in pages ordered by id")
+    void findAllAfterReturnsPagesOrderedById() {
+        // Given
+        Role admin = repository.save(new Role("ADMIN"));
+        Role user = repository.save(new Role("USER"));
+        Role guest = repository.save(new Role("GUEST"));
+
+        // When
+        List<Role> first = repository.findAllAfter(0L, 2);
+        List<Role> second = repository.findAllAfter(first.getLast().getId(), 2);
+
+        // Then
+        assertThat(first).containsExactly(admin, user);
+        assertThat(second).containsExactly(guest);
+        assertThat(repository.findAllAfter(guest.getId(), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Contract: find by name containing ignores case")
+    void findByNameContainingIgnoresCase() {
+        // Given
+        Role admin = repository.save(new Role("ADMIN"));
+        Role sysAdmin = repository.save(new Role("SYS_ADMIN"));
+        repository.save(new Role("USER"));
+
+        // When
+        List<Role> roles = repository.findByNameContaining("adm");
+
+        // Then
+        assertThat(roles).containsExactlyInAnyOrder(admin, sysAdmin);
+    }
+
+    @Test
+    @DisplayName("Contract: delete removes the role once")
+    void deleteRemovesRoleOnce() {
+        // Given
+        Role saved = repository.save(new Role("TEMP"));
+
+        // When
+        boolean deleted = repository.deleteById(saved.getId());
+
+        // Then
+        assertThat(deleted).isTrue();
+        assertThat(repository.findById(saved.getId())).isEmpty();
+        assertThat(repository.existsByName("TEMP")).isFalse();
+        assertThat(repository.count()).isZero();
+        assertThat(repository.deleteById(saved.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Contract: unknown IDs are not found")
+    void unknownIdsAreNotFound() {
+        // When & Then
+        assertThat(repository.findById(999_999L)).isEmpty();
+        assertThat(repository.deleteById(999_999L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Contract: invalid arguments are rejected")
+    void invalidArgumentsAreRejected() {
+        // When & Then
+        assertThatThrownBy(() -> repository.save(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> repository.findById(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> repository.findByName(" ")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> repository.existsByName(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> repository.findByNameContaining("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> repository.deleteById(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
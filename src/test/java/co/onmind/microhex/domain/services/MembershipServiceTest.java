@@ -0,0 +1,292 @@
+package co.onmind.microhex.domain.services;
+
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.models.Membership;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleGrant;
+import co.onmind.microhex.domain.ports.out.GrantExpiryPort;
+import co.onmind.microhex.domain.ports.out.MembershipIndexPort;
+import co.onmind.microhex.domain.ports.out.MembershipRepositoryPort;
+import co.onmind.microhex.domain.ports.out.NotificationPort;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the MembershipService.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Membership Service Tests")
+class MembershipServiceTest {
+
+    @Mock
+    private RoleRepositoryPort roleRepositoryPort;
+
+    @Mock
+    private RoleReadModelPort roleReadModelPort;
+
+    @Mock
+    private MembershipRepositoryPort membershipRepositoryPort;
+
+    @Mock
+    private MembershipIndexPort membershipIndex;
+
+    @Mock
+    private UnitOfWorkPort unitOfWork;
+
+    @Mock
+    private GrantExpiryPort grantExpiry;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    private MembershipService service;
+    private final Role editor = new Role(2L, "EDITOR", LocalDateTime.now());
+    private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(unitOfWork.execute(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        service = new MembershipService(roleRepositoryPort, roleReadModelPort, membershipRepositoryPort,
+                membershipIndex, unitOfWork, grantExpiry, notificationPort, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should store a new assignment and index it")
+    void shouldAssignRole() {
+        // Given
+        when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(editor));
+        when(membershipRepositoryPort.save(7L, 2L, null)).thenReturn(true);
+
+        // When
+        boolean assigned = service.assignRole(7L, 2L);
+
+        // Then
+        assertThat(assigned).isTrue();
+        verify(membershipIndex).add(7L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should leave the index alone when the role was already assigned")
+    void shouldSkipIndexForExistingAssignment() {
+        // Given
+        when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(editor));
+        when(membershipRepositoryPort.save(7L, 2L, null)).thenReturn(false);
+
+        // When
+        boolean assigned = service.assignRole(7L, 2L);
+
+        // Then
+        assertThat(assigned).isFalse();
+        verify(membershipIndex, never()).add(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown roles and invalid users")
+    void shouldRejectInvalidAssignments() {
+        // Given
+        when(roleRepositoryPort.findById(9L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.assignRole(7L, 9L)).isInstanceOf(RoleNotFoundException.class);
+        assertThatThrownBy(() -> service.assignRole(0L, 2L)).isInstanceOf(IllegalArgumentException.class);
+        verify(membershipRepositoryPort, never()).save(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should unassign a role and update the index")
+    void shouldUnassignRole() {
+        // Given
+        when(membershipRepositoryPort.delete(7L, 2L)).thenReturn(true);
+
+        // When
+        boolean removed = service.unassignRole(7L, 2L);
+
+        // Then
+        assertThat(removed).isTrue();
+        verify(membershipIndex).remove(7L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should answer queries from the index")
+    void shouldAnswerQueriesFromIndex() {
+        // Given
+        when(membershipIndex.rolesOf(7L)).thenReturn(new long[] {2L, 3L});
+        when(membershipIndex.hasRole(7L, 2L)).thenReturn(true);
+        when(roleReadModelPort.findById(2L)).thenReturn(Optional.of(editor));
+        when(membershipIndex.usersIn(2L, 0, 10)).thenReturn(new long[] {7L});
+
+        // When & Then
+        assertThat(service.getMembership(7L)).isEqualTo(Membership.of(7L, new long[] {2L, 3L}));
+        assertThat(service.hasRole(7L, 2L)).isTrue();
+        assertThat(service.getUsersInRole(2L, 0, 10)).containsExactly(7L);
+        verify(membershipRepositoryPort, never()).forEach(any());
+    }
+
+    @Test
+    @DisplayName("Should reject pages larger than the maximum")
+    void shouldRejectOversizedPages() {
+        assertThatThrownBy(() -> service.getUsersInRole(2L, 0, MembershipService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getUsersInRole(2L, -1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should remove the assignments of a deleted role")
+    void shouldRemoveRole() {
+        // When
+        service.removeRole(2L);
+
+        // Then
+        verify(membershipRepositoryPort).deleteByRoleId(2L);
+        verify(membershipIndex).removeRole(2L);
+    }
+
+    @Test
+    @DisplayName("Should remove the assignments of a deleted role after an assignment in progress")
+    void shouldRemoveRoleAfterAssignmentInProgress() throws Exception {
+        // Given
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(editor));
+        when(membershipRepositoryPort.save(7L, 2L, null)).thenAnswer(invocation -> {
+            saving.countDown();
+            release.await();
+            return true;
+        });
+        CompletableFuture<Boolean> assignment = CompletableFuture.supplyAsync(() -> service.assignRole(7L, 2L));
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<Void> removal = CompletableFuture.runAsync(() -> service.removeRole(2L));
+        Thread.sleep(100);
+        boolean removedWhileAssigning = removal.isDone();
+        release.countDown();
+        assignment.get(5, TimeUnit.SECONDS);
+        removal.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(removedWhileAssigning).isFalse();
+        InOrder inOrder = inOrder(membershipRepositoryPort, membershipIndex);
+        inOrder.verify(membershipRepositoryPort).save(7L, 2L, null);
+        inOrder.verify(membershipIndex).add(7L, 2L);
+        inOrder.verify(membershipRepositoryPort).deleteByRoleId(2L);
+        inOrder.verify(membershipIndex).removeRole(2L);
+    }
+
+    @Test
+    @DisplayName("Should track the expiry of a time-limited grant")
+    void shouldScheduleGrantExpiry() {
+        // Given
+        Instant expiresAt = now.plusSeconds(3600);
+        when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(editor));
+        when(membershipRepositoryPort.save(7L, 2L, expiresAt)).thenReturn(true);
+
+        // When
+        boolean assigned = service.assignRole(7L, 2L, expiresAt);
+
+        // Then
+        assertThat(assigned).isTrue();
+        verify(membershipIndex).add(7L, 2L);
+        verify(grantExpiry).schedule(7L, 2L, expiresAt);
+    }
+
+    @Test
+    @DisplayName("Should reject an expiry that has already passed")
+    void shouldRejectPastExpiry() {
+        // When & Then
+        assertThatThrownBy(() -> service.assignRole(7L, 2L, now))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(membershipRepositoryPort, never()).save(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should stop tracking the expiry of an unassigned role")
+    void shouldCancelExpiryOnUnassign() {
+        // Given
+        when(membershipRepositoryPort.delete(7L, 2L)).thenReturn(true);
+
+        // When
+        service.unassignRole(7L, 2L);
+
+        // Then
+        verify(grantExpiry).cancel(7L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should remove expired grants in batches and notify per role")
+    void shouldExpireGrantsInBatches() {
+        // Given
+        RoleGrant first = new RoleGrant(7L, 2L, now.minusSeconds(1));
+        RoleGrant second = new RoleGrant(8L, 2L, now.minusSeconds(1));
+        RoleGrant extended = new RoleGrant(9L, 3L, now.minusSeconds(1));
+        when(grantExpiry.pollExpired(now, 2)).thenReturn(List.of(first, second), List.of(extended), List.of());
+        when(membershipRepositoryPort.deleteExpired(7L, 2L, now)).thenReturn(true);
+        when(membershipRepositoryPort.deleteExpired(8L, 2L, now)).thenReturn(true);
+        when(membershipRepositoryPort.deleteExpired(9L, 3L, now)).thenReturn(false);
+
+        // When
+        int expired = service.expireGrants(2);
+
+        // Then
+        assertThat(expired).isEqualTo(2);
+        verify(unitOfWork, times(2)).execute(any());
+        verify(membershipIndex).remove(7L, 2L);
+        verify(membershipIndex).remove(8L, 2L);
+        verify(membershipIndex, never()).remove(9L, 3L);
+        verify(notificationPort).notifyRoleGrantsExpired(2L, new long[] {7L, 8L});
+        verify(notificationPort, never()).notifyRoleGrantsExpired(eq(3L), any());
+    }
+
+    @Test
+    @DisplayName("Should track a failed batch again")
+    void shouldRescheduleFailedBatch() {
+        // Given
+        RoleGrant grant = new RoleGrant(7L, 2L, now.minusSeconds(1));
+        when(grantExpiry.pollExpired(now, 10)).thenReturn(List.of(grant));
+        doThrow(new IllegalStateException("database down"))
+                .when(membershipRepositoryPort).deleteExpired(anyLong(), anyLong(), any());
+
+        // When & Then
+        assertThatThrownBy(() -> service.expireGrants(10)).isInstanceOf(IllegalStateException.class);
+        verify(grantExpiry).scheduleIfAbsent(7L, 2L, grant.expiresAt());
+        verify(grantExpiry, never()).schedule(anyLong(), anyLong(), any());
+        verify(membershipIndex, never()).remove(anyLong(), anyLong());
+        verify(notificationPort, never()).notifyRoleGrantsExpired(any(), any());
+    }
+}
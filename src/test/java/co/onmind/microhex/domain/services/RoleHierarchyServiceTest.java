@@ -0,0 +1,153 @@
+package co.onmind.microhex.domain.services;
+
+import co.onmind.microhex.domain.exceptions.RoleHierarchyCycleException;
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.MembershipIndexPort;
+import co.onmind.microhex.domain.ports.out.RoleHierarchyIndexPort;
+import co.onmind.microhex.domain.ports.out.RoleHierarchyRepositoryPort;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the RoleHierarchyService.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Role Hierarchy Service Tests")
+class RoleHierarchyServiceTest {
+
+    @Mock
+    private RoleRepositoryPort roleRepositoryPort;
+
+    @Mock
+    private RoleReadModelPort roleReadModelPort;
+
+    @Mock
+    private RoleHierarchyRepositoryPort hierarchyRepositoryPort;
+
+    @Mock
+    private RoleHierarchyIndexPort hierarchyIndex;
+
+    @Mock
+    private MembershipIndexPort membershipIndex;
+
+    @Mock
+    private UnitOfWorkPort unitOfWork;
+
+    private RoleHierarchyService service;
+    private final Role user = new Role(1L, "USER", LocalDateTime.now());
+    private final Role moderator = new Role(2L, "MODERATOR", LocalDateTime.now());
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(unitOfWork.execute(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        service = new RoleHierarchyService(roleRepositoryPort, roleReadModelPort, hierarchyRepositoryPort,
+                hierarchyIndex, membershipIndex, unitOfWork);
+    }
+
+    @Test
+    @DisplayName("Should store a new relation and extend the closure")
+    void shouldAddParent() {
+        // Given
+        when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(moderator));
+        when(roleRepositoryPort.findById(1L)).thenReturn(Optional.of(user));
+        when(hierarchyRepositoryPort.save(2L, 1L)).thenReturn(true);
+
+        // When
+        boolean added = service.addParent(2L, 1L);
+
+        // Then
+        assertThat(added).isTrue();
+        verify(hierarchyIndex).addEdge(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should reject a relation that closes a cycle before writing")
+    void shouldRejectCycle() {
+        // Given
+        when(hierarchyIndex.inherits(1L, 2L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> service.addParent(2L, 1L)).isInstanceOf(RoleHierarchyCycleException.class);
+        assertThatThrownBy(() -> service.addParent(3L, 3L)).isInstanceOf(RoleHierarchyCycleException.class);
+        verify(hierarchyRepositoryPort, never()).save(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should fail when the parent role does not exist")
+    void shouldFailForUnknownParent() {
+        // Given
+        when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(moderator));
+        when(roleRepositoryPort.findById(9L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.addParent(2L, 9L)).isInstanceOf(RoleNotFoundException.class);
+        verify(hierarchyIndex, never()).addEdge(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should shrink the closure only when a relation was removed")
+    void shouldRemoveParent() {
+        // Given
+        when(hierarchyRepositoryPort.delete(2L, 1L)).thenReturn(true);
+
+        // When
+        boolean removed = service.removeParent(2L, 1L);
+        boolean missing = service.removeParent(3L, 1L);
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(missing).isFalse();
+        verify(hierarchyIndex).removeEdge(2L, 1L);
+        verify(hierarchyIndex, never()).removeEdge(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should resolve the effective roles of a user through the closure")
+    void shouldResolveEffectiveRolesOfUser() {
+        // Given
+        when(membershipIndex.rolesOf(7L)).thenReturn(new long[] {2L});
+        when(hierarchyIndex.effectiveRoles(new long[] {2L})).thenReturn(new long[] {1L, 2L, 5L});
+        when(roleReadModelPort.findById(1L)).thenReturn(Optional.of(user));
+        when(roleReadModelPort.findById(2L)).thenReturn(Optional.of(moderator));
+        when(roleReadModelPort.findById(5L)).thenReturn(Optional.empty());
+
+        // When
+        List<Role> roles = service.getEffectiveRolesOfUser(7L);
+
+        // Then
+        assertThat(roles).extracting(Role::getName).containsExactly("USER", "MODERATOR");
+    }
+
+    @Test
+    @DisplayName("Should treat a role as inheriting itself")
+    void shouldInheritItself() {
+        // When & Then
+        assertThat(service.inherits(2L, 2L)).isTrue();
+        verify(hierarchyIndex, never()).inherits(anyLong(), anyLong());
+    }
+}
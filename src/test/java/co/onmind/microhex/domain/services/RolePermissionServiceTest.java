@@ -0,0 +1,159 @@
+package co.onmind.microhex.domain.services;
+
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.PermissionIndexPort;
+import co.onmind.microhex.domain.ports.out.RolePermissionRepositoryPort;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the RolePermissionService.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Role Permission Service Tests")
+class RolePermissionServiceTest {
+
+    @Mock
+    private RoleRepositoryPort roleRepositoryPort;
+
+    @Mock
+    private RoleReadModelPort roleReadModelPort;
+
+    @Mock
+    private RolePermissionRepositoryPort permissionRepositoryPort;
+
+    @Mock
+    private PermissionIndexPort permissionIndex;
+
+    @Mock
+    private UnitOfWorkPort unitOfWork;
+
+    private RolePermissionService service;
+    private final Role editor = new Role(2L, "EDITOR", LocalDateTime.now());
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(unitOfWork.execute(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        service = new RolePermissionService(roleRepositoryPort, roleReadModelPort, permissionRepositoryPort,
+                permissionIndex, unitOfWork);
+    }
+
+    @Test
+    @DisplayName("Should grant a permission on top of the stored ones and index the result")
+    void shouldGrantPermission() {
+        // Given
+        when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(editor));
+        when(permissionRepositoryPort.findByRoleId(2L)).thenReturn(Set.of("roles:read"));
+
+        // When
+        Set<String> permissions = service.grantPermission(2L, " roles:write ");
+
+        // Then
+        assertThat(permissions).containsExactly("roles:read", "roles:write");
+        verify(permissionRepositoryPort).save(2L, Set.of("roles:read", "roles:write"));
+        verify(permissionIndex).put(2L, Set.of("roles:read", "roles:write"));
+    }
+
+    @Test
+    @DisplayName("Should revoke a permission")
+    void shouldRevokePermission() {
+        // Given
+        when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(editor));
+        when(permissionRepositoryPort.findByRoleId(2L)).thenReturn(Set.of("roles:read", "roles:write"));
+
+        // When
+        Set<String> permissions = service.revokePermission(2L, "roles:write");
+
+        // Then
+        assertThat(permissions).containsExactly("roles:read");
+        verify(permissionIndex).put(2L, Set.of("roles:read"));
+    }
+
+    @Test
+    @DisplayName("Should validate every permission before replacing the set")
+    void shouldValidateBeforeReplacing() {
+        // When & Then
+        assertThatThrownBy(() -> service.setPermissions(2L, List.of("roles:read", "Roles:Write")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(permissionRepositoryPort, never()).save(anyLong(), anySet());
+        verify(permissionIndex, never()).put(anyLong(), anySet());
+    }
+
+    @Test
+    @DisplayName("Should not write permissions of an unknown role")
+    void shouldRejectUnknownRoleOnWrite() {
+        // Given
+        when(roleRepositoryPort.findById(9L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.grantPermission(9L, "roles:read"))
+                .isInstanceOf(RoleNotFoundException.class);
+        verify(permissionIndex, never()).put(anyLong(), anySet());
+    }
+
+    @Test
+    @DisplayName("Should answer checks from the index in request order")
+    void shouldAnswerChecksFromIndex() {
+        // Given
+        when(roleReadModelPort.findById(2L)).thenReturn(Optional.of(editor));
+        when(permissionIndex.hasPermission(2L, "roles:write")).thenReturn(true);
+        when(permissionIndex.hasPermission(2L, "billing:read")).thenReturn(false);
+
+        // When
+        Map<String, Boolean> results = service.checkPermissions(2L, List.of("roles:write", "billing:read"));
+
+        // Then
+        assertThat(results).containsExactly(Map.entry("roles:write", true), Map.entry("billing:read", false));
+        verify(permissionRepositoryPort, never()).findByRoleId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject checks for roles the read model does not know")
+    void shouldRejectChecksForUnknownRole() {
+        // Given
+        when(roleReadModelPort.findById(9L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.hasPermission(9L, "roles:read"))
+                .isInstanceOf(RoleNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should clear the stored and indexed permissions of a deleted role")
+    void shouldClearPermissions() {
+        // When
+        service.clearPermissions(2L);
+
+        // Then
+        verify(permissionRepositoryPort).deleteByRoleId(2L);
+        verify(permissionIndex).remove(2L);
+    }
+}
@@ -0,0 +1,523 @@
+package co.onmind.microhex.domain.services;
+
+import co.onmind.microhex.domain.exceptions.RoleAlreadyExistsException;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.models.RoleImportSummary;
+import co.onmind.microhex.domain.models.RoleName;
+import co.onmind.microhex.domain.ports.out.RoleBulkWritePort;
+import co.onmind.microhex.domain.ports.out.RoleEventPublisherPort;
+import co.onmind.microhex.domain.ports.out.RoleHistoryPort;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.UnitOfWorkPort;
+import co.onmind.microhex.transverse.concurrency.StripedLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the RoleService.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Role Service Tests")
+class RoleServiceTest {
+
+    private static final int IMPORT_CHUNK_SIZE = 1_000;
+
+    @Mock
+    private RoleRepositoryPort roleRepositoryPort;
+
+    @Mock
+    private RoleHistoryPort roleHistoryPort;
+
+    @Mock
+    private RoleBulkWritePort roleBulkWritePort;
+
+    @Mock
+    private RoleEventPublisherPort eventPublisher;
+
+    @Mock
+    private RoleReadModelPort roleReadModelPort;
+
+    @Mock
+    private StripedLock nameLocks;
+
+    @Mock
+    private UnitOfWorkPort unitOfWork;
+
+    private RoleService service;
+
+    /** Names held by the name lock right now, as the mocked lock sees them. */
+    private final List<Object> heldNames = new ArrayList<>();
+
+    /** Events the unit of work had committed when each was published. */
+    private final List<Boolean> publishedAfterCommit = new ArrayList<>();
+
+    private boolean inUnitOfWork;
+
+    /** Names of each chunk written, copied when written: the service reuses its chunk list. */
+    private final List<List<String>> writtenChunks = new ArrayList<>();
+
+    private final List<RoleImportSummary> progress = new ArrayList<>();
+
+    private long nextId = 1;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(nameLocks.withLock(any(), any())).thenAnswer(invocation -> {
+            Object name = invocation.getArgument(0);
+            heldNames.add(name);
+            try {
+                return ((Supplier<?>) invocation.getArgument(1)).get();
+            } finally {
+                heldNames.remove(name);
+            }
+        });
+        lenient().when(unitOfWork.execute(any())).thenAnswer(invocation -> {
+            inUnitOfWork = true;
+            try {
+                return ((Supplier<?>) invocation.getArgument(0)).get();
+            } finally {
+                inUnitOfWork = false;
+            }
+        });
+        service = new RoleService(roleRepositoryPort, Optional.of(roleHistoryPort), roleBulkWritePort, eventPublisher,
+                roleReadModelPort, nameLocks, unitOfWork);
+    }
+
+    private List<Role> insertAll(List<Role> roles) {
+        writtenChunks.add(roles.stream().map(Role::getName).toList());
+        return roles.stream().map(this::withId).toList();
+    }
+
+    private Role withId(Role role) {
+        return new Role(nextId++, role.getName(), role.getCreatedAt());
+    }
+
+    private void recordPublishOrder() {
+        lenient().doAnswer(invocation -> publishedAfterCommit.add(!inUnitOfWork))
+                .when(eventPublisher).publishRoleCreated(any());
+        lenient().doAnswer(invocation -> publishedAfterCommit.add(!inUnitOfWork))
+                .when(eventPublisher).publishRoleUpdated(any());
+        lenient().doAnswer(invocation -> publishedAfterCommit.add(!inUnitOfWork))
+                .when(eventPublisher).publishRoleDeleted(any());
+    }
+
+    private RoleImportSummary importRoles(List<String> names) {
+        return service.importRoles(names.iterator(), progress::add);
+    }
+
+    private static List<String> names(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "ROLE_" + i).toList();
+    }
+
+    @Nested
+    @DisplayName("Import Roles Tests")
+    class ImportRolesTests {
+
+        @Test
+        @DisplayName("Should write a full chunk at once and report progress after it")
+        void shouldWriteFullChunk() {
+            // Given
+            when(roleBulkWritePort.insertNew(anyList())).thenAnswer(invocation -> insertAll(invocation.getArgument(0)));
+
+            // When
+            RoleImportSummary summary = importRoles(names(IMPORT_CHUNK_SIZE));
+
+            // Then
+            assertThat(writtenChunks).hasSize(1);
+            assertThat(writtenChunks.getFirst()).hasSize(IMPORT_CHUNK_SIZE);
+            assertThat(progress).containsExactly(new RoleImportSummary(IMPORT_CHUNK_SIZE, 0, 0));
+            assertThat(summary).isEqualTo(new RoleImportSummary(IMPORT_CHUNK_SIZE, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should start a new chunk after the chunk size and write the remainder last")
+        void shouldSplitAtChunkBoundary() {
+            // Given
+            when(roleBulkWritePort.insertNew(anyList())).thenAnswer(invocation -> insertAll(invocation.getArgument(0)));
+
+            // When
+            RoleImportSummary summary = importRoles(names(IMPORT_CHUNK_SIZE + 1));
+
+            // Then
+            assertThat(writtenChunks).hasSize(2);
+            assertThat(writtenChunks.get(0)).hasSize(IMPORT_CHUNK_SIZE);
+            assertThat(writtenChunks.get(1)).containsExactly("ROLE_" + IMPORT_CHUNK_SIZE);
+            assertThat(progress).containsExactly(
+                    new RoleImportSummary(IMPORT_CHUNK_SIZE, 0, 0),
+                    new RoleImportSummary(IMPORT_CHUNK_SIZE + 1, 0, 0));
+            assertThat(summary.records()).isEqualTo(IMPORT_CHUNK_SIZE + 1);
+        }
+
+        @Test
+        @DisplayName("Should drop names repeated within a chunk and count them as duplicates")
+        void shouldDedupeWithinChunk() {
+            // Given
+            when(roleBulkWritePort.insertNew(anyList())).thenAnswer(invocation -> insertAll(invocation.getArgument(0)));
+
+            // When
+            RoleImportSummary summary = importRoles(List.of("admin", " ADMIN ", "editor", "Editor", "viewer"));
+
+            // Then
+            assertThat(writtenChunks).containsExactly(List.of("ADMIN", "EDITOR", "VIEWER"));
+            assertThat(summary).isEqualTo(new RoleImportSummary(3, 2, 0));
+        }
+
+        @Test
+        @DisplayName("Should leave the names of earlier chunks to the bulk write port")
+        void shouldPassRepeatsAcrossChunksToPort() {
+            // Given
+            List<String> names = new ArrayList<>(names(IMPORT_CHUNK_SIZE));
+            names.add("ROLE_0");
+            when(roleBulkWritePort.insertNew(anyList()))
+                    .thenAnswer(invocation -> insertAll(invocation.getArgument(0)))
+                    .thenAnswer(invocation -> {
+                        insertAll(invocation.getArgument(0));
+                        return List.of();
+                    });
+
+            // When
+            RoleImportSummary summary = importRoles(names);
+
+            // Then
+            assertThat(writtenChunks.get(1)).containsExactly("ROLE_0");
+            assertThat(summary).isEqualTo(new RoleImportSummary(IMPORT_CHUNK_SIZE, 1, 0));
+        }
+
+        @Test
+        @DisplayName("Should count records without a valid name as invalid and write nothing for them")
+        void shouldCountInvalidNames() {
+            // Given
+            when(roleBulkWritePort.insertNew(anyList())).thenAnswer(invocation -> insertAll(invocation.getArgument(0)));
+            List<String> names = Arrays.asList("", "   ", null, "X".repeat(RoleName.MAX_LENGTH + 1), "admin");
+
+            // When
+            RoleImportSummary summary = importRoles(names);
+
+            // Then
+            assertThat(writtenChunks).containsExactly(List.of("ADMIN"));
+            assertThat(summary).isEqualTo(new RoleImportSummary(1, 0, 4));
+        }
+
+        @Test
+        @DisplayName("Should write nothing when every record is invalid")
+        void shouldSkipWriteWithoutValidNames() {
+            // When
+            RoleImportSummary summary = importRoles(List.of("", " "));
+
+            // Then
+            assertThat(summary).isEqualTo(new RoleImportSummary(0, 0, 2));
+            assertThat(progress).isEmpty();
+            verifyNoInteractions(roleBulkWritePort, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should retry a chunk once when a name was taken concurrently")
+        void shouldRetryChunkOnce() {
+            // Given
+            Role stored = new Role(10L, "EDITOR", LocalDateTime.now());
+            when(roleBulkWritePort.insertNew(anyList()))
+                    .thenThrow(new RoleAlreadyExistsException("Role with name 'ADMIN' already exists"))
+                    .thenReturn(List.of(stored));
+
+            // When
+            RoleImportSummary summary = importRoles(List.of("admin", "editor"));
+
+            // Then
+            assertThat(summary).isEqualTo(new RoleImportSummary(1, 1, 0));
+            verify(roleBulkWritePort, times(2)).insertNew(anyList());
+            verify(eventPublisher).publishRoleCreated(stored);
+            verify(eventPublisher, times(1)).publishRoleCreated(any());
+        }
+
+        @Test
+        @DisplayName("Should fail without publishing when the retry conflicts again")
+        void shouldFailAfterSecondConflict() {
+            // Given
+            when(roleBulkWritePort.insertNew(anyList()))
+                    .thenThrow(new RoleAlreadyExistsException("Role with name 'ADMIN' already exists"));
+
+            // When & Then
+            assertThatThrownBy(() -> importRoles(List.of("admin")))
+                    .isInstanceOf(RoleAlreadyExistsException.class);
+            verify(roleBulkWritePort, times(2)).insertNew(anyList());
+            verifyNoInteractions(eventPublisher);
+            assertThat(progress).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should publish each inserted role once its chunk is written")
+        void shouldPublishAfterChunkWrite() {
+            // Given
+            when(roleBulkWritePort.insertNew(anyList())).thenAnswer(invocation -> insertAll(invocation.getArgument(0)));
+
+            // When
+            importRoles(List.of("admin", "editor"));
+
+            // Then
+            InOrder inOrder = inOrder(roleBulkWritePort, eventPublisher);
+            inOrder.verify(roleBulkWritePort).insertNew(anyList());
+            inOrder.verify(eventPublisher, times(2)).publishRoleCreated(any());
+        }
+
+        @Test
+        @DisplayName("Should skip the name locks and the per-role unit of work")
+        void shouldSkipNameLocks() {
+            // Given
+            when(roleBulkWritePort.insertNew(anyList())).thenAnswer(invocation -> insertAll(invocation.getArgument(0)));
+
+            // When
+            importRoles(names(10));
+
+            // Then
+            verifyNoInteractions(nameLocks, unitOfWork, roleRepositoryPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Name Lock Tests")
+    class NameLockTests {
+
+        @Test
+        @DisplayName("Should hold the normalized name lock around the uniqueness check and the write")
+        void shouldLockNameOnCreate() {
+            // Given
+            List<Object> heldDuringWrite = new ArrayList<>();
+            when(roleRepositoryPort.existsByName("ADMIN")).thenReturn(false);
+            when(roleRepositoryPort.save(any())).thenAnswer(invocation -> {
+                heldDuringWrite.addAll(heldNames);
+                return withId(invocation.getArgument(0));
+            });
+
+            // When
+            service.createRole(" admin ");
+
+            // Then
+            assertThat(heldDuringWrite).containsExactly("ADMIN");
+            assertThat(heldNames).isEmpty();
+            InOrder inOrder = inOrder(nameLocks, unitOfWork, roleRepositoryPort);
+            inOrder.verify(nameLocks).withLock(eq("ADMIN"), any());
+            inOrder.verify(unitOfWork).execute(any());
+            inOrder.verify(roleRepositoryPort).existsByName("ADMIN");
+            inOrder.verify(roleRepositoryPort).save(any());
+        }
+
+        @Test
+        @DisplayName("Should lock the new name on rename")
+        void shouldLockNewNameOnUpdate() {
+            // Given
+            Role editor = new Role(2L, "EDITOR", LocalDateTime.now());
+            List<Object> heldDuringWrite = new ArrayList<>();
+            when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(editor));
+            when(roleRepositoryPort.findByName("WRITER")).thenReturn(Optional.empty());
+            when(roleRepositoryPort.save(any())).thenAnswer(invocation -> {
+                heldDuringWrite.addAll(heldNames);
+                return invocation.getArgument(0);
+            });
+
+            // When
+            service.updateRole(2L, "writer");
+
+            // Then
+            assertThat(heldDuringWrite).containsExactly("WRITER");
+            verify(nameLocks).withLock(eq("WRITER"), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a taken name without writing")
+        void shouldRejectTakenName() {
+            // Given
+            when(roleRepositoryPort.existsByName("ADMIN")).thenReturn(true);
+
+            // When & Then
+            assertThatThrownBy(() -> service.createRole("admin"))
+                    .isInstanceOf(RoleAlreadyExistsException.class);
+            verify(roleRepositoryPort, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should validate the name before taking any lock")
+        void shouldValidateBeforeLocking() {
+            // When & Then
+            assertThatThrownBy(() -> service.createRole("  ")).isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(nameLocks, unitOfWork);
+        }
+    }
+
+    @Nested
+    @DisplayName("Publish After Commit Tests")
+    class PublishAfterCommitTests {
+
+        @Test
+        @DisplayName("Should publish a created role after its unit of work")
+        void shouldPublishCreateAfterCommit() {
+            // Given
+            recordPublishOrder();
+            when(roleRepositoryPort.existsByName(anyString())).thenReturn(false);
+            when(roleRepositoryPort.save(any())).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+
+            // When
+            Role created = service.createRole("admin");
+
+            // Then
+            assertThat(publishedAfterCommit).containsExactly(true);
+            verify(eventPublisher).publishRoleCreated(created);
+        }
+
+        @Test
+        @DisplayName("Should publish a renamed role after its unit of work")
+        void shouldPublishUpdateAfterCommit() {
+            // Given
+            recordPublishOrder();
+            Role editor = new Role(2L, "EDITOR", LocalDateTime.now());
+            when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(editor));
+            when(roleRepositoryPort.findByName("WRITER")).thenReturn(Optional.empty());
+            when(roleRepositoryPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            service.updateRole(2L, "writer");
+
+            // Then
+            assertThat(publishedAfterCommit).containsExactly(true);
+        }
+
+        @Test
+        @DisplayName("Should publish a deletion after its unit of work")
+        void shouldPublishDeleteAfterCommit() {
+            // Given
+            recordPublishOrder();
+            when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(new Role(2L, "EDITOR", LocalDateTime.now())));
+            when(roleRepositoryPort.deleteById(2L)).thenReturn(true);
+
+            // When
+            service.deleteRole(2L);
+
+            // Then
+            assertThat(publishedAfterCommit).containsExactly(true);
+            verify(eventPublisher).publishRoleDeleted(2L);
+        }
+
+        @Test
+        @DisplayName("Should publish nothing when the unit of work fails")
+        void shouldNotPublishWhenUnitOfWorkFails() {
+            // Given
+            when(roleRepositoryPort.existsByName("ADMIN")).thenReturn(false);
+            when(roleRepositoryPort.save(any())).thenThrow(new IllegalStateException("database down"));
+
+            // When & Then
+            assertThatThrownBy(() -> service.createRole("admin")).isInstanceOf(IllegalStateException.class);
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Role Lock Tests")
+    class RoleLockTests {
+
+        @Test
+        @DisplayName("Should hold a delete until a rename of the same role is published")
+        void shouldPublishRenameBeforeLaterDelete() throws Exception {
+            // Given
+            List<String> published = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch renaming = new CountDownLatch(1);
+            CountDownLatch releaseRename = new CountDownLatch(1);
+            Role editor = new Role(2L, "EDITOR", LocalDateTime.now());
+            when(roleRepositoryPort.findById(2L)).thenReturn(Optional.of(editor));
+            when(roleRepositoryPort.findByName("WRITER")).thenReturn(Optional.empty());
+            when(roleRepositoryPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+            when(roleRepositoryPort.deleteById(2L)).thenReturn(true);
+            doAnswer(invocation -> {
+                renaming.countDown();
+                releaseRename.await(5, TimeUnit.SECONDS);
+                return published.add("updated");
+            }).when(eventPublisher).publishRoleUpdated(any());
+            doAnswer(invocation -> published.add("deleted")).when(eventPublisher).publishRoleDeleted(2L);
+
+            // When
+            CompletableFuture<Role> rename = CompletableFuture.supplyAsync(() -> service.updateRole(2L, "writer"));
+            assertThat(renaming.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<Void> delete = CompletableFuture.runAsync(() -> service.deleteRole(2L));
+
+            // Then
+            verify(roleRepositoryPort, after(200).never()).deleteById(2L);
+            releaseRename.countDown();
+            rename.get(5, TimeUnit.SECONDS);
+            delete.get(5, TimeUnit.SECONDS);
+            assertThat(published).containsExactly("updated", "deleted");
+        }
+    }
+
+    @Nested
+    @DisplayName("Role History Tests")
+    class RoleHistoryTests {
+
+        private final Instant asOf = Instant.parse("2025-03-11T09:00:00Z");
+
+        @Test
+        @DisplayName("Should read roles as of a time from the role history")
+        void shouldReadFromRoleHistory() {
+            // Given
+            Role editor = new Role(2L, "EDITOR", LocalDateTime.now());
+            when(roleHistoryPort.findByIdAsOf(2L, asOf)).thenReturn(Optional.of(editor));
+
+            // When
+            Optional<Role> role = service.getRoleByIdAsOf(2L, asOf);
+
+            // Then
+            assertThat(service.isRoleHistoryAvailable()).isTrue();
+            assertThat(role).contains(editor);
+            verifyNoInteractions(roleRepositoryPort, roleReadModelPort);
+        }
+
+        @Test
+        @DisplayName("Should report no role history when the persistence mode keeps none")
+        void shouldReportMissingRoleHistory() {
+            // Given
+            RoleService withoutHistory = new RoleService(roleRepositoryPort, Optional.empty(), roleBulkWritePort,
+                    eventPublisher, roleReadModelPort, nameLocks, unitOfWork);
+
+            // When & Then
+            assertThat(withoutHistory.isRoleHistoryAvailable()).isFalse();
+            assertThatThrownBy(() -> withoutHistory.getAllRolesAsOf(asOf)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 /**
@@ -52,11 +53,11 @@ class RoleControllerTest {
             CreateRoleRequest request = new CreateRoleRequest("ADMIN");
             RoleResponse response = new RoleResponse(1L, "ADMIN", LocalDateTime.now());
             
-            when(roleHandler.createRole(any(CreateRoleRequest.class)))
+            when(roleHandler.createRole(any(CreateRoleRequest.class), isNull()))
                 .thenReturn(ResponseEntity.status(HttpStatus.CREATED).body(response));
             
             // When
-            ResponseEntity<RoleResponse> result = roleController.createRole(request);
+            ResponseEntity<RoleResponse> result = roleController.createRole(request, null);
             
             // Then
             assertEquals(HttpStatus.CREATED, result.getStatusCode());
@@ -71,11 +72,11 @@ class RoleControllerTest {
             // Given
             CreateRoleRequest request = new CreateRoleRequest("ADMIN");
             
-            when(roleHandler.createRole(any(CreateRoleRequest.class)))
+            when(roleHandler.createRole(any(CreateRoleRequest.class), isNull()))
                 .thenReturn(ResponseEntity.status(HttpStatus.CONFLICT).build());
             
             // When
-            ResponseEntity<RoleResponse> result = roleController.createRole(request);
+            ResponseEntity<RoleResponse> result = roleController.createRole(request, null);
             
             // Then
             assertEquals(HttpStatus.CONFLICT, result.getStatusCode());
@@ -95,11 +96,11 @@ class RoleControllerTest {
             UpdateRoleRequest request = new UpdateRoleRequest("UPDATED_ADMIN");
             RoleResponse response = new RoleResponse(roleId, "UPDATED_ADMIN", LocalDateTime.now());
             
-            when(roleHandler.updateRole(anyLong(), any(UpdateRoleRequest.class)))
+            when(roleHandler.updateRole(anyLong(), any(UpdateRoleRequest.class), isNull()))
                 .thenReturn(ResponseEntity.ok(response));
             
             // When
-            ResponseEntity<RoleResponse> result = roleController.updateRole(roleId, request);
+            ResponseEntity<RoleResponse> result = roleController.updateRole(roleId, request, null);
             
             // Then
             assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -115,11 +116,11 @@ class RoleControllerTest {
             Long roleId = 999L;
             UpdateRoleRequest request = new UpdateRoleRequest("NEW_NAME");
             
-            when(roleHandler.updateRole(anyLong(), any(UpdateRoleRequest.class)))
+            when(roleHandler.updateRole(anyLong(), any(UpdateRoleRequest.class), isNull()))
                 .thenReturn(ResponseEntity.notFound().build());
             
             // When
-            ResponseEntity<RoleResponse> result = roleController.updateRole(roleId, request);
+            ResponseEntity<RoleResponse> result = roleController.updateRole(roleId, request, null);
             
             // Then
             assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
@@ -176,11 +177,11 @@ class RoleControllerTest {
             Long roleId = 1L;
             RoleResponse response = new RoleResponse(roleId, "ADMIN", LocalDateTime.now());
             
-            when(roleHandler.getRoleById(anyLong()))
+            when(roleHandler.getRoleById(anyLong(), isNull()))
                 .thenReturn(ResponseEntity.ok(response));
             
             // When
-            ResponseEntity<RoleResponse> result = roleController.getRoleById(roleId);
+            ResponseEntity<RoleResponse> result = roleController.getRoleById(roleId, null);
             
             // Then
             assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -195,11 +196,11 @@ class RoleControllerTest {
             // Given
             Long roleId = 999L;
             
-            when(roleHandler.getRoleById(anyLong()))
+            when(roleHandler.getRoleById(anyLong(), isNull()))
                 .thenReturn(ResponseEntity.notFound().build());
             
             // When
-            ResponseEntity<RoleResponse> result = roleController.getRoleById(roleId);
+            ResponseEntity<RoleResponse> result = roleController.getRoleById(roleId, null);
             
             // Then
             assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
@@ -215,11 +216,11 @@ class RoleControllerTest {
                 new RoleResponse(2L, "USER", LocalDateTime.now())
             );
             
-            when(roleHandler.getAllRoles())
+            when(roleHandler.getAllRoles(isNull()))
                 .thenReturn(ResponseEntity.ok(responses));
             
             // When
-            ResponseEntity<List<RoleResponse>> result = roleController.getAllRoles();
+            ResponseEntity<List<RoleResponse>> result = roleController.getAllRoles(null);
             
             // Then
             assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -239,11 +240,11 @@ class RoleControllerTest {
                 new RoleResponse(2L, "SUPER_ADMIN", LocalDateTime.now())
             );
             
-            when(roleHandler.searchRoles(anyString()))
+            when(roleHandler.searchRoles(anyString(), isNull()))
                 .thenReturn(ResponseEntity.ok(responses));
             
             // When
-            ResponseEntity<List<RoleResponse>> result = roleController.searchRoles(searchPattern);
+            ResponseEntity<List<RoleResponse>> result = roleController.searchRoles(searchPattern, null);
             
             // Then
             assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -259,11 +260,11 @@ class RoleControllerTest {
             // Given
             Map<String, Long> countResponse = Map.of("count", 5L);
             
-            when(roleHandler.getRoleCount())
+            when(roleHandler.getRoleCount(isNull()))
                 .thenReturn(ResponseEntity.ok(countResponse));
             
             // When
-            ResponseEntity<Map<String, Long>> result = roleController.getRoleCount();
+            ResponseEntity<Map<String, Long>> result = roleController.getRoleCount(null);
             
             // Then
             assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -0,0 +1,67 @@
+package co.onmind.microhex.infrastructure.events;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleReadModelPort;
+import co.onmind.microhex.infrastructure.persistence.catalog.MappedRoleCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the RoleCatalogPublisher.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Role Catalog Publisher Tests")
+class RoleCatalogPublisherTest {
+
+    @Mock
+    private RoleReadModelPort roleReadModel;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should publish the changes of many batches once, off the event thread")
+    void shouldCoalesceBatchesIntoOnePublication() throws Exception {
+        // Given
+        Path file = directory.resolve("role-catalog.bin");
+        Role admin = new Role(1L, "ADMIN", LocalDateTime.of(2025, 1, 1, 0, 0));
+        when(roleReadModel.version()).thenReturn(-1L, 9L);
+        when(roleReadModel.findAll()).thenReturn(List.of(), List.of(admin));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RoleCatalogPublisher publisher = new RoleCatalogPublisher(roleReadModel, file, Duration.ofHours(1), meterRegistry);
+
+        // When
+        for (long sequence = 0; sequence < 10; sequence++) {
+            publisher.onEvent(new RoleEvent(), sequence, true);
+        }
+        double beforeClose = meterRegistry.get("role.catalog.publishes").counter().count();
+        publisher.close();
+
+        // Then
+        assertThat(beforeClose).isEqualTo(1.0);
+        assertThat(meterRegistry.get("role.catalog.publishes").counter().count()).isEqualTo(2.0);
+        verify(roleReadModel, times(2)).findAll();
+        MappedRoleCatalog catalog = MappedRoleCatalog.open(file).orElseThrow();
+        assertThat(catalog.sequence()).isEqualTo(9L);
+        assertThat(catalog.findById(1L)).contains(admin);
+    }
+}
@@ -0,0 +1,89 @@
+package co.onmind.microhex.infrastructure.expiry;
+
+import co.onmind.microhex.domain.models.RoleGrant;
+import co.onmind.microhex.domain.ports.out.MembershipRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the TimingWheelGrantExpiry.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Timing Wheel Grant Expiry Tests")
+class TimingWheelGrantExpiryTest {
+
+    @Mock
+    private MembershipRepositoryPort membershipRepositoryPort;
+
+    private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    private TimingWheelGrantExpiry grantExpiry;
+
+    @BeforeEach
+    void setUp() {
+        grantExpiry = new TimingWheelGrantExpiry(membershipRepositoryPort, 1000,
+                Clock.fixed(now, ZoneOffset.UTC), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should replace the tracked expiry of a grant")
+    void shouldReplaceTrackedExpiry() {
+        // Given
+        grantExpiry.schedule(7L, 2L, now.plusSeconds(10));
+
+        // When
+        grantExpiry.schedule(7L, 2L, now.plusSeconds(60));
+
+        // Then
+        assertThat(grantExpiry.pendingCount()).isEqualTo(1);
+        assertThat(grantExpiry.pollExpired(now.plusSeconds(30), 10)).isEmpty();
+        assertThat(grantExpiry.pollExpired(now.plusSeconds(61), 10))
+                .containsExactly(new RoleGrant(7L, 2L, now.plusSeconds(60)));
+    }
+
+    @Test
+    @DisplayName("Should keep a newer expiry when a failed batch is tracked again")
+    void shouldKeepNewerExpiryOnScheduleIfAbsent() {
+        // Given
+        grantExpiry.schedule(7L, 2L, now.plusSeconds(10));
+        assertThat(grantExpiry.pollExpired(now.plusSeconds(11), 10)).hasSize(1);
+        grantExpiry.schedule(7L, 2L, now.plusSeconds(3600));
+
+        // When
+        grantExpiry.scheduleIfAbsent(7L, 2L, now.plusSeconds(10));
+
+        // Then
+        assertThat(grantExpiry.pendingCount()).isEqualTo(1);
+        assertThat(grantExpiry.pollExpired(now.plusSeconds(60), 10)).isEmpty();
+        assertThat(grantExpiry.pollExpired(now.plusSeconds(3601), 10))
+                .containsExactly(new RoleGrant(7L, 2L, now.plusSeconds(3600)));
+    }
+
+    @Test
+    @DisplayName("Should track a grant again when nothing is tracked for it")
+    void shouldScheduleIfAbsent() {
+        // Given
+        grantExpiry.schedule(7L, 2L, now.plusSeconds(10));
+        assertThat(grantExpiry.pollExpired(now.plusSeconds(11), 10)).hasSize(1);
+
+        // When
+        grantExpiry.scheduleIfAbsent(7L, 2L, now.plusSeconds(10));
+
+        // Then
+        assertThat(grantExpiry.pollExpired(now.plusSeconds(12), 10))
+                .containsExactly(new RoleGrant(7L, 2L, now.plusSeconds(10)));
+    }
+}
@@ -0,0 +1,157 @@
+package co.onmind.microhex.infrastructure.notification;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.NotificationPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CompactingNotificationPort.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Compacting Notification Port Tests")
+class CompactingNotificationPortTest {
+
+    @Mock
+    private NotificationPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompactingNotificationPort compactingPort;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Long window so that only explicit flushes forward events
+        compactingPort = new CompactingNotificationPort(delegate, Duration.ofHours(1), meterRegistry);
+        createdAt = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        compactingPort.close();
+    }
+
+    @Test
+    @DisplayName("Should merge create and update into one create with the final name")
+    void shouldMergeCreateAndUpdate() {
+        // When
+        compactingPort.notifyRoleCreated(new Role(1L, "DEV", createdAt));
+        compactingPort.notifyRoleUpdated(new Role(1L, "DEVELOPER", createdAt));
+        compactingPort.notifyRoleUpdated(new Role(1L, "SENIOR_DEVELOPER", createdAt));
+        compactingPort.flushAll();
+
+        // Then
+        ArgumentCaptor<Role> captor = ArgumentCaptor.forClass(Role.class);
+        verify(delegate).notifyRoleCreated(captor.capture());
+        verifyNoMoreInteractions(delegate);
+        assertThat(captor.getValue().getName()).isEqualTo("SENIOR_DEVELOPER");
+        assertThat(compactingPort.compactionRatio()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should drop create followed by delete")
+    void shouldDropCreateFollowedByDelete() {
+        // When
+        compactingPort.notifyRoleCreated(new Role(2L, "TEMP", createdAt));
+        compactingPort.notifyRoleUpdated(new Role(2L, "TEMP_RENAMED", createdAt));
+        compactingPort.notifyRoleDeleted(2L);
+        compactingPort.flushAll();
+
+        // Then
+        verifyNoInteractions(delegate);
+        assertThat(meterRegistry.counter("notification.compaction.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should turn update followed by delete into a delete")
+    void shouldKeepDeleteAfterUpdate() {
+        // When
+        compactingPort.notifyRoleUpdated(new Role(3L, "OPS", createdAt));
+        compactingPort.notifyRoleDeleted(3L);
+        compactingPort.flushAll();
+
+        // Then
+        verify(delegate).notifyRoleDeleted(3L);
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should keep events of different roles apart")
+    void shouldKeepRolesApart() {
+        // When
+        compactingPort.notifyRoleCreated(new Role(4L, "A_ROLE", createdAt));
+        compactingPort.notifyRoleCreated(new Role(5L, "B_ROLE", createdAt));
+        compactingPort.flushAll();
+
+        // Then
+        verify(delegate, times(2)).notifyRoleCreated(any(Role.class));
+        assertThat(compactingPort.compactionRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should forward events once the window closes")
+    void shouldForwardWhenWindowCloses() {
+        // Given
+        CompactingNotificationPort shortWindow =
+            new CompactingNotificationPort(delegate, Duration.ofMillis(50), new SimpleMeterRegistry());
+
+        // When
+        shortWindow.notifyRoleUpdated(new Role(6L, "AUDITOR", createdAt));
+
+        // Then
+        verify(delegate, timeout(2000)).notifyRoleUpdated(any(Role.class));
+        shortWindow.close();
+    }
+
+    @Test
+    @DisplayName("Should keep the updated name when a create arrives after an update")
+    void shouldKeepLatestNameWhenCreateFollowsUpdate() {
+        // When
+        compactingPort.notifyRoleUpdated(new Role(7L, "QA_LEAD", createdAt));
+        compactingPort.notifyRoleCreated(new Role(7L, "QA", createdAt));
+        compactingPort.flushAll();
+
+        // Then
+        ArgumentCaptor<Role> captor = ArgumentCaptor.forClass(Role.class);
+        verify(delegate).notifyRoleCreated(captor.capture());
+        verifyNoMoreInteractions(delegate);
+        assertThat(captor.getValue().getName()).isEqualTo("QA_LEAD");
+    }
+
+    @Test
+    @DisplayName("Should not cut short a window opened after a create and delete cancelled out")
+    void shouldIgnoreFlushOfCancelledWindow() throws InterruptedException {
+        // Given
+        CompactingNotificationPort port =
+            new CompactingNotificationPort(delegate, Duration.ofMillis(1000), new SimpleMeterRegistry());
+        port.notifyRoleCreated(new Role(8L, "TEMP", createdAt));
+        port.notifyRoleDeleted(8L);
+        Thread.sleep(500);
+
+        // When
+        port.notifyRoleUpdated(new Role(8L, "TEMP_RENAMED", createdAt));
+        Thread.sleep(700);
+
+        // Then
+        verifyNoInteractions(delegate);
+        verify(delegate, timeout(2000)).notifyRoleUpdated(any(Role.class));
+        port.close();
+    }
+}
@@ -0,0 +1,99 @@
+package co.onmind.microhex.infrastructure.notification;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.infrastructure.webclients.dto.NotificationRequest;
+import co.onmind.microhex.transverse.spool.SegmentedSpool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationAdapter.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Adapter Tests")
+class NotificationAdapterTest {
+
+    @Mock
+    private ResilientNotificationClient notificationClient;
+
+    @Mock
+    private SegmentedSpool notificationSpool;
+
+    @Test
+    @DisplayName("Should deliver to remote service when enabled")
+    void shouldDeliverWhenEnabled() {
+        // Given
+        NotificationAdapter adapter = new NotificationAdapter(notificationClient, notificationSpool, true);
+        when(notificationClient.send(any(NotificationRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ResponseEntity.ok("ok")));
+
+        // When
+        adapter.notifyRoleCreated(new Role(1L, "DEVELOPER", LocalDateTime.now()));
+
+        // Then
+        ArgumentCaptor<NotificationRequest> captor = ArgumentCaptor.forClass(NotificationRequest.class);
+        verify(notificationClient).send(captor.capture());
+        assertThat(captor.getValue().message()).contains("ID=1").contains("DEVELOPER");
+    }
+
+    @Test
+    @DisplayName("Should only log when remote delivery is disabled")
+    void shouldOnlyLogWhenDisabled() {
+        // Given
+        NotificationAdapter adapter = new NotificationAdapter(notificationClient, notificationSpool, false);
+
+        // When
+        adapter.notifyRoleDeleted(7L);
+
+        // Then
+        verifyNoInteractions(notificationClient, notificationSpool);
+    }
+
+    @Test
+    @DisplayName("Should spool remote delivery failures instead of propagating them")
+    void shouldSpoolFailures() {
+        // Given
+        NotificationAdapter adapter = new NotificationAdapter(notificationClient, notificationSpool, true);
+        when(notificationClient.send(any(NotificationRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new IOException("Connection refused")));
+
+        // When / Then
+        assertThatCode(() -> adapter.notifyRoleUpdated(new Role(2L, "USER", LocalDateTime.now())))
+            .doesNotThrowAnyException();
+        verify(notificationSpool).append(any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("Should spool deferred notifications without calling the remote service")
+    void shouldSpoolDeferredNotifications() {
+        // Given
+        NotificationAdapter adapter = new NotificationAdapter(notificationClient, notificationSpool, true);
+
+        // When
+        adapter.deferred().notifyRoleDeleted(3L);
+
+        // Then
+        ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(notificationSpool).append(captor.capture());
+        assertThat(new String(captor.getValue(), StandardCharsets.UTF_8)).isEqualTo("Role deleted: ID=3");
+        verifyNoInteractions(notificationClient);
+    }
+}
@@ -0,0 +1,154 @@
+package co.onmind.microhex.infrastructure.notification;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.NotificationPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PartitionedNotificationPort.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Partitioned Notification Port Tests")
+class PartitionedNotificationPortTest {
+
+    /**
+     * Delegate recording the delivered events per role.
+     */
+    private static class RecordingPort implements NotificationPort {
+        final Map<Long, List<String>> events = new ConcurrentHashMap<>();
+
+        private void record(Long roleId, String event) {
+            events.computeIfAbsent(roleId, id -> new ArrayList<>()).add(event);
+        }
+
+        @Override
+        public void notifyRoleCreated(Role role) { record(role.getId(), "created:" + role.getName()); }
+
+        @Override
+        public void notifyRoleUpdated(Role role) { record(role.getId(), "updated:" + role.getName()); }
+
+        @Override
+        public void notifyRoleDeleted(Long roleId) { record(roleId, "deleted"); }
+
+        @Override
+        public void notifyRoleGrantsExpired(Long roleId, long[] userIds) { record(roleId, "expired:" + userIds.length); }
+    }
+
+    @Test
+    @DisplayName("Should deliver the events of a role in order")
+    void shouldDeliverEventsOfRoleInOrder() throws Exception {
+        // Given
+        RecordingPort delegate = new RecordingPort();
+        PartitionedNotificationPort port = new PartitionedNotificationPort(delegate, new RecordingPort(), 4, 10_000, new SimpleMeterRegistry());
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        // When
+        for (long id = 1; id <= 100; id++) {
+            port.notifyRoleCreated(new Role(id, "ROLE_" + id, createdAt));
+            port.notifyRoleUpdated(new Role(id, "ROLE_" + id + "_V2", createdAt));
+            port.notifyRoleDeleted(id);
+        }
+        port.close();
+
+        // Then
+        assertThat(delegate.events).hasSize(100);
+        for (long id = 1; id <= 100; id++) {
+            assertThat(delegate.events.get(id))
+                .containsExactly("created:ROLE_" + id, "updated:ROLE_" + id + "_V2", "deleted");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep delivering other lanes while one lane is blocked")
+    void shouldNotBlockOtherLanes() throws Exception {
+        // Given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch otherDelivered = new CountDownLatch(1);
+        NotificationPort delegate = new RecordingPort() {
+            @Override
+            public void notifyRoleDeleted(Long roleId) {
+                if (roleId == 1L) {
+                    try {
+                        blocked.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                } else {
+                    otherDelivered.countDown();
+                }
+            }
+        };
+        PartitionedNotificationPort port = new PartitionedNotificationPort(delegate, new RecordingPort(), 2, 100, new SimpleMeterRegistry());
+        assertThat(port.laneOf(1L)).isNotEqualTo(port.laneOf(2L));
+
+        // When
+        port.notifyRoleDeleted(1L);
+        port.notifyRoleDeleted(1L);
+        port.notifyRoleDeleted(2L);
+
+        // Then
+        assertThat(otherDelivered.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(port.depthOf(port.laneOf(1L))).isEqualTo(1);
+        blocked.countDown();
+        port.close();
+    }
+
+    @Test
+    @DisplayName("Should hand events a full lane cannot take to the overflow port")
+    void shouldDeferEventsOfFullLane() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        RecordingPort overflow = new RecordingPort();
+        NotificationPort delegate = new RecordingPort() {
+            @Override
+            public void notifyRoleDeleted(Long roleId) {
+                started.countDown();
+                try {
+                    blocked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PartitionedNotificationPort port = new PartitionedNotificationPort(delegate, overflow, 1, 1, meterRegistry);
+        port.notifyRoleDeleted(1L);
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        port.notifyRoleDeleted(1L);
+
+        // When
+        port.notifyRoleUpdated(new Role(1L, "OVERFLOW", LocalDateTime.now()));
+
+        // Then
+        assertThat(overflow.events.get(1L)).containsExactly("updated:OVERFLOW");
+        assertThat(port.rejectedOf(0)).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.lane.rejected").tag("lane", "0").counter().count())
+            .isEqualTo(1.0);
+        blocked.countDown();
+        port.close();
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid lane count")
+    void shouldRejectInvalidLaneCount() {
+        assertThatThrownBy(() ->
+                new PartitionedNotificationPort(new RecordingPort(), new RecordingPort(), 0, 10, new SimpleMeterRegistry()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
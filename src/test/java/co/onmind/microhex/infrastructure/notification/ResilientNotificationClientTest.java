@@ -0,0 +1,169 @@
+package co.onmind.microhex.infrastructure.notification;
+
+import co.onmind.microhex.infrastructure.webclients.dto.NotificationRequest;
+import co.onmind.microhex.transverse.WebClientGeneric;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import io.github.resilience4j.springboot3.retry.autoconfigure.RetryAutoConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the Resilience4j annotations of the ResilientNotificationClient.
+ *
+ * Only the client, AOP and the retry, circuit breaker and bulkhead
+ * auto-configurations are started, with the "notification" instances of
+ * application.yml; the retry wait is shortened to keep the tests fast.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@SpringBootTest(classes = ResilientNotificationClient.class,
+        properties = "resilience4j.retry.instances.notification.wait-duration=10ms")
+@ImportAutoConfiguration({AopAutoConfiguration.class, RetryAutoConfiguration.class,
+        CircuitBreakerAutoConfiguration.class, BulkheadAutoConfiguration.class})
+@ActiveProfiles("test")
+@DisplayName("Resilient Notification Client Tests")
+class ResilientNotificationClientTest {
+
+    private static final String URL = "/api/notify";
+
+    @MockitoBean
+    private WebClientGeneric webClient;
+
+    @Autowired
+    private ResilientNotificationClient client;
+
+    @Autowired
+    private RetryRegistry retryRegistry;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    private final NotificationRequest request = new NotificationRequest("Role created: ID=1, name=ADMIN");
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry.circuitBreaker(ResilientNotificationClient.INSTANCE).reset();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed delivery up to the configured attempts")
+    void shouldRetryUpToMaxAttempts() {
+        // Given
+        int maxAttempts = retryRegistry.retry(ResilientNotificationClient.INSTANCE).getRetryConfig().getMaxAttempts();
+        when(webClient.postAsync(eq(URL), any(NotificationRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Connection refused")));
+
+        // When
+        Throwable failure = failureOf(request);
+
+        // Then
+        assertThat(maxAttempts).isEqualTo(3);
+        assertThat(failure).isInstanceOf(IOException.class);
+        verify(webClient, times(maxAttempts)).postAsync(eq(URL), any(NotificationRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should succeed when a retry attempt succeeds")
+    void shouldSucceedOnRetry() {
+        // Given
+        when(webClient.postAsync(eq(URL), any(NotificationRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Connection reset")),
+                        CompletableFuture.completedFuture(ResponseEntity.ok("ok")));
+
+        // When
+        ResponseEntity<String> response = client.send(request).join();
+
+        // Then
+        assertThat(response.getBody()).isEqualTo("ok");
+        verify(webClient, times(2)).postAsync(eq(URL), any(NotificationRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after enough failed attempts and then fail fast")
+    void shouldOpenCircuitAndFailFast() {
+        // Given
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(ResilientNotificationClient.INSTANCE);
+        int minimumCalls = circuitBreaker.getCircuitBreakerConfig().getMinimumNumberOfCalls();
+        when(webClient.postAsync(eq(URL), any(NotificationRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Connection refused")));
+
+        // When
+        for (int call = 0; call < minimumCalls && circuitBreaker.getState() == CircuitBreaker.State.CLOSED; call++) {
+            failureOf(request);
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        verify(webClient, times(minimumCalls)).postAsync(eq(URL), any(NotificationRequest.class));
+        assertThat(failureOf(request)).isInstanceOf(CallNotPermittedException.class);
+        verify(webClient, times(minimumCalls)).postAsync(eq(URL), any(NotificationRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the bulkhead limit without calling the service")
+    void shouldRejectCallsBeyondBulkhead() {
+        // Given
+        int maxConcurrentCalls = bulkheadRegistry.bulkhead(ResilientNotificationClient.INSTANCE)
+                .getBulkheadConfig().getMaxConcurrentCalls();
+        List<CompletableFuture<ResponseEntity<String>>> inFlight = new ArrayList<>();
+        when(webClient.postAsync(eq(URL), any(NotificationRequest.class))).thenAnswer(invocation -> {
+            CompletableFuture<ResponseEntity<String>> response = new CompletableFuture<>();
+            inFlight.add(response);
+            return response;
+        });
+        for (int i = 0; i < maxConcurrentCalls; i++) {
+            client.send(request);
+        }
+
+        // When
+        Throwable failure = failureOf(request);
+
+        // Then
+        assertThat(failure).isInstanceOf(BulkheadFullException.class);
+        verify(webClient, times(maxConcurrentCalls)).postAsync(eq(URL), any(NotificationRequest.class));
+        inFlight.forEach(response -> response.complete(ResponseEntity.ok("ok")));
+        client.send(request).join();
+        verify(webClient, times(maxConcurrentCalls + 1)).postAsync(eq(URL), any(NotificationRequest.class));
+    }
+
+    private Throwable failureOf(NotificationRequest notification) {
+        Throwable thrown = catchThrowable(() -> client.send(notification).join());
+        while (thrown instanceof CompletionException && thrown.getCause() != null) {
+            thrown = thrown.getCause();
+        }
+        return thrown;
+    }
+}
@@ -0,0 +1,216 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.persistence.catalog.ColumnarRoleCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the ColumnarRoleCatalogAdapter and the columnar catalog behind it.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Columnar Role Catalog Adapter Tests")
+class ColumnarRoleCatalogAdapterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_000_000);
+
+    @Mock
+    private RoleRepositoryPort source;
+
+    @Test
+    @DisplayName("Should answer every query from the columnar copy")
+    void shouldAnswerFromColumnarCopy() {
+        // Given
+        Role admin = new Role(7L, "ADMIN", CREATED_AT);
+        Role sysAdmin = new Role(3L, "SYS_ADMIN", CREATED_AT.plusDays(1));
+        Role access = new Role(12L, "ДОСТУП", CREATED_AT.plusDays(2));
+        when(source.findAllAfter(0L, 1_000)).thenReturn(List.of(admin, sysAdmin, access));
+
+        // When
+        ColumnarRoleCatalogAdapter adapter = new ColumnarRoleCatalogAdapter(source, Duration.ofSeconds(1));
+
+        // Then
+        assertThat(adapter.count()).isEqualTo(3L);
+        assertThat(adapter.findById(7L)).contains(admin);
+        assertThat(adapter.findById(7L)).map(Role::getCreatedAt).contains(CREATED_AT);
+        assertThat(adapter.findById(8L)).isEmpty();
+        assertThat(adapter.findByName("ДОСТУП")).contains(access);
+        assertThat(adapter.existsByName(" SYS_ADMIN ")).isTrue();
+        assertThat(adapter.existsByName("EDITOR")).isFalse();
+        assertThat(adapter.findAll()).containsExactly(sysAdmin, admin, access);
+        assertThat(adapter.findByNameContaining("adm")).containsExactly(sysAdmin, admin);
+    }
+
+    @Test
+    @DisplayName("Should find every role of a catalog built in random id order")
+    void shouldFindEveryRoleBuiltInRandomOrder() {
+        // Given
+        Random random = new Random(42);
+        List<Role> roles = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            roles.add(new Role(i * 3L + random.nextInt(3), "ROLE_" + i, CREATED_AT.plusSeconds(i)));
+        }
+        Collections.shuffle(roles, random);
+
+        // When
+        ColumnarRoleCatalog catalog = ColumnarRoleCatalog.of(roles);
+
+        // Then
+        assertThat(catalog.size()).isEqualTo(roles.size());
+        for (Role role : roles) {
+            assertThat(catalog.findById(role.getId())).contains(role);
+            assertThat(catalog.findByName(role.getName())).contains(role);
+        }
+        assertThat(catalog.findAll()).extracting(Role::getId).isSorted();
+        assertThat(catalog.footprintBytes()).isLessThan(64L * roles.size());
+    }
+
+    @Test
+    @DisplayName("Should apply role events to the copy without reading the source again")
+    void shouldApplyRoleEvents() {
+        // Given
+        when(source.findAllAfter(0L, 1_000)).thenReturn(List.of(
+                new Role(1L, "ADMIN", CREATED_AT), new Role(2L, "EDITOR", CREATED_AT), new Role(3L, "VIEWER", CREATED_AT)));
+        ColumnarRoleCatalogAdapter adapter = new ColumnarRoleCatalogAdapter(source, Duration.ofSeconds(1));
+        assertThat(adapter.version()).isEqualTo(-1L);
+
+        // When
+        adapter.onEvent(event(RoleEvent.Type.ROLE_UPDATED, 1L, "OWNER"), 0, false);
+        adapter.onEvent(event(RoleEvent.Type.ROLE_DELETED, 2L, null), 1, false);
+        adapter.onEvent(event(RoleEvent.Type.ROLE_CREATED, 4L, "ADMIN"), 2, true);
+
+        // Then
+        assertThat(adapter.version()).isEqualTo(2L);
+        assertThat(adapter.findById(1L)).map(Role::getName).contains("OWNER");
+        assertThat(adapter.findById(2L)).isEmpty();
+        assertThat(adapter.findByName("ADMIN")).map(Role::getId).contains(4L);
+        assertThat(adapter.existsByName("EDITOR")).isFalse();
+        assertThat(adapter.count()).isEqualTo(3L);
+        assertThat(adapter.findAll()).extracting(Role::getName).containsExactly("OWNER", "VIEWER", "ADMIN");
+        assertThat(adapter.findAllAfter(0L, 2)).extracting(Role::getId).containsExactly(1L, 3L);
+        assertThat(adapter.findByNameContaining("adm")).extracting(Role::getId).containsExactly(4L);
+        verify(source, times(1)).findAllAfter(0L, 1_000);
+        adapter.close();
+    }
+
+    @Test
+    @DisplayName("Should compact the changes into new columns in the background")
+    void shouldCompactChanges() {
+        // Given
+        TreeMap<Long, Role> roles = new TreeMap<>();
+        when(source.findAllAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            synchronized (roles) {
+                return roles.tailMap(invocation.<Long>getArgument(0), false).values().stream()
+                        .limit(invocation.<Integer>getArgument(1))
+                        .toList();
+            }
+        });
+        ColumnarRoleCatalogAdapter adapter = new ColumnarRoleCatalogAdapter(source, Duration.ofMillis(10));
+
+        // When
+        for (long id = 1; id <= 2_000; id++) {
+            Role role = new Role(id, "ROLE_" + id, CREATED_AT);
+            synchronized (roles) {
+                roles.put(id, role);
+            }
+            adapter.onEvent(event(RoleEvent.Type.ROLE_CREATED, id, role.getName()), id - 1, true);
+        }
+
+        // Then
+        verify(source, timeout(2_000).atLeast(2)).findAllAfter(anyLong(), anyInt());
+        assertThat(adapter.count()).isEqualTo(2_000L);
+        assertThat(adapter.findByName("ROLE_1500")).map(Role::getId).contains(1_500L);
+        assertThat(adapter.findAllAfter(998L, 3)).extracting(Role::getId).containsExactly(999L, 1_000L, 1_001L);
+        adapter.close();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the columns on request after a change made without events")
+    void shouldRebuildOnRequest() {
+        // Given
+        when(source.findAllAfter(0L, 1_000))
+                .thenReturn(List.of(new Role(1L, "ADMIN", CREATED_AT)))
+                .thenReturn(List.of(new Role(2L, "OWNER", CREATED_AT)));
+        ColumnarRoleCatalogAdapter adapter = new ColumnarRoleCatalogAdapter(source, Duration.ofSeconds(1));
+
+        // When
+        adapter.rebuild();
+
+        // Then
+        assertThat(adapter.findById(1L)).isEmpty();
+        assertThat(adapter.findByName("OWNER")).map(Role::getId).contains(2L);
+        verify(source, times(2)).findAllAfter(0L, 1_000);
+        adapter.close();
+    }
+
+    @Test
+    @DisplayName("Should build the copy from pages of the source without loading every role at once")
+    void shouldBuildFromPages() {
+        // Given
+        TreeMap<Long, Role> roles = new TreeMap<>();
+        for (long id = 1; id <= 2_500; id++) {
+            roles.put(id, new Role(id, "ROLE_" + id, CREATED_AT));
+        }
+        when(source.findAllAfter(anyLong(), anyInt())).thenAnswer(invocation -> roles
+                .tailMap(invocation.<Long>getArgument(0), false).values().stream()
+                .limit(invocation.<Integer>getArgument(1))
+                .toList());
+
+        // When
+        ColumnarRoleCatalogAdapter adapter = new ColumnarRoleCatalogAdapter(source, Duration.ofSeconds(1));
+
+        // Then
+        assertThat(adapter.count()).isEqualTo(2_500L);
+        assertThat(adapter.findAllAfter(998L, 3)).extracting(Role::getId).containsExactly(999L, 1_000L, 1_001L);
+        verify(source).findAllAfter(0L, 1_000);
+        verify(source).findAllAfter(1_000L, 1_000);
+        verify(source).findAllAfter(2_000L, 1_000);
+        verify(source, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reject writes")
+    void shouldRejectWrites() {
+        // Given
+        when(source.findAllAfter(0L, 1_000)).thenReturn(List.of());
+        ColumnarRoleCatalogAdapter adapter = new ColumnarRoleCatalogAdapter(source, Duration.ofSeconds(1));
+
+        // When / Then
+        assertThat(adapter.count()).isZero();
+        assertThatThrownBy(() -> adapter.save(new Role("ADMIN"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> adapter.deleteById(1L)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static RoleEvent event(RoleEvent.Type type, long roleId, String name) {
+        RoleEvent event = new RoleEvent();
+        event.set(type, roleId, name != null ? new Role(roleId, name, CREATED_AT) : null);
+        return event;
+    }
+}
@@ -0,0 +1,135 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPortContractTest;
+import co.onmind.microhex.transverse.spool.SegmentedSpool.FsyncPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the EventSourcedRoleRepositoryAdapter: the RoleRepositoryPort
+ * contract plus rebuilding the state from the event log and snapshots.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Event-Sourced Role Repository Adapter Tests")
+class EventSourcedRoleRepositoryAdapterTest extends RoleRepositoryPortContractTest {
+
+    @TempDir
+    Path directory;
+
+    private EventSourcedRoleRepositoryAdapter adapter;
+
+    @Override
+    protected RoleRepositoryPort createRepository() {
+        adapter = open(1000);
+        return adapter;
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.close();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the roles from the event log after a restart")
+    void shouldRebuildRolesFromEventLog() {
+        // Given
+        Role admin = adapter.save(new Role("ADMIN"));
+        Role editor = adapter.save(new Role("EDITOR"));
+        adapter.save(editor.withName("WRITER"));
+        Role temp = adapter.save(new Role("TEMP"));
+        adapter.deleteById(temp.getId());
+
+        // When
+        adapter = reopen(1000);
+
+        // Then
+        assertThat(adapter.findAll()).extracting(Role::getName).containsExactly("ADMIN", "WRITER");
+        assertThat(adapter.findById(admin.getId())).contains(admin);
+        assertThat(adapter.findByName("EDITOR")).isEmpty();
+        assertThat(adapter.save(new Role("NEXT")).getId()).isGreaterThan(temp.getId());
+    }
+
+    @Test
+    @DisplayName("Should rebuild from a snapshot plus the tail events after a crash")
+    void shouldRebuildFromSnapshotPlusTail() {
+        // Given - snapshots every 3 events and no clean shutdown, so the last
+        // events exist only in the log
+        adapter.close();
+        EventSourcedRoleRepositoryAdapter crashed = open(3);
+        for (int i = 0; i < 10; i++) {
+            crashed.save(new Role("ROLE_" + i));
+        }
+        crashed.save(crashed.findByName("ROLE_0").orElseThrow().withName("FIRST"));
+
+        // When
+        adapter = open(3);
+
+        // Then
+        assertThat(adapter.count()).isEqualTo(10L);
+        assertThat(adapter.findByName("ROLE_9")).isPresent();
+        assertThat(adapter.findByName("FIRST")).isPresent();
+        assertThat(adapter.findByName("ROLE_0")).isEmpty();
+        crashed.close();
+    }
+
+    @Test
+    @DisplayName("Should discard a torn record at the end of the log")
+    void shouldDiscardTornRecord() throws IOException {
+        // Given
+        adapter.save(new Role("ADMIN"));
+        adapter.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        Files.write(segment, new byte[] {42, 0, 0, 0, 1, 2}, StandardOpenOption.APPEND);
+        Files.deleteIfExists(directory.resolve("roles.snapshot"));
+
+        // When
+        adapter = open(1000);
+        adapter.save(new Role("USER"));
+        adapter = reopen(1000);
+
+        // Then
+        assertThat(adapter.findAll()).extracting(Role::getName).containsExactly("ADMIN", "USER");
+    }
+
+    @Test
+    @DisplayName("Should reject a name held by another role")
+    void shouldRejectDuplicateName() {
+        // Given
+        adapter.save(new Role("ADMIN"));
+
+        // When & Then
+        assertThatThrownBy(() -> adapter.save(new Role("ADMIN")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(adapter.count()).isEqualTo(1L);
+    }
+
+    private EventSourcedRoleRepositoryAdapter reopen(int snapshotEvery) {
+        adapter.close();
+        return open(snapshotEvery);
+    }
+
+    private EventSourcedRoleRepositoryAdapter open(int snapshotEvery) {
+        return new EventSourcedRoleRepositoryAdapter(directory, 64 * 1024, snapshotEvery,
+                FsyncPolicy.NEVER, Duration.ofSeconds(1));
+    }
+}
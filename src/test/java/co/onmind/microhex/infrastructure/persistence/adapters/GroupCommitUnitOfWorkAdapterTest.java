@@ -0,0 +1,212 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.exceptions.RoleNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for GroupCommitUnitOfWorkAdapter.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Group Commit Unit Of Work Adapter Tests")
+class GroupCommitUnitOfWorkAdapterTest {
+
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private SimpleMeterRegistry meterRegistry;
+    private Connection connection;
+    private GroupCommitUnitOfWorkAdapter unitOfWork;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        connection = mock(Connection.class);
+        when(connection.setSavepoint()).thenAnswer(invocation -> mock(Savepoint.class));
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        TransactionOperations transactionOperations = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                return action.doInTransaction(null);
+            }
+        };
+        unitOfWork = new GroupCommitUnitOfWorkAdapter(transactionOperations, dataSource, 64, Duration.ZERO, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        callers.shutdownNow();
+        unitOfWork.close();
+    }
+
+    @Test
+    @DisplayName("Should commit units queued during a commit in one transaction")
+    void shouldGroupQueuedUnits() throws Exception {
+        // Given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> unitOfWork.execute(() -> {
+            firstStarted.countDown();
+            await(release);
+            return "FIRST";
+        }), callers);
+        firstStarted.await(1, TimeUnit.SECONDS);
+
+        // When
+        List<CompletableFuture<String>> queued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String name = "ROLE_" + i;
+            queued.add(CompletableFuture.supplyAsync(() -> unitOfWork.execute(() -> name), callers));
+        }
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("FIRST");
+        for (int i = 0; i < queued.size(); i++) {
+            assertThat(queued.get(i).get(1, TimeUnit.SECONDS)).isEqualTo("ROLE_" + i);
+        }
+        assertThat(transactions).hasValue(2);
+        assertThat(meterRegistry.get("unit-of-work.group-commit.batch.size").summary().max()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should report a failing unit only to its own caller")
+    void shouldIsolateFailingUnit() throws Exception {
+        // Given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> unitOfWork.execute(() -> {
+            firstStarted.countDown();
+            await(release);
+            return "FIRST";
+        }), callers);
+        firstStarted.await(1, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<String> valid = CompletableFuture.supplyAsync(() -> unitOfWork.execute(() -> "VALID"), callers);
+        CompletableFuture<String> duplicate = CompletableFuture.supplyAsync(() -> unitOfWork.execute(() -> {
+            throw new DataIntegrityViolationException("Role with name 'DUPLICATE' already exists");
+        }), callers);
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then
+        first.get(1, TimeUnit.SECONDS);
+        assertThat(valid.get(1, TimeUnit.SECONDS)).isEqualTo("VALID");
+        assertThatThrownBy(() -> duplicate.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        assertThat(meterRegistry.get("unit-of-work.group-commit.fallbacks").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should roll a rejected unit back to its savepoint and commit the rest of the batch")
+    void shouldRollBackRejectedUnitToSavepoint() throws Exception {
+        // Given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> unitOfWork.execute(() -> {
+            firstStarted.countDown();
+            await(release);
+            return "FIRST";
+        }), callers);
+        firstStarted.await(1, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<String> valid = CompletableFuture.supplyAsync(() -> unitOfWork.execute(() -> "VALID"), callers);
+        CompletableFuture<String> missing = CompletableFuture.supplyAsync(() -> unitOfWork.execute(() -> {
+            throw new RoleNotFoundException("Role with ID 99 not found");
+        }), callers);
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then
+        first.get(1, TimeUnit.SECONDS);
+        assertThat(valid.get(1, TimeUnit.SECONDS)).isEqualTo("VALID");
+        assertThatThrownBy(() -> missing.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(RoleNotFoundException.class);
+        verify(connection, times(1)).rollback(any(Savepoint.class));
+        assertThat(transactions).hasValue(2);
+        assertThat(meterRegistry.get("unit-of-work.group-commit.fallbacks").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run the unit on the writer thread")
+    void shouldRunUnitOnWriterThread() {
+        // When
+        String thread = unitOfWork.execute(() -> Thread.currentThread().getName());
+
+        // Then
+        assertThat(thread).isEqualTo("unit-of-work-writer");
+        assertThat(transactions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should join the caller's transaction when one is active")
+    void shouldJoinCallerTransaction() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        String thread;
+        try {
+            thread = unitOfWork.execute(() -> Thread.currentThread().getName());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // Then
+        assertThat(thread).isEqualTo(Thread.currentThread().getName());
+        assertThat(transactions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should reject units once closed")
+    void shouldRejectUnitsOnceClosed() throws Exception {
+        // When
+        unitOfWork.close();
+
+        // Then
+        assertThatThrownBy(() -> unitOfWork.execute(() -> "ADMIN")).isInstanceOf(IllegalStateException.class);
+        assertThat(transactions).hasValue(0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleEntity;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleHistoryEntity;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleChangeRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleHistoryRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleRepository;
+import co.onmind.microhex.transverse.concurrency.MaintenanceLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the JdbcRoleBulkWriteAdapter on H2.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DataJpaTest
+@Import({JdbcRoleBulkWriteAdapter.class, MaintenanceLock.class})
+@DisplayName("JDBC Role Bulk Write Adapter Tests")
+class JdbcRoleBulkWriteAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-14T15:09:26Z");
+
+    @TestConfiguration
+    static class ClockConfiguration {
+        @Bean
+        Clock clock() {
+            return Clock.fixed(NOW, ZoneOffset.UTC);
+        }
+    }
+
+    @Autowired
+    private JdbcRoleBulkWriteAdapter adapter;
+
+    @Autowired
+    private JpaRoleRepository roleRepository;
+
+    @Autowired
+    private JpaRoleChangeRepository changeRepository;
+
+    @Autowired
+    private JpaRoleHistoryRepository historyRepository;
+
+    @Test
+    @DisplayName("Should insert only the names not taken yet and record their changes")
+    void shouldInsertOnlyNewNames() {
+        // Given
+        roleRepository.saveAndFlush(new RoleEntity("ADMIN"));
+
+        // When
+        List<Role> inserted = adapter.insertNew(List.of(
+                Role.create("EDITOR"), Role.create("ADMIN"), Role.create("VIEWER")));
+
+        // Then
+        assertThat(inserted).extracting(Role::getName).containsExactly("EDITOR", "VIEWER");
+        assertThat(inserted).allSatisfy(role -> assertThat(role.getId()).isNotNull());
+        assertThat(roleRepository.findById(inserted.get(1).getId())).map(RoleEntity::getName).contains("VIEWER");
+        assertThat(roleRepository.count()).isEqualTo(3L);
+        assertThat(changeRepository.findRoleIdsChangedAfter(0))
+                .containsExactlyInAnyOrderElementsOf(inserted.stream().map(Role::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should insert nothing when every name is taken")
+    void shouldInsertNothingWhenAllTaken() {
+        // Given
+        roleRepository.saveAndFlush(new RoleEntity("ADMIN"));
+
+        // When / Then
+        assertThat(adapter.insertNew(List.of(Role.create("ADMIN")))).isEmpty();
+        assertThat(adapter.insertNew(List.of())).isEmpty();
+        assertThat(roleRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should start the first version of each role at the clock time")
+    void shouldStartVersionsAtClockTime() {
+        // When
+        List<Role> inserted = adapter.insertNew(List.of(Role.create("EDITOR")));
+
+        // Then
+        Long id = inserted.getFirst().getId();
+        assertThat(historyRepository.findVersionAsOf(id, NOW))
+                .map(RoleHistoryEntity::getValidFrom).contains(NOW);
+        assertThat(historyRepository.findVersionAsOf(id, NOW.minusMillis(1))).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.infrastructure.persistence.catalog.MappedRoleCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the MappedRoleCatalogAdapter and the catalog file it maps.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Mapped Role Catalog Adapter Tests")
+class MappedRoleCatalogAdapterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535897932);
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("role-catalog.bin");
+    }
+
+    @Test
+    @DisplayName("Should answer every query from the published catalog")
+    void shouldAnswerFromPublishedCatalog() {
+        // Given
+        Role admin = new Role(7L, "ADMIN", CREATED_AT);
+        Role sysAdmin = new Role(3L, "SYS_ADMIN", CREATED_AT.plusDays(1));
+        Role editor = new Role(12L, "ÉDITEUR", CREATED_AT.plusDays(2));
+        MappedRoleCatalog.write(file, 41L, List.of(admin, sysAdmin, editor));
+
+        // When
+        MappedRoleCatalogAdapter adapter = new MappedRoleCatalogAdapter(file, Duration.ofSeconds(1));
+
+        // Then
+        assertThat(adapter.sequence()).isEqualTo(41L);
+        assertThat(adapter.count()).isEqualTo(3L);
+        assertThat(adapter.findById(7L)).contains(admin);
+        assertThat(adapter.findById(7L)).map(Role::getCreatedAt).contains(CREATED_AT);
+        assertThat(adapter.findById(8L)).isEmpty();
+        assertThat(adapter.findByName("ÉDITEUR")).contains(editor);
+        assertThat(adapter.findByName("EDITOR")).isEmpty();
+        assertThat(adapter.existsByName(" SYS_ADMIN ")).isTrue();
+        assertThat(adapter.findAll()).containsExactly(sysAdmin, admin, editor);
+        assertThat(adapter.findByNameContaining("adm")).containsExactly(sysAdmin, admin);
+    }
+
+    @Test
+    @DisplayName("Should find every role of a large catalog by id and by name")
+    void shouldFindEveryRoleOfLargeCatalog() {
+        // Given
+        Random random = new Random(42);
+        List<Role> roles = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            roles.add(new Role(i * 3L + random.nextInt(3), "ROLE_" + Integer.toString(random.nextInt(), 36) + "_" + i,
+                    CREATED_AT.plusSeconds(i)));
+        }
+        Collections.shuffle(roles, random);
+        MappedRoleCatalog.write(file, 0L, roles);
+
+        // When
+        MappedRoleCatalog catalog = MappedRoleCatalog.open(file).orElseThrow();
+
+        // Then
+        assertThat(catalog.size()).isEqualTo(roles.size());
+        for (Role role : roles) {
+            assertThat(catalog.findById(role.getId())).contains(role);
+            assertThat(catalog.findByName(role.getName())).contains(role);
+        }
+        assertThat(catalog.findByName("ROLE_MISSING")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should answer as empty until a catalog is published, then map it")
+    void shouldMapCatalogOncePublished() throws Exception {
+        // Given
+        MappedRoleCatalogAdapter adapter = new MappedRoleCatalogAdapter(file, Duration.ofMillis(10));
+        assertThat(adapter.count()).isZero();
+        assertThat(adapter.findAll()).isEmpty();
+
+        // When
+        MappedRoleCatalog.write(file, 1L, List.of(new Role(1L, "ADMIN", CREATED_AT)));
+        Thread.sleep(30);
+        MappedRoleCatalog.write(file, 2L, List.of(new Role(1L, "OWNER", CREATED_AT)));
+        Thread.sleep(30);
+
+        // Then
+        assertThat(adapter.sequence()).isEqualTo(2L);
+        assertThat(adapter.findByName("ADMIN")).isEmpty();
+        assertThat(adapter.findById(1L)).map(Role::getName).contains("OWNER");
+    }
+
+    @Test
+    @DisplayName("Should ignore a catalog file with a bad checksum")
+    void shouldIgnoreCorruptCatalog() throws Exception {
+        // Given
+        MappedRoleCatalog.write(file, 1L, List.of(new Role(1L, "ADMIN", CREATED_AT)));
+        byte[] content = Files.readAllBytes(file);
+        content[content.length - 1] ^= 1;
+        Files.write(file, content);
+
+        // When / Then
+        assertThat(MappedRoleCatalog.open(file)).isEmpty();
+        assertThat(new MappedRoleCatalogAdapter(file, Duration.ofSeconds(1)).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject writes")
+    void shouldRejectWrites() {
+        // Given
+        MappedRoleCatalogAdapter adapter = new MappedRoleCatalogAdapter(file, Duration.ofSeconds(1));
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.save(new Role("ADMIN"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> adapter.deleteById(1L)).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
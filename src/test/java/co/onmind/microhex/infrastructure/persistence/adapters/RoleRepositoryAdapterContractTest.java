@@ -0,0 +1,41 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPortContractTest;
+import co.onmind.microhex.infrastructure.persistence.mappers.RoleEntityMapperImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+
+/**
+ * Runs the RoleRepositoryPort contract against the JPA adapter on H2.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DataJpaTest
+@Import({RoleRepositoryAdapter.class, RoleEntityMapperImpl.class})
+@DisplayName("JPA Role Repository Adapter Contract Tests")
+class RoleRepositoryAdapterContractTest extends RoleRepositoryPortContractTest {
+
+    @TestConfiguration
+    static class ClockConfiguration {
+        @Bean
+        Clock clock() {
+            return Clock.systemUTC();
+        }
+    }
+
+    @Autowired
+    private RoleRepositoryAdapter adapter;
+
+    @Override
+    protected RoleRepositoryPort createRepository() {
+        return adapter;
+    }
+}
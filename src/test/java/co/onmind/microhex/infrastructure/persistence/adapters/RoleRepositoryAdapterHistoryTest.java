@@ -0,0 +1,105 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.infrastructure.persistence.mappers.RoleEntityMapperImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the role history kept by the JPA adapter on H2: the versions
+ * written on save and delete, and the lookups as of a time.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DataJpaTest
+@Import({RoleRepositoryAdapter.class, RoleEntityMapperImpl.class})
+@DisplayName("JPA Role Repository Adapter History Tests")
+class RoleRepositoryAdapterHistoryTest {
+
+    @TestConfiguration
+    static class ClockConfiguration {
+        @Bean
+        Clock clock() {
+            return Clock.systemUTC();
+        }
+    }
+
+    @Autowired
+    private RoleRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should return the name a role had before it was renamed")
+    void shouldReturnNameBeforeRename() throws InterruptedException {
+        // Given
+        Role created = adapter.save(new Role("EDITOR"));
+        Instant beforeRename = tick();
+        adapter.save(new Role(created.getId(), "PUBLISHER", created.getCreatedAt()));
+        Instant afterRename = tick();
+
+        // When & Then
+        assertThat(adapter.findByIdAsOf(created.getId(), beforeRename))
+                .get().extracting(Role::getName).isEqualTo("EDITOR");
+        assertThat(adapter.findByIdAsOf(created.getId(), afterRename))
+                .get().extracting(Role::getName).isEqualTo("PUBLISHER");
+    }
+
+    @Test
+    @DisplayName("Should not find a role before it was created or after it was deleted")
+    void shouldNotFindRoleOutsideItsLifetime() throws InterruptedException {
+        // Given
+        Instant beforeCreate = tick();
+        Role created = adapter.save(new Role("AUDITOR"));
+        Instant whileAlive = tick();
+        adapter.deleteById(created.getId());
+        Instant afterDelete = tick();
+
+        // When & Then
+        assertThat(adapter.findByIdAsOf(created.getId(), beforeCreate)).isEmpty();
+        assertThat(adapter.findByIdAsOf(created.getId(), whileAlive))
+                .get().extracting(Role::getName).isEqualTo("AUDITOR");
+        assertThat(adapter.findByIdAsOf(created.getId(), afterDelete)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should list the roles as they were at a time")
+    void shouldListRolesAsOfTime() throws InterruptedException {
+        // Given
+        Role admin = adapter.save(new Role("ADMIN"));
+        Role guest = adapter.save(new Role("GUEST"));
+        Instant before = tick();
+        adapter.save(new Role(admin.getId(), "ROOT", admin.getCreatedAt()));
+        adapter.deleteById(guest.getId());
+        adapter.save(new Role("SUPPORT"));
+        Instant after = tick();
+
+        // When
+        List<Role> then = adapter.findAllAsOf(before);
+        List<Role> now = adapter.findAllAsOf(after);
+
+        // Then
+        assertThat(then).extracting(Role::getName).containsExactly("ADMIN", "GUEST");
+        assertThat(now).extracting(Role::getName).containsExactly("ROOT", "SUPPORT");
+    }
+
+    /**
+     * Returns a time strictly between the writes before and after the call.
+     */
+    private static Instant tick() throws InterruptedException {
+        Thread.sleep(2);
+        Instant now = Instant.now();
+        Thread.sleep(2);
+        return now;
+    }
+}
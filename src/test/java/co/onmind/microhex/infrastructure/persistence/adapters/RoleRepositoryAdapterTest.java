@@ -1,17 +1,24 @@
 package co.onmind.microhex.infrastructure.persistence.adapters;
 
 import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleChangeEntity;
 import co.onmind.microhex.infrastructure.persistence.entities.RoleEntity;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleHistoryEntity;
 import co.onmind.microhex.infrastructure.persistence.mappers.RoleEntityMapper;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleChangeRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleHistoryRepository;
 import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -41,15 +49,25 @@ class RoleRepositoryAdapterTest {
     @Mock
     private JpaRoleRepository jpaRepository;
     
+    @Mock
+    private JpaRoleChangeRepository changeRepository;
+    
+    @Mock
+    private JpaRoleHistoryRepository historyRepository;
+    
     @Mock
     private RoleEntityMapper entityMapper;
     
+    @Mock
+    private Clock clock;
+    
     @InjectMocks
     private RoleRepositoryAdapter repositoryAdapter;
     
     private Role testRole;
     private RoleEntity testEntity;
     private LocalDateTime testTime;
+    private final Instant now = Instant.parse("2026-10-19T12:00:00Z");
     
     @BeforeEach
     void setUp() {
@@ -70,6 +88,7 @@ class RoleRepositoryAdapterTest {
         when(entityMapper.toNewEntity(newRole)).thenReturn(newEntity);
         when(jpaRepository.save(newEntity)).thenReturn(savedEntity);
         when(entityMapper.toDomain(savedEntity)).thenReturn(savedRole);
+        when(clock.instant()).thenReturn(now);
         
         // When
         Role result = repositoryAdapter.save(newRole);
@@ -81,6 +100,11 @@ class RoleRepositoryAdapterTest {
         
         verify(entityMapper).toNewEntity(newRole);
         verify(jpaRepository).save(newEntity);
+        verify(changeRepository).save(argThat((RoleChangeEntity change) -> change.getRoleId().equals(2L)));
+        verify(historyRepository).save(argThat((RoleHistoryEntity version) ->
+                version.getRoleId().equals(2L) && version.getValidFrom().equals(now)
+                        && version.getValidTo().equals(RoleHistoryEntity.OPEN)));
+        verify(historyRepository, never()).closeVersion(any(), any(), any());
         verify(entityMapper).toDomain(savedEntity);
     }
     
@@ -94,8 +118,10 @@ class RoleRepositoryAdapterTest {
         Role savedRole = new Role(1L, "ADMIN_UPDATED", testTime);
         
         when(entityMapper.toEntity(existingRole)).thenReturn(existingEntity);
+        when(jpaRepository.findForUpdateById(1L)).thenReturn(Optional.of(existingEntity));
         when(jpaRepository.save(existingEntity)).thenReturn(savedEntity);
         when(entityMapper.toDomain(savedEntity)).thenReturn(savedRole);
+        when(clock.instant()).thenReturn(now);
         
         // When
         Role result = repositoryAdapter.save(existingRole);
@@ -106,7 +132,13 @@ class RoleRepositoryAdapterTest {
         assertThat(result.getName()).isEqualTo("ADMIN_UPDATED");
         
         verify(entityMapper).toEntity(existingRole);
-        verify(jpaRepository).save(existingEntity);
+        // The row lock serializes concurrent saves of the role before its open version is ended
+        InOrder inOrder = inOrder(jpaRepository, historyRepository);
+        inOrder.verify(jpaRepository).findForUpdateById(1L);
+        inOrder.verify(jpaRepository).save(existingEntity);
+        inOrder.verify(historyRepository).closeVersion(1L, now, RoleHistoryEntity.OPEN);
+        verify(historyRepository).save(argThat((RoleHistoryEntity version) ->
+                version.getRoleId().equals(1L) && version.getName().equals("ADMIN_UPDATED")));
         verify(entityMapper).toDomain(savedEntity);
     }
     
@@ -286,15 +318,18 @@ class RoleRepositoryAdapterTest {
         // Given
         Long roleId = 1L;
         
-        when(jpaRepository.existsById(roleId)).thenReturn(true);
+        when(jpaRepository.findForUpdateById(roleId)).thenReturn(Optional.of(testEntity));
+        when(clock.instant()).thenReturn(now);
         
         // When
         boolean result = repositoryAdapter.deleteById(roleId);
         
         // Then
         assertTrue(result);
-        verify(jpaRepository).existsById(roleId);
+        verify(jpaRepository).findForUpdateById(roleId);
         verify(jpaRepository).deleteById(roleId);
+        verify(changeRepository).save(argThat((RoleChangeEntity change) -> change.getRoleId().equals(roleId)));
+        verify(historyRepository).closeVersion(roleId, now, RoleHistoryEntity.OPEN);
     }
     
     @Test
@@ -322,6 +357,54 @@ class RoleRepositoryAdapterTest {
         verify(jpaRepository).count();
     }
     
+    @Test
+    @DisplayName("Should find role as of a time from its history")
+    void shouldFindRoleAsOfTimeFromHistory() {
+        // Given
+        Instant asOf = Instant.parse("2025-03-14T15:09:26Z");
+        RoleEntity renamed = new RoleEntity(1L, "OLD_ADMIN", testTime);
+        when(historyRepository.findVersionAsOf(1L, asOf))
+                .thenReturn(Optional.of(new RoleHistoryEntity(renamed, asOf.minusSeconds(60))));
+        
+        // When
+        Optional<Role> result = repositoryAdapter.findByIdAsOf(1L, asOf);
+        
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isEqualTo(1L);
+        assertThat(result.get().getName()).isEqualTo("OLD_ADMIN");
+        assertThat(result.get().getCreatedAt()).isEqualTo(testTime);
+        verifyNoInteractions(jpaRepository);
+    }
+    
+    @Test
+    @DisplayName("Should find all roles as of a time from their history")
+    void shouldFindAllRolesAsOfTimeFromHistory() {
+        // Given
+        Instant asOf = Instant.parse("2025-03-14T15:09:26Z");
+        when(historyRepository.findVersionsAsOf(asOf)).thenReturn(List.of(
+                new RoleHistoryEntity(new RoleEntity(1L, "ADMIN", testTime), asOf),
+                new RoleHistoryEntity(new RoleEntity(2L, "USER", testTime), asOf)));
+        
+        // When
+        List<Role> result = repositoryAdapter.findAllAsOf(asOf);
+        
+        // Then
+        assertThat(result).extracting(Role::getName).containsExactly("ADMIN", "USER");
+    }
+    
+    @Test
+    @DisplayName("Should throw exception when finding as of a null time")
+    void shouldThrowExceptionWhenFindingAsOfNullTime() {
+        // When & Then
+        assertThatThrownBy(() -> repositoryAdapter.findByIdAsOf(1L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> repositoryAdapter.findAllAsOf(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        
+        verifyNoInteractions(historyRepository);
+    }
+    
     @Test
     @DisplayName("Should check if role exists by name ignoring case")
     void shouldCheckIfRoleExistsByNameIgnoringCase() {
@@ -0,0 +1,69 @@
+package co.onmind.microhex.infrastructure.persistence.adapters;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TransactionalUnitOfWorkAdapter.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Transactional Unit Of Work Adapter Tests")
+class TransactionalUnitOfWorkAdapterTest {
+
+    private final List<String> transactions = new ArrayList<>();
+    private TransactionalUnitOfWorkAdapter unitOfWork;
+
+    @BeforeEach
+    void setUp() {
+        // Records the outcome of each transaction like TransactionTemplate would
+        TransactionOperations transactionOperations = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                TransactionStatus status = new SimpleTransactionStatus();
+                try {
+                    T result = action.doInTransaction(status);
+                    transactions.add("commit");
+                    return result;
+                } catch (RuntimeException e) {
+                    transactions.add("rollback");
+                    throw e;
+                }
+            }
+        };
+        unitOfWork = new TransactionalUnitOfWorkAdapter(transactionOperations);
+    }
+
+    @Test
+    @DisplayName("Should run the work in one transaction and return its result")
+    void shouldRunWorkInOneTransaction() {
+        // When
+        String result = unitOfWork.execute(() -> "done");
+
+        // Then
+        assertThat(result).isEqualTo("done");
+        assertThat(transactions).containsExactly("commit");
+    }
+
+    @Test
+    @DisplayName("Should roll back and rethrow when the work fails")
+    void shouldRollBackWhenWorkFails() {
+        // When / Then
+        assertThatThrownBy(() -> unitOfWork.execute(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(transactions).containsExactly("rollback");
+    }
+}
@@ -180,26 +180,33 @@ class RoleEntityMapperTest {
     class EdgeCasesTests {
         
         @Test
-        @DisplayName("Should handle RoleEntity with null fields when mapping to domain")
-        void shouldHandleRoleEntityWithNullFieldsWhenMappingToDomain() {
+        @DisplayName("Should reject RoleEntity without name when mapping to domain")
+        void shouldRejectRoleEntityWithoutNameWhenMappingToDomain() {
             // Given
             RoleEntity entity = new RoleEntity();
             
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> roleEntityMapper.toDomain(entity));
+        }
+        
+        @Test
+        @DisplayName("Should keep persisted name without normalizing it again")
+        void shouldKeepPersistedNameWithoutNormalizingAgain() {
+            // Given
+            RoleEntity entity = new RoleEntity(7L, "AUDITOR", LocalDateTime.now());
+            
             // When
             Role role = roleEntityMapper.toDomain(entity);
             
             // Then
-            assertNotNull(role);
-            assertNull(role.getId());
-            assertNull(role.getName());
-            assertNull(role.getCreatedAt());
+            assertSame(entity.getName(), role.getName());
         }
         
         @Test
-        @DisplayName("Should handle Role with null fields when mapping to entity")
-        void shouldHandleRoleWithNullFieldsWhenMappingToEntity() {
+        @DisplayName("Should handle Role without ID when mapping to entity")
+        void shouldHandleRoleWithoutIdWhenMappingToEntity() {
             // Given
-            Role role = new Role();
+            Role role = new Role("guest");
             
             // When
             RoleEntity entity = roleEntityMapper.toEntity(role);
@@ -207,8 +214,8 @@ class RoleEntityMapperTest {
             // Then
             assertNotNull(entity);
             assertNull(entity.getId());
-            assertNull(entity.getName());
-            assertNull(entity.getCreatedAt());
+            assertEquals("GUEST", entity.getName());
+            assertEquals(role.getCreatedAt(), entity.getCreatedAt());
         }
         
         @Test
@@ -0,0 +1,198 @@
+package co.onmind.microhex.infrastructure.persistence.snapshot;
+
+import co.onmind.microhex.infrastructure.persistence.entities.MembershipEntity;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleEntity;
+import co.onmind.microhex.infrastructure.persistence.entities.RoleInheritanceEntity;
+import co.onmind.microhex.infrastructure.persistence.entities.RolePermissionsEntity;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaMembershipRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleChangeRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleInheritanceRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRolePermissionsRepository;
+import co.onmind.microhex.infrastructure.persistence.repositories.JpaRoleRepository;
+import co.onmind.microhex.transverse.concurrency.MaintenanceLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the RoleTableSnapshot export and import on H2.
+ *
+ * The snapshot works on its own connections and commits, so the tests run
+ * outside of a test transaction and clean the tables afterwards.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DataJpaTest
+@Import({RoleTableSnapshot.class, MaintenanceLock.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Role Table Snapshot Tests")
+class RoleTableSnapshotTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000);
+
+    @TestConfiguration
+    static class ClockConfiguration {
+        @Bean
+        Clock clock() {
+            return Clock.systemUTC();
+        }
+    }
+
+    @Autowired
+    private RoleTableSnapshot snapshot;
+
+    @Autowired
+    private JpaRoleRepository roleRepository;
+
+    @Autowired
+    private JpaRoleChangeRepository changeRepository;
+
+    @Autowired
+    private JpaMembershipRepository membershipRepository;
+
+    @Autowired
+    private JpaRolePermissionsRepository permissionsRepository;
+
+    @Autowired
+    private JpaRoleInheritanceRepository inheritanceRepository;
+
+    @AfterEach
+    void tearDown() {
+        membershipRepository.deleteAll();
+        permissionsRepository.deleteAll();
+        inheritanceRepository.deleteAll();
+        roleRepository.deleteAll();
+        changeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should restore every role with its id and creation time")
+    void shouldRestoreEveryRole() throws Exception {
+        // Given
+        List<RoleEntity> roles = new ArrayList<>();
+        for (int i = 0; i < 12_000; i++) {
+            roles.add(new RoleEntity(null, "ROLE_" + i, CREATED_AT.plusSeconds(i)));
+        }
+        roles.add(new RoleEntity(null, "ДОСТУП", CREATED_AT.minusYears(30)));
+        roleRepository.saveAll(roles);
+        List<RoleEntity> before = roleRepository.findAll(Sort.by("id"));
+        byte[] exported = export();
+
+        // When
+        RoleTableSnapshot.Summary summary = snapshot.importFrom(new ByteArrayInputStream(exported), true);
+
+        // Then
+        List<RoleEntity> after = roleRepository.findAll(Sort.by("id"));
+        assertThat(summary.rows()).isEqualTo(before.size());
+        assertThat(after).extracting(RoleEntity::getId)
+                .containsExactlyElementsOf(before.stream().map(RoleEntity::getId).toList());
+        assertThat(after).extracting(RoleEntity::getName)
+                .containsExactlyElementsOf(before.stream().map(RoleEntity::getName).toList());
+        assertThat(after).extracting(RoleEntity::getCreatedAt)
+                .containsExactlyElementsOf(before.stream().map(RoleEntity::getCreatedAt).toList());
+        assertThat(changeRepository.findRoleIdsChangedAfter(0)).hasSize(before.size());
+        assertThat(export()).isEqualTo(exported);
+    }
+
+    @Test
+    @DisplayName("Should keep generating new ids and enforcing unique names after an import")
+    void shouldKeepIdsAndConstraintAfterImport() throws Exception {
+        // Given
+        roleRepository.save(new RoleEntity("ADMIN"));
+        RoleEntity user = roleRepository.save(new RoleEntity("USER"));
+        byte[] exported = export();
+        roleRepository.deleteAll();
+
+        // When
+        snapshot.importFrom(new ByteArrayInputStream(exported), false);
+
+        // Then
+        assertThat(roleRepository.save(new RoleEntity("EDITOR")).getId()).isGreaterThan(user.getId());
+        assertThatThrownBy(() -> roleRepository.saveAndFlush(new RoleEntity("ADMIN")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Should delete what is keyed by the replaced role ids before the indexes are emptied")
+    void shouldDeleteRoleReferencesOnReplace() throws Exception {
+        // Given
+        RoleEntity admin = roleRepository.save(new RoleEntity("ADMIN"));
+        RoleEntity user = roleRepository.save(new RoleEntity("USER"));
+        byte[] exported = export();
+        membershipRepository.save(new MembershipEntity(42L, admin.getId()));
+        permissionsRepository.save(new RolePermissionsEntity(admin.getId(), new byte[]{1}));
+        inheritanceRepository.save(new RoleInheritanceEntity(admin.getId(), user.getId()));
+        AtomicInteger referencesWhenCleared = new AtomicInteger(-1);
+
+        // When
+        snapshot.importFrom(new ByteArrayInputStream(exported), true, () -> referencesWhenCleared.set(
+                (int) (membershipRepository.count() + permissionsRepository.count() + inheritanceRepository.count())));
+
+        // Then
+        assertThat(referencesWhenCleared).hasValue(0);
+        assertThat(membershipRepository.count()).isZero();
+        assertThat(permissionsRepository.count()).isZero();
+        assertThat(inheritanceRepository.count()).isZero();
+        assertThat(roleRepository.count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should refuse to import into a non-empty table without replace")
+    void shouldRefuseNonEmptyTable() throws Exception {
+        // Given
+        roleRepository.save(new RoleEntity("ADMIN"));
+        byte[] exported = export();
+
+        // When / Then
+        assertThatThrownBy(() -> snapshot.importFrom(new ByteArrayInputStream(exported), false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(roleRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject a corrupted snapshot and keep the name constraint")
+    void shouldRejectCorruptedSnapshot() throws Exception {
+        // Given
+        for (int i = 0; i < 100; i++) {
+            roleRepository.save(new RoleEntity("ROLE_" + i));
+        }
+        byte[] exported = export();
+        exported[exported.length / 2] ^= 0x10;
+        roleRepository.deleteAll();
+
+        // When / Then
+        assertThatThrownBy(() -> snapshot.importFrom(new ByteArrayInputStream(exported), false))
+                .isInstanceOf(IOException.class);
+        roleRepository.save(new RoleEntity("ADMIN"));
+        assertThatThrownBy(() -> roleRepository.saveAndFlush(new RoleEntity("ADMIN")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private byte[] export() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        snapshot.export(output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,102 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.ports.out.RolePermissionRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the BitSetPermissionIndex.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BitSet Permission Index Tests")
+class BitSetPermissionIndexTest {
+
+    @Mock
+    private RolePermissionRepositoryPort permissionRepositoryPort;
+
+    private BitSetPermissionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(permissionRepositoryPort.findAll()).thenReturn(Map.of(
+                1L, Set.of("roles:read", "roles:write"),
+                2L, Set.of("roles:read")));
+        index = new BitSetPermissionIndex(permissionRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should load the stored permissions at startup")
+    void shouldLoadStoredPermissions() {
+        // Then
+        assertThat(index.hasPermission(1L, "roles:write")).isTrue();
+        assertThat(index.hasPermission(2L, "roles:read")).isTrue();
+        assertThat(index.hasPermission(2L, "roles:write")).isFalse();
+        assertThat(index.roleCount()).isEqualTo(2);
+        assertThat(index.dictionarySize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should answer false for unknown roles and permissions")
+    void shouldAnswerFalseForUnknownRolesAndPermissions() {
+        // When & Then
+        assertThat(index.hasPermission(9L, "roles:read")).isFalse();
+        assertThat(index.hasPermission(1L, "billing:read")).isFalse();
+        assertThat(index.permissionsOf(9L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace a role's permissions and share the dictionary")
+    void shouldReplacePermissions() {
+        // When
+        index.put(2L, Set.of("billing:read", "roles:write"));
+
+        // Then
+        assertThat(index.permissionsOf(2L)).containsExactly("billing:read", "roles:write");
+        assertThat(index.hasPermission(2L, "roles:read")).isFalse();
+        assertThat(index.permissionsOf(1L)).containsExactly("roles:read", "roles:write");
+        assertThat(index.dictionarySize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should drop a role when it is removed or left without permissions")
+    void shouldDropRoles() {
+        // When
+        index.remove(1L);
+        index.put(2L, Set.of());
+
+        // Then
+        assertThat(index.hasPermission(1L, "roles:read")).isFalse();
+        assertThat(index.roleCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should grow the dictionary past its initial capacity")
+    void shouldGrowDictionary() {
+        // Given
+        Set<String> permissions = IntStream.range(0, 500)
+                .mapToObj(i -> "resource" + i + ":read")
+                .collect(Collectors.toSet());
+
+        // When
+        index.put(3L, permissions);
+
+        // Then
+        assertThat(index.permissionsOf(3L)).hasSize(500).containsAll(permissions);
+        assertThat(index.hasPermission(3L, "resource499:read")).isTrue();
+    }
+}
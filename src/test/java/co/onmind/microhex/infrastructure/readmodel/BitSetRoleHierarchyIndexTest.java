@@ -0,0 +1,163 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.ports.out.RoleHierarchyRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Unit tests for the BitSetRoleHierarchyIndex.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BitSet Role Hierarchy Index Tests")
+class BitSetRoleHierarchyIndexTest {
+
+    @Mock
+    private RoleHierarchyRepositoryPort hierarchyRepositoryPort;
+
+    private BitSetRoleHierarchyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // USER <- MODERATOR <- ADMIN, USER <- AUDITOR
+        doAnswer(invocation -> {
+            RoleHierarchyRepositoryPort.EdgeVisitor visitor = invocation.getArgument(0);
+            visitor.visit(2L, 1L);
+            visitor.visit(3L, 2L);
+            visitor.visit(4L, 1L);
+            return null;
+        }).when(hierarchyRepositoryPort).forEach(any());
+        index = new BitSetRoleHierarchyIndex(hierarchyRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should load the stored relations and their closure")
+    void shouldLoadStoredRelations() {
+        // Then
+        assertThat(index.inherits(3L, 1L)).isTrue();
+        assertThat(index.inherits(1L, 3L)).isFalse();
+        assertThat(index.inherits(4L, 2L)).isFalse();
+        assertThat(index.ancestorsOf(3L)).containsExactly(1L, 2L);
+        assertThat(index.descendantsOf(1L)).containsExactly(2L, 3L, 4L);
+        assertThat(index.parentsOf(3L)).containsExactly(2L);
+        assertThat(index.roleCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should resolve the effective roles of several roles")
+    void shouldResolveEffectiveRoles() {
+        // When
+        long[] effective = index.effectiveRoles(new long[] {3L, 4L, 9L});
+
+        // Then
+        assertThat(effective).containsExactly(1L, 2L, 3L, 4L, 9L);
+    }
+
+    @Test
+    @DisplayName("Should reject relations that close a cycle")
+    void shouldRejectCycles() {
+        // Then
+        assertThatThrownBy(() -> index.addEdge(1L, 3L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.addEdge(5L, 5L)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(index.inherits(1L, 3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep an ancestor still reachable through another path")
+    void shouldKeepAncestorReachableThroughAnotherPath() {
+        // Given
+        index.addEdge(3L, 4L);
+
+        // When
+        index.removeEdge(2L, 1L);
+
+        // Then
+        assertThat(index.inherits(3L, 1L)).isTrue();
+        assertThat(index.inherits(2L, 1L)).isFalse();
+        assertThat(index.descendantsOf(1L)).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should drop a removed role from every ancestor and descendant")
+    void shouldRemoveRole() {
+        // When
+        index.removeRole(2L);
+
+        // Then
+        assertThat(index.inherits(3L, 1L)).isFalse();
+        assertThat(index.parentsOf(3L)).isEmpty();
+        assertThat(index.descendantsOf(1L)).containsExactly(4L);
+        assertThat(index.roleCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should match a recomputed closure after random changes")
+    void shouldMatchRecomputedClosure() {
+        // Given
+        Map<Long, Set<Long>> edges = new HashMap<>();
+        edges.put(2L, new HashSet<>(Set.of(1L)));
+        edges.put(3L, new HashSet<>(Set.of(2L)));
+        edges.put(4L, new HashSet<>(Set.of(1L)));
+        Random random = new Random(42);
+
+        for (int step = 0; step < 5_000; step++) {
+            // When
+            long roleId = random.nextInt(40) + 1;
+            long parentId = random.nextInt(40) + 1;
+            int operation = random.nextInt(20);
+            if (operation < 11) {
+                if (roleId != parentId && !ancestors(edges, parentId).contains(roleId)) {
+                    index.addEdge(roleId, parentId);
+                    edges.computeIfAbsent(roleId, key -> new HashSet<>()).add(parentId);
+                }
+            } else if (operation < 19) {
+                index.removeEdge(roleId, parentId);
+                edges.getOrDefault(roleId, new HashSet<>()).remove(parentId);
+            } else {
+                index.removeRole(roleId);
+                edges.remove(roleId);
+                edges.values().forEach(parents -> parents.remove(roleId));
+            }
+
+            // Then
+            if (step % 100 == 0) {
+                for (long role = 1; role <= 40; role++) {
+                    assertThat(index.ancestorsOf(role))
+                            .containsExactly(ancestors(edges, role).stream().mapToLong(Long::longValue).toArray());
+                }
+            }
+        }
+    }
+
+    private static Set<Long> ancestors(Map<Long, Set<Long>> edges, long roleId) {
+        Set<Long> found = new TreeSet<>();
+        Deque<Long> pending = new ArrayDeque<>(edges.getOrDefault(roleId, Set.of()));
+        while (!pending.isEmpty()) {
+            long next = pending.pop();
+            if (found.add(next)) {
+                pending.addAll(edges.getOrDefault(next, Set.of()));
+            }
+        }
+        return found;
+    }
+}
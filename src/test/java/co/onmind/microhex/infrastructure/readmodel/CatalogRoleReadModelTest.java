@@ -0,0 +1,69 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.infrastructure.persistence.adapters.MappedRoleCatalogAdapter;
+import co.onmind.microhex.infrastructure.persistence.catalog.MappedRoleCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the CatalogRoleReadModel over the mapped role catalog.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Catalog Role Read Model Tests")
+class CatalogRoleReadModelTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should answer the queries from the mapped catalog")
+    void shouldAnswerFromMappedCatalog() {
+        // Given
+        Path file = directory.resolve("role-catalog.bin");
+        Role admin = new Role(1L, "ADMIN", LocalDateTime.of(2025, 1, 1, 0, 0));
+        MappedRoleCatalog.write(file, 5L, List.of(admin));
+        MappedRoleCatalogAdapter catalog = new MappedRoleCatalogAdapter(file, Duration.ofMillis(1));
+
+        // When
+        CatalogRoleReadModel readModel = new CatalogRoleReadModel(catalog, catalog::sequence, Duration.ofMillis(50));
+
+        // Then
+        assertThat(readModel.findByName("ADMIN")).contains(admin);
+        assertThat(readModel.count()).isEqualTo(1L);
+        assertThat(readModel.version()).isEqualTo(5L);
+        assertThat(readModel.awaitVersion(5L)).isTrue();
+        assertThat(readModel.awaitVersion(6L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should release a waiting reader once a newer catalog is published")
+    void shouldReleaseReaderOnNewerCatalog() throws Exception {
+        // Given
+        Path file = directory.resolve("role-catalog.bin");
+        MappedRoleCatalog.write(file, 5L, List.of());
+        MappedRoleCatalogAdapter catalog = new MappedRoleCatalogAdapter(file, Duration.ofMillis(1));
+        CatalogRoleReadModel readModel = new CatalogRoleReadModel(catalog, catalog::sequence, Duration.ofSeconds(2));
+        CompletableFuture<Boolean> reader = CompletableFuture.supplyAsync(() -> readModel.awaitVersion(7L));
+
+        // When
+        Thread.sleep(50);
+        MappedRoleCatalog.write(file, 7L, List.of(new Role(2L, "EDITOR", LocalDateTime.now())));
+
+        // Then
+        assertThat(reader.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(readModel.findByName("EDITOR")).isPresent();
+    }
+}
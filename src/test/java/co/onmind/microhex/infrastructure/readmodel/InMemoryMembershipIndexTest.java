@@ -0,0 +1,107 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.ports.out.MembershipRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Unit tests for the InMemoryMembershipIndex.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("In-Memory Membership Index Tests")
+class InMemoryMembershipIndexTest {
+
+    @Mock
+    private MembershipRepositoryPort membershipRepositoryPort;
+
+    private InMemoryMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            MembershipRepositoryPort.AssignmentVisitor visitor = invocation.getArgument(0);
+            visitor.visit(1L, 20L);
+            visitor.visit(1L, 10L);
+            visitor.visit(2L, 10L);
+            return null;
+        }).when(membershipRepositoryPort).forEach(any());
+        index = new InMemoryMembershipIndex(membershipRepositoryPort, 16);
+    }
+
+    @Test
+    @DisplayName("Should load the stored assignments in both directions")
+    void shouldLoadAssignments() {
+        // Then
+        assertThat(index.rolesOf(1L)).containsExactly(10L, 20L);
+        assertThat(index.usersIn(10L, 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.hasRole(2L, 10L)).isTrue();
+        assertThat(index.hasRole(2L, 20L)).isFalse();
+        assertThat(index.countUsersIn(10L)).isEqualTo(2);
+        assertThat(index.assignmentCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should keep both directions in step on add and remove")
+    void shouldApplyChanges() {
+        // When
+        index.add(3L, 20L);
+        index.remove(1L, 20L);
+
+        // Then
+        assertThat(index.usersIn(20L, 0, 10)).containsExactly(3L);
+        assertThat(index.rolesOf(1L)).containsExactly(10L);
+        assertThat(index.hasRole(3L, 20L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should remove a role from every user")
+    void shouldRemoveRole() {
+        // When
+        index.removeRole(10L);
+
+        // Then
+        assertThat(index.rolesOf(1L)).containsExactly(20L);
+        assertThat(index.rolesOf(2L)).isEmpty();
+        assertThat(index.countUsersIn(10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should remove every assignment on clear and keep accepting new ones")
+    void shouldClear() {
+        // When
+        index.clear();
+        index.add(3L, 10L);
+
+        // Then
+        assertThat(index.rolesOf(1L)).isEmpty();
+        assertThat(index.usersIn(10L, 0, 10)).containsExactly(3L);
+        assertThat(index.assignmentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should iterate the roles of a user in order")
+    void shouldIterateRoles() {
+        // Given
+        List<Long> roles = new ArrayList<>();
+
+        // When
+        index.forEachRoleOf(1L, roles::add);
+
+        // Then
+        assertThat(roles).containsExactly(10L, 20L);
+    }
+}
@@ -0,0 +1,177 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.events.RoleEvent;
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import co.onmind.microhex.infrastructure.events.RoleEventVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the InMemoryRoleReadModel.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("In-Memory Role Read Model Tests")
+class InMemoryRoleReadModelTest {
+
+    private static final long STARTUP_VERSION = 100L;
+
+    @Mock
+    private RoleRepositoryPort roleRepositoryPort;
+
+    @Mock
+    private RoleReadModelWarmStart warmStart;
+
+    private InMemoryRoleReadModel readModel;
+    private final RoleEvent event = new RoleEvent();
+
+    @BeforeEach
+    void setUp() {
+        when(warmStart.load(roleRepositoryPort)).thenReturn(List.of(new Role(1L, "ADMIN", LocalDateTime.now())));
+        readModel = new InMemoryRoleReadModel(roleRepositoryPort, warmStart, new RoleEventVersions(STARTUP_VERSION),
+                Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("Should load the existing roles at startup, at the startup version")
+    void shouldLoadExistingRoles() {
+        // Then
+        assertThat(readModel.findById(1L)).map(Role::getName).contains("ADMIN");
+        assertThat(readModel.count()).isEqualTo(1L);
+        assertThat(readModel.version()).isEqualTo(STARTUP_VERSION);
+    }
+
+    @Test
+    @DisplayName("Should apply created, renamed and deleted events")
+    void shouldApplyRoleEvents() {
+        // Given
+        Role editor = new Role(2L, "EDITOR", LocalDateTime.now());
+
+        // When
+        apply(RoleEvent.Type.ROLE_CREATED, 2L, editor, 0);
+        apply(RoleEvent.Type.ROLE_UPDATED, 2L, editor.withName("WRITER"), 1);
+        apply(RoleEvent.Type.ROLE_DELETED, 1L, null, 2);
+
+        // Then
+        assertThat(readModel.findByName("EDITOR")).isEmpty();
+        assertThat(readModel.findByName("WRITER")).map(Role::getId).contains(2L);
+        assertThat(readModel.findById(1L)).isEmpty();
+        assertThat(readModel.findAll()).extracting(Role::getName).containsExactly("WRITER");
+        assertThat(readModel.count()).isEqualTo(1L);
+        assertThat(readModel.version()).isEqualTo(STARTUP_VERSION + 3);
+    }
+
+    @Test
+    @DisplayName("Should search names ignoring case")
+    void shouldSearchNamesIgnoringCase() {
+        // Given
+        apply(RoleEvent.Type.ROLE_CREATED, 2L, new Role(2L, "SYS_ADMIN", LocalDateTime.now()), 0);
+        apply(RoleEvent.Type.ROLE_CREATED, 3L, new Role(3L, "USER", LocalDateTime.now()), 1);
+
+        // When
+        List<Role> roles = readModel.findByNameContaining("adm");
+
+        // Then
+        assertThat(roles).extracting(Role::getName).containsExactly("ADMIN", "SYS_ADMIN");
+    }
+
+    @Test
+    @DisplayName("Should search names changed after the first search")
+    void shouldSearchNamesChangedAfterFirstSearch() {
+        // Given
+        apply(RoleEvent.Type.ROLE_CREATED, 2L, new Role(2L, "SYS_ADMIN", LocalDateTime.now()), 0);
+        assertThat(readModel.findByNameContaining("admin")).extracting(Role::getId).containsExactly(1L, 2L);
+
+        // When
+        apply(RoleEvent.Type.ROLE_UPDATED, 2L, new Role(2L, "SYS_OWNER", LocalDateTime.now()), 1);
+        apply(RoleEvent.Type.ROLE_DELETED, 1L, null, 2);
+        apply(RoleEvent.Type.ROLE_CREATED, 3L, new Role(3L, "ADMINISTRATOR", LocalDateTime.now()), 3);
+        apply(RoleEvent.Type.ROLE_CREATED, 4L, new Role(4L, "OWNER", LocalDateTime.now()), 4);
+
+        // Then
+        assertThat(readModel.findByNameContaining("admin")).extracting(Role::getName).containsExactly("ADMINISTRATOR");
+        assertThat(readModel.findByNameContaining("OWN")).extracting(Role::getName).containsExactly("SYS_OWNER", "OWNER");
+        assertThat(readModel.findByNameContaining("")).extracting(Role::getId).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should release a reader once its token is applied")
+    void shouldReleaseReaderOnceTokenApplied() throws Exception {
+        // Given
+        CompletableFuture<Boolean> reader = CompletableFuture.supplyAsync(() -> readModel.awaitVersion(STARTUP_VERSION + 1));
+
+        // When
+        Thread.sleep(20);
+        apply(RoleEvent.Type.ROLE_CREATED, 2L, new Role(2L, "EDITOR", LocalDateTime.now()), 0);
+
+        // Then
+        assertThat(reader.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(readModel.findById(2L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should give up waiting after the consistency timeout")
+    void shouldGiveUpAfterTimeout() {
+        // When
+        long started = System.nanoTime();
+        boolean reached = readModel.awaitVersion(STARTUP_VERSION + 5);
+
+        // Then
+        assertThat(reached).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("Should count each role once while it is renamed")
+    void shouldCountRolesById() {
+        // Given
+        Role editor = new Role(2L, "EDITOR", LocalDateTime.now());
+        apply(RoleEvent.Type.ROLE_CREATED, 2L, editor, 0);
+
+        // When
+        apply(RoleEvent.Type.ROLE_UPDATED, 2L, editor.withName("ADMIN"), 1);
+
+        // Then
+        assertThat(readModel.findAll()).extracting(Role::getName).containsExactly("ADMIN", "ADMIN");
+        assertThat(readModel.count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should replace its roles on reload")
+    void shouldReplaceRolesOnReload() {
+        // Given
+        assertThat(readModel.findByNameContaining("adm")).hasSize(1);
+        apply(RoleEvent.Type.ROLE_CREATED, 2L, new Role(2L, "EDITOR", LocalDateTime.now()), 0);
+
+        // When
+        readModel.reload(List.of(new Role(1L, "OWNER", LocalDateTime.now()), new Role(3L, "SYS_ADMIN", LocalDateTime.now())));
+
+        // Then
+        assertThat(readModel.findAll()).extracting(Role::getName).containsExactly("OWNER", "SYS_ADMIN");
+        assertThat(readModel.findByName("ADMIN")).isEmpty();
+        assertThat(readModel.findByName("EDITOR")).isEmpty();
+        assertThat(readModel.findByNameContaining("adm")).extracting(Role::getId).containsExactly(3L);
+        assertThat(readModel.count()).isEqualTo(2L);
+    }
+
+    private void apply(RoleEvent.Type type, Long roleId, Role role, long sequence) {
+        event.set(type, roleId, role);
+        readModel.onEvent(event, sequence, true);
+    }
+}
@@ -0,0 +1,152 @@
+package co.onmind.microhex.infrastructure.readmodel;
+
+import co.onmind.microhex.domain.models.Role;
+import co.onmind.microhex.domain.ports.out.RoleChangeLogPort;
+import co.onmind.microhex.domain.ports.out.RoleRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the RoleReadModelWarmStart.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Role Read Model Warm Start Tests")
+class RoleReadModelWarmStartTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000);
+    private static final Instant NOW = Instant.parse("2025-03-21T09:00:00Z");
+    private static final UUID DATABASE_ID = UUID.fromString("5f0c2a64-1b7e-4c1a-9d2e-6a3b8f4e7c10");
+
+    @Mock
+    private ObjectProvider<RoleChangeLogPort> changeLogProvider;
+
+    @Mock
+    private RoleChangeLogPort changeLog;
+
+    @Mock
+    private RoleRepositoryPort roleRepositoryPort;
+
+    @TempDir
+    private Path directory;
+
+    private RoleReadModelWarmStart warmStart;
+    private final Role admin = new Role(1L, "ADMIN", CREATED_AT);
+    private final Role editor = new Role(2L, "EDITOR", CREATED_AT);
+
+    @BeforeEach
+    void setUp() {
+        when(changeLogProvider.getIfAvailable()).thenReturn(changeLog);
+        when(changeLog.databaseId()).thenReturn(DATABASE_ID);
+        warmStart = new RoleReadModelWarmStart(changeLogProvider, true, directory.resolve("read-model.bin"),
+                Duration.ofDays(7), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should reload only the roles changed since the dump")
+    void shouldReloadOnlyChangedRoles() {
+        // Given
+        warmStart.dump(10, List.of(admin, editor));
+        Role viewer = new Role(3L, "VIEWER", CREATED_AT);
+        when(changeLog.currentVersion()).thenReturn(12L);
+        when(changeLog.rolesChangedSince(10)).thenReturn(Optional.of(Set.of(2L, 3L)));
+        when(roleRepositoryPort.findById(2L)).thenReturn(Optional.empty());
+        when(roleRepositoryPort.findById(3L)).thenReturn(Optional.of(viewer));
+        when(roleRepositoryPort.count()).thenReturn(2L);
+
+        // When
+        List<Role> roles = warmStart.load(roleRepositoryPort);
+
+        // Then
+        assertThat(roles).containsExactly(admin, viewer);
+        assertThat(roles.get(0).getCreatedAt()).isEqualTo(CREATED_AT);
+        verify(changeLog).prune(NOW.minus(Duration.ofDays(7)));
+        verify(roleRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should load every role when the dump comes from another database")
+    void shouldLoadEveryRoleWhenDatabaseDiffers() {
+        // Given
+        warmStart.dump(10, List.of(admin));
+        when(changeLog.databaseId()).thenReturn(UUID.fromString("0e9d7c3a-52f1-4b8e-a6d4-91c27f3b5e08"));
+        when(roleRepositoryPort.findAll()).thenReturn(List.of(admin, editor));
+
+        // When & Then
+        assertThat(warmStart.load(roleRepositoryPort)).containsExactly(admin, editor);
+        verify(changeLog, never()).rolesChangedSince(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should load every role when the change log no longer reaches back to the dump")
+    void shouldLoadEveryRoleWhenChangeLogWasPruned() {
+        // Given
+        warmStart.dump(10, List.of(admin));
+        when(changeLog.currentVersion()).thenReturn(500L);
+        when(changeLog.rolesChangedSince(10)).thenReturn(Optional.empty());
+        when(roleRepositoryPort.findAll()).thenReturn(List.of(admin, editor));
+
+        // When & Then
+        assertThat(warmStart.load(roleRepositoryPort)).containsExactly(admin, editor);
+    }
+
+    @Test
+    @DisplayName("Should load every role when the dump does not match the role count")
+    void shouldLoadEveryRoleWhenCountDiffers() {
+        // Given
+        warmStart.dump(10, List.of(admin));
+        when(changeLog.currentVersion()).thenReturn(10L);
+        when(changeLog.rolesChangedSince(10)).thenReturn(Optional.of(Set.of()));
+        when(roleRepositoryPort.count()).thenReturn(2L);
+        when(roleRepositoryPort.findAll()).thenReturn(List.of(admin, editor));
+
+        // When & Then
+        assertThat(warmStart.load(roleRepositoryPort)).containsExactly(admin, editor);
+    }
+
+    @Test
+    @DisplayName("Should ignore a corrupted dump")
+    void shouldIgnoreCorruptedDump() throws Exception {
+        // Given
+        Path file = directory.resolve("read-model.bin");
+        warmStart.dump(10, List.of(admin, editor));
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(30);
+            int b = raf.read();
+            raf.seek(30);
+            raf.write(b ^ 0x20);
+        }
+        when(roleRepositoryPort.findAll()).thenReturn(List.of(admin, editor));
+
+        // When & Then
+        assertThat(new RoleReadModelDumpStore(file).read()).isEmpty();
+        assertThat(warmStart.load(roleRepositoryPort)).containsExactly(admin, editor);
+        verify(changeLog, never()).rolesChangedSince(10);
+    }
+}
@@ -0,0 +1,205 @@
+package co.onmind.microhex.infrastructure.webclients;
+
+import co.onmind.microhex.infrastructure.webclients.dto.NotificationRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for NotificationWebClient against a local stub notification server.
+ *
+ * The stub holds each request open for a configurable delay on virtual threads
+ * and counts the requests it has received; the client runs on an executor of
+ * its own with a fixed number of threads.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Notification Web Client Tests")
+class NotificationWebClientTest {
+
+    private static final int CLIENT_THREADS = 2;
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private volatile long stubDelayMillis;
+    private volatile int stubStatus;
+    private volatile CountDownLatch release;
+    private volatile CountDownLatch received;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubDelayMillis = 0;
+        stubStatus = 200;
+        release = new CountDownLatch(0);
+        received = new CountDownLatch(0);
+        stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext("/api/notify", exchange -> {
+            try {
+                exchange.getRequestBody().readAllBytes();
+                received.countDown();
+                release.await(stubDelayMillis, TimeUnit.MILLISECONDS);
+                byte[] response = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(stubStatus, response.length);
+                exchange.getResponseBody().write(response);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        stubServer.start();
+
+        clientExecutor = Executors.newFixedThreadPool(CLIENT_THREADS);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        httpClient.shutdownNow();
+        clientExecutor.shutdownNow();
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    private NotificationWebClient client(Duration timeout, int maxInFlight) {
+        String baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+        return new NotificationWebClient(httpClient, new ObjectMapper(), baseUrl, timeout, maxInFlight);
+    }
+
+    @Test
+    @DisplayName("Should post asynchronously and return the response")
+    void shouldPostAsynchronously() {
+        NotificationWebClient webClient = client(Duration.ofSeconds(5), 8);
+
+        ResponseEntity<String> response = webClient
+                .postAsync("/api/notify", new NotificationRequest("Role created"))
+                .join();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).contains("ok");
+        assertThat(webClient.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep blocking post working on top of the async client")
+    void shouldKeepBlockingPost() {
+        NotificationWebClient webClient = client(Duration.ofSeconds(5), 8);
+
+        ResponseEntity<String> response = webClient.post("/api/notify", new NotificationRequest("Role created"));
+
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should surface server errors as exceptions")
+    void shouldSurfaceServerErrors() {
+        stubStatus = 503;
+        NotificationWebClient webClient = client(Duration.ofSeconds(5), 8);
+
+        assertThatThrownBy(() -> webClient.post("/api/notify", new NotificationRequest("Role created")))
+                .isInstanceOf(HttpServerErrorException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail with timeout when deadline is exceeded")
+    void shouldFailWhenDeadlineExceeded() {
+        stubDelayMillis = 5_000;
+        release = new CountDownLatch(1);
+        NotificationWebClient webClient = client(Duration.ofSeconds(5), 8);
+
+        CompletableFuture<ResponseEntity<String>> future = webClient
+                .postAsync("/api/notify", new NotificationRequest("slow"), Duration.ofMillis(100));
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(webClient.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release the in-flight slot when cancelled")
+    void shouldReleaseSlotWhenCancelled() {
+        stubDelayMillis = 5_000;
+        release = new CountDownLatch(1);
+        NotificationWebClient webClient = client(Duration.ofSeconds(5), 1);
+
+        CompletableFuture<ResponseEntity<String>> future = webClient
+                .postAsync("/api/notify", new NotificationRequest("cancel me"));
+        assertThat(webClient.getInFlightCount()).isEqualTo(1);
+
+        future.cancel(true);
+
+        assertThat(future).isCancelled();
+        assertThat(webClient.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject requests above the in-flight limit")
+    void shouldRejectAboveInFlightLimit() {
+        stubDelayMillis = 5_000;
+        release = new CountDownLatch(1);
+        NotificationWebClient webClient = client(Duration.ofSeconds(5), 2);
+
+        webClient.postAsync("/api/notify", new NotificationRequest("one"));
+        webClient.postAsync("/api/notify", new NotificationRequest("two"));
+        CompletableFuture<ResponseEntity<String>> third = webClient
+                .postAsync("/api/notify", new NotificationRequest("three"));
+
+        assertThatThrownBy(third::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("Should hold many more in-flight requests than client threads")
+    void shouldHoldMoreInFlightRequestsThanClientThreads() throws Exception {
+        int inFlightRequests = 500;
+        stubDelayMillis = 30_000;
+        release = new CountDownLatch(1);
+        received = new CountDownLatch(inFlightRequests);
+        NotificationWebClient webClient = client(Duration.ofSeconds(30), inFlightRequests);
+
+        List<CompletableFuture<ResponseEntity<String>>> futures = new ArrayList<>(inFlightRequests);
+        for (int i = 0; i < inFlightRequests; i++) {
+            futures.add(webClient.postAsync("/api/notify", new NotificationRequest("role-" + i)));
+        }
+
+        // Every request reaches the stub while none has been answered yet
+        assertThat(received.await(20, TimeUnit.SECONDS)).isTrue();
+        assertThat(futures).noneMatch(CompletableFuture::isDone);
+        assertThat(webClient.getInFlightCount()).isEqualTo(inFlightRequests).isGreaterThan(CLIENT_THREADS);
+
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertThat(futures).allMatch(f -> f.join().getStatusCode().is2xxSuccessful());
+        assertThat(webClient.getInFlightCount()).isZero();
+    }
+}
@@ -0,0 +1,142 @@
+package co.onmind.microhex.transverse.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for LongPostings.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Long Postings Tests")
+class LongPostingsTest {
+
+    @Test
+    @DisplayName("Should keep each list sorted and free of duplicates")
+    void shouldKeepListsSorted() {
+        // Given
+        LongPostings postings = new LongPostings(4);
+
+        // When
+        assertThat(postings.add(1, 30)).isTrue();
+        assertThat(postings.add(1, 10)).isTrue();
+        assertThat(postings.add(1, 20)).isTrue();
+        assertThat(postings.add(1, 10)).isFalse();
+
+        // Then
+        assertThat(postings.copy(1, 0, 10)).containsExactly(10, 20, 30);
+        assertThat(postings.contains(1, 20)).isTrue();
+        assertThat(postings.contains(1, 25)).isFalse();
+        assertThat(postings.contains(2, 20)).isFalse();
+        assertThat(postings.size(1)).isEqualTo(3);
+        assertThat(postings.valueCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should copy a page of a list")
+    void shouldCopyPage() {
+        // Given
+        LongPostings postings = new LongPostings(4);
+        for (long value = 1; value <= 10; value++) {
+            postings.add(7, value);
+        }
+
+        // When & Then
+        assertThat(postings.copy(7, 2, 3)).containsExactly(3, 4, 5);
+        assertThat(postings.copy(7, 8, 5)).containsExactly(9, 10);
+        assertThat(postings.copy(7, 10, 5)).isEmpty();
+        assertThat(postings.copy(8, 0, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop a key with its last value")
+    void shouldDropEmptyKeys() {
+        // Given
+        LongPostings postings = new LongPostings(4);
+        postings.add(1, 10);
+        postings.add(2, 20);
+        postings.add(2, 21);
+
+        // When
+        postings.remove(1, 10);
+        long[] removed = postings.removeKey(2);
+
+        // Then
+        assertThat(removed).containsExactly(20, 21);
+        assertThat(postings.keyCount()).isZero();
+        assertThat(postings.valueCount()).isZero();
+        assertThat(postings.remove(1, 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should sort and deduplicate appended values")
+    void shouldSortAppendedValues() {
+        // Given
+        LongPostings postings = new LongPostings(0);
+        postings.append(5, 3);
+        postings.append(5, 1);
+        postings.append(5, 3);
+        postings.append(6, 9);
+
+        // When
+        postings.sortAll();
+
+        // Then
+        assertThat(postings.copy(5, 0, 10)).containsExactly(1, 3);
+        assertThat(postings.valueCount()).isEqualTo(3);
+        assertThat(postings.add(5, 2)).isTrue();
+        assertThat(postings.copy(5, 0, 10)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should match a reference multimap through random adds and removes")
+    void shouldMatchReferenceMultimap() {
+        // Given
+        LongPostings postings = new LongPostings(0);
+        Map<Long, TreeSet<Long>> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2000) - 1000;
+            long value = random.nextInt(40);
+            if (random.nextInt(3) < 2) {
+                boolean added = reference.computeIfAbsent(key, k -> new TreeSet<>()).add(value);
+                assertThat(postings.add(key, value)).isEqualTo(added);
+            } else {
+                TreeSet<Long> values = reference.get(key);
+                boolean removed = values != null && values.remove(value);
+                if (values != null && values.isEmpty()) {
+                    reference.remove(key);
+                }
+                assertThat(postings.remove(key, value)).isEqualTo(removed);
+            }
+        }
+
+        // Then
+        assertThat(postings.keyCount()).isEqualTo(reference.size());
+        for (Map.Entry<Long, TreeSet<Long>> entry : reference.entrySet()) {
+            List<Long> actual = new ArrayList<>();
+            postings.forEach(entry.getKey(), actual::add);
+            assertThat(actual).containsExactlyElementsOf(entry.getValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject the reserved key")
+    void shouldRejectReservedKey() {
+        assertThatThrownBy(() -> new LongPostings(4).add(Long.MIN_VALUE, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package co.onmind.microhex.transverse.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for MaintenanceLock.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Maintenance Lock Tests")
+class MaintenanceLockTest {
+
+    private final MaintenanceLock lock = new MaintenanceLock();
+
+    @Test
+    @DisplayName("Should run regular operations together")
+    void shouldRunRegularOperationsTogether() throws Exception {
+        // Given
+        CountDownLatch bothInside = new CountDownLatch(2);
+
+        // When
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> lock.withShared(() -> await(bothInside)));
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> lock.withShared(() -> await(bothInside)));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should hold regular operations until the maintenance operation ends")
+    void shouldHoldRegularOperationsDuringMaintenance() throws Exception {
+        // Given
+        CompletableFuture<String> regular;
+        try (MaintenanceLock.Hold maintenance = lock.exclusive()) {
+
+            // When
+            regular = CompletableFuture.supplyAsync(() -> lock.withShared(() -> "written"));
+
+            // Then
+            assertThatThrownBy(() -> regular.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            assertThat(lock.withShared(() -> "reentrant")).isEqualTo("reentrant");
+        }
+        assertThat(regular.get(5, TimeUnit.SECONDS)).isEqualTo("written");
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
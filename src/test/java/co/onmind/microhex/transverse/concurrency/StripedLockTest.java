@@ -0,0 +1,114 @@
+package co.onmind.microhex.transverse.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for StripedLock.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Striped Lock Tests")
+class StripedLockTest {
+
+    @Test
+    @DisplayName("Should round the stripe count up to a power of two")
+    void shouldRoundStripesToPowerOfTwo() {
+        assertThat(new StripedLock(1).stripeCount()).isEqualTo(1);
+        assertThat(new StripedLock(5).stripeCount()).isEqualTo(8);
+        assertThat(new StripedLock(256).stripeCount()).isEqualTo(256);
+        assertThatThrownBy(() -> new StripedLock(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should run actions on the same key one at a time")
+    void shouldSerializeSameKey() throws Exception {
+        // Given
+        StripedLock locks = new StripedLock(16);
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            calls.add(CompletableFuture.runAsync(() -> locks.withLock("ADMIN", () -> {
+                maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                sleep(10);
+                return inside.decrementAndGet();
+            }), executor));
+        }
+        for (CompletableFuture<Void> call : calls) {
+            call.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(maxInside).hasValue(1);
+        assertThat(locks.acquisitionCount()).isEqualTo(8);
+        assertThat(locks.contendedCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should release the lock when the action fails")
+    void shouldReleaseLockOnFailure() throws Exception {
+        // Given
+        StripedLock locks = new StripedLock(1);
+
+        // When
+        assertThatThrownBy(() -> locks.withLock("ADMIN", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        String result = CompletableFuture.supplyAsync(() -> locks.withLock("EDITOR", () -> "done"))
+                .get(1, TimeUnit.SECONDS);
+        assertThat(result).isEqualTo("done");
+    }
+
+    @Test
+    @DisplayName("Should hold every stripe of a group of keys and release them all")
+    void shouldLockGroupOfKeys() throws Exception {
+        // Given
+        StripedLock locks = new StripedLock(64);
+        CompletableFuture<Void> entered = new CompletableFuture<>();
+        CompletableFuture<Void> release = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<Integer> group = CompletableFuture.supplyAsync(
+                () -> locks.withLocks(List.of(1L, 2L, 3L, 1L), () -> {
+                    entered.complete(null);
+                    release.join();
+                    return 3;
+                }));
+        entered.get(1, TimeUnit.SECONDS);
+        CompletableFuture<String> single = CompletableFuture.supplyAsync(() -> locks.withLock(2L, () -> "after"));
+        Thread.sleep(50);
+
+        // Then
+        assertThat(single).isNotDone();
+        release.complete(null);
+        assertThat(group.get(1, TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(single.get(1, TimeUnit.SECONDS)).isEqualTo("after");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package co.onmind.microhex.transverse.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for RingBufferEventBus.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Ring Buffer Event Bus Tests")
+class RingBufferEventBusTest {
+
+    /**
+     * Reusable entry holding a single value.
+     */
+    static class ValueEvent {
+        long value;
+        long seenByFirstStage = -1;
+    }
+
+    @Test
+    @DisplayName("Should deliver every event from several producers to parallel handlers")
+    void shouldDeliverEveryEventToParallelHandlers() throws Exception {
+        // Given
+        int producers = 4;
+        int eventsPerProducer = 50_000;
+        AtomicLong sumA = new AtomicLong();
+        AtomicLong sumB = new AtomicLong();
+        RingBufferEventBus<ValueEvent> bus = new RingBufferEventBus<>(ValueEvent::new, 1024, Thread::new);
+        bus.handleEventsWith(
+                (event, sequence, endOfBatch) -> sumA.addAndGet(event.value),
+                (event, sequence, endOfBatch) -> sumB.addAndGet(event.value));
+        bus.start();
+        RingBuffer<ValueEvent> ringBuffer = bus.getRingBuffer();
+
+        // When
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            new Thread(() -> {
+                for (int i = 1; i <= eventsPerProducer; i++) {
+                    long sequence = ringBuffer.next();
+                    ringBuffer.get(sequence).value = i;
+                    ringBuffer.publish(sequence);
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        bus.close();
+
+        // Then
+        long expected = (long) producers * eventsPerProducer * (eventsPerProducer + 1) / 2;
+        assertThat(sumA.get()).isEqualTo(expected);
+        assertThat(sumB.get()).isEqualTo(expected);
+        assertThat(ringBuffer.getCursor()).isEqualTo((long) producers * eventsPerProducer - 1);
+    }
+
+    @Test
+    @DisplayName("Should run dependent handlers after the previous stage")
+    void shouldRunDependentHandlersInOrder() throws Exception {
+        // Given
+        List<Boolean> orderViolations = new ArrayList<>();
+        RingBufferEventBus<ValueEvent> bus = new RingBufferEventBus<>(ValueEvent::new, 64, Thread::new);
+        bus.handleEventsWith((event, sequence, endOfBatch) -> event.seenByFirstStage = sequence)
+           .then((event, sequence, endOfBatch) -> {
+               if (event.seenByFirstStage != sequence) {
+                   orderViolations.add(true);
+               }
+           });
+        bus.start();
+        RingBuffer<ValueEvent> ringBuffer = bus.getRingBuffer();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            long sequence = ringBuffer.next();
+            ringBuffer.get(sequence).value = i;
+            ringBuffer.publish(sequence);
+        }
+        bus.close();
+
+        // Then
+        assertThat(orderViolations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep consuming after a handler failure")
+    void shouldKeepConsumingAfterFailure() throws Exception {
+        // Given
+        AtomicLong handled = new AtomicLong();
+        RingBufferEventBus<ValueEvent> bus = new RingBufferEventBus<>(ValueEvent::new, 16, Thread::new);
+        bus.handleEventsWith((event, sequence, endOfBatch) -> {
+            handled.incrementAndGet();
+            if (event.value == 3) {
+                throw new IllegalStateException("boom");
+            }
+        });
+        bus.start();
+        RingBuffer<ValueEvent> ringBuffer = bus.getRingBuffer();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            long sequence = ringBuffer.next();
+            ringBuffer.get(sequence).value = i;
+            ringBuffer.publish(sequence);
+        }
+        bus.close();
+
+        // Then
+        assertThat(handled.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should require a power of two buffer size")
+    void shouldRequirePowerOfTwo() {
+        assertThatThrownBy(() -> new RingBuffer<>(ValueEvent::new, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
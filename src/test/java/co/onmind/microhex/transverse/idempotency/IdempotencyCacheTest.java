@@ -0,0 +1,242 @@
+package co.onmind.microhex.transverse.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the IdempotencyCache.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Idempotency Cache Tests")
+class IdempotencyCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger runs = new AtomicInteger();
+    private IdempotencyCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IdempotencyCache<>(2, Duration.ofMinutes(1), Duration.ofMillis(200), clock);
+    }
+
+    @Test
+    @DisplayName("Should run once and replay the result")
+    void shouldRunOnceAndReplay() {
+        // When
+        IdempotencyCache.Outcome<String> first = cache.execute("k", this::run, value -> true);
+        IdempotencyCache.Outcome<String> second = cache.execute("k", this::run, value -> true);
+
+        // Then
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.value()).isEqualTo(first.value());
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should make a concurrent duplicate wait for the first execution")
+    void shouldWaitForInFlightExecution() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyCache.Outcome<String>> first = CompletableFuture.supplyAsync(() ->
+                cache.execute("k", () -> {
+                    started.countDown();
+                    await(release);
+                    return run();
+                }, value -> true));
+        started.await(1, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<IdempotencyCache.Outcome<String>> duplicate = CompletableFuture.supplyAsync(() ->
+                cache.execute("k", this::run, value -> true));
+        Thread.sleep(20);
+        release.countDown();
+
+        // Then
+        assertThat(duplicate.get(1, TimeUnit.SECONDS).replayed()).isTrue();
+        assertThat(duplicate.get().value()).isEqualTo(first.get(1, TimeUnit.SECONDS).value());
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should give up waiting after the in-flight timeout")
+    void shouldGiveUpAfterInFlightTimeout() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyCache.Outcome<String>> first = CompletableFuture.supplyAsync(() ->
+                cache.execute("k", () -> {
+                    started.countDown();
+                    await(release);
+                    return run();
+                }, value -> true));
+        started.await(1, TimeUnit.SECONDS);
+
+        // When / Then
+        assertThatThrownBy(() -> cache.execute("k", this::run, value -> true))
+                .isInstanceOf(IdempotencyInProgressException.class);
+        release.countDown();
+        first.get(1, TimeUnit.SECONDS);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should run again after the TTL")
+    void shouldRunAgainAfterTtl() {
+        // Given
+        cache.execute("k", this::run, value -> true);
+
+        // When
+        clock.advance(Duration.ofMinutes(2));
+        IdempotencyCache.Outcome<String> outcome = cache.execute("k", this::run, value -> true);
+
+        // Then
+        assertThat(outcome.replayed()).isFalse();
+        assertThat(runs).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest key when full")
+    void shouldEvictOldestKeyWhenFull() {
+        // Given
+        cache.execute("a", this::run, value -> true);
+        cache.execute("b", this::run, value -> true);
+
+        // When
+        cache.execute("c", this::run, value -> true);
+        IdempotencyCache.Outcome<String> outcome = cache.execute("a", this::run, value -> true);
+
+        // Then
+        assertThat(outcome.replayed()).isFalse();
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not evict a key still in flight when full")
+    void shouldNotEvictInFlightKey() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyCache.Outcome<String>> first = CompletableFuture.supplyAsync(() ->
+                cache.execute("a", () -> {
+                    started.countDown();
+                    await(release);
+                    return run();
+                }, value -> true));
+        started.await(1, TimeUnit.SECONDS);
+
+        // When
+        cache.execute("b", this::run, value -> true);
+        cache.execute("c", this::run, value -> true);
+        release.countDown();
+        first.get(1, TimeUnit.SECONDS);
+        IdempotencyCache.Outcome<String> outcome = cache.execute("a", this::run, value -> true);
+
+        // Then
+        assertThat(outcome.replayed()).isTrue();
+        assertThat(outcome.value()).isEqualTo(first.get().value());
+        assertThat(runs).hasValue(3);
+        assertThat(cache.evictedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run again after the cache is cleared")
+    void shouldRunAgainAfterClear() {
+        // Given
+        cache.execute("k", this::run, value -> true);
+
+        // When
+        cache.clear();
+        IdempotencyCache.Outcome<String> again = cache.execute("k", this::run, value -> true);
+
+        // Then
+        assertThat(again.replayed()).isFalse();
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not keep uncacheable results or failures")
+    void shouldNotKeepUncacheableResultsOrFailures() {
+        // Given
+        cache.execute("k", this::run, value -> false);
+        assertThatThrownBy(() -> cache.execute("f", () -> {
+            throw new IllegalStateException("boom");
+        }, value -> true)).isInstanceOf(IllegalStateException.class);
+
+        // When
+        IdempotencyCache.Outcome<String> retried = cache.execute("k", this::run, value -> true);
+        IdempotencyCache.Outcome<String> recovered = cache.execute("f", this::run, value -> true);
+
+        // Then
+        assertThat(retried.replayed()).isFalse();
+        assertThat(recovered.replayed()).isFalse();
+        assertThat(runs).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should derive different keys for different requests")
+    void shouldDeriveKeysFromRequest() {
+        // When
+        String create = IdempotencyCache.requestKey("key-1", "POST", "ADMIN");
+
+        // Then
+        assertThat(create).startsWith("key-1:").isEqualTo(IdempotencyCache.requestKey("key-1", "POST", "ADMIN"));
+        assertThat(create).isNotEqualTo(IdempotencyCache.requestKey("key-1", "POST", "EDITOR"));
+        assertThat(create).isNotEqualTo(IdempotencyCache.requestKey("key-2", "POST", "ADMIN"));
+    }
+
+    private String run() {
+        return "result-" + runs.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
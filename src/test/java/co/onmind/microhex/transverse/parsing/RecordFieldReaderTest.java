@@ -0,0 +1,71 @@
+package co.onmind.microhex.transverse.parsing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RecordFieldReader.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Record Field Reader Tests")
+class RecordFieldReaderTest {
+
+    @Test
+    @DisplayName("Should read the field of each NDJSON line and null for unreadable lines")
+    void shouldReadNdjsonField() {
+        // Given
+        String body = "{\"name\":\"admin\",\"id\":1}\n\n\"editor\"\n{broken\n{\"other\":\"x\"}\n{\"name\":\"ДОСТУП\"}";
+
+        // When
+        List<String> names = readAll(RecordFieldReader.ndjson(stream(body), "name"));
+
+        // Then
+        assertThat(names).containsExactly("admin", "editor", null, null, "ДОСТУП");
+    }
+
+    @Test
+    @DisplayName("Should read the named CSV column with quotes, escaped quotes and line breaks")
+    void shouldReadCsvColumn() {
+        // Given
+        String body = "id,Name\r\n1,admin\r\n2,\"ed,itor\"\n3,\"two\nlines \"\"quoted\"\"\"\n\n4\n5,last";
+
+        // When
+        List<String> names = readAll(RecordFieldReader.csv(stream(body), "name"));
+
+        // Then
+        assertThat(names).containsExactly("admin", "ed,itor", "two\nlines \"quoted\"", null, "last");
+    }
+
+    @Test
+    @DisplayName("Should read the first CSV column when there is no header")
+    void shouldReadFirstCsvColumnWithoutHeader() {
+        // When
+        List<String> names = readAll(RecordFieldReader.csv(stream("admin,1\nuser,2\n"), "name"));
+
+        // Then
+        assertThat(names).containsExactly("admin", "user");
+        assertThat(readAll(RecordFieldReader.csv(stream(""), "name"))).isEmpty();
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> readAll(RecordFieldReader reader) {
+        List<String> values = new ArrayList<>();
+        while (reader.hasNext()) {
+            values.add(reader.next());
+        }
+        return values;
+    }
+}
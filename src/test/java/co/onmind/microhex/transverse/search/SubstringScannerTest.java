@@ -0,0 +1,90 @@
+package co.onmind.microhex.transverse.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SubstringScanner.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Substring Scanner Tests")
+class SubstringScannerTest {
+
+    @Test
+    @DisplayName("Should not match across the boundary of two names")
+    void shouldNotMatchAcrossNames() {
+        // Given
+        byte[] arena = "ADMINEDITORSYS_ADMIN".getBytes(StandardCharsets.US_ASCII);
+        int[] offsets = {0, 5, 11, 20};
+        SubstringScanner scanner = SubstringScanner.create();
+
+        // When & Then
+        assertThat(scanner.scan(arena, offsets, 3, bytes("ADMIN"))).containsExactly(0, 2);
+        assertThat(scanner.scan(arena, offsets, 3, bytes("NED"))).isEmpty();
+        assertThat(scanner.scan(arena, offsets, 3, bytes("R"))).containsExactly(1);
+        assertThat(scanner.scan(arena, offsets, 3, bytes(""))).containsExactly(0, 1, 2);
+        assertThat(scanner.scan(arena, offsets, 0, bytes("A"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find the same rows as a brute-force search, vectorized, scalar and in parallel")
+    void shouldMatchBruteForce() {
+        // Given
+        Random random = new Random(42);
+        List<SubstringScanner> scanners = List.of(
+                new SubstringScanner(ForkJoinPool.commonPool(), Integer.MAX_VALUE, true),
+                new SubstringScanner(ForkJoinPool.commonPool(), Integer.MAX_VALUE, false),
+                new SubstringScanner(new ForkJoinPool(4), 256, true));
+
+        for (int trial = 0; trial < 500; trial++) {
+            int rows = random.nextInt(400);
+            String[] names = new String[rows];
+            int[] offsets = new int[rows + 1];
+            StringBuilder arena = new StringBuilder();
+            for (int row = 0; row < rows; row++) {
+                names[row] = randomText(random, random.nextInt(48));
+                arena.append(names[row]);
+                offsets[row + 1] = arena.length();
+            }
+            String pattern = randomText(random, 1 + random.nextInt(4));
+            List<Integer> expected = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                if (names[row].contains(pattern)) {
+                    expected.add(row);
+                }
+            }
+
+            for (SubstringScanner scanner : scanners) {
+                // When
+                int[] matches = scanner.scan(bytes(arena.toString()), offsets, rows, bytes(pattern));
+
+                // Then
+                assertThat(matches).as("pattern %s in trial %d", pattern, trial)
+                        .containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        // A small alphabet gives many partial matches
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('A' + random.nextInt(3)));
+        }
+        return text.toString();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
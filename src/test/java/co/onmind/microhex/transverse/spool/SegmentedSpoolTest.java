@@ -0,0 +1,139 @@
+package co.onmind.microhex.transverse.spool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SegmentedSpool.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Segmented Spool Tests")
+class SegmentedSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    private SegmentedSpool open(int segmentSize) {
+        return new SegmentedSpool(directory, segmentSize, SegmentedSpool.FsyncPolicy.ALWAYS, Duration.ofSeconds(1));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should roll over to new segments and read records in order")
+    void shouldRollOverSegments() {
+        // Given
+        SegmentedSpool spool = open(256);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            spool.append(bytes("message-" + i));
+        }
+
+        // Then
+        assertThat(spool.pendingCount()).isEqualTo(50);
+        assertThat(spool.segments()).hasSizeGreaterThan(1);
+        List<byte[]> records = spool.peek(3);
+        assertThat(records).extracting(SegmentedSpoolTest::text)
+                .containsExactly("message-0", "message-1", "message-2");
+        spool.close();
+    }
+
+    @Test
+    @DisplayName("Should delete consumed segments and resume from the checkpoint after reopening")
+    void shouldResumeFromCheckpoint() throws Exception {
+        // Given
+        SegmentedSpool spool = open(256);
+        for (int i = 0; i < 50; i++) {
+            spool.append(bytes("message-" + i));
+        }
+        int segmentsBefore = spool.segments().size();
+
+        // When
+        spool.acknowledge(30);
+        spool.close();
+        SegmentedSpool reopened = open(256);
+
+        // Then
+        assertThat(reopened.segments().size()).isLessThan(segmentsBefore);
+        assertThat(reopened.pendingCount()).isEqualTo(20);
+        assertThat(text(reopened.peek(1).get(0))).isEqualTo("message-30");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should discard a torn record with an invalid checksum on recovery")
+    void shouldDiscardCorruptRecord() throws Exception {
+        // Given
+        SegmentedSpool spool = open(1024);
+        spool.append(bytes("first"));
+        spool.append(bytes("second"));
+        spool.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            // Corrupt the payload of the second record
+            file.seek(SegmentedSpool.HEADER_SIZE + 5 + SegmentedSpool.HEADER_SIZE);
+            file.write('X');
+        }
+
+        // When
+        SegmentedSpool reopened = open(1024);
+
+        // Then
+        assertThat(reopened.pendingCount()).isEqualTo(1);
+        assertThat(text(reopened.peek(10).get(0))).isEqualTo("first");
+        reopened.append(bytes("third"));
+        assertThat(reopened.peek(10)).extracting(SegmentedSpoolTest::text).containsExactly("first", "third");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should purge every pending record")
+    void shouldPurge() {
+        // Given
+        SegmentedSpool spool = open(256);
+        for (int i = 0; i < 20; i++) {
+            spool.append(bytes("message-" + i));
+        }
+
+        // When
+        long discarded = spool.purge();
+
+        // Then
+        assertThat(discarded).isEqualTo(20);
+        assertThat(spool.pendingCount()).isZero();
+        assertThat(spool.peek(10)).isEmpty();
+        spool.close();
+    }
+
+    @Test
+    @DisplayName("Should reject records larger than a segment")
+    void shouldRejectOversizedRecord() {
+        SegmentedSpool spool = open(64);
+        assertThatThrownBy(() -> spool.append(new byte[100])).isInstanceOf(IllegalArgumentException.class);
+        spool.close();
+    }
+}
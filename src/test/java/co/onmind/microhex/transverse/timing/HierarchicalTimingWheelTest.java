@@ -0,0 +1,135 @@
+package co.onmind.microhex.transverse.timing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for HierarchicalTimingWheel.
+ *
+ * @author OnMind (Cesar Andres Arcila Buitrago)
+ * @version 1.0.0
+ */
+@DisplayName("Hierarchical Timing Wheel Tests")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Should fire a timeout once its deadline is reached, never before")
+    void shouldFireAtDeadline() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, START);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("a", START + 25);
+
+        // When
+        wheel.advance(START + 29, fired::add);
+
+        // Then
+        assertThat(fired).isEmpty();
+        wheel.advance(START + 30, fired::add);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade far deadlines down through the levels")
+    void shouldCascadeFarDeadlines() {
+        // Given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, START);
+        long[] delays = {1, 63, 64, 65, 4095, 4096, 4097, 262_144, 1_000_003};
+        for (long delay : delays) {
+            wheel.schedule(delay, START + delay);
+        }
+        List<Long> fired = new ArrayList<>();
+
+        // When
+        for (long now = START; now <= START + 1_000_003; now += 997) {
+            wheel.advance(now, fired::add);
+        }
+        wheel.advance(START + 1_000_003, fired::add);
+
+        // Then
+        assertThat(fired).containsExactly(1L, 63L, 64L, 65L, 4095L, 4096L, 4097L, 262_144L, 1_000_003L);
+    }
+
+    @Test
+    @DisplayName("Should not fire cancelled timeouts")
+    void shouldNotFireCancelled() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, START);
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", START + 5000);
+        wheel.schedule("kept", START + 5000);
+        List<String> fired = new ArrayList<>();
+
+        // When
+        boolean pending = wheel.cancel(cancelled);
+        wheel.advance(START + 5000, fired::add);
+
+        // Then
+        assertThat(pending).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+        assertThat(fired).containsExactly("kept");
+    }
+
+    @Test
+    @DisplayName("Should fire past deadlines on the next tick and jump over idle time")
+    void shouldHandlePastDeadlinesAndIdleTime() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, START);
+        wheel.advance(START + 86_400_000L * 365, value -> {});
+        wheel.schedule("late", START);
+        List<String> fired = new ArrayList<>();
+
+        // When
+        wheel.advance(wheel.currentTime() + 1000, fired::add);
+
+        // Then
+        assertThat(fired).containsExactly("late");
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(0, START)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should fire every timeout at its own tick under random schedules and cancels")
+    void shouldMatchDeadlinesUnderRandomLoad() {
+        // Given
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, START);
+        Random random = new Random(42);
+        Map<Integer, HierarchicalTimingWheel.Timeout<Integer>> live = new HashMap<>();
+        long now = START;
+
+        for (int id = 0; id < 20_000; id++) {
+            // When
+            long delay = random.nextInt(4) == 0 ? random.nextInt(300_000) : random.nextInt(200);
+            live.put(id, wheel.schedule(id, now + delay));
+            if (random.nextInt(5) == 0) {
+                int victim = random.nextInt(id + 1);
+                HierarchicalTimingWheel.Timeout<Integer> timeout = live.remove(victim);
+                if (timeout != null) {
+                    wheel.cancel(timeout);
+                }
+            }
+            now += random.nextInt(30);
+            long clock = now;
+            wheel.advance(clock, fired -> {
+                // Then
+                HierarchicalTimingWheel.Timeout<Integer> timeout = live.remove(fired);
+                assertThat(timeout).isNotNull();
+                assertThat(timeout.deadline()).isLessThanOrEqualTo(clock);
+            });
+        }
+        long clock = now + 400_000;
+        wheel.advance(clock, fired -> assertThat(live.remove(fired)).isNotNull());
+        assertThat(live).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+}